@@ -1,14 +1,17 @@
 package at.campus.auth;
 
+import at.campus.auth.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /*
  */
 
 @EnableCaching
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class AuthApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,253 @@
+package at.campus.auth.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * InvalidationBus
+ * ==================================================
+ *
+ * Keeps the userDetails cache consistent when more than one auth
+ * container runs, using PostgreSQL LISTEN/NOTIFY on the channel
+ * campus_invalidation. The backend has its own, larger bus on the
+ * same channel; this one only covers what auth needs.
+ *
+ * MESSAGES
+ * --------------------------------------------------
+ *   "<origin> <key> [<key>...]"
+ * - Auth publishes "user:<id>" whenever a user row changes (role,
+ *   ban, password: all bump tokenVersion). The backend evicts its
+ *   revocation entry for that id
+ * - On "user:<id>" (or "*") from another node, userDetails is
+ *   cleared, like the local admin evictions (allEntries). The
+ *   cache is keyed by email, which the message does not carry
+ * - Other keys (the backend's cache tags) are ignored
+ *
+ * DELIVERY
+ * --------------------------------------------------
+ * - {@link #publish} runs pg_notify on the caller's pooled
+ *   connection. NOTIFY is transactional: it goes out on commit
+ *   and is dropped on rollback
+ * - One thread owns a dedicated connection and receives. NOTIFY
+ *   only reaches sessions listening at that moment, so after
+ *   (re)subscribing the cache is cleared
+ *
+ * IMPORTANT
+ * --------------------------------------------------
+ * - The listening connection comes from DriverManager, not from
+ *   the pool: it is held for the lifetime of the node
+ * - Receiving never touches the database
+ */
+@Component
+@ConditionalOnProperty(name = "app.invalidation-bus.enabled", havingValue = "true")
+public class InvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    static final String CHANNEL = "campus_invalidation";
+    static final String FLUSH = "*";
+    static final String USER_PREFIX = "user:";
+    static final String CACHE = "userDetails";
+
+    private static final long LIVENESS_CHECK_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+    private final JdbcTemplate jdbc;
+    private final CacheManager cacheManager;
+
+    private final String origin = "auth-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final Counter received;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Thread thread;
+
+    public InvalidationBus(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${app.invalidation-bus.poll-interval:PT0.1S}") Duration pollInterval,
+            @Value("${app.invalidation-bus.reconnect-delay:PT2S}") Duration reconnectDelay,
+            JdbcTemplate jdbc,
+            CacheManager cacheManager,
+            MeterRegistry registry
+    ) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.jdbc = jdbc;
+        this.cacheManager = cacheManager;
+
+        this.received = Counter.builder("cache.invalidation.messages").tag("direction", "received").register(registry);
+        Gauge.builder("cache.invalidation.connected", this, b -> b.connected ? 1 : 0)
+                .description("1 while this node is subscribed to invalidations")
+                .register(registry);
+    }
+
+    // ==================================================
+    // PUBLISH
+    // ==================================================
+
+    /**
+     * Sends the key to all other nodes when the current transaction
+     * commits (right away without one).
+     */
+    public void publish(String key) {
+        if (isPostgres()) {
+            jdbc.queryForList("SELECT pg_notify(?, ?)", CHANNEL, origin + " " + key);
+        }
+    }
+
+    // ==================================================
+    // LIFECYCLE
+    // ==================================================
+
+    @Override
+    public void start() {
+        if (!isPostgres()) {
+            log.warn("Invalidation bus needs PostgreSQL, not started (url {})", url);
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "invalidation-bus");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ==================================================
+    // RECEIVE
+    // ==================================================
+
+    private void run() {
+        while (running) {
+            try (Connection connection = connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                connected = true;
+                // Changes made while not listening were missed
+                clearUserDetails();
+                listen(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Invalidation bus connection lost, retrying in {}: {}", reconnectDelay, e.getMessage());
+                }
+            } finally {
+                connected = false;
+            }
+            sleep(reconnectDelay);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("ApplicationName", "invalidation-bus");
+        properties.setProperty("connectTimeout", "10");
+        properties.setProperty("socketTimeout", "30");
+        properties.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(url, properties);
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        PGConnection pg = connection.unwrap(PGConnection.class);
+        long lastCheck = System.nanoTime();
+        int pollMillis = (int) Math.max(1, pollInterval.toMillis());
+
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(pollMillis);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    receive(notification.getParameter());
+                }
+            }
+
+            // A silently dropped connection only shows up on the next round trip
+            if (System.nanoTime() - lastCheck > LIVENESS_CHECK_NANOS) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastCheck = System.nanoTime();
+            }
+        }
+    }
+
+    void receive(String payload) {
+        String[] parts = payload.split(" ");
+        if (parts.length < 2 || parts[0].equals(origin)) {
+            return;
+        }
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].startsWith(USER_PREFIX) || parts[i].equals(FLUSH)) {
+                received.increment();
+                clearUserDetails();
+                return;
+            }
+        }
+    }
+
+    private void clearUserDetails() {
+        Cache cache = cacheManager.getCache(CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private boolean isPostgres() {
+        return url.startsWith("jdbc:postgresql:");
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    String origin() {
+        return origin;
+    }
+}
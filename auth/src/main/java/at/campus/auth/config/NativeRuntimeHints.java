@@ -0,0 +1,73 @@
+package at.campus.auth.config;
+
+import at.campus.auth.exception.ErrorResponse;
+import at.campus.auth.model.User;
+import at.campus.auth.model.UserRole;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.stream.Stream;
+
+/**
+ * NativeRuntimeHints
+ *
+ * Reachability metadata for the GraalVM native image
+ * (maven profile "native"), for what Spring AOT cannot see
+ * on its own. Ignored on the JVM.
+ *
+ * jjwt 0.11.5:
+ * - Jwts / Keys create the implementation classes by name
+ *   (Classes.newInstance)
+ * - Serializer, Deserializer and CompressionCodec come from
+ *   META-INF/services via ServiceLoader
+ *
+ * JPA:
+ * - Entities are registered by Spring AOT (managed types);
+ *   User / UserRole are listed again because Hibernate reads
+ *   the fields and the enum constants reflectively
+ *
+ * Jackson:
+ * - ErrorResponse is written directly with the ObjectMapper by
+ *   the 401 / 403 handlers, outside any controller signature
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] JJWT_CLASSES = {
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        Stream.of(JJWT_CLASSES).forEach(className -> hints.reflection().registerType(
+                TypeReference.of(className),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+
+        hints.resources()
+                .registerPattern("META-INF/services/io.jsonwebtoken.io.Serializer")
+                .registerPattern("META-INF/services/io.jsonwebtoken.io.Deserializer")
+                .registerPattern("META-INF/services/io.jsonwebtoken.CompressionCodec");
+
+        hints.reflection().registerType(User.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+        hints.reflection().registerType(UserRole.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), ErrorResponse.class);
+    }
+}
@@ -1,7 +1,10 @@
 package at.campus.auth.config;
 
+import at.campus.auth.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -17,15 +20,27 @@ public class PasswordConfig {
      *
      * Strength 12 provides a good balance between security
      * and performance for production environments.
+     *
+     * Hashing runs on a dedicated, bounded pool (see
+     * BoundedPasswordEncoder), so login floods cannot take the
+     * threads and CPU that /auth/validate needs.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:16}") int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
 
         int strength = 12;
+        // Default: half the cores, so validate always keeps CPU
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
 
         // Log encoder initialization without exposing sensitive data
-        log.info("Initializing BCryptPasswordEncoder with strength={}", strength);
+        log.info("Initializing BCryptPasswordEncoder with strength={}, threads={}, queueCapacity={}",
+                strength, poolSize, queueCapacity);
 
-        return new BCryptPasswordEncoder(strength);
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(strength), poolSize, queueCapacity, meterRegistry);
     }
 }
@@ -1,8 +1,9 @@
 package at.campus.auth.controller;
 
 import at.campus.auth.dto.AdminChangeRoleRequest;
-import at.campus.auth.dto.AdminUserResponse;
+import at.campus.auth.dto.AdminUserPageResponse;
 import at.campus.auth.dto.AdminUserStatusRequest;
+import at.campus.auth.model.UserRole;
 import at.campus.auth.service.AdminUserService;
 
 import jakarta.validation.Valid;
@@ -10,9 +11,12 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,7 +25,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
-import java.util.List;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * AdminUserController
@@ -126,20 +135,88 @@ public class AdminUserController {
 
 
     @Operation(
-            summary = "List all users",
-            description = "Returns a list of all users. Requires ROLE_Moderator."
+            summary = "List users",
+            description = "Returns one page of users ordered by email, optionally filtered by "
+                    + "email / nickname prefix, role and enabled status. Pass nextCursor as "
+                    + "'after' to get the next page. Requires ROLE_Moderator."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Users list returned"),
+            @ApiResponse(responseCode = "200", description = "Users page returned"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
     @PreAuthorize("hasRole('Moderator')")
     @GetMapping(produces = "application/json")
-    public ResponseEntity<List<AdminUserResponse>> listUsers() {
+    public ResponseEntity<AdminUserPageResponse> listUsers(
+            @RequestParam(name = "q", required = false) String search,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
         log.info("Admin list users request");
 
-        return ResponseEntity.ok(adminUserService.listUsers());
+        return ResponseEntity.ok(adminUserService.listUsers(search, role, enabled, after, limit));
+    }
+
+    @Operation(
+            summary = "Export users (CSV)",
+            description = "Streams all users matching the same filters as the list as CSV, "
+                    + "for audits. Requires ROLE_Moderator."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "CSV streamed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('Moderator')")
+    @GetMapping(value = "/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(name = "q", required = false) String search,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Boolean enabled
+    ) {
+        log.info("Admin export users request");
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write("id,email,nickname,role,enabled,accountNonLocked,createdAt\n");
+            adminUserService.exportUsers(search, role, enabled, user -> {
+                try {
+                    writer.write(String.join(",",
+                            user.getId().toString(),
+                            csv(user.getEmail()),
+                            csv(user.getNickname()),
+                            user.getRole().name(),
+                            String.valueOf(user.isEnabled()),
+                            String.valueOf(user.isAccountNonLocked()),
+                            String.valueOf(user.getCreatedAt())));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    /**
+     * RFC 4180 field; a leading =, +, - or @ is prefixed with '
+     * so spreadsheets do not evaluate user-chosen nicknames.
+     */
+    private static String csv(String value) {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
     }
 
 }
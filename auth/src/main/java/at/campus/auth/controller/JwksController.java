@@ -0,0 +1,39 @@
+package at.campus.auth.controller;
+
+import at.campus.auth.service.JwtService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * JwksController
+ * Publishes the public keys for RS256 tokens, so services
+ * (backend local verification) can check tokens themselves.
+ *
+ * Public: contains public keys only.
+ */
+@RestController
+public class JwksController {
+
+    private final JwtService jwtService;
+
+    public JwksController(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Operation(
+            summary = "JSON Web Key Set",
+            description = "Public keys for verifying RS256 tokens, selected by the token's kid header"
+    )
+    @GetMapping("/auth/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtService.jwks());
+    }
+}
@@ -0,0 +1,31 @@
+package at.campus.auth.dto;
+
+import java.util.List;
+
+/**
+ * AdminUserPageResponse
+ *
+ * One page of the admin user directory (keyset pagination).
+ *
+ * - items: users ordered by email
+ * - nextCursor: pass as "after" to load the next page;
+ *   null on the last page
+ */
+public class AdminUserPageResponse {
+
+    private final List<AdminUserResponse> items;
+    private final String nextCursor;
+
+    public AdminUserPageResponse(List<AdminUserResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<AdminUserResponse> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,21 @@
+package at.campus.auth.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a bounded resource (e.g. password hashing) is
+ * saturated. Mapped to 503 Service Unavailable + Retry-After.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
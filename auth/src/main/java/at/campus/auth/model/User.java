@@ -1,5 +1,6 @@
 package at.campus.auth.model;
 
+import at.campus.auth.security.UserDetailsCacheInvalidation;
 import jakarta.persistence.*;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -11,9 +12,17 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+// Constraint names as PostgreSQL generates them for V1 (AuthService maps them)
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = User.NICKNAME_CONSTRAINT, columnNames = "nickname")
+})
+@EntityListeners(UserDetailsCacheInvalidation.class)
 public class User implements UserDetails {
 
+    public static final String EMAIL_CONSTRAINT = "users_email_key";
+    public static final String NICKNAME_CONSTRAINT = "users_nickname_key";
+
     // --------------------------------------------------
     // Identity
     // --------------------------------------------------
@@ -22,13 +31,13 @@ public class User implements UserDetails {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Column(nullable = false, unique = true, updatable = false)
+    @Column(nullable = false, updatable = false)
     private String email;
 
     // --------------------------------------------------
     // Profile (NOT used for auth)
     // --------------------------------------------------
-    @Column(nullable = false, unique = true, length = 50)
+    @Column(nullable = false, length = 50)
     private String nickname;
 
     // --------------------------------------------------
@@ -2,11 +2,12 @@ package at.campus.auth.repository;
 
 import at.campus.auth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.Optional;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
 
     /**
      * Used by authentication process (login / JWT validation)
@@ -14,7 +15,8 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     /**
-     * Used during registration to prevent duplicates
+     * Availability checks (registration itself relies on the
+     * unique constraints, see AuthService.register)
      */
     boolean existsByEmail(String email);
 
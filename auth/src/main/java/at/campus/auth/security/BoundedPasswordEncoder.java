@@ -0,0 +1,150 @@
+package at.campus.auth.security;
+
+import at.campus.auth.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BoundedPasswordEncoder
+ *
+ * Runs BCrypt (encode / matches) on its own small thread pool
+ * instead of the Tomcat worker that received the request.
+ *
+ * Why:
+ * - A BCrypt check costs ~100-250 ms of CPU (strength 12)
+ * - /auth/validate runs for EVERY backend request on the same
+ *   Tomcat workers; a credential-stuffing burst must not take
+ *   those threads or all of the CPU
+ *
+ * Behaviour:
+ * - At most "threads" hashes run at once
+ * - At most "queue-capacity" more wait; anything beyond is rejected
+ *   at once with 503 + Retry-After ({@link ServiceBusyException})
+ * - So at most threads + queue-capacity Tomcat workers ever wait
+ *   on hashing; every other worker stays free for validate
+ *
+ * Covers login (DaoAuthenticationProvider), register and
+ * changePassword, since all of them use the PasswordEncoder bean.
+ *
+ * Metrics:
+ * - password.hash{operation}       time spent hashing
+ * - password.hash.wait             time queued before hashing
+ * - password.hash.queue            hashes waiting
+ * - password.hash.active           hashes running
+ * - password.hash.rejected         rejected (pool and queue full)
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int threads,
+            int queueCapacity,
+            MeterRegistry registry
+    ) {
+        this.delegate = delegate;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("password.hash")
+                .description("BCrypt time per operation")
+                .tag("operation", "encode")
+                .register(registry);
+        this.matchesTimer = Timer.builder("password.hash")
+                .description("BCrypt time per operation")
+                .tag("operation", "matches")
+                .register(registry);
+        this.waitTimer = Timer.builder("password.hash.wait")
+                .description("Time queued before hashing started")
+                .register(registry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Hash requests rejected because pool and queue were full")
+                .register(registry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Hash requests waiting for a thread")
+                .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes currently running")
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Timer timer, Callable<T> hash) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hash);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException("Too many sign-in attempts, please retry", RETRY_AFTER);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -3,6 +3,8 @@ package at.campus.auth.security;
 import at.campus.auth.model.User;
 import at.campus.auth.service.JwtService;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +13,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -34,6 +37,13 @@ import java.util.List;
  * - Verifies token version (revocation support)
  * - Populates Spring SecurityContext if authentication is successful
  *
+ * Tracing:
+ * - The request span continues the gateway's traceparent
+ *   (auth_request subrequest for /auth/validate)
+ * - Signature check and user lookup get their own child spans
+ *   ("jwt.verify", "jwt.user-lookup"); the user id is tagged
+ *   on the request span
+ *
  * IMPORTANT:
  * - This filter does NOT create sessions (stateless)
  * - This filter does NOT handle CSRF
@@ -51,22 +61,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * Reason:
      * - Login/register must work without Authorization header
      * - CSRF bootstrap endpoint must be reachable anonymously
+     * - JWKS (public keys) is fetched by other services without a token
      */
     private static final List<String> PUBLIC_ENDPOINTS = List.of(
             "/auth/login",
             "/auth/register",
-            "/auth/csrf"
+            "/auth/csrf",
+            "/auth/.well-known/"
     );
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final ObservationRegistry observationRegistry;
 
     public JwtAuthenticationFilter(
             JwtService jwtService,
             UserDetailsService userDetailsService
+    ) {
+        this(jwtService, userDetailsService, ObservationRegistry.NOOP);
+    }
+
+    @Autowired
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserDetailsService userDetailsService,
+            ObservationRegistry observationRegistry
     ) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.observationRegistry = observationRegistry;
     }
 
     /**
@@ -133,7 +156,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // --------------------------------------------------
         // 4. Validate JWT signature & expiration
         // --------------------------------------------------
-        if (!jwtService.isTokenValid(jwt)) {
+        boolean valid = Observation.createNotStarted("jwt.verify", observationRegistry)
+                .observe(() -> jwtService.isTokenValid(jwt));
+        if (!valid) {
             log.warn("[JWT FILTER] Invalid or expired JWT token");
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid JWT token");
             return;
@@ -157,7 +182,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // --------------------------------------------------
         UserDetails userDetails;
         try {
-            userDetails = userDetailsService.loadUserByUsername(username);
+            userDetails = Observation.createNotStarted("jwt.user-lookup", observationRegistry)
+                    .observe(() -> userDetailsService.loadUserByUsername(username));
         } catch (Exception ex) {
             log.warn("[JWT FILTER] User not found for username={}", username);
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid JWT token");
@@ -211,6 +237,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
+        Observation observation = observationRegistry.getCurrentObservation();
+        if (observation != null) {
+            observation.highCardinalityKeyValue("user.id", String.valueOf(user.getId()));
+        }
+
         log.debug("[JWT FILTER] Authentication successful for user={}", username);
 
         // --------------------------------------------------
@@ -1,5 +1,7 @@
 package at.campus.auth.security;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -139,10 +141,16 @@ public class SecurityConfig {
                 // --------------------------------------------------
                 .authorizeHttpRequests(auth -> auth
 
+                        // Completion of streamed responses (CSV export):
+                        // the request was authorized on its REQUEST dispatch,
+                        // and the JWT filter does not run again
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints (no authentication required)
                         .requestMatchers(
                                 "/auth/login",
                                 "/auth/register",
+                                "/auth/.well-known/jwks.json",
                                 "/api/courses",
                                 "/api/debug/me",
                                 "/v3/api-docs/**",
@@ -0,0 +1,42 @@
+package at.campus.auth.security;
+
+import at.campus.auth.cache.InvalidationBus;
+import at.campus.auth.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserDetailsCacheInvalidation
+ *
+ * Keeps the userDetails cache (see {@link CustomUserDetailsService})
+ * consistent across auth nodes, so a revoked token (tokenVersion),
+ * ban or role change takes effect on every node, not only on the one
+ * that handled the change.
+ *
+ * - Outgoing: JPA listener on {@link User}; every update or delete
+ *   publishes "user:<id>", delivered on commit
+ * - Incoming: handled by the {@link InvalidationBus}, which clears
+ *   the cache without a database lookup
+ *
+ * Local eviction stays with the @CacheEvict annotations.
+ */
+@Component
+public class UserDetailsCacheInvalidation {
+
+    private static final String USER_PREFIX = "user:";
+
+    // Lazy: the bus needs the DataSource, whose EntityManagerFactory creates this listener
+    private final ObjectProvider<InvalidationBus> invalidationBus;
+
+    public UserDetailsCacheInvalidation(ObjectProvider<InvalidationBus> invalidationBus) {
+        this.invalidationBus = invalidationBus;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void userChanged(User user) {
+        invalidationBus.ifAvailable(bus -> bus.publish(USER_PREFIX + user.getId()));
+    }
+}
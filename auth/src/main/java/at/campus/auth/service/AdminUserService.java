@@ -1,19 +1,27 @@
 package at.campus.auth.service;
 
+import at.campus.auth.dto.AdminUserPageResponse;
 import at.campus.auth.dto.AdminUserResponse;
 import at.campus.auth.model.User;
 import at.campus.auth.model.UserRole;
 import at.campus.auth.repository.UserRepository;
 
+import jakarta.persistence.criteria.Predicate;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * AdminUserService
@@ -21,6 +29,7 @@ import java.util.UUID;
  * Admin operations on users:
  * - change role
  * - disable / enable (ban / unban)
+ * - paginated, searchable directory and streaming export
  *
  * Each mutation bumps token version
  * to invalidate existing JWTs.
@@ -31,6 +40,9 @@ public class AdminUserService {
     private static final Logger log =
             LoggerFactory.getLogger(AdminUserService.class);
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int EXPORT_BATCH_SIZE = 500;
+
     private final UserRepository userRepository;
 
     public AdminUserService(UserRepository userRepository) {
@@ -88,22 +100,109 @@ public class AdminUserService {
     // Queries
     // --------------------------------------------------
 
+    /**
+     * One page of the user directory, ordered by email.
+     *
+     * Keyset pagination: "after" is the previous page's nextCursor
+     * (the last email), so every page is an index range scan on
+     * users_email_key, however deep the admin scrolls.
+     *
+     * @param search  case-insensitive prefix of email or nickname
+     * @param role    only this role (optional)
+     * @param enabled only enabled / disabled users (optional)
+     */
     @Transactional(readOnly = true)
-    public List<AdminUserResponse> listUsers() {
-
-        log.info("Listing all users (Moderator)");
-
-        return userRepository.findAll().stream()
-                .map(user -> new AdminUserResponse(
-                        user.getId(),
-                        user.getEmail(),
-                        user.getNickname(),
-                        user.getRole(),
-                        user.isEnabled(),
-                        user.isAccountNonLocked(),
-                        user.getCreatedAt()
-                ))
-                .toList();
+    public AdminUserPageResponse listUsers(
+            String search,
+            UserRole role,
+            Boolean enabled,
+            String after,
+            int limit
+    ) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        log.info("Listing users (Moderator), search={}, role={}, enabled={}, pageSize={}",
+                search, role, enabled, pageSize);
+
+        // One extra row tells whether another page exists
+        List<User> users = findPage(search, role, enabled, after, pageSize + 1);
+        boolean hasMore = users.size() > pageSize;
+        if (hasMore) {
+            users = users.subList(0, pageSize);
+        }
+
+        return new AdminUserPageResponse(
+                users.stream().map(AdminUserService::toResponse).toList(),
+                hasMore ? users.getLast().getEmail() : null
+        );
+    }
+
+    /**
+     * Streams every matching user to the consumer (audit export).
+     *
+     * Reads keyset batches of EXPORT_BATCH_SIZE, each in its own
+     * short read; only one batch is on the heap at a time and no
+     * connection is held while the client downloads.
+     */
+    public void exportUsers(
+            String search,
+            UserRole role,
+            Boolean enabled,
+            Consumer<AdminUserResponse> consumer
+    ) {
+        log.info("Exporting users (Moderator), search={}, role={}, enabled={}", search, role, enabled);
+
+        String after = null;
+        List<User> batch;
+        do {
+            batch = findPage(search, role, enabled, after, EXPORT_BATCH_SIZE);
+            batch.stream().map(AdminUserService::toResponse).forEach(consumer);
+            if (!batch.isEmpty()) {
+                after = batch.getLast().getEmail();
+            }
+        } while (batch.size() == EXPORT_BATCH_SIZE);
+    }
+
+    private List<User> findPage(String search, UserRole role, Boolean enabled, String after, int limit) {
+        Specification<User> filter = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (after != null && !after.isEmpty()) {
+                predicates.add(cb.greaterThan(root.get("email"), after));
+            }
+            if (search != null && !search.isBlank()) {
+                // Prefix match, served by the lower(...) text_pattern_ops indexes (V3)
+                String pattern = escapeLike(search.trim().toLowerCase(Locale.ROOT)) + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("email")), pattern, '\\'),
+                        cb.like(cb.lower(root.get("nickname")), pattern, '\\')
+                ));
+            }
+            if (role != null) {
+                predicates.add(cb.equal(root.get("role"), role));
+            }
+            if (enabled != null) {
+                predicates.add(cb.equal(root.get("enabled"), enabled));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+
+        return userRepository.findBy(filter, q -> q.sortBy(Sort.by("email")).limit(limit).all());
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static AdminUserResponse toResponse(User user) {
+        return new AdminUserResponse(
+                user.getId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getRole(),
+                user.isEnabled(),
+                user.isAccountNonLocked(),
+                user.getCreatedAt()
+        );
     }
 
     // --------------------------------------------------
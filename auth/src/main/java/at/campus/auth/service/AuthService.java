@@ -4,6 +4,7 @@ import at.campus.auth.dto.AuthResponse;
 import at.campus.auth.exception.EmailAlreadyExistsException;
 import at.campus.auth.exception.InvalidCredentialsException;
 import at.campus.auth.exception.NicknameAlreadyExistsException;
+import at.campus.auth.exception.ServiceBusyException;
 import at.campus.auth.model.User;
 import at.campus.auth.model.UserRole;
 import at.campus.auth.repository.UserRepository;
@@ -11,14 +12,20 @@ import at.campus.auth.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.hibernate.exception.ConstraintViolationException;
+
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+
 /**
  * AuthService
  *
@@ -69,27 +76,17 @@ public class AuthService {
      * Security notes:
      * - Default role is assigned server-side
      * - Password is hashed immediately
-     * - Email uniqueness is enforced
+     * - Email and nickname uniqueness are enforced by the
+     *   database's unique constraints: one INSERT, no pre-checks
+     *   (which would also race with concurrent registrations)
      */
     public void register(String email, String rawPassword, String nickname) {
         log.info("Registration attempt for email={}", email);
 
-        // 1️⃣ Email uniqueness
-        if (userRepository.existsByEmail(email)) {
-            log.warn("Registration failed: email already exists, email={}", email);
-            throw new EmailAlreadyExistsException(email);
-        }
-
-        // 2️⃣ Nickname uniqueness
-        if (userRepository.existsByNickname(nickname)) {
-            log.warn("Registration failed: nickname already exists, nickname={}", nickname);
-            throw new NicknameAlreadyExistsException(nickname);
-        }
-
-        // 3️⃣ Password hashing
+        // 1️⃣ Password hashing
         String passwordHash = passwordEncoder.encode(rawPassword);
 
-        // 4️⃣ Create user (nickname REQUIRED)
+        // 2️⃣ Create user (nickname REQUIRED)
         User user = new User(
                 email,
                 nickname,
@@ -97,7 +94,21 @@ public class AuthService {
                 UserRole.STUDENT
         );
 
-        userRepository.save(user);
+        // 3️⃣ Single INSERT; a duplicate violates a unique constraint
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            String column = violatedUniqueColumn(ex);
+            if ("email".equals(column)) {
+                log.warn("Registration failed: email already exists, email={}", email);
+                throw new EmailAlreadyExistsException(email);
+            }
+            if ("nickname".equals(column)) {
+                log.warn("Registration failed: nickname already exists, nickname={}", nickname);
+                throw new NicknameAlreadyExistsException(nickname);
+            }
+            throw ex;
+        }
 
         log.info(
                 "User successfully registered, email={}, nickname={}, role={}",
@@ -105,6 +116,29 @@ public class AuthService {
         );
     }
 
+    /**
+     * Which unique column (email / nickname) a failed INSERT violated,
+     * by constraint name (see {@link User#EMAIL_CONSTRAINT}). H2 reports
+     * the name only inside the message.
+     */
+    static String violatedUniqueColumn(DataIntegrityViolationException ex) {
+        String text = ex.getMostSpecificCause().getMessage();
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+                text = cve.getConstraintName();
+                break;
+            }
+        }
+        text = text == null ? "" : text.toLowerCase(Locale.ROOT);
+        if (text.contains(User.EMAIL_CONSTRAINT)) {
+            return "email";
+        }
+        if (text.contains(User.NICKNAME_CONSTRAINT)) {
+            return "nickname";
+        }
+        return null;
+    }
+
 
     /**
      * Authenticates user credentials and issues a JWT token.
@@ -113,22 +147,29 @@ public class AuthService {
      * - Authentication is delegated to AuthenticationManager
      * - No SecurityContext manipulation here
      * - JWT is issued only after successful authentication
+     * - The token is built from the authenticated principal
+     *   (loaded by CustomUserDetailsService), not a second lookup
      */
     public AuthResponse login(String email, String password) {
 
         log.info("Login attempt for email={}", email);
 
+        Authentication authentication;
         try {
-            authenticationManager.authenticate(
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(email, password)
             );
+        } catch (ServiceBusyException ex) {
+            // Hashing pool saturated: 503, not "wrong password"
+            throw ex;
         } catch (Exception ex) {
             // ВАЖНО: маппим ВСЁ в доменное исключение
             throw new InvalidCredentialsException();
         }
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(InvalidCredentialsException::new);
+        if (!(authentication.getPrincipal() instanceof User user)) {
+            throw new InvalidCredentialsException();
+        }
 
         String token = jwtService.generateToken(user);
         return new AuthResponse(token);
@@ -0,0 +1,117 @@
+package at.campus.auth.service;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.*;
+
+/**
+ * JwtKeyRing
+ *
+ * RSA key pairs for RS256 tokens, parsed from security.jwt.signing-keys:
+ *
+ *   "<kid>:<base64 PKCS#8 DER private key>,<kid>:<...>"
+ *
+ * - The FIRST key signs new tokens
+ * - Every key verifies tokens (by the "kid" header) and is published
+ *   in the JWKS document
+ *
+ * Rotation:
+ * 1. Append the new key and deploy: verifiers learn its public key
+ * 2. Move it to the front: new tokens use it
+ * 3. Once the old tokens have expired, remove the old key
+ *
+ * Key generation:
+ *   openssl genpkey -algorithm RSA -pkeyopt rsa_keygen_bits:2048 \
+ *     | openssl pkcs8 -topk8 -nocrypt -outform DER | base64 -w0
+ */
+final class JwtKeyRing {
+
+    record KeyPair(String kid, RSAPrivateCrtKey privateKey, RSAPublicKey publicKey) {
+    }
+
+    private final List<KeyPair> keys;
+
+    private JwtKeyRing(List<KeyPair> keys) {
+        this.keys = List.copyOf(keys);
+    }
+
+    static JwtKeyRing parse(String spec) {
+        List<KeyPair> keys = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return new JwtKeyRing(keys);
+        }
+        Set<String> kids = new HashSet<>();
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("security.jwt.signing-keys: expected <kid>:<key>");
+            }
+            String kid = trimmed.substring(0, separator);
+            if (!kids.add(kid)) {
+                throw new IllegalStateException("security.jwt.signing-keys: duplicate kid " + kid);
+            }
+            keys.add(keyPair(kid, trimmed.substring(separator + 1)));
+        }
+        return new JwtKeyRing(keys);
+    }
+
+    private static KeyPair keyPair(String kid, String base64) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("RSA");
+            byte[] der = Base64.getMimeDecoder().decode(base64);
+            if (!(factory.generatePrivate(new PKCS8EncodedKeySpec(der)) instanceof RSAPrivateCrtKey privateKey)) {
+                throw new IllegalStateException("security.jwt.signing-keys: " + kid + " is not an RSA CRT key");
+            }
+            RSAPublicKey publicKey = (RSAPublicKey) factory.generatePublic(
+                    new RSAPublicKeySpec(privateKey.getModulus(), privateKey.getPublicExponent()));
+            return new KeyPair(kid, privateKey, publicKey);
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException("security.jwt.signing-keys: invalid key " + kid, ex);
+        }
+    }
+
+    boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    /** Key for new tokens. */
+    KeyPair current() {
+        return keys.get(0);
+    }
+
+    Optional<RSAPublicKey> publicKey(String kid) {
+        return keys.stream()
+                .filter(key -> key.kid().equals(kid))
+                .map(KeyPair::publicKey)
+                .findFirst();
+    }
+
+    /** JWKS document (RFC 7517) with the public half of every key. */
+    Map<String, Object> jwks() {
+        List<Map<String, Object>> jwks = keys.stream()
+                .map(key -> Map.<String, Object>of(
+                        "kty", "RSA",
+                        "use", "sig",
+                        "alg", "RS256",
+                        "kid", key.kid(),
+                        "n", base64Url(key.publicKey().getModulus()),
+                        "e", base64Url(key.publicKey().getPublicExponent())))
+                .toList();
+        return Map.of("keys", jwks);
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        // Unsigned big-endian: drop the sign byte
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
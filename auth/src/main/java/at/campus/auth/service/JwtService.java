@@ -3,12 +3,19 @@ package at.campus.auth.service;
 import at.campus.auth.model.User;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +24,7 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
@@ -28,6 +36,15 @@ import java.util.stream.Collectors;
  * - generating tokens
  * - validating tokens
  * - extracting claims
+ *
+ * Signing:
+ * - security.jwt.signing-keys set -> RS256 with a "kid" header
+ *   (see {@link JwtKeyRing}); the public keys are served as JWKS,
+ *   so other services can verify tokens without calling auth
+ * - otherwise HS256 with security.jwt.secret
+ *
+ * Tokens without "kid" are always verified with the HMAC secret,
+ * so HS256 tokens stay valid while switching to RS256.
  */
 @Service
 public class JwtService {
@@ -36,13 +53,22 @@ public class JwtService {
 
     private static final String CLAIM_AUTHORITIES = "authorities";
     private static final String CLAIM_TOKEN_VERSION = "ver";
+    private static final String CLAIM_USER_ID = "uid";
 
     private final SecretKey signingKey;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
     private final long expirationSeconds;
 
+    public JwtService(String secret, long expirationMinutes) {
+        this(secret, expirationMinutes, "");
+    }
+
+    @Autowired
     public JwtService(
             @Value("${security.jwt.secret}") String secret,
-            @Value("${security.jwt.expiration-minutes}") long expirationMinutes
+            @Value("${security.jwt.expiration-minutes}") long expirationMinutes,
+            @Value("${security.jwt.signing-keys:}") String signingKeys
     ) {
         // Decode base64 secret (recommended for HMAC keys)
         byte[] keyBytes;
@@ -54,9 +80,19 @@ public class JwtService {
         }
 
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.keyRing = JwtKeyRing.parse(signingKeys);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
         this.expirationSeconds = expirationMinutes * 60;
 
-        log.info("JwtService initialized with expiration={} seconds", this.expirationSeconds);
+        log.info("JwtService initialized with expiration={} seconds, algorithm={}",
+                this.expirationSeconds, keyRing.isEmpty() ? "HS256" : "RS256 (kid " + keyRing.current().kid() + ")");
     }
 
     /* =========================
@@ -75,22 +111,37 @@ public class JwtService {
                 .collect(Collectors.toList());
 
         int tokenVersion = 0;
+        UUID userId = null;
         if (userDetails instanceof User u) {
             tokenVersion = u.getTokenVersion();
+            userId = u.getId();
         }
 
         Instant now = Instant.now();
 
         log.debug("Generating JWT token for username={}", userDetails.getUsername());
 
-        String token = Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(userDetails.getUsername())
                 .claim(CLAIM_AUTHORITIES, authorities)
                 .claim(CLAIM_TOKEN_VERSION, tokenVersion)
                 .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(now.plusSeconds(expirationSeconds)))
-                .signWith(signingKey)
-                .compact();
+                .setExpiration(Date.from(now.plusSeconds(expirationSeconds)));
+
+        // Lets local verifiers (backend) resolve the user without a lookup by email
+        if (userId != null) {
+            builder.claim(CLAIM_USER_ID, userId.toString());
+        }
+
+        if (keyRing.isEmpty()) {
+            builder.signWith(signingKey);
+        } else {
+            JwtKeyRing.KeyPair key = keyRing.current();
+            builder.setHeaderParam(JwsHeader.KEY_ID, key.kid())
+                    .signWith(key.privateKey(), SignatureAlgorithm.RS256);
+        }
+
+        String token = builder.compact();
 
         log.info("JWT token successfully generated for username={}", userDetails.getUsername());
 
@@ -114,6 +165,18 @@ public class JwtService {
         }
     }
 
+    /* =========================
+       Public keys
+       ========================= */
+
+    /**
+     * JWKS document with the RS256 verification keys
+     * (empty "keys" while tokens are HS256).
+     */
+    public Map<String, Object> jwks() {
+        return keyRing.jwks();
+    }
+
     /* =========================
        Claim extraction
        ========================= */
@@ -168,17 +231,22 @@ public class JwtService {
        ========================= */
 
     private void parseAndValidate(String token) {
-        Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token);
+        parser.parseClaimsJws(token);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * No kid: HMAC secret. With kid: that RSA key, if still on the ring.
+     * The algorithm must match the key type (checked by the parser).
+     */
+    private Key verificationKey(String kid) {
+        if (kid == null) {
+            return signingKey;
+        }
+        return keyRing.publicKey(kid)
+                .orElseThrow(() -> new JwtException("Unknown signing key " + kid));
     }
 }
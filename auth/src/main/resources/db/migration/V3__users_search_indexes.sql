@@ -0,0 +1,5 @@
+-- Admin user directory: case-insensitive prefix search on email / nickname
+-- (lower(x) LIKE 'prefix%'). text_pattern_ops lets LIKE use the index
+-- whatever the database collation is.
+CREATE INDEX users_email_lower_prefix_idx ON users (lower(email) text_pattern_ops);
+CREATE INDEX users_nickname_lower_prefix_idx ON users (lower(nickname) text_pattern_ops);
@@ -0,0 +1,60 @@
+package at.campus.auth.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Incoming messages clear userDetails without touching the database;
+ * the backend's cache tags and this node's own messages are ignored.
+ */
+class InvalidationBusTest {
+
+    private final JdbcTemplate jdbc = mock(JdbcTemplate.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(InvalidationBus.CACHE);
+
+    private final InvalidationBus bus = new InvalidationBus(
+            "jdbc:postgresql://localhost/campus", "", "",
+            Duration.ofMillis(100), Duration.ofSeconds(2),
+            jdbc, cacheManager, new SimpleMeterRegistry());
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(InvalidationBus.CACHE);
+        cache.put("user@test.com", "details");
+    }
+
+    @Test
+    void userChangeOnAnotherNodeClearsUserDetails() {
+        bus.receive("auth-other user:" + UUID.randomUUID());
+
+        assertNull(cache.get("user@test.com"));
+        verifyNoInteractions(jdbc);
+    }
+
+    @Test
+    void ignoresBackendTagsAndOwnMessages() {
+        bus.receive("backend1 course:1 courses");
+        bus.receive(bus.origin() + " user:1");
+
+        assertNotNull(cache.get("user@test.com"));
+    }
+
+    @Test
+    void publishesThroughTransactionalNotify() {
+        bus.publish("user:1");
+
+        verify(jdbc).queryForList("SELECT pg_notify(?, ?)", InvalidationBus.CHANNEL, bus.origin() + " user:1");
+    }
+}
@@ -0,0 +1,43 @@
+package at.campus.auth.config;
+
+import at.campus.auth.exception.ErrorResponse;
+import at.campus.auth.model.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeHint;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The hints name jjwt classes as strings: they must still exist
+ * in the jjwt version on the classpath.
+ */
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeRuntimeHintsTest() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersJjwtClassesThatExist() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Jwts.builder().getClass()).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(JacksonSerializer.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/" + Serializer.class.getName()).test(hints));
+
+        hints.reflection().typeHints().map(TypeHint::getType).forEach(type -> assertDoesNotThrow(
+                () -> Class.forName(type.getName(), false, getClass().getClassLoader()), type.getName()));
+    }
+
+    @Test
+    void registersEntityAndErrorBody() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(User.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ErrorResponse.class).test(hints));
+    }
+}
@@ -1,5 +1,7 @@
 package at.campus.auth.controller;
 
+import at.campus.auth.dto.AdminUserPageResponse;
+import at.campus.auth.dto.AdminUserResponse;
 import at.campus.auth.model.UserRole;
 import at.campus.auth.security.JwtAuthenticationFilter;
 import at.campus.auth.service.AdminUserService;
@@ -12,13 +14,22 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AdminUserController.class)
@@ -109,13 +120,44 @@ class AdminUserControllerTest {
     @Test
     void listUsers_shouldReturn200() throws Exception {
         // GIVEN
-        when(adminUserService.listUsers()).thenReturn(List.of());
+        when(adminUserService.listUsers("ali", UserRole.STUDENT, false, "a@test.com", 20))
+                .thenReturn(new AdminUserPageResponse(List.of(), null));
 
         // WHEN / THEN
-        mockMvc.perform(get("/admin/users"))
-                .andExpect(status().isOk());
-
-        verify(adminUserService).listUsers();
+        mockMvc.perform(get("/admin/users")
+                        .param("q", "ali")
+                        .param("role", "STUDENT")
+                        .param("enabled", "false")
+                        .param("after", "a@test.com")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray());
+
+        verify(adminUserService).listUsers("ali", UserRole.STUDENT, false, "a@test.com", 20);
         verifyNoMoreInteractions(adminUserService);
     }
+
+    @Test
+    void exportUsers_shouldStreamCsv() throws Exception {
+        // GIVEN
+        UUID userId = UUID.randomUUID();
+        doAnswer(invocation -> {
+            Consumer<AdminUserResponse> consumer = invocation.getArgument(3);
+            consumer.accept(new AdminUserResponse(userId, "a@test.com", "=cmd, \"x\"",
+                    UserRole.STUDENT, true, true, Instant.parse("2026-01-01T00:00:00Z")));
+            return null;
+        }).when(adminUserService).exportUsers(isNull(), isNull(), isNull(), any());
+
+        // WHEN
+        MvcResult result = mockMvc.perform(get("/admin/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // THEN
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "id,email,nickname,role,enabled,accountNonLocked,createdAt\n"
+                                + userId + ",a@test.com,\"'=cmd, \"\"x\"\"\",STUDENT,true,true,2026-01-01T00:00:00Z\n"));
+    }
 }
@@ -3,76 +3,54 @@ package at.campus.auth.controller;
 import at.campus.auth.dto.AuthResponse;
 import at.campus.auth.model.User;
 import at.campus.auth.model.UserRole;
-import at.campus.auth.security.JwtAuthenticationFilter;
 import at.campus.auth.service.AuthService;
 
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-
 import org.springframework.http.MediaType;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.AuthenticationEntryPoint;
-import org.springframework.security.web.access.AccessDeniedHandler;
 
-import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
-import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
- * Controller slice test for AuthController.
+ * Controller test for AuthController.
  *
  * IMPORTANT:
- * - Uses @WebMvcTest -> loads only MVC layer (controller + MVC infrastructure)
- * - Security filters are NOT executed (addFilters = false)
- * - Custom security beans MUST be mocked explicitly
+ * - Standalone MockMvc -> only the controller and MVC infrastructure
+ * - Security filters are NOT executed
+ * - No Mockito: the service is a recording stub, so this test
+ *   also runs inside the native image (maven profile "nativeTest")
  */
-@WebMvcTest(AuthController.class)
-@AutoConfigureMockMvc(addFilters = false)
 class AuthControllerTest {
 
-    @Autowired
     private MockMvc mockMvc;
 
     /**
-     * Mocked service layer.
+     * Recording service layer.
      * Controller delegates all business logic to this service.
      */
-    @MockitoBean
-    private AuthService authService;
+    private RecordingAuthService authService;
 
-    /**
-     * CRITICAL:
-     * JwtAuthenticationFilter is a @Component and would otherwise be created
-     * by Spring during context initialization.
-     *
-     * Mocking it prevents Spring from trying to inject JwtService into it,
-     * which is NOT part of a @WebMvcTest slice.
-     */
-    @MockitoBean
-    private JwtAuthenticationFilter jwtAuthenticationFilter;
-
-    /**
-     * These are usually wired in SecurityConfig.
-     * Mocking them avoids "missing bean" errors in controller slice tests.
-     */
-    @MockitoBean
-    private AuthenticationEntryPoint authenticationEntryPoint;
-
-    @MockitoBean
-    private AccessDeniedHandler accessDeniedHandler;
+    @BeforeEach
+    void setUp() {
+        authService = new RecordingAuthService();
+        mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(authService)).build();
+    }
 
     /**
      * Always clean up SecurityContext between tests
@@ -100,10 +78,7 @@ class AuthControllerTest {
                         .content(json))
                 .andExpect(status().isCreated());
 
-        verify(authService)
-                .register("newuser@test.com", "StrongPass123", "tester");
-
-        verifyNoMoreInteractions(authService);
+        assertEquals(List.of("register newuser@test.com StrongPass123 tester"), authService.calls);
     }
 
     @Test
@@ -116,8 +91,7 @@ class AuthControllerTest {
             }
             """;
 
-        when(authService.login("user@test.com", "StrongPass123"))
-                .thenReturn(new AuthResponse("jwt-token"));
+        authService.loginResponse = new AuthResponse("jwt-token");
 
         // WHEN / THEN
         mockMvc.perform(post("/auth/login")
@@ -126,8 +100,7 @@ class AuthControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").value("jwt-token"));
 
-        verify(authService).login("user@test.com", "StrongPass123");
-        verifyNoMoreInteractions(authService);
+        assertEquals(List.of("login user@test.com StrongPass123"), authService.calls);
     }
 
     @Test
@@ -157,7 +130,7 @@ class AuthControllerTest {
                 .andExpect(header().string("X-User-Id", fixedId.toString()))
                 .andExpect(header().string("X-User-Roles", "Moderator"));
 
-        verifyNoInteractions(authService);
+        assertEquals(List.of(), authService.calls);
     }
 
 
@@ -166,21 +139,19 @@ class AuthControllerTest {
         mockMvc.perform(post("/auth/csrf"))
                 .andExpect(status().isNoContent());
 
-        verifyNoInteractions(authService);
+        assertEquals(List.of(), authService.calls);
     }
 
     @Test
     void me_shouldReturnCurrentUser() throws Exception {
         // GIVEN
-        User user = new User(
+        authService.currentUser = new User(
                 "user@test.com",
                 "tester",
                 "hash",
                 UserRole.STUDENT
         );
 
-        when(authService.getCurrentUser()).thenReturn(user);
-
         // WHEN / THEN
         mockMvc.perform(get("/auth/me"))
                 .andExpect(status().isOk())
@@ -188,14 +159,45 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.nickname").value("tester"))
                 .andExpect(jsonPath("$.role").value("STUDENT"));
 
-        verify(authService).getCurrentUser();
-        verifyNoMoreInteractions(authService);
+        assertEquals(List.of("getCurrentUser"), authService.calls);
     }
 
     // --------------------------------------------------
     // Test helper methods
     // --------------------------------------------------
 
+    /**
+     * Records every call; answers with the configured values.
+     * Dependencies are null: nothing is delegated to them.
+     */
+    private static class RecordingAuthService extends AuthService {
+
+        final List<String> calls = new ArrayList<>();
+        AuthResponse loginResponse;
+        User currentUser;
+
+        RecordingAuthService() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public void register(String email, String rawPassword, String nickname) {
+            calls.add("register " + email + " " + rawPassword + " " + nickname);
+        }
+
+        @Override
+        public AuthResponse login(String email, String password) {
+            calls.add("login " + email + " " + password);
+            return loginResponse;
+        }
+
+        @Override
+        public User getCurrentUser() {
+            calls.add("getCurrentUser");
+            return currentUser;
+        }
+    }
+
     /**
      * Sets private JPA-generated UUID field for stable and deterministic tests.
      *
@@ -0,0 +1,104 @@
+package at.campus.auth.service;
+
+import at.campus.auth.dto.AdminUserPageResponse;
+import at.campus.auth.dto.AdminUserResponse;
+import at.campus.auth.model.User;
+import at.campus.auth.model.UserRole;
+import at.campus.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The directory query itself (Specification -> SQL on H2):
+ * keyset paging by email, case-insensitive prefix search with
+ * LIKE wildcards taken literally, role and enabled filters.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class AdminUserServiceQueryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private AdminUserService adminUserService;
+
+    @BeforeEach
+    void setUp() {
+        adminUserService = new AdminUserService(userRepository);
+
+        save("anna@test.com", "anna", UserRole.STUDENT, true);
+        save("ben@test.com", "ben_k", UserRole.STUDENT, true);
+        save("benx@test.com", "benxk", UserRole.Moderator, true);
+        save("carla@test.com", "100%carla", UserRole.STUDENT, false);
+        save("dora@test.com", "1000carla", UserRole.Applicant, true);
+    }
+
+    @Test
+    void pagesFollowTheEmailCursor() {
+        AdminUserPageResponse first = adminUserService.listUsers(null, null, null, null, 2);
+        AdminUserPageResponse second = adminUserService.listUsers(null, null, null, first.getNextCursor(), 2);
+        AdminUserPageResponse last = adminUserService.listUsers(null, null, null, second.getNextCursor(), 2);
+
+        assertEquals(List.of("anna@test.com", "ben@test.com"), emails(first.getItems()));
+        assertEquals("ben@test.com", first.getNextCursor());
+        assertEquals(List.of("benx@test.com", "carla@test.com"), emails(second.getItems()));
+        assertEquals(List.of("dora@test.com"), emails(last.getItems()));
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void searchIsACaseInsensitivePrefixOfEmailOrNickname() {
+        assertEquals(List.of("ben@test.com", "benx@test.com"), emails(list("BEN", null, null)));
+        // Prefix, not substring: "carla" is inside two nicknames but starts only one email
+        assertEquals(List.of("carla@test.com"), emails(list("carla", null, null)));
+    }
+
+    @Test
+    void likeWildcardsInTheSearchAreLiteral() {
+        // Unescaped, "_" would also match the "x" of benxk
+        assertEquals(List.of("ben@test.com"), emails(list("ben_", null, null)));
+        // Unescaped, "%" would also match 1000carla
+        assertEquals(List.of("carla@test.com"), emails(list("100%", null, null)));
+    }
+
+    @Test
+    void filtersByRoleAndEnabled() {
+        assertEquals(List.of("anna@test.com", "ben@test.com", "carla@test.com"),
+                emails(list(null, UserRole.STUDENT, null)));
+        assertEquals(List.of("benx@test.com"), emails(list("ben", UserRole.Moderator, null)));
+        assertEquals(List.of("carla@test.com"), emails(list(null, null, false)));
+    }
+
+    @Test
+    void exportReadsEveryMatchingUser() {
+        List<AdminUserResponse> exported = new ArrayList<>();
+
+        adminUserService.exportUsers(null, UserRole.STUDENT, true, exported::add);
+
+        assertEquals(List.of("anna@test.com", "ben@test.com"), emails(exported));
+    }
+
+    private List<AdminUserResponse> list(String search, UserRole role, Boolean enabled) {
+        return adminUserService.listUsers(search, role, enabled, null, 50).getItems();
+    }
+
+    private void save(String email, String nickname, UserRole role, boolean enabled) {
+        User user = new User(email, nickname, "hash", role);
+        if (!enabled) {
+            user.disable();
+        }
+        userRepository.save(user);
+    }
+
+    private static List<String> emails(List<AdminUserResponse> users) {
+        return users.stream().map(AdminUserResponse::getEmail).toList();
+    }
+}
@@ -1,21 +1,27 @@
 package at.campus.auth.service;
 
+import at.campus.auth.dto.AdminUserPageResponse;
 import at.campus.auth.dto.AdminUserResponse;
 import at.campus.auth.model.User;
 import at.campus.auth.model.UserRole;
 import at.campus.auth.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -81,24 +87,61 @@ class AdminUserServiceTest {
     }
 
     @Test
-    void listUsers_shouldReturnAdminUserResponses() {
-        User user = mock(User.class);
+    void listUsers_shouldReturnPageWithCursor_whenMoreRowsExist() {
+        User first = user("a@test.com");
+        User second = user("b@test.com");
+        User extra = mock(User.class);
+
+        when(userRepository.findBy(ArgumentMatchers.<Specification<User>>any(), any()))
+                .thenReturn(List.of(first, second, extra));
+
+        AdminUserPageResponse page = adminUserService.listUsers("A", UserRole.Moderator, true, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals("a@test.com", page.getItems().getFirst().getEmail());
+        assertEquals(UserRole.Moderator, page.getItems().getFirst().getRole());
+        assertEquals("b@test.com", page.getNextCursor());
+    }
+
+    @Test
+    void listUsers_shouldReturnNoCursor_onLastPage() {
+        User user = user("admin@test.com");
 
-        when(user.getId()).thenReturn(UUID.randomUUID());
-        when(user.getEmail()).thenReturn("admin@test.com");
-        when(user.getNickname()).thenReturn("admin");
-        when(user.getRole()).thenReturn(UserRole.Moderator);
-        when(user.isEnabled()).thenReturn(true);
-        when(user.isAccountNonLocked()).thenReturn(true);
-        when(user.getCreatedAt()).thenReturn(Instant.now());
+        when(userRepository.findBy(ArgumentMatchers.<Specification<User>>any(), any()))
+                .thenReturn(List.of(user));
 
-        when(userRepository.findAll()).thenReturn(List.of(user));
+        AdminUserPageResponse page = adminUserService.listUsers(null, null, null, "a@test.com", 50);
 
-        List<AdminUserResponse> result = adminUserService.listUsers();
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void exportUsers_shouldReadInBatchesUntilShortBatch() {
+        List<User> fullBatch = IntStream.range(0, 500)
+                .mapToObj(i -> user("user" + i + "@test.com"))
+                .toList();
+        List<User> lastBatch = List.of(user("zz@test.com"));
+
+        when(userRepository.findBy(ArgumentMatchers.<Specification<User>>any(), any()))
+                .thenReturn(fullBatch, lastBatch);
 
-        assertEquals(1, result.size());
-        assertEquals("admin@test.com", result.getFirst().getEmail());
-        assertEquals(UserRole.Moderator, result.getFirst().getRole());
+        List<AdminUserResponse> exported = new ArrayList<>();
+        adminUserService.exportUsers(null, null, null, exported::add);
+
+        assertEquals(501, exported.size());
+        verify(userRepository, times(2)).findBy(ArgumentMatchers.<Specification<User>>any(), any());
     }
 
+    private static User user(String email) {
+        User user = mock(User.class);
+        lenient().when(user.getId()).thenReturn(UUID.randomUUID());
+        lenient().when(user.getEmail()).thenReturn(email);
+        lenient().when(user.getNickname()).thenReturn("admin");
+        lenient().when(user.getRole()).thenReturn(UserRole.Moderator);
+        lenient().when(user.isEnabled()).thenReturn(true);
+        lenient().when(user.isAccountNonLocked()).thenReturn(true);
+        lenient().when(user.getCreatedAt()).thenReturn(Instant.now());
+        return user;
+    }
 }
@@ -0,0 +1,89 @@
+package at.campus.auth.service;
+
+import at.campus.auth.dto.AuthResponse;
+import at.campus.auth.exception.EmailAlreadyExistsException;
+import at.campus.auth.exception.NicknameAlreadyExistsException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Number of SQL statements per login / register (H2, Hibernate statistics).
+ *
+ * - register: one INSERT, duplicates detected by the unique constraints
+ * - login: one SELECT with a cold userDetails cache, none with a warm one;
+ *   the token is built from the authenticated principal
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class AuthServiceStatementCountTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void register_shouldIssueSingleInsert() {
+        String email = unique() + "@test.com";
+
+        assertEquals(1, statements(() -> authService.register(email, "password123", unique())));
+    }
+
+    @Test
+    void register_shouldDetectDuplicatesWithSingleStatement() {
+        String email = unique() + "@test.com";
+        String nickname = unique();
+        authService.register(email, "password123", nickname);
+
+        assertEquals(1, statements(() -> assertThrows(EmailAlreadyExistsException.class,
+                () -> authService.register(email, "password123", unique()))));
+        assertEquals(1, statements(() -> assertThrows(NicknameAlreadyExistsException.class,
+                () -> authService.register(unique() + "@test.com", "password123", nickname))));
+    }
+
+    @Test
+    void login_shouldLoadUserOnceAndThenFromCache() {
+        String email = unique() + "@test.com";
+        authService.register(email, "password123", unique());
+        cacheManager.getCache("userDetails").clear();
+
+        AuthResponse[] response = new AuthResponse[1];
+        assertEquals(1, statements(() -> response[0] = authService.login(email, "password123")));
+        assertNotNull(response[0].getToken());
+
+        assertEquals(0, statements(() -> authService.login(email, "password123")));
+    }
+
+    private long statements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static String unique() {
+        return UUID.randomUUID().toString().substring(0, 12);
+    }
+}
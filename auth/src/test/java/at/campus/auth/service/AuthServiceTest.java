@@ -3,21 +3,27 @@ package at.campus.auth.service;
 import at.campus.auth.dto.AuthResponse;
 import at.campus.auth.exception.EmailAlreadyExistsException;
 import at.campus.auth.exception.InvalidCredentialsException;
+import at.campus.auth.exception.NicknameAlreadyExistsException;
+import at.campus.auth.exception.ServiceBusyException;
 import at.campus.auth.model.User;
 import at.campus.auth.model.UserRole;
 import at.campus.auth.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,8 +61,9 @@ class AuthServiceTest {
 
     @Test
     void register_shouldThrowException_whenEmailAlreadyExists() {
-        // GIVEN
-        when(userRepository.existsByEmail("test@test.com")).thenReturn(true);
+        // GIVEN: the INSERT violates the unique email constraint
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(uniqueViolation("users_email_key"));
 
         // WHEN / THEN
         assertThrows(
@@ -64,10 +71,28 @@ class AuthServiceTest {
                 () -> authService.register("test@test.com", "password123", "nickname")
         );
 
-        verify(userRepository, never()).save(any());
+        verify(userRepository).saveAndFlush(any(User.class));
         verifyNoMoreInteractions(userRepository);
     }
 
+    @Test
+    void register_shouldThrowException_whenNicknameAlreadyExists() {
+        // GIVEN
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(uniqueViolation("users_nickname_key"));
+
+        // WHEN / THEN
+        assertThrows(
+                NicknameAlreadyExistsException.class,
+                () -> authService.register("test@test.com", "password123", "nickname")
+        );
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraint) {
+        return new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), constraint));
+    }
+
     // --------------------------------------------------
     // LOGIN
     // --------------------------------------------------
@@ -79,13 +104,11 @@ class AuthServiceTest {
         User user = new User("test@test.com", "tester", "encodedPassword", UserRole.STUDENT);
 
         Authentication auth = mock(Authentication.class);
+        when(auth.getPrincipal()).thenReturn(user);
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(auth);
 
-        when(userRepository.findByEmail("test@test.com"))
-                .thenReturn(Optional.of(user));
-
         when(jwtService.generateToken(user))
                 .thenReturn("jwt-token");
 
@@ -97,9 +120,10 @@ class AuthServiceTest {
         assertEquals("jwt-token", response.getToken());
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository).findByEmail("test@test.com");
         verify(jwtService).generateToken(user);
-        verifyNoMoreInteractions(authenticationManager, userRepository, jwtService);
+        // Token comes from the authenticated principal: no second user lookup
+        verifyNoInteractions(userRepository);
+        verifyNoMoreInteractions(authenticationManager, jwtService);
     }
 
     @Test
@@ -118,16 +142,29 @@ class AuthServiceTest {
     }
 
     @Test
-    void login_shouldThrowException_whenUserNotFoundAfterSuccessfulAuth() {
-        // GIVEN: auth manager says OK but DB has no user
+    void login_shouldPassThroughServiceBusy_whenHashingIsSaturated() {
+        // GIVEN
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new ServiceBusyException("busy", Duration.ofSeconds(1)));
+
+        // WHEN / THEN: 503, not "invalid credentials"
+        assertThrows(
+                ServiceBusyException.class,
+                () -> authService.login("test@test.com", "password123")
+        );
+
+        verify(jwtService, never()).generateToken(any());
+    }
+
+    @Test
+    void login_shouldThrowException_whenPrincipalIsNotAUser() {
+        // GIVEN: auth manager says OK but the principal is no User entity
         Authentication auth = mock(Authentication.class);
+        when(auth.getPrincipal()).thenReturn("test@test.com");
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(auth);
 
-        when(userRepository.findByEmail("test@test.com"))
-                .thenReturn(Optional.empty());
-
         // WHEN / THEN
         assertThrows(
                 InvalidCredentialsException.class,
@@ -7,8 +7,11 @@ import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -143,5 +146,49 @@ class JwtServiceTest {
         assertEquals(0, version);
     }
 
+    /* =========================
+       RS256 key ring
+       ========================= */
 
+    @Test
+    void rs256_shouldSignWithFirstKeyAndPublishAllKeys() throws Exception {
+        // GIVEN
+        JwtService rsaJwtService = new JwtService(
+                "dGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQ=", 10,
+                "k2:" + rsaKey() + ",k1:" + rsaKey());
+
+        // WHEN
+        String token = rsaJwtService.generateToken(user);
+        Map<?, ?> header = Jwts.parserBuilder().build()
+                .parseClaimsJwt(token.substring(0, token.lastIndexOf('.') + 1)).getHeader();
+
+        // THEN
+        assertEquals("RS256", header.get("alg"));
+        assertEquals("k2", header.get("kid"));
+        assertTrue(rsaJwtService.isTokenValid(token));
+        assertEquals(2, ((List<?>) rsaJwtService.jwks().get("keys")).size());
+    }
+
+    @Test
+    void rs256_shouldRejectTokenOfRemovedKey_andKeepAcceptingHmacTokens() throws Exception {
+        // GIVEN: k1 rotated out
+        String secret = "dGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQ=";
+        String k1 = "k1:" + rsaKey();
+        String k2 = "k2:" + rsaKey();
+        String oldToken = new JwtService(secret, 10, k1).generateToken(user);
+        String hmacToken = jwtService.generateToken(user);
+
+        JwtService rotated = new JwtService(secret, 10, k2);
+
+        // THEN
+        assertFalse(rotated.isTokenValid(oldToken));
+        assertTrue(rotated.isTokenValid(hmacToken));
+        assertTrue(new JwtService(secret, 10, k2 + "," + k1).isTokenValid(oldToken));
+    }
+
+    private static String rsaKey() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return Base64.getEncoder().encodeToString(generator.generateKeyPair().getPrivate().getEncoded());
+    }
 }
@@ -0,0 +1,33 @@
+#!/bin/sh
+# ==============================
+# BACKEND CONTAINER ENTRYPOINT
+# ==============================
+# Plain image: java -jar app.jar
+#
+# Fast-start image (built with FAST_START=true): Spring AOT fixed
+# the profile and the @ConditionalOnProperty toggles at build time,
+# with the values recorded in aot-build.env. A container started with
+# other values would silently keep the build-time beans, so it
+# refuses to start instead.
+set -eu
+
+if [ ! -f aot-build.env ]; then
+  exec java -jar app.jar "$@"
+fi
+
+mismatch=0
+while IFS='=' read -r name built; do
+  eval "current=\${$name-}"
+  if [ "$current" != "$built" ]; then
+    echo "ERROR: $name is '$current' at runtime, but this fast-start image was built with '$built'." >&2
+    mismatch=1
+  fi
+done < aot-build.env
+
+if [ "$mismatch" -ne 0 ]; then
+  echo "Spring AOT decides these at build time. Rebuild with matching build args" >&2
+  echo "(docker-compose.yml, backend.build.args) or without FAST_START." >&2
+  exit 1
+fi
+
+exec java -XX:SharedArchiveFile=application/app.jsa -Dspring.aot.enabled=true -jar application/app.jar "$@"
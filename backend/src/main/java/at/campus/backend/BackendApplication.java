@@ -1,5 +1,6 @@
 package at.campus.backend;
 
+import at.campus.backend.common.startup.StartupTimelineReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,7 +8,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class BackendApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(BackendApplication.class, args);
+		SpringApplication application = new SpringApplication(BackendApplication.class);
+		StartupTimelineReport.enableIfRequested(application);
+		application.run(args);
 	}
 
 }
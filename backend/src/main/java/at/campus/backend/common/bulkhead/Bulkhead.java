@@ -0,0 +1,110 @@
+package at.campus.backend.common.bulkhead;
+
+import at.campus.backend.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead
+ * ==================================================
+ *
+ * Caps concurrent calls of one {@link WorkloadClass}.
+ *
+ * A call that cannot get a permit within maxWait is rejected with
+ * {@link ServiceUnavailableException} (HTTP 503, Retry-After)
+ * instead of queueing on the shared connection pool, where it would
+ * hold up every other class.
+ *
+ * METERS (Prometheus names, tag workload)
+ * --------------------------------------------------
+ * - bulkhead_limit            configured max-concurrent
+ * - bulkhead_active           calls holding a permit
+ * - bulkhead_waiting          calls waiting for a permit
+ * - bulkhead_wait_seconds     time to get (or give up on) a permit
+ * - bulkhead_rejected_total   calls rejected after maxWait
+ */
+public final class Bulkhead {
+
+    private final WorkloadClass workload;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    // Fair: waiters get permits in arrival order, so maxWait is a real bound
+    private final Semaphore permits;
+
+    private final Timer wait;
+    private final Counter rejected;
+
+    public Bulkhead(WorkloadClass workload, int maxConcurrent, Duration maxWait, MeterRegistry registry) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("Bulkhead " + workload.key() + ": max-concurrent must be >= 1");
+        }
+        this.workload = workload;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        String tag = workload.key();
+        Gauge.builder("bulkhead.limit", () -> maxConcurrent)
+                .description("Maximum concurrent calls")
+                .tag("workload", tag)
+                .register(registry);
+        Gauge.builder("bulkhead.active", this, Bulkhead::active)
+                .description("Calls holding a permit")
+                .tag("workload", tag)
+                .register(registry);
+        Gauge.builder("bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("Calls waiting for a permit")
+                .tag("workload", tag)
+                .register(registry);
+        this.wait = Timer.builder("bulkhead.wait")
+                .description("Wait for a bulkhead permit")
+                .tag("workload", tag)
+                .register(registry);
+        this.rejected = Counter.builder("bulkhead.rejected")
+                .description("Calls rejected because the bulkhead stayed full")
+                .tag("workload", tag)
+                .register(registry);
+    }
+
+    public WorkloadClass workload() {
+        return workload;
+    }
+
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Waits up to maxWait for a permit; pair with {@link #release()}.
+     *
+     * @throws ServiceUnavailableException when no permit became free
+     */
+    public void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejected.increment();
+            throw new ServiceUnavailableException(
+                    "Server busy (" + workload.key() + "), please retry",
+                    Duration.ofSeconds(1));
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
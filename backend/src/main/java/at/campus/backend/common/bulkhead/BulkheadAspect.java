@@ -0,0 +1,100 @@
+package at.campus.backend.common.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * BulkheadAspect
+ * ==================================================
+ *
+ * Puts every {@link Workload}-annotated call into the
+ * {@link Bulkhead} of its class, so one workload saturating
+ * (a burst of uploads, a moderation export) cannot starve the
+ * others of threads and connections.
+ *
+ * CONFIGURATION (per class, see {@link WorkloadClass})
+ * --------------------------------------------------
+ * app.bulkheads.<key>.max-concurrent   permits
+ * app.bulkheads.<key>.max-wait         wait for a permit, then 503
+ *
+ * IMPORTANT
+ * --------------------------------------------------
+ * - Highest precedence: the permit is taken BEFORE any
+ *   @Transactional advice, so a waiting call never holds
+ *   a connection
+ * - Only the outermost annotated call takes a permit;
+ *   nested calls run in the caller's bulkhead
+ * - Disable with app.bulkheads.enabled=false
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.bulkheads.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadAspect {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private final Map<WorkloadClass, Bulkhead> bulkheads = new EnumMap<>(WorkloadClass.class);
+
+    public BulkheadAspect(Environment environment, MeterRegistry registry) {
+        Binder binder = Binder.get(environment);
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            String prefix = "app.bulkheads." + workload.key();
+            int maxConcurrent = binder.bind(prefix + ".max-concurrent", Integer.class)
+                    .orElse(workload.defaultMaxConcurrent());
+            Duration maxWait = binder.bind(prefix + ".max-wait", Duration.class)
+                    .orElse(workload.defaultMaxWait());
+            bulkheads.put(workload, new Bulkhead(workload, maxConcurrent, maxWait, registry));
+        }
+    }
+
+    @Around("@within(at.campus.backend.common.bulkhead.Workload) "
+            + "|| @annotation(at.campus.backend.common.bulkhead.Workload)")
+    public Object isolate(ProceedingJoinPoint call) throws Throwable {
+        if (CURRENT.get() != null) {
+            return call.proceed();
+        }
+
+        Bulkhead bulkhead = bulkheads.get(workloadOf(call));
+        bulkhead.acquire();
+        CURRENT.set(bulkhead.workload());
+        try {
+            return call.proceed();
+        } finally {
+            CURRENT.remove();
+            bulkhead.release();
+        }
+    }
+
+    /** Bulkhead of a class, for tests and diagnostics. */
+    Bulkhead bulkhead(WorkloadClass workload) {
+        return bulkheads.get(workload);
+    }
+
+    private static WorkloadClass workloadOf(ProceedingJoinPoint call) {
+        Class<?> type = AopUtils.getTargetClass(call.getTarget());
+        Method method = AopUtils.getMostSpecificMethod(((MethodSignature) call.getSignature()).getMethod(), type);
+
+        Workload annotation = AnnotatedElementUtils.findMergedAnnotation(method, Workload.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(type, Workload.class);
+        }
+        return annotation.value();
+    }
+}
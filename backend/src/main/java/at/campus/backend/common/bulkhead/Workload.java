@@ -0,0 +1,22 @@
+package at.campus.backend.common.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated controller or service (class or single
+ * method) inside the {@link Bulkhead} of its workload class.
+ *
+ * A method annotation overrides the class annotation. Nested calls
+ * stay in the bulkhead of the outermost annotated call.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Workload {
+
+    WorkloadClass value();
+}
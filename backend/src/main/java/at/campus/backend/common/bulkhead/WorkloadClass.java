@@ -0,0 +1,46 @@
+package at.campus.backend.common.bulkhead;
+
+import java.time.Duration;
+
+/**
+ * Workload classes with their own {@link Bulkhead}.
+ *
+ * Defaults apply when app.bulkheads.&lt;key&gt; is not configured.
+ */
+public enum WorkloadClass {
+
+    /** Anonymous GET /api/public/** (read pool, response cache). */
+    PUBLIC_READ("public-read", 20, Duration.ofMillis(500)),
+
+    /** Authenticated requests: posts, reviews, reactions, uploads... */
+    WRITE("write", 6, Duration.ofSeconds(2)),
+
+    /** Moderation queues and report handling. */
+    MODERATION("moderation", 2, Duration.ofSeconds(5)),
+
+    /** Jobs without a waiting user (notifications, imports). */
+    BACKGROUND("background", 2, Duration.ofSeconds(30));
+
+    private final String key;
+    private final int defaultMaxConcurrent;
+    private final Duration defaultMaxWait;
+
+    WorkloadClass(String key, int defaultMaxConcurrent, Duration defaultMaxWait) {
+        this.key = key;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.defaultMaxWait = defaultMaxWait;
+    }
+
+    /** Property key and metric tag, e.g. "public-read". */
+    public String key() {
+        return key;
+    }
+
+    int defaultMaxConcurrent() {
+        return defaultMaxConcurrent;
+    }
+
+    Duration defaultMaxWait() {
+        return defaultMaxWait;
+    }
+}
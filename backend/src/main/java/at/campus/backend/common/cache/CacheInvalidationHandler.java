@@ -0,0 +1,16 @@
+package at.campus.backend.common.cache;
+
+import java.util.Collection;
+
+/**
+ * A node-local cache that follows invalidations published by
+ * other nodes through the {@link InvalidationBus}.
+ */
+public interface CacheInvalidationHandler {
+
+    /** Evict entries depending on any of the keys (typed tags, see {@link CacheTags}). */
+    void invalidateLocally(Collection<String> keys);
+
+    /** Drop everything: invalidations may have been missed. */
+    void flushLocally();
+}
@@ -0,0 +1,39 @@
+package at.campus.backend.common.cache;
+
+import java.util.UUID;
+
+/**
+ * Invalidation tags shared between read endpoints and write paths.
+ *
+ * A cached response lists the tags it depends on; a write bumps the
+ * version of the tags it affects. Entity tags cover one row, the
+ * plural tags cover "any row of that type changed".
+ */
+public final class CacheTags {
+
+    private CacheTags() {
+    }
+
+    public static String course(UUID courseId) {
+        return "course:" + courseId;
+    }
+
+    /** Any course created, updated or deleted (study program details list courses). */
+    public static String courses() {
+        return "courses";
+    }
+
+    public static String studyProgram(UUID studyProgramId) {
+        return "study-program:" + studyProgramId;
+    }
+
+    /** Any study program changed (course details embed program name/mode). */
+    public static String studyPrograms() {
+        return "study-programs";
+    }
+
+    /** Reviews of one course (summary = average + count). */
+    public static String reviews(UUID courseId) {
+        return "reviews:" + courseId;
+    }
+}
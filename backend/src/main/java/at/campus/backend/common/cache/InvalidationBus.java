@@ -0,0 +1,370 @@
+package at.campus.backend.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * InvalidationBus
+ * ==================================================
+ *
+ * Keeps node-local caches consistent when more than one backend
+ * (or auth) container runs, using PostgreSQL LISTEN/NOTIFY on the
+ * channel campus_invalidation.
+ *
+ * MESSAGES
+ * --------------------------------------------------
+ *   "<origin> <key> [<key>...]"
+ * - Keys are typed: the cache tags of {@link CacheTags}
+ *   ("course:<id>", "study-program:<id>", "reviews:<courseId>",
+ *   "courses", "study-programs"); auth publishes "user:<id>";
+ *   "moderation-counts" = recount (see ModerationCounters)
+ * - "*" = flush everything
+ * - origin = random id per node; a node ignores its own messages
+ *
+ * LIVE EVENTS
+ * --------------------------------------------------
+ * - Channel campus_live carries "<origin> <event>" for the
+ *   {@link RemoteEventHandler}s (live thread/post updates, see
+ *   common/live); same connection, same origin rule
+ * - After a (re)subscription handlers are told that events may
+ *   have been missed
+ *
+ * DELIVERY
+ * --------------------------------------------------
+ * - {@link #publishAfterCommit} queues the keys once the current
+ *   transaction has committed (immediately without one)
+ * - One thread owns a dedicated connection: it sends queued
+ *   messages with pg_notify and receives the others' messages
+ * - NOTIFY only reaches sessions listening at that moment. After
+ *   a lost connection the thread reconnects, LISTENs again and
+ *   then flushes every local cache, so anything missed while
+ *   disconnected cannot be served afterwards
+ *
+ * IMPORTANT
+ * --------------------------------------------------
+ * - The connection comes from DriverManager, not from the pool:
+ *   it is held for the lifetime of the node
+ * - It uses spring.datasource.url (the primary): a standby can
+ *   neither send nor deliver notifications
+ * - Handlers run on the bus thread and must be cheap
+ */
+@Component
+@ConditionalOnProperty(name = "app.invalidation-bus.enabled", havingValue = "true")
+public class InvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    static final String CHANNEL = "campus_invalidation";
+    static final String EVENT_CHANNEL = "campus_live";
+    static final String FLUSH = "*";
+
+    // NOTIFY payloads are limited to 8000 bytes
+    private static final int MAX_PAYLOAD = 7900;
+    private static final long LIVENESS_CHECK_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+    private final List<CacheInvalidationHandler> handlers;
+    private final List<RemoteEventHandler> eventHandlers;
+
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+    private final Queue<Message> outgoing = new ConcurrentLinkedQueue<>();
+
+    private record Message(String channel, String payload) {
+    }
+
+    private final Counter sent;
+    private final Counter received;
+    private final Counter flushes;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Thread thread;
+
+    public InvalidationBus(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${app.invalidation-bus.poll-interval:PT0.1S}") Duration pollInterval,
+            @Value("${app.invalidation-bus.reconnect-delay:PT2S}") Duration reconnectDelay,
+            List<CacheInvalidationHandler> handlers,
+            List<RemoteEventHandler> eventHandlers,
+            MeterRegistry registry
+    ) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.handlers = handlers;
+        this.eventHandlers = eventHandlers;
+
+        this.sent = Counter.builder("cache.invalidation.messages").tag("direction", "sent").register(registry);
+        this.received = Counter.builder("cache.invalidation.messages").tag("direction", "received").register(registry);
+        this.flushes = Counter.builder("cache.invalidation.flushes")
+                .description("Full local cache flushes (after (re)subscribing or on request)")
+                .register(registry);
+        Gauge.builder("cache.invalidation.connected", this, b -> b.connected ? 1 : 0)
+                .description("1 while this node is subscribed to invalidations")
+                .register(registry);
+    }
+
+    // ==================================================
+    // PUBLISH
+    // ==================================================
+
+    /**
+     * Sends the keys to all other nodes once the current transaction
+     * has committed, or right away outside a transaction.
+     */
+    public void publishAfterCommit(String... keys) {
+        if (keys.length == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(keys);
+                }
+            });
+        } else {
+            enqueue(keys);
+        }
+    }
+
+    private void enqueue(String... keys) {
+        String payload = origin + " " + String.join(" ", keys);
+        outgoing.add(new Message(CHANNEL, payload.length() <= MAX_PAYLOAD ? payload : origin + " " + FLUSH));
+    }
+
+    /**
+     * Sends a live event to all other nodes (no transaction handling:
+     * callers publish after commit).
+     *
+     * @return false if the event is too large for a notification
+     */
+    public boolean publishEvent(String event) {
+        String payload = origin + " " + event;
+        if (payload.length() > MAX_PAYLOAD) {
+            return false;
+        }
+        outgoing.add(new Message(EVENT_CHANNEL, payload));
+        return true;
+    }
+
+    // ==================================================
+    // LIFECYCLE
+    // ==================================================
+
+    @Override
+    public void start() {
+        if (!url.startsWith("jdbc:postgresql:")) {
+            log.warn("Invalidation bus needs PostgreSQL, not started (url {})", url);
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "invalidation-bus");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ==================================================
+    // CONNECTION LOOP
+    // ==================================================
+
+    private void run() {
+        boolean subscribedBefore = false;
+        while (running) {
+            try (Connection connection = connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                    statement.execute("LISTEN " + EVENT_CHANNEL);
+                }
+                connected = true;
+                // Also on the first subscription: caches may have filled while
+                // the database was unreachable at startup
+                if (subscribedBefore) {
+                    log.info("Invalidation bus reconnected, flushing local caches");
+                }
+                subscribedBefore = true;
+                flushAll();
+                eventsMissed();
+                listen(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Invalidation bus connection lost, retrying in {}: {}", reconnectDelay, e.getMessage());
+                }
+            } finally {
+                connected = false;
+            }
+            sleep(reconnectDelay);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("ApplicationName", "invalidation-bus");
+        properties.setProperty("connectTimeout", "10");
+        properties.setProperty("socketTimeout", "30");
+        properties.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(url, properties);
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        PGConnection pg = connection.unwrap(PGConnection.class);
+        long lastCheck = System.nanoTime();
+        int pollMillis = (int) Math.max(1, pollInterval.toMillis());
+
+        while (running) {
+            send(connection);
+
+            PGNotification[] notifications = pg.getNotifications(pollMillis);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    if (EVENT_CHANNEL.equals(notification.getName())) {
+                        receiveEvent(notification.getParameter());
+                    } else {
+                        receive(notification.getParameter());
+                    }
+                }
+            }
+
+            // A silently dropped connection only shows up on the next round trip
+            if (System.nanoTime() - lastCheck > LIVENESS_CHECK_NANOS) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastCheck = System.nanoTime();
+            }
+        }
+    }
+
+    private void send(Connection connection) throws SQLException {
+        Message message;
+        // Peek first: a message is only dropped from the queue once it went out
+        while ((message = outgoing.peek()) != null) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                statement.setString(1, message.channel());
+                statement.setString(2, message.payload());
+                statement.execute();
+            }
+            outgoing.poll();
+            sent.increment();
+        }
+    }
+
+    void receive(String payload) {
+        String[] parts = payload.split(" ");
+        if (parts.length < 2 || parts[0].equals(origin)) {
+            return;
+        }
+        received.increment();
+
+        List<String> keys = Arrays.asList(parts).subList(1, parts.length);
+        if (keys.contains(FLUSH)) {
+            flushAll();
+            return;
+        }
+        for (CacheInvalidationHandler handler : handlers) {
+            try {
+                handler.invalidateLocally(keys);
+            } catch (RuntimeException e) {
+                log.error("Cache invalidation failed for {}", keys, e);
+            }
+        }
+    }
+
+    void receiveEvent(String payload) {
+        int space = payload.indexOf(' ');
+        if (space < 0 || payload.substring(0, space).equals(origin)) {
+            return;
+        }
+        received.increment();
+
+        String event = payload.substring(space + 1);
+        for (RemoteEventHandler handler : eventHandlers) {
+            try {
+                handler.onRemoteEvent(event);
+            } catch (RuntimeException e) {
+                log.error("Live event handling failed", e);
+            }
+        }
+    }
+
+    private void flushAll() {
+        flushes.increment();
+        for (CacheInvalidationHandler handler : handlers) {
+            try {
+                handler.flushLocally();
+            } catch (RuntimeException e) {
+                log.error("Cache flush failed", e);
+            }
+        }
+    }
+
+    private void eventsMissed() {
+        for (RemoteEventHandler handler : eventHandlers) {
+            try {
+                handler.eventsMissed();
+            } catch (RuntimeException e) {
+                log.error("Live event resync failed", e);
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    String origin() {
+        return origin;
+    }
+}
@@ -0,0 +1,14 @@
+package at.campus.backend.common.cache;
+
+/**
+ * A node-local consumer of events published by other nodes
+ * through the {@link InvalidationBus} (channel campus_live).
+ */
+public interface RemoteEventHandler {
+
+    /** One event as published by the other node (without its origin). */
+    void onRemoteEvent(String payload);
+
+    /** Events may have been missed (the bus was disconnected). */
+    void eventsMissed();
+}
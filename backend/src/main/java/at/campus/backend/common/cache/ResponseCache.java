@@ -0,0 +1,354 @@
+package at.campus.backend.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ResponseCache
+ * ==================================================
+ *
+ * Cache of fully serialized JSON response bodies for hot public reads.
+ *
+ * PURPOSE
+ * --------------------------------------------------
+ * - A hit is served from memory: no SQL, no Jackson
+ * - Bodies are stored as final UTF-8 bytes and, when enabled,
+ *   additionally as precompressed gzip bytes
+ *
+ * KEYS AND INVALIDATION
+ * --------------------------------------------------
+ * - Key = route + current version of every tag it depends on
+ *   (see {@link CacheTags})
+ * - Write paths call {@link #invalidate(String...)}, which bumps
+ *   the tag versions: old entries can never be hit again
+ * - Versions are read BEFORE loading, so a load racing with a
+ *   write is stored under the old version and never served
+ * - Reads never create versions: a tag that was never invalidated
+ *   is at version 0, so ids taken from URLs (including unknown
+ *   ones) leave nothing behind. A flush starts a new generation
+ *   instead of bumping every known tag
+ * - Inside a transaction the bump is repeated after commit, so
+ *   a read between bump and commit cannot pin stale data
+ * - A TTL bounds staleness for writes that bypass the backend
+ *   (e.g. the importer)
+ * - Other backend nodes receive the tags after commit through the
+ *   {@link InvalidationBus} (when enabled)
+ *
+ * SIZE
+ * --------------------------------------------------
+ * - Bounded by total bytes (LRU eviction), not entry count
+ */
+@Component
+public class ResponseCache implements CacheInvalidationHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+
+    // Rough per-entry bookkeeping cost (map node, entry object, arrays)
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<InvalidationBus> invalidationBus;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final boolean gzipEnabled;
+    private final int gzipMinBytes;
+
+    // Only tags that were invalidated at least once; absent = version 0
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private volatile long generation;
+
+    // Access-ordered => iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ResponseCache(
+            ObjectMapper objectMapper,
+            ObjectProvider<InvalidationBus> invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.response-cache.enabled:true}") boolean enabled,
+            @Value("${app.response-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${app.response-cache.ttl:PT10M}") Duration ttl,
+            @Value("${app.response-cache.gzip:true}") boolean gzipEnabled,
+            @Value("${app.response-cache.gzip-min-bytes:1024}") int gzipMinBytes
+    ) {
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttl.toNanos();
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+
+        this.hits = Counter.builder("response.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("response.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("response.cache.evictions").register(meterRegistry);
+        Gauge.builder("response.cache.bytes", this, c -> c.currentBytes()).register(meterRegistry);
+        Gauge.builder("response.cache.entries", this, c -> c.currentEntries()).register(meterRegistry);
+        Gauge.builder("response.cache.tags", versions, Map::size).register(meterRegistry);
+    }
+
+    // ==================================================
+    // READ
+    // ==================================================
+
+    /**
+     * Serve a JSON body from cache, or load, serialize and cache it.
+     *
+     * @param route  stable route identifier, e.g. "course-detail:{id}"
+     * @param tags   invalidation tags the body depends on
+     * @param loader produces the response object on a miss; exceptions
+     *               propagate unchanged and nothing is cached
+     */
+    public ResponseEntity<byte[]> serve(
+            HttpServletRequest request,
+            String route,
+            List<String> tags,
+            Supplier<?> loader
+    ) {
+        boolean acceptGzip = acceptsGzip(request);
+
+        if (!enabled) {
+            return toResponse(serialize(loader.get()), null, false);
+        }
+
+        long loadGeneration = generation;
+        String key = versionedKey(route, tags);
+        Entry entry = lookup(key);
+
+        if (entry != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            byte[] body = serialize(loader.get());
+            byte[] gzip = gzipEnabled && body.length >= gzipMinBytes ? gzip(body) : null;
+            entry = new Entry(body, gzip, System.nanoTime());
+            // A stale fallback must not be kept for a full TTL
+            if (!StaleWhileRevalidateCache.servedStale(request)) {
+                store(key, entry, loadGeneration);
+            }
+        }
+
+        return toResponse(entry.body, entry.gzip, acceptGzip);
+    }
+
+    /**
+     * Current versions of the tags, e.g. "#0|course:42@3|study-programs@1".
+     * Changes whenever one of the tags is invalidated or the cache is
+     * flushed; other caches use it to follow the same invalidations
+     * (see {@link StaleWhileRevalidateCache}).
+     */
+    public String tagVersions(List<String> tags) {
+        return versionedKey("#" + generation, tags);
+    }
+
+    // ==================================================
+    // INVALIDATION
+    // ==================================================
+
+    /**
+     * Invalidate all cached responses depending on any of the tags.
+     * Called by service write paths after the write.
+     */
+    public void invalidate(String... tags) {
+        bump(tags);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(tags);
+                }
+            });
+        }
+
+        invalidationBus.ifAvailable(bus -> bus.publishAfterCommit(tags));
+    }
+
+    /**
+     * Drop everything (e.g. after a bulk import).
+     */
+    public void clear() {
+        flushLocally();
+        invalidationBus.ifAvailable(bus -> bus.publishAfterCommit(InvalidationBus.FLUSH));
+    }
+
+    // ==================================================
+    // INVALIDATION FROM OTHER NODES
+    // ==================================================
+
+    @Override
+    public void invalidateLocally(Collection<String> tags) {
+        bump(tags.toArray(String[]::new));
+    }
+
+    @Override
+    public synchronized void flushLocally() {
+        // Also covers tags that were never invalidated (no version yet)
+        generation++;
+        versions.clear();
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    private void bump(String... tags) {
+        for (String tag : tags) {
+            versions.computeIfAbsent(tag, t -> new AtomicLong()).incrementAndGet();
+        }
+        removeTagged(tags);
+    }
+
+    // Eagerly free memory held by entries that can no longer be hit
+    private synchronized void removeTagged(String... tags) {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Entry> e = it.next();
+            for (String tag : tags) {
+                if (e.getKey().contains("|" + tag + "@")) {
+                    totalBytes -= e.getValue().size(e.getKey());
+                    it.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    // ==================================================
+    // INTERNALS
+    // ==================================================
+
+    private String versionedKey(String route, List<String> tags) {
+        StringBuilder key = new StringBuilder(route);
+        for (String tag : tags) {
+            AtomicLong version = versions.get(tag);
+            key.append('|').append(tag).append('@').append(version == null ? 0 : version.get());
+        }
+        return key.toString();
+    }
+
+    private synchronized Entry lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            entries.remove(key);
+            totalBytes -= entry.size(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void store(String key, Entry entry, long loadGeneration) {
+        // Flushed while loading: the body may predate the flush
+        if (loadGeneration != generation) {
+            return;
+        }
+
+        long size = entry.size(key);
+
+        // A single body must not flush a large part of the cache
+        if (size > maxBytes / 4) {
+            log.debug("Response for {} too large to cache ({} bytes)", key, size);
+            return;
+        }
+
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalBytes -= previous.size(key);
+        }
+        totalBytes += size;
+
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            totalBytes -= eldest.getValue().size(eldest.getKey());
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private synchronized long currentBytes() {
+        return totalBytes;
+    }
+
+    private synchronized int currentEntries() {
+        return entries.size();
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cached response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return accept != null && accept.toLowerCase().contains("gzip");
+    }
+
+    private static ResponseEntity<byte[]> toResponse(byte[] body, byte[] gzip, boolean acceptGzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip != null && acceptGzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+        return response.body(body);
+    }
+
+    private record Entry(byte[] body, byte[] gzip, long createdAt) {
+
+        long size(String key) {
+            return ENTRY_OVERHEAD_BYTES
+                    + 2L * key.length()
+                    + body.length
+                    + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
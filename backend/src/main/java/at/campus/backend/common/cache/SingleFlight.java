@@ -0,0 +1,148 @@
+package at.campus.backend.common.cache;
+
+import at.campus.backend.common.jdbc.ReadRouting;
+import at.campus.backend.security.UserContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight
+ * ==================================================
+ *
+ * Coalesces identical concurrent reads: while one caller (the
+ * leader) computes a result, callers with the same key wait for
+ * it instead of running the same SQL again. Nothing is kept after
+ * the leader finishes; caching is {@link ResponseCache}'s job.
+ *
+ * Typical case: a course gets linked somewhere and hundreds of
+ * cold requests for it arrive at once.
+ *
+ * SHARING RULES
+ * --------------------------------------------------
+ * - The key includes the current user: results are only shared
+ *   between anonymous callers, or between requests of the same user
+ * - Not coalesced: calls inside a transaction, and requests pinned
+ *   to the primary (read-your-writes after the caller's own write;
+ *   a flight started before that write could return older data)
+ * - Results are shared objects: callers MUST NOT mutate them
+ * - A leader's exception is rethrown to every waiting caller
+ *
+ * METERS (Prometheus names)
+ * --------------------------------------------------
+ * - singleflight_calls_total{name, role=leader|follower}
+ *     coalescing ratio = follower / (leader + follower)
+ * - singleflight_inflight   keys currently being computed
+ */
+@Component
+public class SingleFlight {
+
+    private record Key(String name, Object key, String user) {
+    }
+
+    private record Meters(Counter leader, Counter follower) {
+    }
+
+    private final UserContext userContext;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+
+    private final Map<Key, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public SingleFlight(
+            UserContext userContext,
+            MeterRegistry registry,
+            @Value("${app.single-flight.enabled:true}") boolean enabled
+    ) {
+        this.userContext = userContext;
+        this.registry = registry;
+        this.enabled = enabled;
+
+        Gauge.builder("singleflight.inflight", flights, Map::size)
+                .description("Reads currently being computed for coalesced callers")
+                .register(registry);
+    }
+
+    /**
+     * @param name   operation, low cardinality (metric tag), e.g. "course-detail"
+     * @param key    arguments that identify the result, e.g. the course id
+     * @param loader computes the result; must not depend on anything
+     *               but name and key (and the current user)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        if (!enabled
+                || TransactionSynchronizationManager.isActualTransactionActive()
+                || ReadRouting.pinnedToPrimary()) {
+            return loader.get();
+        }
+
+        Key flightKey = new Key(name, key, currentUser());
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = flights.putIfAbsent(flightKey, flight);
+
+        if (running != null) {
+            meters(name).follower().increment();
+            return (T) await(running);
+        }
+
+        meters(name).leader().increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(flightKey, flight);
+        }
+    }
+
+    private String currentUser() {
+        // Outside a request (startup, tests) there is no user to scope by
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return null;
+        }
+        return userContext.getUserId();
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Meters meters(String name) {
+        return meters.computeIfAbsent(name, n -> new Meters(
+                counter(n, "leader"),
+                counter(n, "follower")));
+    }
+
+    private Counter counter(String name, String role) {
+        return Counter.builder("singleflight.calls")
+                .description("Coalescable reads; followers reused a leader's result")
+                .tag("name", name)
+                .tag("role", role)
+                .register(registry);
+    }
+}
@@ -0,0 +1,379 @@
+package at.campus.backend.common.cache;
+
+import at.campus.backend.common.exception.ServiceUnavailableException;
+import at.campus.backend.common.jdbc.ReadRouting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * StaleWhileRevalidateCache
+ * ==================================================
+ *
+ * Keeps the last good result of public reads so that a slow
+ * database (vacuum, checkpoint spikes, import runs) does not
+ * block every /api/public request on the DataSource.
+ *
+ * PER ENTRY AGE (policy per endpoint, see CONFIGURATION)
+ * --------------------------------------------------
+ * - age <= fresh                  served, no query
+ * - age <= fresh + max-stale      served at once, refreshed in
+ *                                 the background
+ * - older, or no entry            loaded; with an entry within
+ *                                 stale-if-error the request waits
+ *                                 at most timeout, then falls back
+ *                                 to that entry
+ * - A fallback (load timed out or the database failed) carries
+ *   "Warning: 110 - "Response is Stale"" and an Age header, and is
+ *   not stored in the {@link ResponseCache}
+ * - Without a usable entry the request waits for the load (or
+ *   gets its error) exactly as without this cache
+ *
+ * CONSISTENCY
+ * --------------------------------------------------
+ * - Entries remember the {@link ResponseCache} versions of their
+ *   tags: after an invalidation (local or via the InvalidationBus)
+ *   an entry is never served again, not even as a fallback
+ * - Bypassed (plain {@link SingleFlight}) inside transactions and
+ *   for requests pinned to the primary (read-your-writes)
+ * - Loads run on a small bounded pool against the read pool;
+ *   identical loads are shared. Empty Optionals are not kept
+ * - Results are shared objects: callers MUST NOT mutate them
+ *
+ * CONFIGURATION
+ * --------------------------------------------------
+ * app.stale-while-revalidate.enabled
+ * app.stale-while-revalidate.loader-threads / queue-capacity
+ * app.stale-while-revalidate.max-entries
+ * app.stale-while-revalidate.policies.<name>.fresh / max-stale /
+ *     stale-if-error / timeout   (missing values: policies.default)
+ *
+ * METERS (Prometheus names)
+ * --------------------------------------------------
+ * - swr_requests_total{policy, result=fresh|stale|load|fallback}
+ * - swr_loads_total{policy, outcome=success|failure|rejected}
+ * - swr_entries
+ */
+@Component
+public class StaleWhileRevalidateCache {
+
+    private static final Logger log = LoggerFactory.getLogger(StaleWhileRevalidateCache.class);
+
+    private static final String STALE_ATTRIBUTE = StaleWhileRevalidateCache.class.getName() + ".stale";
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private static final Policy DEFAULT_POLICY = new Policy(
+            Duration.ofSeconds(10), Duration.ofMinutes(5), Duration.ofHours(1), Duration.ofSeconds(1));
+
+    record Policy(Duration fresh, Duration maxStale, Duration staleIfError, Duration timeout) {
+    }
+
+    private record Key(String policy, Object key) {
+    }
+
+    private record LoadKey(Key key, String versions) {
+    }
+
+    private record Entry(Object value, String versions, long loadedAt) {
+
+        long ageNanos() {
+            return System.nanoTime() - loadedAt;
+        }
+    }
+
+    private final ResponseCache responseCache;
+    private final SingleFlight singleFlight;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final Binder binder;
+    private final Policy defaultPolicy;
+    private final ThreadPoolExecutor loader;
+
+    private final Map<String, Policy> policies = new ConcurrentHashMap<>();
+    private final Map<LoadKey, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    // Access-ordered LRU, bounded by entry count
+    private final LinkedHashMap<Key, Entry> entries;
+
+    public StaleWhileRevalidateCache(
+            ResponseCache responseCache,
+            SingleFlight singleFlight,
+            MeterRegistry registry,
+            Environment environment
+    ) {
+        this.responseCache = responseCache;
+        this.singleFlight = singleFlight;
+        this.registry = registry;
+        this.binder = Binder.get(environment);
+
+        String prefix = "app.stale-while-revalidate";
+        this.enabled = binder.bind(prefix + ".enabled", Boolean.class).orElse(true);
+        int threads = binder.bind(prefix + ".loader-threads", Integer.class).orElse(4);
+        int queueCapacity = binder.bind(prefix + ".queue-capacity", Integer.class).orElse(100);
+        int maxEntries = binder.bind(prefix + ".max-entries", Integer.class).orElse(10_000);
+        this.defaultPolicy = bindPolicy("default", DEFAULT_POLICY);
+
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.loader = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "swr-loader-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("swr.entries", this, c -> c.currentEntries())
+                .description("Last good results kept for stale serving")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * @param policy low-cardinality read name (policy, metric tag), e.g. "courses"
+     * @param key    arguments that identify the result, e.g. the course id
+     * @param tags   invalidation tags the result depends on ({@link CacheTags})
+     * @param load   reads the database; must not depend on anything but
+     *               policy and key (the result is shared by all users)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String policy, Object key, List<String> tags, Supplier<T> load) {
+        if (!enabled
+                || TransactionSynchronizationManager.isActualTransactionActive()
+                || ReadRouting.pinnedToPrimary()) {
+            return singleFlight.execute(policy, key, load);
+        }
+
+        Policy rules = policy(policy);
+        Key cacheKey = new Key(policy, key);
+        // Versions are read BEFORE loading: a load racing with a write
+        // is stored under the old versions and never served
+        String versions = responseCache.tagVersions(tags);
+        Entry entry = lookup(cacheKey, versions);
+
+        if (entry != null) {
+            long age = entry.ageNanos();
+            if (age <= rules.fresh().toNanos()) {
+                count("swr.requests", policy, "result", "fresh");
+                return (T) entry.value();
+            }
+            if (age <= rules.fresh().plus(rules.maxStale()).toNanos()) {
+                count("swr.requests", policy, "result", "stale");
+                try {
+                    load(cacheKey, versions, load);
+                } catch (RejectedExecutionException e) {
+                    // Loader saturated: the refresh is retried by a later request
+                }
+                return (T) entry.value();
+            }
+        }
+
+        // Entry a slow or failing load may fall back to
+        Entry usable = entry != null
+                && entry.ageNanos() <= rules.fresh().plus(rules.maxStale()).plus(rules.staleIfError()).toNanos()
+                ? entry : null;
+
+        CompletableFuture<Object> loading;
+        try {
+            loading = load(cacheKey, versions, load);
+        } catch (RejectedExecutionException e) {
+            if (usable != null) {
+                return fallback(policy, usable, e);
+            }
+            // Loader saturated and nothing to serve: read on this thread
+            return singleFlight.execute(policy, key, load);
+        }
+
+        count("swr.requests", policy, "result", "load");
+        try {
+            if (usable == null) {
+                return (T) loading.get();
+            }
+            return (T) loading.get(rules.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return fallback(policy, usable, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (usable != null && cause instanceof DataAccessException) {
+                return fallback(policy, usable, cause);
+            }
+            throw rethrow(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while loading " + policy, Duration.ofSeconds(1));
+        }
+    }
+
+    /** True when this request was answered with a stale fallback. */
+    public static boolean servedStale(HttpServletRequest request) {
+        return request.getAttribute(STALE_ATTRIBUTE) != null;
+    }
+
+    // ==================================================
+    // LOADING
+    // ==================================================
+
+    private CompletableFuture<Object> load(Key key, String versions, Supplier<?> load) {
+        LoadKey loadKey = new LoadKey(key, versions);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> running = loads.putIfAbsent(loadKey, created);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            loader.execute(() -> {
+                // Removed before completing: later callers start a new load
+                // instead of joining a finished one
+                try {
+                    Object value = ReadRouting.readOnly(load);
+                    store(key, new Entry(value, versions, System.nanoTime()));
+                    loads.remove(loadKey, created);
+                    count("swr.loads", key.policy(), "outcome", "success");
+                    created.complete(value);
+                } catch (Throwable e) {
+                    loads.remove(loadKey, created);
+                    count("swr.loads", key.policy(), "outcome", "failure");
+                    created.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            count("swr.loads", key.policy(), "outcome", "rejected");
+            loads.remove(loadKey, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+        return created;
+    }
+
+    /**
+     * Serve a usable entry instead of waiting for the database.
+     * The load keeps running and refreshes the entry when it finishes.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T fallback(String policy, Entry entry, Throwable reason) {
+        long age = entry.ageNanos();
+        count("swr.requests", policy, "result", "fallback");
+        log.warn("Serving stale {} ({} s old): {}", policy, TimeUnit.NANOSECONDS.toSeconds(age), reason.toString());
+        markStale(age);
+        return (T) entry.value();
+    }
+
+    private static void markStale(long ageNanos) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servlet)) {
+            return;
+        }
+        servlet.getRequest().setAttribute(STALE_ATTRIBUTE, Boolean.TRUE);
+
+        HttpServletResponse response = servlet.getResponse();
+        if (response != null && !response.isCommitted()) {
+            response.setHeader(HttpHeaders.WARNING, STALE_WARNING);
+            response.setHeader(HttpHeaders.AGE, Long.toString(TimeUnit.NANOSECONDS.toSeconds(ageNanos)));
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    // ==================================================
+    // ENTRIES
+    // ==================================================
+
+    private synchronized Entry lookup(Key key, String versions) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.versions().equals(versions)) {
+            // Invalidated since it was loaded
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void store(Key key, Entry entry) {
+        if (entry.value() instanceof Optional<?> optional && optional.isEmpty()) {
+            return;
+        }
+        Entry current = entries.get(key);
+        // A slower, older load must not replace a newer result
+        if (current != null && current.loadedAt() > entry.loadedAt() && current.versions().equals(entry.versions())) {
+            return;
+        }
+        entries.put(key, entry);
+    }
+
+    private synchronized int currentEntries() {
+        return entries.size();
+    }
+
+    // ==================================================
+    // POLICIES AND METERS
+    // ==================================================
+
+    Policy policy(String name) {
+        return policies.computeIfAbsent(name, n -> bindPolicy(n, defaultPolicy));
+    }
+
+    private Policy bindPolicy(String name, Policy fallback) {
+        String prefix = "app.stale-while-revalidate.policies." + name;
+        return new Policy(
+                binder.bind(prefix + ".fresh", Duration.class).orElse(fallback.fresh()),
+                binder.bind(prefix + ".max-stale", Duration.class).orElse(fallback.maxStale()),
+                binder.bind(prefix + ".stale-if-error", Duration.class).orElse(fallback.staleIfError()),
+                binder.bind(prefix + ".timeout", Duration.class).orElse(fallback.timeout()));
+    }
+
+    private void count(String meter, String policy, String tag, String value) {
+        counters.computeIfAbsent(meter + "|" + policy + "|" + value, k -> Counter.builder(meter)
+                .tag("policy", policy)
+                .tag(tag, value)
+                .register(registry)).increment();
+    }
+}
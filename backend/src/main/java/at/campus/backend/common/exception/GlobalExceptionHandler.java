@@ -2,6 +2,7 @@ package at.campus.backend.common.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -31,7 +32,8 @@ import java.util.Map;
  *
  * ERROR LOGGING POLICY
  * --------------------------------------------------
- * - WARN  : expected business errors (403, 404)
+ * - WARN  : expected business errors (403, 404),
+ *           load shedding (503 from a full bulkhead)
  * - ERROR : unexpected failures (500)
  */
 @ControllerAdvice
@@ -132,6 +134,27 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    // ==================================================
+    // 503 SERVICE UNAVAILABLE
+    // ==================================================
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleUnavailable(
+            ServiceUnavailableException ex
+    ) {
+        log.warn("Service unavailable: {}", ex.getMessage());
+
+        long retryAfterSeconds = Math.max(1, ex.getRetryAfter().toSeconds());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(errorBody(
+                        HttpStatus.SERVICE_UNAVAILABLE,
+                        ex.getMessage()
+                ));
+    }
+
     // ==================================================
     // 500 INTERNAL SERVER ERROR
     // ==================================================
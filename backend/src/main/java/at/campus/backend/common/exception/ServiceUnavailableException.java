@@ -0,0 +1,24 @@
+package at.campus.backend.common.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request is shed because the server is
+ * temporarily at capacity (e.g. a full bulkhead).
+ *
+ * Mapped to HTTP 503 with a Retry-After header by the
+ * global exception handler.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,296 @@
+package at.campus.backend.common.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * InstrumentedDataSource
+ * ==================================================
+ *
+ * DataSource decorator that times every JDBC statement and
+ * reports to {@link JdbcMetrics}.
+ *
+ * PURPOSE
+ * --------------------------------------------------
+ * - Wraps the pool once (see JdbcConfig), so JdbcTemplate,
+ *   NamedParameterJdbcTemplate and Flyway are all covered
+ *   without touching a single repository
+ *
+ * HOW
+ * --------------------------------------------------
+ * - Connection / Statement / ResultSet are JDK proxies
+ * - execute* is timed; rows are counted on ResultSet.next()
+ *   and reported when the result set is closed
+ * - set*(index, value) on prepared statements keeps a redacted
+ *   description per bind for the slow-query log
+ *
+ * IMPORTANT:
+ * - unwrap()/isWrapperFor() reach the pool and driver objects,
+ *   so driver-specific APIs (PGConnection, Hikari) keep working
+ * - close() closes the pool: Spring infers the destroy method
+ *   from the decorator, not from the bean it replaced
+ */
+public class InstrumentedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Set<String> EXECUTE = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final ObjectProvider<JdbcMetrics> metricsProvider;
+    private volatile JdbcMetrics metrics;
+
+    public InstrumentedDataSource(DataSource target, ObjectProvider<JdbcMetrics> metricsProvider) {
+        super(target);
+        this.metricsProvider = metricsProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long started = System.nanoTime();
+        Connection connection = super.getConnection();
+        metrics().recordAcquire(System.nanoTime() - started);
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long started = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        metrics().recordAcquire(System.nanoTime() - started);
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    // Resolved lazily: the DataSource is created before the MeterRegistry
+    private JdbcMetrics metrics() {
+        JdbcMetrics m = metrics;
+        if (m == null) {
+            m = metricsProvider.getObject();
+            metrics = m;
+        }
+        return m;
+    }
+
+    // ==================================================
+    // PROXIES
+    // ==================================================
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented[" + target + "]";
+                default:
+                    break;
+            }
+
+            Object result = call(target, method, args);
+
+            if (result instanceof CallableStatement cs) {
+                return proxy(CallableStatement.class, new StatementHandler(cs, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement ps) {
+                return proxy(PreparedStatement.class, new StatementHandler(ps, (String) args[0]));
+            }
+            if (result instanceof Statement st) {
+                return proxy(Statement.class, new StatementHandler(st, null));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private final List<String> binds = new ArrayList<>();
+
+        // execute() returned a result set that was not fetched yet
+        private JdbcMetrics.Execution pending;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (EXECUTE.contains(name)) {
+                return execute(method, args);
+            }
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "clearParameters":
+                    binds.clear();
+                    break;
+                case "getResultSet": {
+                    Object result = call(target, method, args);
+                    JdbcMetrics.Execution execution = pending;
+                    pending = null;
+                    return result != null && execution != null ? wrap((ResultSet) result, execution) : result;
+                }
+                default:
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        bind(index, name.equals("setNull") ? null : args[1]);
+                    }
+            }
+            return call(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            JdbcMetrics metrics = metrics();
+            JdbcMetrics.Execution execution = metrics.start(statementSql, List.copyOf(binds));
+
+            long started = System.nanoTime();
+            Object result;
+            try {
+                result = call(target, method, args);
+            } catch (Throwable t) {
+                metrics.recordExecution(execution, System.nanoTime() - started, true);
+                throw t;
+            }
+            metrics.recordExecution(execution, System.nanoTime() - started, false);
+
+            switch (result) {
+                case ResultSet rs -> {
+                    return wrap(rs, execution);
+                }
+                case Integer count -> metrics.recordRows(execution, Math.max(0, count));
+                case Long count -> metrics.recordRows(execution, Math.max(0, count));
+                case int[] counts -> metrics.recordRows(execution, sum(counts));
+                case long[] counts -> metrics.recordRows(execution, sum(counts));
+                case Boolean hasResultSet -> {
+                    if (hasResultSet) {
+                        pending = execution;
+                    } else {
+                        metrics.recordRows(execution, Math.max(0, target.getUpdateCount()));
+                    }
+                }
+                case null, default -> {
+                }
+            }
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            while (binds.size() < index) {
+                binds.add("?");
+            }
+            binds.set(index - 1, JdbcMetrics.describe(value));
+        }
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final JdbcMetrics.Execution execution;
+        private long rows;
+        private boolean closed;
+
+        ResultSetHandler(ResultSet target, JdbcMetrics.Execution execution) {
+            this.target = target;
+            this.execution = execution;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next": {
+                    Object result = call(target, method, args);
+                    if (Boolean.TRUE.equals(result)) {
+                        rows++;
+                    }
+                    return result;
+                }
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        metrics().recordRows(execution, rows);
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            return call(target, method, args);
+        }
+    }
+
+    // ==================================================
+    // HELPERS
+    // ==================================================
+
+    private ResultSet wrap(ResultSet rs, JdbcMetrics.Execution execution) {
+        return proxy(ResultSet.class, new ResultSetHandler(rs, execution));
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int c : counts) {
+            total += Math.max(0, c);
+        }
+        return total;
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long c : counts) {
+            total += Math.max(0, c);
+        }
+        return total;
+    }
+}
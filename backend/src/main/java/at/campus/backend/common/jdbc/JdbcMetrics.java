@@ -0,0 +1,193 @@
+package at.campus.backend.common.jdbc;
+
+import at.campus.backend.common.tracing.RequestTimings;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JdbcMetrics
+ * ==================================================
+ *
+ * Records what {@link InstrumentedDataSource} observes.
+ *
+ * METERS (Prometheus names)
+ * --------------------------------------------------
+ * - db_query_seconds{caller, sql, operation, outcome}
+ *     execution time per statement
+ * - db_query_rows{caller, sql, operation}
+ *     rows read (queries) or affected (updates, batches)
+ * - db_connection_acquire_seconds
+ *     wait for a pooled connection (pool saturation)
+ *
+ * caller = first application frame on the stack, e.g.
+ * "JdbcCourseRepository.findById"; sql = {@link SqlFingerprint}.
+ *
+ * SLOW QUERIES
+ * --------------------------------------------------
+ * - Statements above app.jdbc-metrics.slow-query-threshold are
+ *   logged with caller, time, rows and fingerprint
+ * - Bind parameters are logged REDACTED (type and length only):
+ *   values may contain personal data
+ */
+@Component
+public class JdbcMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcMetrics.class);
+
+    private static final String BASE_PACKAGE = "at.campus.backend.";
+    private static final String SELF = JdbcMetrics.class.getName();
+    private static final String DATA_SOURCE = InstrumentedDataSource.class.getName();
+
+    // Keep label values readable; distinct statements stay distinct via the hash suffix
+    private static final int MAX_SQL_TAG_LENGTH = 160;
+
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    private record Key(String caller, String sql) {
+    }
+
+    private record Meters(Timer success, Timer error, DistributionSummary rows) {
+    }
+
+    private final MeterRegistry registry;
+    private final long slowNanos;
+    private final boolean histogram;
+    private final Timer acquire;
+
+    private final Map<Key, Meters> meters = new ConcurrentHashMap<>();
+
+    public JdbcMetrics(
+            MeterRegistry registry,
+            @Value("${app.jdbc-metrics.slow-query-threshold:PT0.25S}") Duration slowQueryThreshold,
+            @Value("${app.jdbc-metrics.histogram:false}") boolean histogram
+    ) {
+        this.registry = registry;
+        this.slowNanos = slowQueryThreshold.toNanos();
+        this.histogram = histogram;
+        this.acquire = Timer.builder("db.connection.acquire")
+                .description("Wait for a pooled JDBC connection")
+                .publishPercentileHistogram(histogram)
+                .register(registry);
+    }
+
+    // ==================================================
+    // RECORDING
+    // ==================================================
+
+    void recordAcquire(long nanos) {
+        acquire.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordExecution(Execution execution, long nanos, boolean failed) {
+        Meters m = meters(execution);
+        (failed ? m.error() : m.success()).record(nanos, TimeUnit.NANOSECONDS);
+        execution.nanos = nanos;
+        RequestTimings.addDatabase(nanos);
+    }
+
+    /** Called once per execution: after the update, or when the result set is closed. */
+    void recordRows(Execution execution, long rows) {
+        meters(execution).rows().record(rows);
+        if (execution.nanos >= slowNanos) {
+            log.warn("Slow query: {} took {} ms, {} rows: {} binds={}",
+                    execution.caller, execution.nanos / 1_000_000, rows, execution.fingerprint,
+                    execution.binds);
+        }
+    }
+
+    /** Captures caller and fingerprint once per statement execution. */
+    Execution start(String sql, List<String> binds) {
+        String caller = STACK.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(BASE_PACKAGE)
+                        && !isInstrumentation(f.getClassName()))
+                .findFirst()
+                .map(f -> simpleName(f.getClassName()) + "." + f.getMethodName()))
+                .orElse("other");
+        return new Execution(caller, SqlFingerprint.of(sql), binds);
+    }
+
+    private Meters meters(Execution e) {
+        return meters.computeIfAbsent(new Key(e.caller, e.fingerprint), k -> {
+            String sql = sqlTag(k.sql());
+            String operation = SqlFingerprint.operation(k.sql());
+            return new Meters(
+                    timer(k.caller(), sql, operation, "success"),
+                    timer(k.caller(), sql, operation, "error"),
+                    DistributionSummary.builder("db.query.rows")
+                            .description("Rows read or affected per statement")
+                            .tag("caller", k.caller())
+                            .tag("sql", sql)
+                            .tag("operation", operation)
+                            .register(registry));
+        });
+    }
+
+    private Timer timer(String caller, String sql, String operation, String outcome) {
+        return Timer.builder("db.query")
+                .description("JDBC statement execution time")
+                .tag("caller", caller)
+                .tag("sql", sql)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(histogram)
+                .register(registry);
+    }
+
+    private static boolean isInstrumentation(String className) {
+        return className.equals(SELF) || className.startsWith(SELF + "$")
+                || className.equals(DATA_SOURCE) || className.startsWith(DATA_SOURCE + "$");
+    }
+
+    private static String sqlTag(String fingerprint) {
+        if (fingerprint.length() <= MAX_SQL_TAG_LENGTH) {
+            return fingerprint;
+        }
+        return fingerprint.substring(0, MAX_SQL_TAG_LENGTH) + "…#" + Integer.toHexString(fingerprint.hashCode());
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        // Lambdas / inner classes: report the enclosing class
+        int inner = name.indexOf('$');
+        return inner < 0 ? name : name.substring(0, inner);
+    }
+
+    /** One statement execution, from execute to last row. */
+    static final class Execution {
+        final String caller;
+        final String fingerprint;
+        final List<String> binds;
+        long nanos;
+
+        Execution(String caller, String fingerprint, List<String> binds) {
+            this.caller = caller;
+            this.fingerprint = fingerprint;
+            this.binds = binds;
+        }
+    }
+
+    /** Redacted bind description: type (and length), never the value. */
+    static String describe(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence s) {
+            return "text(" + s.length() + ")";
+        }
+        if (value instanceof byte[] b) {
+            return "bytes(" + b.length + ")";
+        }
+        return value.getClass().getSimpleName().toLowerCase();
+    }
+}
@@ -0,0 +1,75 @@
+package at.campus.backend.common.jdbc;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * ReadRouting
+ * ==================================================
+ *
+ * Decides per connection whether a statement may run on the
+ * read pool ({@link ReadWriteRoutingDataSource}).
+ *
+ * RULES (first match wins)
+ * --------------------------------------------------
+ * 1. Request pinned to primary (read-your-writes window after the
+ *    caller's own mutation, see {@link ReadRoutingFilter}) -> primary
+ * 2. Inside a transaction: readOnly=true -> read pool, else primary
+ * 3. Request marked read-only (GET /api/public/**) -> read pool
+ * 4. Anything else (writes, startup, Flyway, schedulers) -> primary
+ *
+ * Request state is a thread-local set by ReadRoutingFilter;
+ * servlet requests run on one thread.
+ */
+public final class ReadRouting {
+
+    enum Request { READ_ONLY, PINNED_TO_PRIMARY }
+
+    private static final ThreadLocal<Request> CURRENT = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    static boolean readPoolAllowed() {
+        Request request = CURRENT.get();
+        if (request == Request.PINNED_TO_PRIMARY) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        return request == Request.READ_ONLY;
+    }
+
+    /** True while the current request must see its own writes. */
+    public static boolean pinnedToPrimary() {
+        return CURRENT.get() == Request.PINNED_TO_PRIMARY;
+    }
+
+    /**
+     * Runs a read on behalf of public requests outside of one
+     * (e.g. a background cache refresh) with the read pool allowed.
+     */
+    public static <T> T readOnly(Supplier<T> read) {
+        Request previous = CURRENT.get();
+        CURRENT.set(Request.READ_ONLY);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    static void begin(Request request) {
+        CURRENT.set(request);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+}
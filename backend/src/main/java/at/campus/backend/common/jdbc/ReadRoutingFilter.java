@@ -0,0 +1,97 @@
+package at.campus.backend.common.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * ReadRoutingFilter
+ * ==================================================
+ *
+ * Marks each request for {@link ReadRouting}.
+ *
+ * - GET/HEAD /api/public/** -> read pool
+ * - Mutations (POST/PUT/PATCH/DELETE) set a short-lived cookie;
+ *   while it is present every request of that browser reads from
+ *   the primary (read-your-writes across replica lag)
+ *
+ * The cookie is the only way to recognise the same user on
+ * /api/public/**: NGINX does not authenticate those requests,
+ * so X-User-Id is absent there.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@ConditionalOnProperty(name = "app.datasource.read-routing.enabled", havingValue = "true")
+public class ReadRoutingFilter extends OncePerRequestFilter {
+
+    static final String PIN_COOKIE = "campus_read_primary";
+
+    private static final String PUBLIC_PREFIX = "/api/public/";
+
+    private final Duration readYourWritesWindow;
+
+    public ReadRoutingFilter(
+            @Value("${app.datasource.read-routing.read-your-writes-window:PT5S}") Duration readYourWritesWindow
+    ) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String method = request.getMethod();
+        boolean read = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+
+        if (!read && !readYourWritesWindow.isZero()) {
+            // Set up front: headers cannot be added once the body is committed.
+            // A failed mutation only costs a few seconds of primary reads.
+            response.addHeader("Set-Cookie", ResponseCookie.from(PIN_COOKIE, "1")
+                    .path("/api/")
+                    .maxAge(readYourWritesWindow)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+
+        if (!read || pinned(request)) {
+            ReadRouting.begin(ReadRouting.Request.PINNED_TO_PRIMARY);
+        } else if (request.getRequestURI().startsWith(PUBLIC_PREFIX)) {
+            ReadRouting.begin(ReadRouting.Request.READ_ONLY);
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRouting.end();
+        }
+    }
+
+    private static boolean pinned(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (PIN_COOKIE.equals(cookie.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
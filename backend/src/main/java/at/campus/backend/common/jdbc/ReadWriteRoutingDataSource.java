@@ -0,0 +1,62 @@
+package at.campus.backend.common.jdbc;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * ReadWriteRoutingDataSource
+ * ==================================================
+ *
+ * Two connection pools behind one DataSource:
+ *
+ * - primary: writes, transactions, everything by default
+ * - read:    anonymous catalogue reads and readOnly transactions,
+ *            a replica or (default) a second pool on the primary,
+ *            so public browsing cannot starve writes of connections
+ *
+ * Which pool a connection comes from is decided by
+ * {@link ReadRouting} and {@link ReplicaLagMonitor}.
+ *
+ * IMPORTANT
+ * --------------------------------------------------
+ * - Must sit behind a LazyConnectionDataSourceProxy (see JdbcConfig):
+ *   transaction managers fetch the connection when the transaction
+ *   begins, before the readOnly flag is visible
+ * - Owns both pools and the monitor; closes them on shutdown
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    enum Route { PRIMARY, READ }
+
+    private final DataSource primary;
+    private final DataSource read;
+    private final ReplicaLagMonitor lag;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource read, ReplicaLagMonitor lag) {
+        this.primary = primary;
+        this.read = read;
+        this.lag = lag;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.READ, read));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReadRouting.readPoolAllowed() && lag.usable() ? Route.READ : Route.PRIMARY;
+    }
+
+    @Override
+    public void close() throws Exception {
+        lag.close();
+        if (read instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
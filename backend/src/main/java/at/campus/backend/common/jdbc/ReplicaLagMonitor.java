@@ -0,0 +1,109 @@
+package at.campus.backend.common.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReplicaLagMonitor
+ * ==================================================
+ *
+ * Polls the read pool for replication lag; while the lag is above
+ * the limit (or the read pool is unreachable) every read goes to
+ * the primary.
+ *
+ * LAG
+ * --------------------------------------------------
+ * - Not in recovery (read pool points at the primary itself) -> 0
+ * - Everything received is replayed                          -> 0
+ *   (an idle primary does not make the replica look stale)
+ * - Otherwise now() - pg_last_xact_replay_timestamp()
+ *
+ * METERS
+ * --------------------------------------------------
+ * - db_replica_lag_seconds (NaN while unreachable)
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final DataSource replica;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean usable = true;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration interval, MeterRegistry registry) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("db.replica.lag", this, m -> m.lagSeconds)
+                .description("Replication lag of the read pool")
+                .baseUnit("seconds")
+                .register(registry);
+
+        scheduler.scheduleWithFixedDelay(this::check, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** false -> route reads to the primary */
+    public boolean usable() {
+        return usable;
+    }
+
+    void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            update(rs.getDouble(1));
+        } catch (Exception e) {
+            if (usable) {
+                log.warn("Read pool unreachable, reading from primary: {}", e.getMessage());
+            }
+            lagSeconds = Double.NaN;
+            usable = false;
+        }
+    }
+
+    void update(double lag) {
+        boolean ok = lag <= maxLagSeconds;
+        if (ok != usable) {
+            if (ok) {
+                log.info("Replica lag {} s, reading from read pool again", lag);
+            } else {
+                log.warn("Replica lag {} s above {} s, reading from primary", lag, maxLagSeconds);
+            }
+        }
+        lagSeconds = lag;
+        usable = ok;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,73 @@
+package at.campus.backend.common.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SqlFingerprint
+ * ==================================================
+ *
+ * Normalizes a SQL string into a stable, low-cardinality
+ * fingerprint for metric tags and logs.
+ *
+ * - whitespace collapsed, comments removed
+ * - string / numeric literals replaced by ?
+ * - named/positional parameters (:id, $1) replaced by ?
+ * - IN (?, ?, ?) lists collapsed to IN (?)
+ *
+ * Repositories use constant SQL, so the cache stays small;
+ * it is bounded anyway in case something builds SQL dynamically.
+ */
+public final class SqlFingerprint {
+
+    private static final int MAX_CACHED = 2_000;
+
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PARAMETER = Pattern.compile("(?<!:):[A-Za-z_]\\w*|\\$\\d+");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "unknown";
+        }
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = normalize(sql);
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        String s = BLOCK_COMMENT.matcher(sql).replaceAll(" ");
+        s = LINE_COMMENT.matcher(s).replaceAll(" ");
+        s = STRING_LITERAL.matcher(s).replaceAll("?");
+        s = PARAMETER.matcher(s).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = WHITESPACE.matcher(s).replaceAll(" ").trim();
+        return IN_LIST.matcher(s).replaceAll("IN (?)");
+    }
+
+    /** Leading SQL keyword in lower case (select, insert, ...). */
+    public static String operation(String fingerprint) {
+        int end = fingerprint.indexOf(' ');
+        String keyword = (end < 0 ? fingerprint : fingerprint.substring(0, end)).toLowerCase();
+        return switch (keyword) {
+            case "select", "with", "insert", "update", "delete", "copy" -> keyword;
+            default -> "other";
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package at.campus.backend.common.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Objects;
+
+/**
+ * RawJson
+ * ==================================================
+ *
+ * A JSON document kept as its text representation.
+ *
+ * PURPOSE
+ * --------------------------------------------------
+ * - JSONB columns are read as text and written to the HTTP
+ *   response verbatim (like @JsonRawValue), without being
+ *   parsed into Map/List trees and serialized again
+ * - Incoming JSON is copied token by token into text,
+ *   which is then bound to SQL as CAST(:x AS jsonb)
+ *
+ * IMPORTANT
+ * --------------------------------------------------
+ * - The text is trusted to be valid JSON: it either comes
+ *   from a jsonb column or from the deserializer below
+ * - Do not construct RawJson from arbitrary user strings
+ */
+@JsonSerialize(using = RawJson.Serializer.class)
+@JsonDeserialize(using = RawJson.Deserializer.class)
+public record RawJson(String json) {
+
+    public RawJson {
+        Objects.requireNonNull(json, "json");
+    }
+
+    /**
+     * Null-safe factory for nullable columns.
+     */
+    public static RawJson ofNullable(String json) {
+        return json == null ? null : new RawJson(json);
+    }
+
+    /**
+     * Null-safe accessor for SQL parameters.
+     */
+    public static String textOf(RawJson value) {
+        return value == null ? null : value.json();
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+
+    // ==================================================
+    // JACKSON
+    // ==================================================
+
+    public static class Serializer extends JsonSerializer<RawJson> {
+
+        @Override
+        public void serialize(RawJson value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeRawValue(value.json());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<RawJson> {
+
+        private static final JsonFactory FACTORY = new JsonFactory();
+
+        @Override
+        public RawJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            // Streaming copy of the current value (scalar, object or array)
+            StringWriter out = new StringWriter();
+            try (JsonGenerator gen = FACTORY.createGenerator(out)) {
+                gen.copyCurrentStructure(p);
+            }
+            return new RawJson(out.toString());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package at.campus.backend.common.limit;
+
+import at.campus.backend.common.bulkhead.WorkloadClass;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AdaptiveConcurrencyLimiter
+ * ==================================================
+ *
+ * Concurrency limit for the whole backend that follows observed
+ * latency (gradient algorithm, as in TCP Vegas / Netflix Gradient2).
+ *
+ * ALGORITHM (once per window of completed requests)
+ * --------------------------------------------------
+ * - shortRtt = mean latency of the window
+ * - longRtt  = moving average of shortRtt (the "normal" latency)
+ * - gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)
+ * - limit    = smooth(limit * gradient + sqrt(limit))
+ *
+ * Latency above tolerance x normal shrinks the limit (queueing has
+ * started); otherwise it grows by about sqrt(limit) per window. The
+ * limit does not grow while less than half of it is in use.
+ *
+ * PRIORITY (per endpoint class)
+ * --------------------------------------------------
+ * Below the limit every request is admitted. At the limit a class
+ * is only admitted while it uses less than its reserved share of
+ * the limit. Anonymous browsing has the smallest share, so under
+ * overload it is shed first while writes and moderation keep their
+ * reservation.
+ *
+ * METERS (Prometheus names)
+ * --------------------------------------------------
+ * - concurrency_limit                       current limit
+ * - concurrency_inflight{workload}          admitted, not finished
+ * - concurrency_rejected_total{workload}    shed with 503
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.2;
+    // Normal latency averages the last ~100 windows
+    private static final int LONG_WINDOWS = 100;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long windowNanos;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<WorkloadClass, Partition> partitions = new EnumMap<>(WorkloadClass.class);
+
+    private volatile double limit;
+
+    // Guarded by this
+    private long windowStart;
+    private long windowSum;
+    private int windowCount;
+    private int windowMaxInflight;
+    private double longRtt;
+    private int windows;
+
+    private static final class Partition {
+        final double share;
+        final AtomicInteger inflight = new AtomicInteger();
+        final Counter rejected;
+
+        Partition(double share, Counter rejected) {
+            this.share = share;
+            this.rejected = rejected;
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double tolerance,
+            Duration window,
+            Map<WorkloadClass, Double> shares,
+            MeterRegistry registry
+    ) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limit: need 1 <= min-limit <= max-limit");
+        }
+        if (tolerance < 1.0) {
+            throw new IllegalArgumentException("Concurrency limit: tolerance must be >= 1.0");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowNanos = window.toNanos();
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("Adaptive concurrency limit")
+                .register(registry);
+
+        shares.forEach((workload, share) -> {
+            Partition partition = new Partition(share, Counter.builder("concurrency.rejected")
+                    .description("Requests shed because the concurrency limit was reached")
+                    .tag("workload", workload.key())
+                    .register(registry));
+            Gauge.builder("concurrency.inflight", partition.inflight, AtomicInteger::get)
+                    .description("Admitted requests not yet finished")
+                    .tag("workload", workload.key())
+                    .register(registry);
+            partitions.put(workload, partition);
+        });
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    // ==================================================
+    // ADMISSION
+    // ==================================================
+
+    /**
+     * @return false when the request must be shed; otherwise the
+     *         caller MUST call {@link #release} when it is done
+     */
+    public boolean tryAcquire(WorkloadClass workload) {
+        Partition partition = partition(workload);
+        int current = limit();
+        if (inflight.get() >= current && partition.inflight.get() >= partition.share * current) {
+            partition.rejected.increment();
+            return false;
+        }
+        inflight.incrementAndGet();
+        partition.inflight.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * @param rttNanos latency of the request, or a negative value when
+     *                 it failed and must not count as a latency sample
+     */
+    public void release(WorkloadClass workload, long rttNanos) {
+        int before = inflight.getAndDecrement();
+        partition(workload).inflight.decrementAndGet();
+        if (rttNanos >= 0) {
+            onSample(System.nanoTime(), rttNanos, before);
+        }
+    }
+
+    private Partition partition(WorkloadClass workload) {
+        Partition partition = partitions.get(workload);
+        if (partition == null) {
+            throw new IllegalArgumentException("No concurrency share for " + workload.key());
+        }
+        return partition;
+    }
+
+    // ==================================================
+    // LIMIT UPDATE
+    // ==================================================
+
+    synchronized void onSample(long now, long rttNanos, int inflightAtEnd) {
+        if (windowCount == 0) {
+            windowStart = now;
+        }
+        windowSum += rttNanos;
+        windowCount++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtEnd);
+
+        if (windowCount < MIN_WINDOW_SAMPLES || now - windowStart < windowNanos) {
+            return;
+        }
+
+        double shortRtt = Math.max(1.0, (double) windowSum / windowCount);
+        int maxInflight = windowMaxInflight;
+        windowSum = 0;
+        windowCount = 0;
+        windowMaxInflight = 0;
+
+        windows = Math.min(windows + 1, LONG_WINDOWS);
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / windows;
+        // Latency dropped for good (e.g. after a warm-up): forget the old normal faster
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        if (maxInflight < current / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(tolerance * longRtt / shortRtt, MIN_GRADIENT, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        limit = Math.clamp(current * (1 - SMOOTHING) + target * SMOOTHING, minLimit, maxLimit);
+    }
+}
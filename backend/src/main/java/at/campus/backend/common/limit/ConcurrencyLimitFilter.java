@@ -0,0 +1,147 @@
+package at.campus.backend.common.limit;
+
+import at.campus.backend.common.bulkhead.WorkloadClass;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ConcurrencyLimitFilter
+ * ==================================================
+ *
+ * Front door for /api/**: admits requests through the
+ * {@link AdaptiveConcurrencyLimiter} and answers 503 with
+ * Retry-After right away when over the limit, instead of letting
+ * Tomcat queue them until NGINX times out.
+ *
+ * ENDPOINT CLASSES
+ * --------------------------------------------------
+ *   /api/public/**      PUBLIC_READ  (anonymous browsing)
+ *   /api/moderation/**  MODERATION
+ *   other /api/**       WRITE        (authenticated)
+ *
+ * IMPORTANT
+ * --------------------------------------------------
+ * - Never waits: admission is decided on arrival. Waiting for
+ *   connections is bounded separately by the bulkheads
+ * - 5xx responses and exceptions are not latency samples
+ *   (fast failures would look like spare capacity)
+ * - Disable with app.concurrency-limit.enabled=false
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String PUBLIC_PREFIX = "/api/public/";
+    private static final String MODERATION_PREFIX = "/api/moderation/";
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(
+            Environment environment,
+            MeterRegistry registry,
+            ObjectMapper objectMapper,
+            @Value("${app.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${app.concurrency-limit.min-limit:8}") int minLimit,
+            @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${app.concurrency-limit.tolerance:2.0}") double tolerance,
+            @Value("${app.concurrency-limit.window:PT0.1S}") Duration window
+    ) {
+        Binder binder = Binder.get(environment);
+        Map<WorkloadClass, Double> shares = new EnumMap<>(WorkloadClass.class);
+        shares.put(WorkloadClass.PUBLIC_READ, share(binder, WorkloadClass.PUBLIC_READ, 0.2));
+        shares.put(WorkloadClass.WRITE, share(binder, WorkloadClass.WRITE, 0.5));
+        shares.put(WorkloadClass.MODERATION, share(binder, WorkloadClass.MODERATION, 0.3));
+
+        this.limiter = new AdaptiveConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, tolerance, window, shares, registry);
+        this.objectMapper = objectMapper;
+    }
+
+    private static double share(Binder binder, WorkloadClass workload, double fallback) {
+        return binder.bind("app.concurrency-limit.share." + workload.key(), Double.class).orElse(fallback);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        WorkloadClass workload = classify(request.getRequestURI());
+        if (!limiter.tryAcquire(workload)) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long rtt = -1;
+        try {
+            filterChain.doFilter(request, response);
+            if (response.getStatus() < 500) {
+                rtt = System.nanoTime() - start;
+            }
+        } finally {
+            limiter.release(workload, rtt);
+        }
+    }
+
+    static WorkloadClass classify(String uri) {
+        if (uri.startsWith(PUBLIC_PREFIX)) {
+            return WorkloadClass.PUBLIC_READ;
+        }
+        if (uri.startsWith(MODERATION_PREFIX)) {
+            return WorkloadClass.MODERATION;
+        }
+        return WorkloadClass.WRITE;
+    }
+
+    /** Same body as GlobalExceptionHandler: filters run outside @ControllerAdvice. */
+    private void reject(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(RETRY_AFTER_SECONDS));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "timestamp", Instant.now().toString(),
+                "status", status.value(),
+                "error", status.getReasonPhrase(),
+                "message", "Server busy, please retry"
+        ));
+    }
+
+    AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+}
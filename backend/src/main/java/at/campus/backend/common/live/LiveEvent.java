@@ -0,0 +1,26 @@
+package at.campus.backend.common.live;
+
+/**
+ * One live update as sent to subscribers.
+ *
+ * @param id    unique across nodes ("<node>-<sequence>"), sent as the
+ *              SSE id and echoed back by clients as Last-Event-ID
+ * @param topic stream it belongs to (see {@link LiveTopics})
+ * @param type  SSE event name, e.g. "post-created"
+ * @param data  JSON, serialized once for all subscribers
+ */
+record LiveEvent(String id, String topic, String type, String data) {
+
+    /** "<id> <topic> <type> <data>": the format on the cross-node bus. */
+    String toWire() {
+        return id + " " + topic + " " + type + " " + data;
+    }
+
+    static LiveEvent fromWire(String wire) {
+        String[] parts = wire.split(" ", 4);
+        if (parts.length < 4) {
+            throw new IllegalArgumentException("Malformed live event: " + wire);
+        }
+        return new LiveEvent(parts[0], parts[1], parts[2], parts[3]);
+    }
+}
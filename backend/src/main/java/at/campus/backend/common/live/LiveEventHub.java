@@ -0,0 +1,397 @@
+package at.campus.backend.common.live;
+
+import at.campus.backend.common.cache.InvalidationBus;
+import at.campus.backend.common.cache.RemoteEventHandler;
+import at.campus.backend.common.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * LiveEventHub
+ * ==================================================
+ *
+ * In-process publish/subscribe for live thread and post updates,
+ * delivered as Server-Sent Events. Write paths publish after their
+ * change; clients keep one stream open instead of polling.
+ *
+ * STREAMS
+ * --------------------------------------------------
+ * - One topic per course thread list / per thread ({@link LiveTopics})
+ * - Events: "id: <node>-<seq>", "event: <type>", "data: <json>"
+ * - A comment line every heartbeat interval keeps idle streams
+ *   open through NGINX and detects dead clients
+ * - Streams end after stream-timeout; clients reconnect
+ *
+ * RESUME (Last-Event-ID)
+ * --------------------------------------------------
+ * - The last replay-size events per topic are kept. A client
+ *   reconnecting with Last-Event-ID gets everything after it
+ * - If that id is no longer (or not yet) known on this node, the
+ *   client gets a "reset" event and reloads via the REST endpoints
+ *
+ * COST AND BACKPRESSURE
+ * --------------------------------------------------
+ * - An idle stream holds no thread (async servlet request), only
+ *   its connection and a small queue ({@link LiveSubscriber})
+ * - Writes happen on virtual threads, so a slow socket blocks
+ *   nothing but its own writer
+ * - A subscriber whose queue overflows is disconnected (it
+ *   resumes from the replay buffer); at max-subscribers new
+ *   streams get 503 + Retry-After
+ *
+ * MULTIPLE NODES
+ * --------------------------------------------------
+ * - Events also go to the other nodes over the {@link InvalidationBus}
+ *   (channel campus_live) when it is enabled; ids stay the same,
+ *   so a client can resume on another node
+ * - Events larger than a notification arrive there as "reload"
+ * - After the bus lost its connection every stream gets "reset"
+ * - {@link #publishLocally} skips the bus, for state every node
+ *   keeps itself (e.g. the moderation counters)
+ *
+ * METERS (Prometheus names)
+ * --------------------------------------------------
+ * - live_subscribers                  open streams
+ * - live_events_total{source=local|remote}
+ * - live_disconnects_total{reason=overflow}
+ * - live_resumes_total{result=replayed|reset}
+ */
+@Component
+public class LiveEventHub implements RemoteEventHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveEventHub.class);
+
+    static final String RESET = "reset";
+    static final String RELOAD_DATA = "{\"reload\":true}";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<InvalidationBus> invalidationBus;
+    private final int replaySize;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final long streamTimeoutMillis;
+    private final long topicRetentionNanos;
+
+    private final String node = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats;
+
+    private final Counter localEvents;
+    private final Counter remoteEvents;
+    private final Counter overflows;
+    private final Counter replayed;
+    private final Counter resets;
+
+    public LiveEventHub(
+            ObjectMapper objectMapper,
+            ObjectProvider<InvalidationBus> invalidationBus,
+            MeterRegistry registry,
+            @Value("${app.live.replay-size:100}") int replaySize,
+            @Value("${app.live.queue-capacity:64}") int queueCapacity,
+            @Value("${app.live.max-subscribers:50000}") int maxSubscribers,
+            @Value("${app.live.heartbeat:PT20S}") Duration heartbeat,
+            @Value("${app.live.stream-timeout:PT30M}") Duration streamTimeout,
+            @Value("${app.live.topic-retention:PT10M}") Duration topicRetention
+    ) {
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.replaySize = replaySize;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.topicRetentionNanos = topicRetention.toNanos();
+
+        this.localEvents = Counter.builder("live.events").tag("source", "local").register(registry);
+        this.remoteEvents = Counter.builder("live.events").tag("source", "remote").register(registry);
+        this.overflows = Counter.builder("live.disconnects").tag("reason", "overflow")
+                .description("Streams closed because the client could not keep up")
+                .register(registry);
+        this.replayed = Counter.builder("live.resumes").tag("result", "replayed").register(registry);
+        this.resets = Counter.builder("live.resumes").tag("result", "reset").register(registry);
+        Gauge.builder("live.subscribers", subscribers, AtomicInteger::get)
+                .description("Open live event streams")
+                .register(registry);
+
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "live-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleWithFixedDelay(this::heartbeat,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        topics.values().forEach(topic -> topic.subscribers.forEach(s -> s.offer(resetEvent(topic.name))));
+        writers.shutdown();
+    }
+
+    // ==================================================
+    // SUBSCRIBE
+    // ==================================================
+
+    /**
+     * Opens a stream on the topic.
+     *
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, or null
+     */
+    public SseEmitter subscribe(String topic, String lastEventId) {
+        return subscribe(topic, lastEventId, null, null);
+    }
+
+    /**
+     * Opens a stream that starts with a snapshot of the current state.
+     * The snapshot is taken under the topic's own lock, so no change
+     * published after it can be missed; other topics are not held up
+     * while it loads.
+     *
+     * @param initialType event type of the snapshot, or null for none
+     */
+    public SseEmitter subscribe(String topic, String lastEventId, String initialType, Supplier<?> initialData) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new ServiceUnavailableException("Too many live streams", Duration.ofSeconds(30));
+        }
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        LiveSubscriber subscriber = new LiveSubscriber(topic, emitter, queueCapacity, writers, this::unsubscribe);
+
+        // Marked as joining inside compute: the idle-topic sweep keeps it
+        Topic current = topics.compute(topic, (name, existing) -> {
+            Topic joined = existing != null ? existing : new Topic(name);
+            joined.joining.incrementAndGet();
+            return joined;
+        });
+
+        // Atomic per topic against publish(): nothing is missed or
+        // delivered twice between snapshot, replay and registration.
+        // The snapshot may query the database, so it runs outside compute
+        try {
+            synchronized (current) {
+                if (initialType != null) {
+                    subscriber.offer(new LiveEvent(null, topic, initialType, toJson(initialData.get())));
+                }
+                for (LiveEvent event : current.replay(lastEventId)) {
+                    subscriber.offer(event);
+                }
+                current.subscribers.add(subscriber);
+            }
+        } catch (RuntimeException e) {
+            subscribers.decrementAndGet();
+            emitter.completeWithError(e);
+            throw e;
+        } finally {
+            current.joining.decrementAndGet();
+        }
+
+        return emitter;
+    }
+
+    private void unsubscribe(LiveSubscriber subscriber) {
+        Topic topic = topics.get(subscriber.topic());
+        if (topic != null && topic.subscribers.remove(subscriber)) {
+            subscribers.decrementAndGet();
+        }
+    }
+
+    // ==================================================
+    // PUBLISH
+    // ==================================================
+
+    /**
+     * Sends an event to every stream on the topic, here and on the other
+     * nodes, once the current transaction (if any) has committed.
+     *
+     * @param data serialized to JSON once
+     */
+    public void publish(String topic, String type, Object data) {
+        LiveEvent event = new LiveEvent(nextId(), topic, type, toJson(data));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(event);
+                }
+            });
+        } else {
+            publishNow(event);
+        }
+    }
+
+    /**
+     * Sends an event to the streams on this node only, right away.
+     */
+    public void publishLocally(String topic, String type, Object data) {
+        localEvents.increment();
+        deliver(new LiveEvent(nextId(), topic, type, toJson(data)));
+    }
+
+    private void publishNow(LiveEvent event) {
+        localEvents.increment();
+        deliver(event);
+        invalidationBus.ifAvailable(bus -> {
+            if (!bus.publishEvent(event.toWire())) {
+                bus.publishEvent(new LiveEvent(event.id(), event.topic(), event.type(), RELOAD_DATA).toWire());
+            }
+        });
+    }
+
+    private void deliver(LiveEvent event) {
+        Topic topic = topics.computeIfAbsent(event.topic(), Topic::new);
+        synchronized (topic) {
+            topic.remember(event);
+            for (LiveSubscriber subscriber : topic.subscribers) {
+                if (!subscriber.offer(event)) {
+                    overflows.increment();
+                }
+            }
+        }
+    }
+
+    // ==================================================
+    // OTHER NODES
+    // ==================================================
+
+    @Override
+    public void onRemoteEvent(String payload) {
+        remoteEvents.increment();
+        deliver(LiveEvent.fromWire(payload));
+    }
+
+    @Override
+    public void eventsMissed() {
+        topics.values().forEach(topic -> {
+            synchronized (topic) {
+                // Ids seen before the gap must not be resumed from
+                topic.recent.clear();
+                topic.subscribers.forEach(s -> s.offer(resetEvent(topic.name)));
+            }
+        });
+    }
+
+    // ==================================================
+    // HOUSEKEEPING
+    // ==================================================
+
+    private void heartbeat() {
+        try {
+            long now = System.nanoTime();
+            for (String name : List.copyOf(topics.keySet())) {
+                topics.computeIfPresent(name, (n, topic) -> {
+                    topic.subscribers.forEach(LiveSubscriber::heartbeat);
+                    boolean idle = topic.subscribers.isEmpty()
+                            && topic.joining.get() == 0
+                            && now - topic.lastEventAt > topicRetentionNanos;
+                    return idle ? null : topic;
+                });
+            }
+        } catch (RuntimeException e) {
+            log.error("Live heartbeat failed", e);
+        }
+    }
+
+    private String nextId() {
+        return node + "-" + Long.toString(sequence.incrementAndGet(), 36);
+    }
+
+    private LiveEvent resetEvent(String topic) {
+        return new LiveEvent(null, topic, RESET, "{}");
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize live event", e);
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.get();
+    }
+
+    /**
+     * Subscribers and the replay buffer of one topic.
+     * recent / lastEventAt are guarded by the Topic's monitor.
+     */
+    private final class Topic {
+
+        final String name;
+        final Set<LiveSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+        // subscribe() calls between lookup and registration
+        final AtomicInteger joining = new AtomicInteger();
+        final Deque<LiveEvent> recent = new ArrayDeque<>();
+        volatile long lastEventAt = System.nanoTime();
+
+        Topic(String name) {
+            this.name = name;
+        }
+
+        void remember(LiveEvent event) {
+            recent.addLast(event);
+            if (recent.size() > replaySize) {
+                recent.removeFirst();
+            }
+            lastEventAt = System.nanoTime();
+        }
+
+        /** Events after lastEventId; a reset if that id is unknown or too far behind. */
+        List<LiveEvent> replay(String lastEventId) {
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return List.of();
+            }
+            List<LiveEvent> after = new ArrayList<>();
+            boolean found = false;
+            for (LiveEvent event : recent) {
+                if (found) {
+                    after.add(event);
+                } else if (event.id().equals(lastEventId)) {
+                    found = true;
+                }
+            }
+            // More than the subscriber's queue holds: reloading is cheaper
+            if (!found || after.size() >= queueCapacity) {
+                resets.increment();
+                return List.of(resetEvent(name));
+            }
+            replayed.increment();
+            return after;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package at.campus.backend.common.live;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One open event stream.
+ *
+ * - Idle, it holds no thread: the request is in async mode and the
+ *   emitter only keeps the connection
+ * - Publishers only offer to a bounded queue and never block; a
+ *   writer (one virtual thread while there is something to send)
+ *   drains it. A client that cannot keep up fills the queue and is
+ *   disconnected; it resumes with Last-Event-ID
+ */
+final class LiveSubscriber {
+
+    private static final LiveEvent HEARTBEAT = new LiveEvent(null, null, null, null);
+
+    private final String topic;
+    private final SseEmitter emitter;
+    private final BlockingQueue<LiveEvent> queue;
+    private final Executor writers;
+    private final Consumer<LiveSubscriber> onClose;
+
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    LiveSubscriber(
+            String topic,
+            SseEmitter emitter,
+            int queueCapacity,
+            Executor writers,
+            Consumer<LiveSubscriber> onClose
+    ) {
+        this.topic = topic;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writers = writers;
+        this.onClose = onClose;
+
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(e -> close());
+    }
+
+    String topic() {
+        return topic;
+    }
+
+    /**
+     * @return false if the queue was full: the subscriber is closed
+     */
+    boolean offer(LiveEvent event) {
+        if (closed.get()) {
+            return true;
+        }
+        if (!queue.offer(event)) {
+            emitter.complete();
+            close();
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    /** Keeps proxies and the client from timing out an idle stream. */
+    void heartbeat() {
+        if (queue.isEmpty()) {
+            offer(HEARTBEAT);
+        }
+    }
+
+    private void schedule() {
+        if (writing.compareAndSet(false, true)) {
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                writing.set(false);
+                close();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            LiveEvent event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                emitter.send(toSse(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client gone or emitter already completed
+            close();
+        } finally {
+            writing.set(false);
+        }
+        // An offer between the last poll and releasing the flag
+        if (!closed.get() && !queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(LiveEvent event) {
+        if (event == HEARTBEAT) {
+            return SseEmitter.event().comment("");
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.type()).data(event.data());
+        return event.id() != null ? builder.id(event.id()) : builder;
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            onClose.accept(this);
+        }
+    }
+}
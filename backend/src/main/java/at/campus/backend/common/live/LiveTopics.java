@@ -0,0 +1,28 @@
+package at.campus.backend.common.live;
+
+import java.util.UUID;
+
+/**
+ * Topics shared between the SSE endpoints and the write paths
+ * that publish to them.
+ */
+public final class LiveTopics {
+
+    private LiveTopics() {
+    }
+
+    /** Threads of one course: thread-created / -updated / -deleted. */
+    public static String courseThreads(UUID courseId) {
+        return "course-threads:" + courseId;
+    }
+
+    /** One thread: the thread itself, its posts and their comments. */
+    public static String thread(UUID threadId) {
+        return "thread:" + threadId;
+    }
+
+    /** Moderation counters (moderators only, node-local). */
+    public static String moderation() {
+        return "moderation";
+    }
+}
@@ -0,0 +1,109 @@
+package at.campus.backend.common.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * StartupTimelineReport
+ * ==================================================
+ *
+ * Logs where startup time went, once the application is ready:
+ *
+ *   Startup timeline: 1843 steps, context refresh 6210 ms
+ *     By step:
+ *       spring.context.refresh        6210 ms  (1)
+ *       spring.beans.instantiate     15400 ms  (812)
+ *       ...
+ *     Slowest beans (incl. dependencies):
+ *       flywayInitializer             1400 ms
+ *       ...
+ *
+ * ENABLING
+ * --------------------------------------------------
+ * - STARTUP_TIMELINE=true (or -Dapp.startup.timeline=true): read in
+ *   main(), before the context exists, see {@link #enableIfRequested}
+ * - Otherwise Spring records nothing and this listener does nothing
+ *
+ * Times are inclusive: a bean's time contains the beans it pulled
+ * in, so the per-step sums of nested steps exceed the wall time.
+ */
+@Component
+public class StartupTimelineReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimelineReport.class);
+
+    private static final int CAPACITY = 20_000;
+    private static final int TOP = 15;
+
+    /** Records startup steps when STARTUP_TIMELINE / app.startup.timeline is true. */
+    public static void enableIfRequested(SpringApplication application) {
+        String flag = System.getProperty("app.startup.timeline", System.getenv("STARTUP_TIMELINE"));
+        if (Boolean.parseBoolean(flag)) {
+            application.setApplicationStartup(new BufferingApplicationStartup(CAPACITY));
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+
+        List<StartupTimeline.TimelineEvent> events = startup.getBufferedTimeline().getEvents();
+
+        Map<String, List<StartupTimeline.TimelineEvent>> byStep = events.stream()
+                .collect(Collectors.groupingBy(e -> e.getStartupStep().getName()));
+
+        StringBuilder report = new StringBuilder()
+                .append("Startup timeline: ").append(events.size()).append(" steps");
+        byStep.getOrDefault("spring.context.refresh", List.of()).stream().findFirst()
+                .ifPresent(refresh -> report.append(", context refresh ").append(format(refresh.getDuration())));
+
+        report.append("\n  By step:");
+        byStep.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<String, List<StartupTimeline.TimelineEvent>> e) ->
+                        total(e.getValue())).reversed())
+                .limit(TOP)
+                .forEach(e -> report.append(String.format("%n    %-45s %9s  (%d)",
+                        e.getKey(), format(total(e.getValue())), e.getValue().size())));
+
+        report.append("\n  Slowest beans (incl. dependencies):");
+        byStep.getOrDefault("spring.beans.instantiate", List.of()).stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(TOP)
+                .forEach(e -> report.append(String.format("%n    %-45s %9s",
+                        tag(e.getStartupStep(), "beanName"), format(e.getDuration()))));
+
+        log.info("{}", report);
+    }
+
+    private static Duration total(List<StartupTimeline.TimelineEvent> events) {
+        return events.stream().map(StartupTimeline.TimelineEvent::getDuration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    private static String tag(StartupStep step, String key) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> key.equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("?");
+    }
+
+    private static String format(Duration duration) {
+        return String.format("%d ms", duration.toMillis());
+    }
+}
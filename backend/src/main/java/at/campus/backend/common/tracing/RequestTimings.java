@@ -0,0 +1,50 @@
+package at.campus.backend.common.tracing;
+
+/**
+ * RequestTimings
+ * ==================================================
+ *
+ * Per-request accumulator for the Server-Timing breakdown.
+ *
+ * - Bound to the request thread by {@link ServerTimingFilter}
+ * - Instrumentation adds to it via the static methods;
+ *   outside a timed request they are no-ops
+ * - Servlet requests run on one thread, so no synchronization
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private long databaseNanos;
+    private int queries;
+
+    RequestTimings() {
+    }
+
+    /** Statement execution time, see JdbcMetrics. */
+    public static void addDatabase(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.databaseNanos += nanos;
+            timings.queries++;
+        }
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    long databaseNanos() {
+        return databaseNanos;
+    }
+
+    int queries() {
+        return queries;
+    }
+}
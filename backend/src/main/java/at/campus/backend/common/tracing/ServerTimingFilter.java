@@ -0,0 +1,133 @@
+package at.campus.backend.common.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * ServerTimingFilter
+ * ==================================================
+ *
+ * Debug aid: adds a per-request timing breakdown to every response.
+ *
+ *   Server-Timing: auth;dur=3.1, db;dur=12.4;desc="5 queries", app;dur=30.2
+ *   traceresponse: 00-<trace id>-<span id>-01
+ *
+ * - auth = NGINX auth_request hop to /auth/validate
+ *   (X-Auth-Time, set by the gateway, in seconds)
+ * - db   = statement execution time (see JdbcMetrics)
+ * - app  = total time spent in the backend
+ * - traceresponse = trace to look up in the span export
+ *
+ * IMPORTANT
+ * --------------------------------------------------
+ * - Disabled by default (app.tracing.server-timing); enable in dev only
+ * - Headers must be set before the body is committed, so the
+ *   response is buffered: do not enable under load
+ * - Event streams (Accept: text/event-stream) are skipped, buffering
+ *   would hold back every event until the stream ends
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "app.tracing.server-timing", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_TIME_HEADER = "X-Auth-Time";
+
+    private final ObjectProvider<Tracer> tracer;
+
+    public ServerTimingFilter(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        RequestTimings timings = RequestTimings.begin();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, buffered);
+        } finally {
+            long total = System.nanoTime() - start;
+            RequestTimings.end();
+
+            if (!buffered.isCommitted()) {
+                buffered.setHeader("Server-Timing",
+                        header(request.getHeader(AUTH_TIME_HEADER), timings, total));
+                String traceResponse = traceResponse();
+                if (traceResponse != null) {
+                    buffered.setHeader("traceresponse", traceResponse);
+                }
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private static String header(String authSeconds, RequestTimings timings, long totalNanos) {
+        StringBuilder header = new StringBuilder();
+        double authMillis = seconds(authSeconds) * 1000;
+        if (authMillis > 0) {
+            header.append(metric("auth", authMillis)).append(", ");
+        }
+        header.append(metric("db", timings.databaseNanos() / 1e6))
+                .append(";desc=\"").append(timings.queries()).append(" queries\", ")
+                .append(metric("app", totalNanos / 1e6));
+        return header.toString();
+    }
+
+    private static String metric(String name, double millis) {
+        return String.format(Locale.ROOT, "%s;dur=%.1f", name, millis);
+    }
+
+    /** NGINX $upstream_response_time, e.g. "0.004" (or "0.004, 0.002" after retries). */
+    private static double seconds(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        double sum = 0;
+        for (String part : value.split(",")) {
+            try {
+                sum += Double.parseDouble(part.trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return sum;
+    }
+
+    private String traceResponse() {
+        Tracer current = tracer.getIfAvailable();
+        Span span = current != null ? current.currentSpan() : null;
+        if (span == null) {
+            return null;
+        }
+        return "00-" + span.context().traceId() + "-" + span.context().spanId()
+                + (Boolean.TRUE.equals(span.context().sampled()) ? "-01" : "-00");
+    }
+}
@@ -0,0 +1,72 @@
+package at.campus.backend.common.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * TracingAspect
+ * ==================================================
+ *
+ * One span per public service and repository method, nested under
+ * the HTTP server span (which continues the gateway's traceparent).
+ *
+ *   GET /api/public/courses/{id}
+ *     └─ CourseService.getCourse
+ *          └─ JdbcCourseRepository.findById
+ *
+ * IMPORTANT
+ * --------------------------------------------------
+ * - Only inside SAMPLED traces: unsampled requests (most of them,
+ *   the gateway samples) pay one thread-local lookup per call
+ * - Spans only, no meters: per-method timing belongs in traces,
+ *   per-statement timing is already in db_query_seconds
+ * - Disable with app.tracing.layer-spans=false
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.tracing.layer-spans", havingValue = "true", matchIfMissing = true)
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    public TracingAspect(ObjectProvider<Tracer> tracer) {
+        // No Tracer bean when management.tracing.enabled=false
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
+    @Around("execution(public * at.campus.backend.modules..service..*(..))")
+    public Object service(ProceedingJoinPoint call) throws Throwable {
+        return trace("service", call);
+    }
+
+    @Around("execution(public * at.campus.backend.modules..repository..*(..))")
+    public Object repository(ProceedingJoinPoint call) throws Throwable {
+        return trace("repository", call);
+    }
+
+    private Object trace(String layer, ProceedingJoinPoint call) throws Throwable {
+        Span parent = tracer.currentSpan();
+        if (parent == null || !Boolean.TRUE.equals(parent.context().sampled())) {
+            return call.proceed();
+        }
+
+        Span span = tracer.nextSpan()
+                .name(call.getTarget().getClass().getSimpleName() + "." + call.getSignature().getName())
+                .tag("layer", layer)
+                .start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return call.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
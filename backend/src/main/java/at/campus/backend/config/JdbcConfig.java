@@ -1,15 +1,43 @@
 package at.campus.backend.config;
 
+import at.campus.backend.common.jdbc.InstrumentedDataSource;
+import at.campus.backend.common.jdbc.JdbcMetrics;
+import at.campus.backend.common.jdbc.ReadWriteRoutingDataSource;
+import at.campus.backend.common.jdbc.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 /**
  * JDBC configuration.
  *
- * Provides NamedParameterJdbcTemplate for SQL-first repositories.
+ * Provides NamedParameterJdbcTemplate for SQL-first repositories,
+ * and wraps the pool in an {@link InstrumentedDataSource} so every
+ * statement is timed per repository method and SQL fingerprint
+ * (app.jdbc-metrics.enabled, default true).
+ *
+ * With app.datasource.read-routing.enabled the single auto-configured
+ * pool is replaced by a primary pool and a read pool behind a
+ * {@link ReadWriteRoutingDataSource}. The read pool connects to
+ * app.datasource.replica.url, or to the primary when that is empty.
  */
 @Configuration
 public class JdbcConfig {
@@ -18,4 +46,79 @@ public class JdbcConfig {
     public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
         return new NamedParameterJdbcTemplate(dataSource);
     }
+
+    // static: post-processors are created before regular beans
+    @Bean
+    @ConditionalOnProperty(name = "app.jdbc-metrics.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<JdbcMetrics> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Instrument beneath a lazy proxy: its getConnection() is free,
+                // the real pool wait happens on first use
+                if (bean instanceof LazyConnectionDataSourceProxy lazy) {
+                    if (!(lazy.getTargetDataSource() instanceof InstrumentedDataSource)) {
+                        lazy.setTargetDataSource(new InstrumentedDataSource(lazy.getTargetDataSource(), metrics));
+                    }
+                    return bean;
+                }
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, metrics);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // ==================================================
+    // READ / WRITE ROUTING
+    // ==================================================
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.datasource.read-routing.enabled", havingValue = "true")
+    public DataSource dataSource(@Qualifier("readWriteRoutingDataSource") DataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // Separate bean so the pools are closed on shutdown
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.read-routing.enabled", havingValue = "true")
+    public DataSource readWriteRoutingDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry registry,
+            @Value("${app.datasource.replica.url:}") String replicaUrl,
+            @Value("${app.datasource.replica.username:}") String replicaUsername,
+            @Value("${app.datasource.replica.password:}") String replicaPassword,
+            @Value("${app.datasource.replica.maximum-pool-size:10}") int replicaPoolSize,
+            @Value("${app.datasource.read-routing.max-replica-lag:PT2S}") Duration maxReplicaLag,
+            @Value("${app.datasource.read-routing.lag-check-interval:PT1S}") Duration lagCheckInterval
+    ) {
+        HikariDataSource primary = pool(properties, environment, registry, "primary");
+
+        HikariDataSource read = pool(properties, environment, registry, "read");
+        if (StringUtils.hasText(replicaUrl)) {
+            read.setJdbcUrl(replicaUrl);
+        }
+        if (StringUtils.hasText(replicaUsername)) {
+            read.setUsername(replicaUsername);
+            read.setPassword(replicaPassword);
+        }
+        read.setMaximumPoolSize(replicaPoolSize);
+        read.setReadOnly(true);
+
+        ReplicaLagMonitor lag = new ReplicaLagMonitor(read, maxReplicaLag, lagCheckInterval, registry);
+        return new ReadWriteRoutingDataSource(primary, read, lag);
+    }
+
+    /** spring.datasource.* plus spring.datasource.hikari.*, as Boot would build it. */
+    private static HikariDataSource pool(
+            DataSourceProperties properties, Environment environment, MeterRegistry registry, String name) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return pool;
+    }
 }
@@ -0,0 +1,71 @@
+package at.campus.backend.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Startup configuration (time until the first request is served).
+ *
+ * - Beans from app.startup.lazy-packages (springdoc by default) are
+ *   created on first use instead of at startup: nothing on the
+ *   request path needs them
+ * - app.startup.training-run=true skips the Flyway migration, so
+ *   the AppCDS training run in the Dockerfile can refresh the
+ *   context without a database
+ *
+ * Both decisions are taken at runtime (or baked into the bean
+ * definitions), so they also hold in Spring AOT mode, where
+ * bean conditions are fixed at build time.
+ */
+@Configuration
+public class StartupConfig {
+
+    // static: post-processors are created before regular beans
+    @Bean
+    public static BeanFactoryPostProcessor lazyStartupBeans(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("app.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String declaringClass = declaringClass(definition);
+                if (declaringClass != null
+                        && packages.stream().anyMatch(p -> declaringClass.startsWith(p + "."))) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /** The @Bean method's class, or the bean class for scanned components. */
+    private static String declaringClass(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated
+                && annotated.getFactoryMethodMetadata() != null) {
+            return annotated.getFactoryMethodMetadata().getDeclaringClassName();
+        }
+        return definition.getBeanClassName();
+    }
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.startup.training-run:false}") boolean trainingRun
+    ) {
+        return flyway -> {
+            if (!trainingRun) {
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.comments.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.comments.model.CreateCommentRequest;
 import at.campus.backend.modules.comments.model.CommentDto;
 import at.campus.backend.modules.comments.model.UpdateCommentRequest;
@@ -14,6 +16,7 @@ import java.util.UUID;
  * Requires authentication.
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api")
 public class CommentController {
 
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.comments.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.comments.model.CommentDto;
 import at.campus.backend.modules.comments.service.CommentService;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +14,7 @@ import java.util.UUID;
  * Available to all users (authenticated and anonymous).
  */
 @RestController
+@Workload(WorkloadClass.PUBLIC_READ)
 @RequestMapping("/api/public")
 public class CommentPublicController {
 
@@ -1,14 +1,19 @@
 package at.campus.backend.modules.comments.service;
 
+import at.campus.backend.common.live.LiveEventHub;
+import at.campus.backend.common.live.LiveTopics;
 import at.campus.backend.modules.comments.model.Comment;
 import at.campus.backend.modules.comments.model.CommentDto;
 import at.campus.backend.modules.comments.model.CreateCommentRequest;
 import at.campus.backend.modules.comments.model.UpdateCommentRequest;
 import at.campus.backend.modules.comments.repository.CommentRepository;
+import at.campus.backend.modules.posts.model.Post;
+import at.campus.backend.modules.posts.repository.PostRepository;
 import at.campus.backend.security.UserContext;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -21,10 +26,19 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final UserContext userContext;
-
-    public CommentService(CommentRepository commentRepository, UserContext userContext) {
+    private final PostRepository postRepository;
+    private final LiveEventHub liveEvents;
+
+    public CommentService(
+            CommentRepository commentRepository,
+            UserContext userContext,
+            PostRepository postRepository,
+            LiveEventHub liveEvents
+    ) {
         this.commentRepository = commentRepository;
         this.userContext = userContext;
+        this.postRepository = postRepository;
+        this.liveEvents = liveEvents;
     }
 
     /**
@@ -64,7 +78,10 @@ public class CommentService {
 
         // Fetch the saved comment
         Comment savedComment = commentRepository.findById(comment.getId()).orElse(comment);
-        return CommentDto.fromDomain(savedComment);
+        CommentDto dto = CommentDto.fromDomain(savedComment);
+
+        publish(postId, "comment-created", dto);
+        return dto;
     }
 
     /**
@@ -91,7 +108,10 @@ public class CommentService {
 
         // Fetch the updated comment
         Comment updatedComment = commentRepository.findById(commentId).orElse(comment);
-        return CommentDto.fromDomain(updatedComment);
+        CommentDto dto = CommentDto.fromDomain(updatedComment);
+
+        publish(comment.getPostId(), "comment-updated", dto);
+        return dto;
     }
 
     /**
@@ -114,5 +134,16 @@ public class CommentService {
         }
 
         commentRepository.deleteById(commentId);
+
+        publish(comment.getPostId(), "comment-deleted", Map.of("id", commentId, "postId", comment.getPostId()));
+    }
+
+    /**
+     * Comments are streamed on their thread's topic.
+     */
+    private void publish(UUID postId, String type, Object data) {
+        postRepository.findById(postId)
+            .map(Post::getThreadId)
+            .ifPresent(threadId -> liveEvents.publish(LiveTopics.thread(threadId), type, data));
     }
 }
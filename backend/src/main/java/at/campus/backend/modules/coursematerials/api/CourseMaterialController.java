@@ -1,5 +1,7 @@
 package at.campus.backend.modules.coursematerials.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.coursematerials.model.CourseMaterialDto;
 import at.campus.backend.modules.coursematerials.service.CourseMaterialService;
 import org.springframework.http.HttpStatus;
@@ -27,6 +29,7 @@ import java.util.UUID;
  *   List all materials for a course
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api/courses")
 public class CourseMaterialController {
 
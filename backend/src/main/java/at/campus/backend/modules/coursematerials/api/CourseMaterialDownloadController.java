@@ -1,5 +1,7 @@
 package at.campus.backend.modules.coursematerials.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.coursematerials.service.CourseMaterialService;
 import at.campus.backend.modules.coursematerials.service.CourseMaterialService.CourseMaterialDownload;
 import org.springframework.core.io.InputStreamResource;
@@ -22,6 +24,7 @@ import java.util.UUID;
  * GET /api/materials/{id}/download
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api/materials")
 public class CourseMaterialDownloadController {
 
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.coursematerials.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.coursematerials.model.CourseMaterialDto;
 import at.campus.backend.modules.coursematerials.model.CourseMaterialUpdateRequest;
 import at.campus.backend.modules.coursematerials.service.CourseMaterialService;
@@ -15,6 +17,7 @@ import java.util.UUID;
  * - DELETE /api/materials/{id}
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api/materials")
 public class CourseMaterialManagementController {
 
@@ -7,6 +7,7 @@ import at.campus.backend.modules.coursematerials.model.CourseMaterialUpdateReque
 import at.campus.backend.modules.coursematerials.repository.CourseMaterialRepository;
 import at.campus.backend.modules.courses.repository.CourseRepository;
 import at.campus.backend.security.UserContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -31,8 +32,6 @@ import java.util.UUID;
 @Service
 public class CourseMaterialService {
 
-    private static final Path STORAGE_DIR = Path.of("/data/course-materials");
-
     private static final Set<String> ALLOWED_TYPES = Set.of(
             "application/pdf",
             "image/png",
@@ -43,14 +42,19 @@ public class CourseMaterialService {
     private final CourseRepository courseRepo;
     private final UserContext userContext;
 
+    // File bytes live here (Docker volume /data/course-materials by default)
+    private final Path storageDir;
+
     public CourseMaterialService(
             CourseMaterialRepository materialRepo,
             CourseRepository courseRepo,
-            UserContext userContext
+            UserContext userContext,
+            @Value("${app.course-materials.dir:/data/course-materials}") Path storageDir
     ) {
         this.materialRepo = materialRepo;
         this.courseRepo = courseRepo;
         this.userContext = userContext;
+        this.storageDir = storageDir;
     }
 
     public CourseMaterialDto upload(UUID courseId, MultipartFile file, String title, String description) {
@@ -60,9 +64,9 @@ public class CourseMaterialService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        courseRepo.findById(courseId).orElseThrow(() ->
-                new NotFoundException("Course not found: " + courseId)
-        );
+        if (!courseRepo.existsById(courseId)) {
+            throw new NotFoundException("Course not found: " + courseId);
+        }
 
         if (file == null || file.isEmpty()) {
             throw new ResponseStatusException(
@@ -102,8 +106,8 @@ public class CourseMaterialService {
         material.setCreatedAt(LocalDateTime.now());
 
         try {
-            Files.createDirectories(STORAGE_DIR);
-            Path target = STORAGE_DIR.resolve(storageKey);
+            Files.createDirectories(storageDir);
+            Path target = storageDir.resolve(storageKey);
 
             try (InputStream in = file.getInputStream()) {
                 Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
@@ -133,9 +137,9 @@ public class CourseMaterialService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        courseRepo.findById(courseId).orElseThrow(() ->
-                new NotFoundException("Course not found: " + courseId)
-        );
+        if (!courseRepo.existsById(courseId)) {
+            throw new NotFoundException("Course not found: " + courseId);
+        }
 
         return materialRepo.findByCourseId(courseId)
                 .stream()
@@ -160,7 +164,7 @@ public class CourseMaterialService {
                         new NotFoundException("Course material not found: " + materialId)
                 );
 
-        Path filePath = STORAGE_DIR.resolve(material.getStorageKey());
+        Path filePath = storageDir.resolve(material.getStorageKey());
 
         if (!Files.exists(filePath)) {
             throw new ResponseStatusException(
@@ -246,7 +250,7 @@ public class CourseMaterialService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Path filePath = STORAGE_DIR.resolve(material.getStorageKey());
+        Path filePath = storageDir.resolve(material.getStorageKey());
 
         try {
             Files.deleteIfExists(filePath);
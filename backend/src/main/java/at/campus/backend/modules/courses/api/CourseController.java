@@ -1,5 +1,7 @@
 package at.campus.backend.modules.courses.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.courses.model.CourseDto;
 import at.campus.backend.modules.courses.service.CourseService;
 import org.springframework.web.bind.annotation.*;
@@ -7,6 +9,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.UUID;
 
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api/courses")
 public class CourseController {
 
@@ -1,29 +1,43 @@
 package at.campus.backend.modules.courses.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
+import at.campus.backend.common.cache.CacheTags;
+import at.campus.backend.common.cache.ResponseCache;
+import at.campus.backend.common.exception.NotFoundException;
+import at.campus.backend.common.json.RawJson;
 import at.campus.backend.modules.courses.model.CourseDto;
+import at.campus.backend.modules.courses.model.CourseListItemDto;
+import at.campus.backend.modules.courses.model.CourseSection;
 import at.campus.backend.modules.courses.service.CourseService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.UUID;
 
 @RestController
+@Workload(WorkloadClass.PUBLIC_READ)
 @RequestMapping("/api/public/courses")
 public class CoursePublicController {
 
     private final CourseService service;
+    private final ResponseCache responseCache;
 
-    public CoursePublicController(CourseService service) {
+    public CoursePublicController(CourseService service, ResponseCache responseCache) {
         this.service = service;
+        this.responseCache = responseCache;
     }
 
     // ---------- READ ----------
 
     @GetMapping
-        public Page<CourseDto> getCourses(
+        public Page<CourseListItemDto> getCourses(
             @RequestParam(required = false) UUID studyProgramId,
             @RequestParam(required = false) Integer ects,
                 @RequestParam(required = false) Integer semester,
@@ -33,9 +47,9 @@ public class CoursePublicController {
             @RequestParam(required = false) String search,
             Pageable pageable
         ) {
-        List<CourseDto> allCourses = service.getCourses(studyProgramId, ects)
+        List<CourseListItemDto> allCourses = service.getCourses(studyProgramId, ects)
             .stream()
-            .map(CourseDto::fromDomain)
+            .map(CourseListItemDto::fromDomain)
             .toList();
 
             // Column filters
@@ -92,7 +106,7 @@ public class CoursePublicController {
         return a.compareToIgnoreCase(b);
     }
 
-    private boolean matchesCourse(CourseDto course, String query) {
+    private boolean matchesCourse(CourseListItemDto course, String query) {
         return containsIgnoreCase(course.title(), query)
                 || containsIgnoreCase(course.description(), query)
                 || containsIgnoreCase(course.language(), query)
@@ -102,7 +116,7 @@ public class CoursePublicController {
                 || containsIgnoreCase(course.studyProgram() != null ? course.studyProgram().mode() : null, query);
     }
 
-    private boolean matchesFilters(CourseDto course,
+    private boolean matchesFilters(CourseListItemDto course,
                                    String title,
                                    String studyProgramName,
                                    Integer semester,
@@ -136,9 +150,32 @@ public class CoursePublicController {
         return a.compareTo(b);
     }
 
+    /**
+     * Course detail (CourseDto), served from the pre-serialized response cache.
+     */
     @GetMapping("/{id}")
-    public CourseDto getById(@PathVariable UUID id) {
-        return CourseDto.fromDomain(service.getCourseById(id));
+    public ResponseEntity<byte[]> getById(@PathVariable UUID id, HttpServletRequest request) {
+        return responseCache.serve(
+                request,
+                "course-detail:" + id,
+                List.of(CacheTags.course(id), CacheTags.studyPrograms()),
+                () -> CourseDto.fromDomain(service.getCourseById(id))
+        );
+    }
+
+    /**
+     * Single JSONB section (e.g. /{id}/sections/learning-outcomes),
+     * written to the response exactly as stored.
+     */
+    @GetMapping(value = "/{id}/sections/{section}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public RawJson getSection(
+            @PathVariable UUID id,
+            @PathVariable String section
+    ) {
+        CourseSection courseSection = CourseSection.fromPath(section)
+                .orElseThrow(() -> new NotFoundException("Unknown course section: " + section));
+
+        return service.getCourseSection(id, courseSection);
     }
 
 }
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.courses.model;
 
+import at.campus.backend.common.json.RawJson;
+
 import java.util.UUID;
 
 /**
@@ -19,12 +21,12 @@ public class Course {
     private final Integer semester;
     private final String kind;
     private final String detailsHtml;
-    private final Object content;
-    private final Object learningOutcomes;
-    private final Object teachingMethod;
-    private final Object examMethod;
-    private final Object literature;
-    private final Object teachingLanguage;
+    private final RawJson content;
+    private final RawJson learningOutcomes;
+    private final RawJson teachingMethod;
+    private final RawJson examMethod;
+    private final RawJson literature;
+    private final RawJson teachingLanguage;
     private final String sourceUrl;
     private final StudyProgramRef studyProgram;
 
@@ -38,12 +40,12 @@ public class Course {
             Integer semester,
             String kind,
             String detailsHtml,
-                Object content,
-                Object learningOutcomes,
-                Object teachingMethod,
-                Object examMethod,
-                Object literature,
-                Object teachingLanguage,
+                RawJson content,
+                RawJson learningOutcomes,
+                RawJson teachingMethod,
+                RawJson examMethod,
+                RawJson literature,
+                RawJson teachingLanguage,
             String sourceUrl,
             StudyProgramRef studyProgram
     ) {
@@ -94,17 +96,17 @@ public class Course {
 
     public String getDetailsHtml() { return detailsHtml; }
 
-    public Object getContent() { return content; }
+    public RawJson getContent() { return content; }
 
-    public Object getLearningOutcomes() { return learningOutcomes; }
+    public RawJson getLearningOutcomes() { return learningOutcomes; }
 
-    public Object getTeachingMethod() { return teachingMethod; }
+    public RawJson getTeachingMethod() { return teachingMethod; }
 
-    public Object getExamMethod() { return examMethod; }
+    public RawJson getExamMethod() { return examMethod; }
 
-    public Object getLiterature() { return literature; }
+    public RawJson getLiterature() { return literature; }
 
-    public Object getTeachingLanguage() { return teachingLanguage; }
+    public RawJson getTeachingLanguage() { return teachingLanguage; }
 
     public String getSourceUrl() { return sourceUrl; }
 
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.courses.model;
 
+import at.campus.backend.common.json.RawJson;
+
 import java.util.UUID;
 
 /**
@@ -23,12 +25,12 @@ public record CourseDto(
         Integer semester,
         String kind,
         String detailsHtml,
-        Object content,
-        Object learningOutcomes,
-        Object teachingMethod,
-        Object examMethod,
-        Object literature,
-        Object teachingLanguage,
+        RawJson content,
+        RawJson learningOutcomes,
+        RawJson teachingMethod,
+        RawJson examMethod,
+        RawJson literature,
+        RawJson teachingLanguage,
         String sourceUrl,
         StudyProgramRef studyProgram
 ) {
@@ -0,0 +1,39 @@
+package at.campus.backend.modules.courses.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for the public course list.
+ *
+ * Same field names as {@link CourseDto}, minus the detail fields
+ * (detailsHtml and the JSON sections), so list responses stay small.
+ */
+public record CourseListItemDto(
+        UUID courseId,
+        String title,
+        String description,
+        int ects,
+        String language,
+        BigDecimal sws,
+        Integer semester,
+        String kind,
+        String sourceUrl,
+        StudyProgramRef studyProgram
+) {
+
+    public static CourseListItemDto fromDomain(CourseSummary course) {
+        return new CourseListItemDto(
+                course.getCourseId(),
+                course.getTitle(),
+                course.getDescription(),
+                course.getEcts(),
+                course.getLanguage(),
+                course.getSws(),
+                course.getSemester(),
+                course.getKind(),
+                course.getSourceUrl(),
+                course.getStudyProgram()
+        );
+    }
+}
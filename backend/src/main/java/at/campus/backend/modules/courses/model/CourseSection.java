@@ -0,0 +1,38 @@
+package at.campus.backend.modules.courses.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * JSONB detail sections of a course that can be fetched individually.
+ *
+ * Each constant maps the URL path segment to its (fixed) column name,
+ * so the column can be put into SQL without user input reaching it.
+ */
+public enum CourseSection {
+
+    CONTENT("content", "content"),
+    LEARNING_OUTCOMES("learning-outcomes", "learning_outcomes"),
+    TEACHING_METHOD("teaching-method", "teaching_method"),
+    EXAM_METHOD("exam-method", "exam_method"),
+    LITERATURE("literature", "literature"),
+    TEACHING_LANGUAGE("teaching-language", "teaching_language");
+
+    private final String path;
+    private final String column;
+
+    CourseSection(String path, String column) {
+        this.path = path;
+        this.column = column;
+    }
+
+    public String getPath() { return path; }
+
+    public String getColumn() { return column; }
+
+    public static Optional<CourseSection> fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(s -> s.path.equalsIgnoreCase(path))
+                .findFirst();
+    }
+}
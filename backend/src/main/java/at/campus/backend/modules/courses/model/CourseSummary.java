@@ -0,0 +1,70 @@
+package at.campus.backend.modules.courses.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Lightweight read projection of a Course.
+ *
+ * Used for list views: carries everything the course table, filters
+ * and search need, but none of the heavy detail columns
+ * (details_html and the JSONB sections). Those are only loaded
+ * via {@link Course} or streamed per section.
+ */
+public class CourseSummary {
+
+    private final UUID courseId;
+    private final String title;
+    private final String description;
+    private final int ects;
+    private final String language;
+    private final BigDecimal sws;
+    private final Integer semester;
+    private final String kind;
+    private final String sourceUrl;
+    private final StudyProgramRef studyProgram;
+
+    public CourseSummary(
+            UUID courseId,
+            String title,
+            String description,
+            int ects,
+            String language,
+            BigDecimal sws,
+            Integer semester,
+            String kind,
+            String sourceUrl,
+            StudyProgramRef studyProgram
+    ) {
+        this.courseId = courseId;
+        this.title = title;
+        this.description = description;
+        this.ects = ects;
+        this.language = language;
+        this.sws = sws;
+        this.semester = semester;
+        this.kind = kind;
+        this.sourceUrl = sourceUrl;
+        this.studyProgram = studyProgram;
+    }
+
+    public UUID getCourseId() { return courseId; }
+
+    public String getTitle() { return title; }
+
+    public String getDescription() { return description; }
+
+    public int getEcts() { return ects; }
+
+    public String getLanguage() { return language; }
+
+    public BigDecimal getSws() { return sws; }
+
+    public Integer getSemester() { return semester; }
+
+    public String getKind() { return kind; }
+
+    public String getSourceUrl() { return sourceUrl; }
+
+    public StudyProgramRef getStudyProgram() { return studyProgram; }
+}
@@ -1,6 +1,9 @@
 package at.campus.backend.modules.courses.repository;
 
+import at.campus.backend.common.json.RawJson;
 import at.campus.backend.modules.courses.model.Course;
+import at.campus.backend.modules.courses.model.CourseSection;
+import at.campus.backend.modules.courses.model.CourseSummary;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,11 +21,34 @@ public interface CourseRepository {
     // READ
     // ==================================================
 
-    List<Course> findAll();
+    /**
+     * List projection: no details_html, no JSONB sections.
+     */
+    List<CourseSummary> findAll();
 
+    /**
+     * Full detail projection, including all JSONB sections.
+     */
     Optional<Course> findById(UUID courseId);
 
-    List<Course> findFiltered(UUID studyProgramId, Integer ects);
+    /**
+     * List projection, filtered by study program and/or ECTS.
+     */
+    List<CourseSummary> findFiltered(UUID studyProgramId, Integer ects);
+
+    /**
+     * Cheap existence check (SELECT 1, no columns read).
+     */
+    boolean existsById(UUID courseId);
+
+    /**
+     * Raw JSONB text of one section, not parsed; {@code null} (the JSON
+     * literal) if the section is empty. Read into memory, so the
+     * connection is released before the response is written.
+     *
+     * @return empty if the course does not exist
+     */
+    Optional<RawJson> findSection(UUID courseId, CourseSection section);
 
     // ==================================================
     // WRITE (ADMIN only – enforced in service)
@@ -1,10 +1,10 @@
 package at.campus.backend.modules.courses.repository;
 
+import at.campus.backend.common.json.RawJson;
 import at.campus.backend.modules.courses.model.Course;
+import at.campus.backend.modules.courses.model.CourseSection;
+import at.campus.backend.modules.courses.model.CourseSummary;
 import at.campus.backend.modules.courses.model.StudyProgramRef;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -24,8 +24,6 @@ public class JdbcCourseRepository implements CourseRepository {
 
     private final NamedParameterJdbcTemplate jdbc;
 
-    private static final ObjectMapper JSON = new ObjectMapper();
-
     public JdbcCourseRepository(NamedParameterJdbcTemplate jdbc) {
         this.jdbc = jdbc;
     }
@@ -55,31 +53,22 @@ public class JdbcCourseRepository implements CourseRepository {
                 readStudyProgram(rs)
             );
 
-    private static StudyProgramRef readStudyProgram(ResultSet rs) throws SQLException {
-        UUID programId = rs.getObject("study_program_id", UUID.class);
-        String programName = rs.getString("study_program_name");
-        String programMode = rs.getString("study_program_mode");
-        if (programId == null) return null;
-        return new StudyProgramRef(programId, programName, programMode);
-    }
-
-    private static Object readJson(ResultSet rs, String column) throws SQLException {
-        String raw = rs.getString(column);
-        if (raw == null) return null;
-        try {
-            return JSON.readValue(raw, Object.class);
-        } catch (JsonProcessingException e) {
-            throw new SQLException("Failed to parse json column '" + column + "'", e);
-        }
-    }
-
-    // ==================================================
-    // READ
-    // ==================================================
+    // Summary projection: only the columns list views need
+    private static final RowMapper<CourseSummary> SUMMARY_ROW_MAPPER = (rs, rowNum) ->
+            new CourseSummary(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    rs.getInt("ects"),
+                    rs.getString("language"),
+                    rs.getBigDecimal("sws"),
+                    (Integer) rs.getObject("semester"),
+                    rs.getString("kind"),
+                    rs.getString("source_url"),
+                    readStudyProgram(rs)
+            );
 
-    @Override
-    public List<Course> findAll() {
-        String sql = """
+    private static final String SUMMARY_SELECT = """
             SELECT
                 c.id,
                 c.title,
@@ -89,13 +78,6 @@ public class JdbcCourseRepository implements CourseRepository {
                 c.sws,
                 c.semester,
                 c.kind,
-                c.details_html,
-                c.content,
-                c.learning_outcomes,
-                c.teaching_method,
-                c.exam_method,
-                c.literature,
-                c.teaching_language,
                 c.source_url,
                 c.study_program_id,
                 sp.name AS study_program_name,
@@ -104,7 +86,26 @@ public class JdbcCourseRepository implements CourseRepository {
             LEFT JOIN app.study_programs sp ON c.study_program_id = sp.id
         """;
 
-        return jdbc.query(sql, COURSE_ROW_MAPPER);
+    private static StudyProgramRef readStudyProgram(ResultSet rs) throws SQLException {
+        UUID programId = rs.getObject("study_program_id", UUID.class);
+        String programName = rs.getString("study_program_name");
+        String programMode = rs.getString("study_program_mode");
+        if (programId == null) return null;
+        return new StudyProgramRef(programId, programName, programMode);
+    }
+
+    // JSONB text is kept as-is: no parsing here, written verbatim to the response
+    private static RawJson readJson(ResultSet rs, String column) throws SQLException {
+        return RawJson.ofNullable(rs.getString(column));
+    }
+
+    // ==================================================
+    // READ
+    // ==================================================
+
+    @Override
+    public List<CourseSummary> findAll() {
+        return jdbc.query(SUMMARY_SELECT, SUMMARY_ROW_MAPPER);
     }
 
     @Override
@@ -144,33 +145,9 @@ public class JdbcCourseRepository implements CourseRepository {
 
 
     @Override
-    public List<Course> findFiltered(UUID studyProgramId, Integer ects) {
+    public List<CourseSummary> findFiltered(UUID studyProgramId, Integer ects) {
 
-        StringBuilder sql = new StringBuilder("""
-            SELECT
-                c.id,
-                c.title,
-                c.description,
-                c.ects,
-                c.language,
-                c.sws,
-                c.semester,
-                c.kind,
-                c.details_html,
-                c.content,
-                c.learning_outcomes,
-                c.teaching_method,
-                c.exam_method,
-                c.literature,
-                c.teaching_language,
-                c.source_url,
-                c.study_program_id,
-                sp.name AS study_program_name,
-                sp.mode AS study_program_mode
-            FROM app.courses c
-            LEFT JOIN app.study_programs sp ON c.study_program_id = sp.id
-            WHERE 1 = 1
-        """);
+        StringBuilder sql = new StringBuilder(SUMMARY_SELECT).append(" WHERE 1 = 1");
 
         Map<String, Object> params = new HashMap<>();
 
@@ -184,7 +161,25 @@ public class JdbcCourseRepository implements CourseRepository {
             params.put("ects", ects);
         }
 
-        return jdbc.query(sql.toString(), params, COURSE_ROW_MAPPER);
+        return jdbc.query(sql.toString(), params, SUMMARY_ROW_MAPPER);
+    }
+
+    @Override
+    public boolean existsById(UUID courseId) {
+        String sql = "SELECT 1 FROM app.courses WHERE id = :id";
+
+        return !jdbc.queryForList(sql, Map.of("id", courseId), Integer.class).isEmpty();
+    }
+
+    @Override
+    public Optional<RawJson> findSection(UUID courseId, CourseSection section) {
+        // Column name comes from the enum, never from the request
+        String sql = "SELECT COALESCE(" + section.getColumn() + "::text, 'null') FROM app.courses WHERE id = :id";
+
+        return jdbc.queryForList(sql, Map.of("id", courseId), String.class)
+                .stream()
+                .findFirst()
+                .map(RawJson::new);
     }
 
     // ==================================================
@@ -296,23 +291,13 @@ public class JdbcCourseRepository implements CourseRepository {
         params.put("semester", course.getSemester());
         params.put("kind", course.getKind());
         params.put("detailsHtml", course.getDetailsHtml());
-        params.put("content", writeJson(course.getContent()));
-        params.put("learningOutcomes", writeJson(course.getLearningOutcomes()));
-        params.put("teachingMethod", writeJson(course.getTeachingMethod()));
-        params.put("examMethod", writeJson(course.getExamMethod()));
-        params.put("literature", writeJson(course.getLiterature()));
-        params.put("teachingLanguage", writeJson(course.getTeachingLanguage()));
+        params.put("content", RawJson.textOf(course.getContent()));
+        params.put("learningOutcomes", RawJson.textOf(course.getLearningOutcomes()));
+        params.put("teachingMethod", RawJson.textOf(course.getTeachingMethod()));
+        params.put("examMethod", RawJson.textOf(course.getExamMethod()));
+        params.put("literature", RawJson.textOf(course.getLiterature()));
+        params.put("teachingLanguage", RawJson.textOf(course.getTeachingLanguage()));
         params.put("sourceUrl", course.getSourceUrl());
         return params;
     }
-
-    private static String writeJson(Object value) {
-        if (value == null) return null;
-        if (value instanceof String s) return s;
-        try {
-            return JSON.writeValueAsString(value);
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Failed to serialize course field to JSON", e);
-        }
-    }
 }
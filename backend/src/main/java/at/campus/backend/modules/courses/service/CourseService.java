@@ -1,10 +1,16 @@
 package at.campus.backend.modules.courses.service;
 
 import at.campus.backend.modules.courses.model.Course;
+import at.campus.backend.modules.courses.model.CourseSection;
+import at.campus.backend.modules.courses.model.CourseSummary;
 import at.campus.backend.modules.courses.repository.CourseRepository;
 import at.campus.backend.security.UserContext;
+import at.campus.backend.common.cache.CacheTags;
+import at.campus.backend.common.cache.ResponseCache;
+import at.campus.backend.common.cache.StaleWhileRevalidateCache;
 import at.campus.backend.common.exception.ForbiddenException;
 import at.campus.backend.common.exception.NotFoundException;
+import at.campus.backend.common.json.RawJson;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,20 +27,26 @@ public class CourseService {
 
     private final CourseRepository repository;
     private final UserContext userContext;
+    private final ResponseCache responseCache;
+    private final StaleWhileRevalidateCache publicReads;
 
     public CourseService(
             CourseRepository repository,
-            UserContext userContext
+            UserContext userContext,
+            ResponseCache responseCache,
+            StaleWhileRevalidateCache publicReads
     ) {
         this.repository = repository;
         this.userContext = userContext;
+        this.responseCache = responseCache;
+        this.publicReads = publicReads;
     }
 
     // ==================================================
     // READ OPERATIONS
     // ==================================================
 
-    public List<Course> getCourses(UUID studyProgramId, Integer ects) {
+    public List<CourseSummary> getCourses(UUID studyProgramId, Integer ects) {
 
         log.debug(
                 "Fetching courses (studyProgramId={}, ects={})",
@@ -42,11 +54,14 @@ public class CourseService {
                 ects
         );
 
-        if (studyProgramId == null && ects == null) {
-            return repository.findAll();
-        }
-
-        return repository.findFiltered(studyProgramId, ects);
+        // List items embed the study program name and mode
+        return publicReads.get("courses", studyProgramId + "|" + ects,
+                List.of(CacheTags.courses(), CacheTags.studyPrograms()), () -> {
+            if (studyProgramId == null && ects == null) {
+                return repository.findAll();
+            }
+            return repository.findFiltered(studyProgramId, ects);
+        });
     }
 
     public Course getCourseById(UUID courseId) {
@@ -57,7 +72,9 @@ public class CourseService {
                 userContext.getUserId()
         );
 
-        return repository.findById(courseId)
+        return publicReads.get("course-detail", courseId,
+                        List.of(CacheTags.course(courseId), CacheTags.studyPrograms()),
+                        () -> repository.findById(courseId))
                 .orElseThrow(() -> {
                     log.warn(
                             "Course {} not found (user={})",
@@ -70,6 +87,24 @@ public class CourseService {
                 });
     }
 
+    /**
+     * One JSONB section of a course as raw JSON text.
+     * The value is taken from the database as-is (no Jackson round-trip).
+     */
+    public RawJson getCourseSection(UUID courseId, CourseSection section) {
+
+        log.debug(
+                "Fetching section {} of course {}",
+                section,
+                courseId
+        );
+
+        return repository.findSection(courseId, section)
+                .orElseThrow(() -> new NotFoundException(
+                        "Course not found: " + courseId
+                ));
+    }
+
     // ==================================================
     // WRITE OPERATIONS (Moderator  ONLY)
     // ==================================================
@@ -84,12 +119,14 @@ public class CourseService {
         );
 
         repository.insert(course);
+
+        responseCache.invalidate(CacheTags.courses());
     }
 
     public void updateCourse(Course course) {
         requireAdmin();
 
-        if (repository.findById(course.getCourseId()).isEmpty()) {
+        if (!repository.existsById(course.getCourseId())) {
 
             log.warn(
                     "Course {} not found for update (user={})",
@@ -109,6 +146,11 @@ public class CourseService {
         );
 
         repository.update(course);
+
+        responseCache.invalidate(
+                CacheTags.course(course.getCourseId()),
+                CacheTags.courses()
+        );
     }
 
     public void deleteCourse(UUID courseId) {
@@ -134,6 +176,13 @@ public class CourseService {
                     "Course not found: " + courseId
             );
         }
+
+        // Reviews are removed by ON DELETE CASCADE
+        responseCache.invalidate(
+                CacheTags.course(courseId),
+                CacheTags.courses(),
+                CacheTags.reviews(courseId)
+        );
     }
 
     // ==================================================
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.favourites.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.favourites.model.AddFavouriteRequest;
 import at.campus.backend.modules.favourites.model.AddStudyProgramFavouriteRequest;
 import at.campus.backend.modules.favourites.model.Favourite;
@@ -29,6 +31,7 @@ import java.util.UUID;
  * - user_id is derived from UserContext (NOT from request body)
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api/favourites")
 public class FavouritesController {
 
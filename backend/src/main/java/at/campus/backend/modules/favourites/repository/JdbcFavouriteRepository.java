@@ -78,17 +78,15 @@ public class JdbcFavouriteRepository implements FavouriteRepository {
     @Override
     public boolean existsByUserIdAndCourseId(UUID userId, UUID courseId) {
         String sql = """
-            SELECT COUNT(*) FROM app.favourites
+            SELECT 1 FROM app.favourites
             WHERE user_id = :userId AND course_id = :courseId
         """;
 
-        Integer count = jdbc.queryForObject(
+        return !jdbc.queryForList(
                 sql,
                 Map.of("userId", userId, "courseId", courseId),
                 Integer.class
-        );
-
-        return count != null && count > 0;
+        ).isEmpty();
     }
 
     // ==================================================
@@ -148,17 +146,15 @@ public class JdbcFavouriteRepository implements FavouriteRepository {
     @Override
     public boolean existsByUserIdAndStudyProgramId(UUID userId, UUID studyProgramId) {
         String sql = """
-            SELECT COUNT(*) FROM app.study_program_favourites
+            SELECT 1 FROM app.study_program_favourites
             WHERE user_id = :userId AND study_program_id = :studyProgramId
         """;
 
-        Integer count = jdbc.queryForObject(
+        return !jdbc.queryForList(
                 sql,
                 Map.of("userId", userId, "studyProgramId", studyProgramId),
                 Integer.class
-        );
-
-        return count != null && count > 0;
+        ).isEmpty();
     }
 
     @Override
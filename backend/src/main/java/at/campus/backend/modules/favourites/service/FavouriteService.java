@@ -92,7 +92,7 @@ public class FavouriteService {
         );
 
         // Verify course exists
-        if (courseRepository.findById(courseId).isEmpty()) {
+        if (!courseRepository.existsById(courseId)) {
             log.warn(
                     "User {} tried to favourite non-existent course {}",
                     userId,
@@ -196,7 +196,7 @@ public class FavouriteService {
         UUID userId = UUID.fromString(userContext.getUserId());
 
         // Validate study program exists
-        if (studyProgramRepository.findById(studyProgramId).isEmpty()) {
+        if (!studyProgramRepository.existsById(studyProgramId)) {
             log.warn("Attempted to favourite non-existent study program: {}", studyProgramId);
             throw new NotFoundException("Study program not found: " + studyProgramId);
         }
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.posts.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.posts.model.CreatePostRequest;
 import at.campus.backend.modules.posts.model.PostDto;
 import at.campus.backend.modules.posts.model.UpdatePostRequest;
@@ -14,6 +16,7 @@ import java.util.UUID;
  * Requires authentication.
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api")
 public class PostController {
 
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.posts.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.posts.model.PostDto;
 import at.campus.backend.modules.posts.service.PostService;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +14,7 @@ import java.util.UUID;
  * Available to all users (authenticated and anonymous).
  */
 @RestController
+@Workload(WorkloadClass.PUBLIC_READ)
 @RequestMapping("/api/public")
 public class PostPublicController {
 
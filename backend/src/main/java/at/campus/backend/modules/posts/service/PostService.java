@@ -1,5 +1,7 @@
 package at.campus.backend.modules.posts.service;
 
+import at.campus.backend.common.live.LiveEventHub;
+import at.campus.backend.common.live.LiveTopics;
 import at.campus.backend.modules.posts.model.Post;
 import at.campus.backend.modules.posts.model.PostDto;
 import at.campus.backend.modules.posts.model.CreatePostRequest;
@@ -13,6 +15,7 @@ import at.campus.backend.security.UserContext;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -28,19 +31,22 @@ public class PostService {
     private final UserContext userContext;
     private final WatchService watchService;
     private final NotificationService notificationService;
+    private final LiveEventHub liveEvents;
 
     public PostService(
             PostRepository postRepository, 
             CommentRepository commentRepository, 
             UserContext userContext,
             WatchService watchService,
-            NotificationService notificationService
+            NotificationService notificationService,
+            LiveEventHub liveEvents
     ) {
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
         this.userContext = userContext;
         this.watchService = watchService;
         this.notificationService = notificationService;
+        this.liveEvents = liveEvents;
     }
 
     /**
@@ -86,6 +92,9 @@ public class PostService {
 
         // Fetch the saved post
         Post savedPost = postRepository.findById(post.getId()).orElse(post);
+        PostDto dto = PostDto.fromDomain(savedPost, 0);
+
+        liveEvents.publish(LiveTopics.thread(threadId), "post-created", dto);
         
         // Notify watchers of the thread (fire-and-forget, safe failure)
         try {
@@ -98,7 +107,7 @@ public class PostService {
             // Don't fail post creation if notification fails
         }
         
-        return PostDto.fromDomain(savedPost, 0);
+        return dto;
     }
 
     /**
@@ -125,7 +134,10 @@ public class PostService {
 
         // Fetch the updated post
         Post updatedPost = postRepository.findById(postId).orElse(post);
-        return PostDto.fromDomain(updatedPost, 0);
+        PostDto dto = PostDto.fromDomain(updatedPost, 0);
+
+        liveEvents.publish(LiveTopics.thread(updatedPost.getThreadId()), "post-updated", dto);
+        return dto;
     }
 
     /**
@@ -148,5 +160,8 @@ public class PostService {
         }
 
         postRepository.deleteById(postId);
+
+        liveEvents.publish(LiveTopics.thread(post.getThreadId()), "post-deleted",
+            Map.of("id", postId, "threadId", post.getThreadId()));
     }
 }
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.reactions.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.reactions.model.AddReactionRequest;
 import at.campus.backend.modules.reactions.model.ReactionType;
 import at.campus.backend.modules.reactions.model.TargetType;
@@ -15,6 +17,7 @@ import java.util.UUID;
  * Requires authentication.
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api")
 public class ReactionController {
 
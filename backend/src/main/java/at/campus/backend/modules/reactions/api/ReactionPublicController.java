@@ -1,5 +1,7 @@
 package at.campus.backend.modules.reactions.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.reactions.model.ReactionCountDto;
 import at.campus.backend.modules.reactions.model.TargetType;
 import at.campus.backend.modules.reactions.service.ReactionService;
@@ -13,6 +15,7 @@ import java.util.UUID;
  * Available to all users (authenticated and anonymous).
  */
 @RestController
+@Workload(WorkloadClass.PUBLIC_READ)
 @RequestMapping("/api/public")
 public class ReactionPublicController {
 
@@ -90,15 +90,13 @@ public class JdbcReactionRepository implements ReactionRepository {
     @Override
     public boolean hasUserReacted(UUID userId, TargetType targetType, UUID targetId, ReactionType reactionType) {
         String sql = """
-            SELECT COUNT(*)
+            SELECT 1
             FROM app.reactions
             WHERE user_id = ? AND target_type = ?::VARCHAR AND target_id = ? AND reaction_type = ?::VARCHAR
         """;
         
-        Integer count = jdbc.queryForObject(sql, Integer.class,
-            userId, targetType.name(), targetId, reactionType.name());
-        
-        return count != null && count > 0;
+        return !jdbc.queryForList(sql, Integer.class,
+            userId, targetType.name(), targetId, reactionType.name()).isEmpty();
     }
 
     private static class ReactionRowMapper implements RowMapper<Reaction> {
@@ -1,13 +1,19 @@
 package at.campus.backend.modules.reports.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.reports.model.*;
+import at.campus.backend.modules.reports.service.ModerationCounters;
 import at.campus.backend.modules.reports.service.ModerationService;
 import at.campus.backend.modules.reports.service.ReportService;
 import at.campus.backend.security.UserContext;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +25,8 @@ import java.util.stream.Collectors;
  * Endpoints:
  * - GET /api/moderation/reports — List all reports (ADMIN only)
  * - GET /api/moderation/reports?status=PENDING — Filter by status
+ * - GET /api/moderation/reports/count/pending — Pending reports (in memory, no query)
+ * - GET /api/moderation/reports/count/events — Stream of badge counts (Server-Sent Events)
  * - GET /api/moderation/reports/{id} — Get specific report (ADMIN only)
  * - POST /api/moderation/reports/{reportId}/resolve — Resolve a report with moderation action (FR-M-17)
  * - PATCH /api/moderation/reports/{id} — Update report status (ADMIN only)
@@ -28,16 +36,20 @@ import java.util.stream.Collectors;
  * - All endpoints require MODERATOR role
  */
 @RestController
+@Workload(WorkloadClass.MODERATION)
 @RequestMapping("/api/moderation/reports")
 public class ModerationController {
 
     private final ReportService service;
     private final ModerationService moderationService;
+    private final ModerationCounters counters;
     private final UserContext userContext;
 
-    public ModerationController(ReportService service, ModerationService moderationService, UserContext userContext) {
+    public ModerationController(ReportService service, ModerationService moderationService,
+                                ModerationCounters counters, UserContext userContext) {
         this.service = service;
         this.moderationService = moderationService;
+        this.counters = counters;
         this.userContext = userContext;
     }
 
@@ -76,6 +88,23 @@ public class ModerationController {
         return service.countPendingReports();
     }
 
+    /**
+     * Stream the badge counts (pending reports, flagged reviews).
+     * Starts with the current counts, then one "counts" event per change;
+     * replaces polling /count/pending.
+     *
+     * The role is checked when the stream opens; it ends after
+     * app.live.stream-timeout and the client reconnects.
+     */
+    @GetMapping(value = "/count/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCounts(HttpServletResponse response) {
+        validateModeratorRole();
+        response.setHeader("Cache-Control", "no-cache");
+        // NGINX must pass events through instead of buffering the response
+        response.setHeader("X-Accel-Buffering", "no");
+        return counters.subscribe();
+    }
+
     /**
      * Get a specific report (moderator only).
      */
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.reports.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.reports.model.*;
 import at.campus.backend.modules.reports.service.ReportService;
 import org.springframework.http.HttpStatus;
@@ -17,6 +19,7 @@ import java.util.stream.Collectors;
  * - POST /api/reports — Submit a report (authenticated users)
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api/reports")
 public class ReportController {
 
@@ -0,0 +1,13 @@
+package at.campus.backend.modules.reports.model;
+
+/**
+ * Counts shown in the moderator navigation badge.
+ *
+ * @param pendingReports reports with status PENDING
+ * @param flaggedReviews reviews flagged by moderation
+ */
+public record ModerationCounts(
+        int pendingReports,
+        int flaggedReviews
+) {
+}
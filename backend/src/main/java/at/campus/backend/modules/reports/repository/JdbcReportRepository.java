@@ -67,9 +67,8 @@ public class JdbcReportRepository implements ReportRepository {
 
     @Override
     public boolean existsByUserIdAndTargetTypeAndTargetId(UUID userId, String targetType, UUID targetId) {
-        String sql = "SELECT COUNT(*) FROM app.reports WHERE user_id = ? AND target_type = ? AND target_id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, userId, targetType, targetId);
-        return count != null && count > 0;
+        String sql = "SELECT 1 FROM app.reports WHERE user_id = ? AND target_type = ? AND target_id = ?";
+        return !jdbcTemplate.queryForList(sql, Integer.class, userId, targetType, targetId).isEmpty();
     }
 
     @Override
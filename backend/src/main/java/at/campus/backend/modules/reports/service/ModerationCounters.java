@@ -0,0 +1,236 @@
+package at.campus.backend.modules.reports.service;
+
+import at.campus.backend.common.cache.CacheInvalidationHandler;
+import at.campus.backend.common.cache.InvalidationBus;
+import at.campus.backend.common.live.LiveEventHub;
+import at.campus.backend.common.live.LiveTopics;
+import at.campus.backend.modules.reports.model.ModerationCounts;
+import at.campus.backend.modules.reports.model.ReportStatus;
+import at.campus.backend.modules.reports.repository.ReportRepository;
+import at.campus.backend.modules.reviews.repository.ReviewRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ModerationCounters
+ * ==================================================
+ *
+ * Pending reports and flagged reviews for the moderator badge, kept
+ * in memory instead of counted per request. Moderators get changes
+ * pushed over a stream (GET /api/moderation/reports/count/events),
+ * so in steady state the badge costs no query at all.
+ *
+ * CONSISTENCY
+ * --------------------------------------------------
+ * - Seeded with two COUNT queries once the application is ready
+ *   (not in the AppCDS training run, which has no database)
+ * - The write paths report each change ({@link #reportStatusChanged},
+ *   {@link #reviewFlagChanged}); it is applied after commit, so a
+ *   rolled back write does not count
+ * - Other nodes get the key "moderation-counts" over the
+ *   {@link InvalidationBus} and count again; so does every node after
+ *   the bus lost its connection
+ * - A change racing a count, or rows removed by other paths (e.g.
+ *   cascades when an account is deleted), can leave a counter off;
+ *   every resync-interval the counters are counted again
+ *
+ * METERS (Prometheus names)
+ * --------------------------------------------------
+ * - moderation_reports_pending
+ * - moderation_reviews_flagged
+ */
+@Component
+public class ModerationCounters implements CacheInvalidationHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ModerationCounters.class);
+
+    static final String INVALIDATION_KEY = "moderation-counts";
+    static final String EVENT = "counts";
+
+    private final ReportRepository reportRepository;
+    private final ReviewRepository reviewRepository;
+    private final LiveEventHub liveEvents;
+    private final ObjectProvider<InvalidationBus> invalidationBus;
+    private final Duration resyncInterval;
+
+    private final AtomicInteger pendingReports = new AtomicInteger();
+    private final AtomicInteger flaggedReviews = new AtomicInteger();
+    private volatile boolean seeded;
+
+    private final ScheduledExecutorService resync = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "moderation-counters");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ModerationCounters(
+            ReportRepository reportRepository,
+            ReviewRepository reviewRepository,
+            LiveEventHub liveEvents,
+            ObjectProvider<InvalidationBus> invalidationBus,
+            MeterRegistry registry,
+            @Value("${app.moderation.counters.resync-interval:PT10M}") Duration resyncInterval
+    ) {
+        this.reportRepository = reportRepository;
+        this.reviewRepository = reviewRepository;
+        this.liveEvents = liveEvents;
+        this.invalidationBus = invalidationBus;
+        this.resyncInterval = resyncInterval;
+
+        Gauge.builder("moderation.reports.pending", pendingReports, AtomicInteger::get)
+                .description("Reports waiting for a moderator (in-memory counter)")
+                .register(registry);
+        Gauge.builder("moderation.reviews.flagged", flaggedReviews, AtomicInteger::get)
+                .description("Reviews flagged by moderation (in-memory counter)")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        long interval = resyncInterval.toMillis();
+        resync.scheduleWithFixedDelay(this::resyncQuietly, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        resync.shutdownNow();
+    }
+
+    // ==================================================
+    // READ
+    // ==================================================
+
+    public ModerationCounts current() {
+        if (!seeded) {
+            // Startup count failed or has not run yet
+            count();
+        }
+        return snapshot();
+    }
+
+    /**
+     * Stream of "counts" events, starting with the current counts.
+     */
+    public SseEmitter subscribe() {
+        current();
+        return liveEvents.subscribe(LiveTopics.moderation(), null, EVENT, this::snapshot);
+    }
+
+    // ==================================================
+    // CHANGES (called by the write paths)
+    // ==================================================
+
+    /**
+     * A report was created (from = null), deleted (to = null) or changed status.
+     */
+    public void reportStatusChanged(ReportStatus from, ReportStatus to) {
+        int delta = (to == ReportStatus.PENDING ? 1 : 0) - (from == ReportStatus.PENDING ? 1 : 0);
+        adjust(delta, 0);
+    }
+
+    /**
+     * A review was flagged or unflagged, or a flagged review deleted (to = false).
+     */
+    public void reviewFlagChanged(boolean from, boolean to) {
+        adjust(0, (to ? 1 : 0) - (from ? 1 : 0));
+    }
+
+    private void adjust(int pendingDelta, int flaggedDelta) {
+        if (pendingDelta == 0 && flaggedDelta == 0) {
+            return;
+        }
+        invalidationBus.ifAvailable(bus -> bus.publishAfterCommit(INVALIDATION_KEY));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(pendingDelta, flaggedDelta);
+                }
+            });
+        } else {
+            apply(pendingDelta, flaggedDelta);
+        }
+    }
+
+    private void apply(int pendingDelta, int flaggedDelta) {
+        pendingReports.addAndGet(pendingDelta);
+        flaggedReviews.addAndGet(flaggedDelta);
+        push();
+    }
+
+    // ==================================================
+    // OTHER NODES
+    // ==================================================
+
+    @Override
+    public void invalidateLocally(Collection<String> keys) {
+        if (keys.contains(INVALIDATION_KEY)) {
+            // Runs on the bus thread: count elsewhere
+            resyncSoon();
+        }
+    }
+
+    @Override
+    public void flushLocally() {
+        resyncSoon();
+    }
+
+    // ==================================================
+    // COUNTING
+    // ==================================================
+
+    private void resyncSoon() {
+        try {
+            resync.execute(this::resyncQuietly);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        }
+    }
+
+    private void resyncQuietly() {
+        try {
+            count();
+        } catch (DataAccessException e) {
+            log.warn("Counting pending reports / flagged reviews failed: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void count() {
+        ModerationCounts before = snapshot();
+        pendingReports.set(reportRepository.countByStatus(ReportStatus.PENDING));
+        flaggedReviews.set(reviewRepository.countFlagged());
+        seeded = true;
+        if (!snapshot().equals(before)) {
+            push();
+        }
+    }
+
+    private void push() {
+        liveEvents.publishLocally(LiveTopics.moderation(), EVENT, snapshot());
+    }
+
+    private ModerationCounts snapshot() {
+        return new ModerationCounts(pendingReports.get(), flaggedReviews.get());
+    }
+}
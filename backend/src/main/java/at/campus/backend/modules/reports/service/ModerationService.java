@@ -1,5 +1,7 @@
 package at.campus.backend.modules.reports.service;
 
+import at.campus.backend.common.cache.CacheTags;
+import at.campus.backend.common.cache.ResponseCache;
 import at.campus.backend.modules.reports.model.*;
 import at.campus.backend.modules.reports.repository.ReportRepository;
 import at.campus.backend.modules.reviews.model.Review;
@@ -34,15 +36,21 @@ public class ModerationService {
     private final ReviewRepository reviewRepository;
     private final UserContext userContext;
     private final JdbcTemplate jdbc;
+    private final ResponseCache responseCache;
+    private final ModerationCounters counters;
 
     public ModerationService(ReportRepository reportRepository, 
                            ReviewRepository reviewRepository,
                            UserContext userContext,
-                           JdbcTemplate jdbc) {
+                           JdbcTemplate jdbc,
+                           ResponseCache responseCache,
+                           ModerationCounters counters) {
         this.reportRepository = reportRepository;
         this.reviewRepository = reviewRepository;
         this.userContext = userContext;
         this.jdbc = jdbc;
+        this.responseCache = responseCache;
+        this.counters = counters;
     }
 
     /**
@@ -183,6 +191,8 @@ public class ModerationService {
             case DELETE:
                 // Permanently delete the review
                 reviewRepository.deleteById(review.getId());
+                responseCache.invalidate(CacheTags.reviews(review.getCourseId()));
+                counters.reviewFlagChanged(review.isModerationFlagged(), false);
                 report.setStatus(ReportStatus.RESOLVED);
                 log.info("Report {} resolved - review {} deleted by moderator {}", 
                     reportId, review.getId(), userContext.getUserId());
@@ -199,6 +209,7 @@ public class ModerationService {
             report.setModeratorNotes(request.getModeratorNotes());
         }
         reportRepository.save(report);
+        counters.reportStatusChanged(ReportStatus.PENDING, report.getStatus());
 
         log.info("Report {} resolved with action {} by moderator {}", 
             reportId, action, userContext.getUserId());
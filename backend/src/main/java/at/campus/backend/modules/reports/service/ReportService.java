@@ -35,11 +35,14 @@ public class ReportService {
     private final ReportRepository repository;
     private final ReviewRepository reviewRepository;
     private final UserContext userContext;
+    private final ModerationCounters counters;
 
-    public ReportService(ReportRepository repository, ReviewRepository reviewRepository, UserContext userContext) {
+    public ReportService(ReportRepository repository, ReviewRepository reviewRepository, UserContext userContext,
+                         ModerationCounters counters) {
         this.repository = repository;
         this.reviewRepository = reviewRepository;
         this.userContext = userContext;
+        this.counters = counters;
     }
 
     /**
@@ -64,10 +67,11 @@ public class ReportService {
     /**
      * Count pending reports (moderator only).
      * FR-S-4: Used to display open reports badge in navigation.
+     * Served from memory (ModerationCounters), no query.
      */
     public int countPendingReports() {
         requireModerator();
-        return repository.countByStatus(ReportStatus.PENDING);
+        return counters.current().pendingReports();
     }
 
     /**
@@ -148,6 +152,7 @@ public class ReportService {
         report.setStatus(ReportStatus.PENDING);
         report.setCreatedAt(OffsetDateTime.now());
         repository.save(report);
+        counters.reportStatusChanged(null, ReportStatus.PENDING);
 
         log.info("Report created: {} for {} with ID {} by user {}", 
             report.getTargetType(), report.getTargetId(), report.getId(), authenticatedUserId);
@@ -201,6 +206,7 @@ public class ReportService {
         }
 
         // 4. Update status
+        ReportStatus previousStatus = existing.getStatus();
         existing.setStatus(newStatus);
         if (newStatus != ReportStatus.PENDING) {
             existing.setResolvedAt(OffsetDateTime.now());
@@ -212,6 +218,7 @@ public class ReportService {
         }
 
         repository.save(existing);
+        counters.reportStatusChanged(previousStatus, newStatus);
 
         log.info("Report {} updated to status {} by moderator {}", 
             id, newStatus, userContext.getUserId());
@@ -232,6 +239,7 @@ public class ReportService {
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Report not found"));
 
         repository.deleteById(id);
+        counters.reportStatusChanged(report.getStatus(), null);
 
         log.info("Report {} deleted by moderator {}", id, userContext.getUserId());
     }
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.reviews.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.reviews.model.ModerationReviewDto;
 import at.campus.backend.modules.reviews.model.Review;
 import at.campus.backend.modules.reviews.model.ReviewDto;
@@ -21,6 +23,7 @@ import java.util.stream.Collectors;
  * - DELETE /api/moderation/reviews/{id} — Delete a review
  */
 @RestController
+@Workload(WorkloadClass.MODERATION)
 @RequestMapping("/api/moderation/reviews")
 public class ModerationReviewsController {
 
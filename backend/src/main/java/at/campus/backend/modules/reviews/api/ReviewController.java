@@ -1,5 +1,7 @@
 package at.campus.backend.modules.reviews.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.reviews.model.CreateReviewRequest;
 import at.campus.backend.modules.reviews.model.Review;
 import at.campus.backend.modules.reviews.model.ReviewDto;
@@ -19,6 +21,7 @@ import java.util.UUID;
  * - DELETE /api/reviews/{id} — Delete review
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api/reviews")
 public class ReviewController {
 
@@ -1,10 +1,16 @@
 package at.campus.backend.modules.reviews.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
+import at.campus.backend.common.cache.CacheTags;
+import at.campus.backend.common.cache.ResponseCache;
 import at.campus.backend.modules.reviews.model.ReviewDto;
 import at.campus.backend.modules.reviews.model.ReviewSortOption;
 import at.campus.backend.modules.reviews.model.ReviewSummary;
 import at.campus.backend.modules.reviews.service.ReviewService;
 import at.campus.backend.modules.reviews.service.UserLookupService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,15 +27,20 @@ import java.util.stream.Collectors;
  * - GET /api/public/courses/{courseId}/reviews — Get reviews for a course
  */
 @RestController
+@Workload(WorkloadClass.PUBLIC_READ)
 @RequestMapping("/api/public")
 public class ReviewPublicController {
 
     private final ReviewService service;
     private final UserLookupService userLookupService;
+    private final ResponseCache responseCache;
 
-    public ReviewPublicController(ReviewService service, UserLookupService userLookupService) {
+    public ReviewPublicController(ReviewService service,
+                                  UserLookupService userLookupService,
+                                  ResponseCache responseCache) {
         this.service = service;
         this.userLookupService = userLookupService;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -84,9 +95,15 @@ public class ReviewPublicController {
 
     /**
      * Get review summary (average rating and count) for a specific course.
+     * Body is a {@link ReviewSummary}, served from the pre-serialized response cache.
      */
     @GetMapping("/courses/{courseId}/reviews/summary")
-    public ReviewSummary getReviewSummary(@PathVariable UUID courseId) {
-        return service.getReviewSummary(courseId);
+    public ResponseEntity<byte[]> getReviewSummary(@PathVariable UUID courseId, HttpServletRequest request) {
+        return responseCache.serve(
+                request,
+                "review-summary:" + courseId,
+                List.of(CacheTags.reviews(courseId)),
+                () -> service.getReviewSummary(courseId)
+        );
     }
 }
@@ -67,6 +67,13 @@ public class JdbcReviewRepository implements ReviewRepository {
         return jdbc.query(sql, new ReviewRowMapper());
     }
 
+    @Override
+    public int countFlagged() {
+        String sql = "SELECT COUNT(*) FROM app.reviews WHERE moderation_flagged";
+        Integer count = jdbc.queryForObject(sql, Integer.class);
+        return count != null ? count : 0;
+    }
+
     @Override
     public void save(Review review) {
         String sql = """
@@ -119,9 +126,8 @@ public class JdbcReviewRepository implements ReviewRepository {
 
     @Override
     public boolean existsByUserIdAndCourseId(UUID userId, UUID courseId) {
-        String sql = "SELECT COUNT(*) FROM app.reviews WHERE user_id = ? AND course_id = ?";
-        Integer count = jdbc.queryForObject(sql, Integer.class, userId, courseId);
-        return count != null && count > 0;
+        String sql = "SELECT 1 FROM app.reviews WHERE user_id = ? AND course_id = ?";
+        return !jdbc.queryForList(sql, Integer.class, userId, courseId).isEmpty();
     }
 
     @Override
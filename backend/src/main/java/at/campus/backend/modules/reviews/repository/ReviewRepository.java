@@ -32,6 +32,11 @@ public interface ReviewRepository {
      */
     List<Review> findAll();
 
+    /**
+     * Count reviews flagged by moderation.
+     */
+    int countFlagged();
+
     /**
      * Save a new review.
      */
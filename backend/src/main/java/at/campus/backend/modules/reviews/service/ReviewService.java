@@ -1,5 +1,10 @@
 package at.campus.backend.modules.reviews.service;
 
+import at.campus.backend.common.cache.CacheTags;
+import at.campus.backend.common.cache.ResponseCache;
+import at.campus.backend.common.cache.SingleFlight;
+import at.campus.backend.common.cache.StaleWhileRevalidateCache;
+import at.campus.backend.modules.reports.service.ModerationCounters;
 import at.campus.backend.modules.reviews.model.ModerationReviewDto;
 import at.campus.backend.modules.reviews.model.Review;
 import at.campus.backend.modules.reviews.model.ReviewDto;
@@ -35,6 +40,10 @@ public class ReviewService {
     private final CourseLookupService courseLookupService;
     private final WatchService watchService;
     private final NotificationService notificationService;
+    private final ResponseCache responseCache;
+    private final SingleFlight singleFlight;
+    private final StaleWhileRevalidateCache publicReads;
+    private final ModerationCounters moderationCounters;
 
     public ReviewService(
             ReviewRepository repository,
@@ -42,7 +51,11 @@ public class ReviewService {
             UserLookupService userLookupService,
             CourseLookupService courseLookupService,
             WatchService watchService,
-            NotificationService notificationService
+            NotificationService notificationService,
+            ResponseCache responseCache,
+            SingleFlight singleFlight,
+            StaleWhileRevalidateCache publicReads,
+            ModerationCounters moderationCounters
     ) {
         this.repository = repository;
         this.userContext = userContext;
@@ -50,6 +63,10 @@ public class ReviewService {
         this.courseLookupService = courseLookupService;
         this.watchService = watchService;
         this.notificationService = notificationService;
+        this.responseCache = responseCache;
+        this.singleFlight = singleFlight;
+        this.publicReads = publicReads;
+        this.moderationCounters = moderationCounters;
     }
 
     /**
@@ -57,7 +74,8 @@ public class ReviewService {
      * Public endpoint - no authentication required.
      */
     public List<Review> getReviewsByCourse(UUID courseId) {
-        return repository.findByCourseId(courseId);
+        return singleFlight.execute("course-reviews", courseId,
+                () -> repository.findByCourseId(courseId));
     }
 
     /**
@@ -65,7 +83,8 @@ public class ReviewService {
      * Public endpoint - no authentication required.
      */
     public List<Review> getReviewsByCourse(UUID courseId, ReviewSortOption sortOption) {
-        return repository.findByCourseId(courseId, sortOption);
+        return singleFlight.execute("course-reviews", courseId + "|" + sortOption,
+                () -> repository.findByCourseId(courseId, sortOption));
     }
 
     /**
@@ -90,6 +109,11 @@ public class ReviewService {
      * Public endpoint - no authentication required.
      */
     public ReviewSummary getReviewSummary(UUID courseId) {
+        return publicReads.get("review-summary", courseId, List.of(CacheTags.reviews(courseId)),
+                () -> loadReviewSummary(courseId));
+    }
+
+    private ReviewSummary loadReviewSummary(UUID courseId) {
         Double averageRating = repository.getAverageRatingByCourseId(courseId);
         Integer reviewCount = repository.getReviewCountByCourseId(courseId);
         
@@ -157,6 +181,7 @@ public class ReviewService {
         // 6. Generate ID and save
         review.setId(UUID.randomUUID());
         repository.save(review);
+        responseCache.invalidate(CacheTags.reviews(review.getCourseId()));
 
         // 7. Notify watchers (fire-and-forget, safe failure)
         try {
@@ -230,6 +255,7 @@ public class ReviewService {
         }
 
         repository.update(existing);
+        responseCache.invalidate(CacheTags.reviews(existing.getCourseId()));
         return existing;
     }
 
@@ -262,6 +288,8 @@ public class ReviewService {
 
         // 4. Delete
         repository.deleteById(id);
+        responseCache.invalidate(CacheTags.reviews(existing.getCourseId()));
+        moderationCounters.reviewFlagChanged(existing.isModerationFlagged(), false);
     }
 
     /**
@@ -282,9 +310,11 @@ public class ReviewService {
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Review not found"));
 
         // 3. Flag the review
+        boolean wasFlagged = existing.isModerationFlagged();
         existing.setModerationFlagged(true);
         existing.setModerationReason(reason);
         repository.update(existing);
+        moderationCounters.reviewFlagChanged(wasFlagged, true);
 
         return existing;
     }
@@ -307,9 +337,11 @@ public class ReviewService {
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Review not found"));
 
         // 3. Unflag the review
+        boolean wasFlagged = existing.isModerationFlagged();
         existing.setModerationFlagged(false);
         existing.setModerationReason(null);
         repository.update(existing);
+        moderationCounters.reviewFlagChanged(wasFlagged, false);
 
         return existing;
     }
@@ -332,6 +364,8 @@ public class ReviewService {
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Review not found"));
         
         repository.deleteById(id);
+        responseCache.invalidate(CacheTags.reviews(existing.getCourseId()));
+        moderationCounters.reviewFlagChanged(existing.isModerationFlagged(), false);
     }
 
     public List<ModerationReviewDto> getAllModerationReviews() {
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.studyprograms.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.studyprograms.model.StudyProgramDto;
 import at.campus.backend.modules.studyprograms.service.StudyProgramService;
 import org.springframework.web.bind.annotation.*;
@@ -7,6 +9,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.UUID;
 
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api/study-programs")
 public class StudyProgramController {
 
@@ -1,10 +1,16 @@
 package at.campus.backend.modules.studyprograms.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
+import at.campus.backend.common.cache.CacheTags;
+import at.campus.backend.common.cache.ResponseCache;
 import at.campus.backend.modules.studyprograms.model.StudyProgramDto;
 import at.campus.backend.modules.studyprograms.service.StudyProgramService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Comparator;
@@ -12,13 +18,16 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@Workload(WorkloadClass.PUBLIC_READ)
 @RequestMapping("/api/public/study-programs")
 public class StudyProgramPublicController {
 
     private final StudyProgramService service;
+    private final ResponseCache responseCache;
 
-    public StudyProgramPublicController(StudyProgramService service) {
+    public StudyProgramPublicController(StudyProgramService service, ResponseCache responseCache) {
         this.service = service;
+        this.responseCache = responseCache;
     }
 
     // ---------- READ (PUBLIC) ----------
@@ -132,8 +141,14 @@ public class StudyProgramPublicController {
         return StudyProgramDto.fromDomain(service.getProgramById(id));
     }
 
+    // Body is a StudyProgramDetailDto, served from the pre-serialized response cache
     @GetMapping("/{id}/details")
-    public at.campus.backend.modules.studyprograms.model.StudyProgramDetailDto getDetails(@PathVariable UUID id) {
-        return service.getProgramDetails(id);
+    public ResponseEntity<byte[]> getDetails(@PathVariable UUID id, HttpServletRequest request) {
+        return responseCache.serve(
+                request,
+                "study-program-details:" + id,
+                List.of(CacheTags.studyProgram(id), CacheTags.courses()),
+                () -> service.getProgramDetails(id)
+        );
     }
 }
@@ -58,6 +58,12 @@ public class JdbcStudyProgramRepository implements StudyProgramRepository {
         return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
     }
 
+    @Override
+    public boolean existsById(UUID id) {
+        String sql = "SELECT 1 FROM app.study_programs WHERE id = ?";
+        return !jdbc.queryForList(sql, Integer.class, id).isEmpty();
+    }
+
     @Override
     public Optional<StudyProgram> findByName(String name) {
         String sql = "SELECT * FROM app.study_programs WHERE name = ?";
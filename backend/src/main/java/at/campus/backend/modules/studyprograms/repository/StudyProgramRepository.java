@@ -8,6 +8,7 @@ import java.util.UUID;
 public interface StudyProgramRepository {
     List<StudyProgram> findAll();
     Optional<StudyProgram> findById(UUID id);
+    boolean existsById(UUID id);
     void create(StudyProgram program);
     void update(StudyProgram program);
     void delete(UUID id);
@@ -1,5 +1,8 @@
 package at.campus.backend.modules.studyprograms.service;
 
+import at.campus.backend.common.cache.CacheTags;
+import at.campus.backend.common.cache.ResponseCache;
+import at.campus.backend.common.cache.StaleWhileRevalidateCache;
 import at.campus.backend.modules.studyprograms.model.StudyProgram;
 import at.campus.backend.modules.studyprograms.model.StudyProgramDetailDto;
 import at.campus.backend.modules.studyprograms.model.ModuleDto;
@@ -20,18 +23,24 @@ public class StudyProgramService {
     private final StudyProgramRepository repository;
     private final StudyProgramDetailsRepository detailsRepository;
     private final StudyProgramCampusMapRegistry campusMapRegistry;
+    private final ResponseCache responseCache;
+    private final StaleWhileRevalidateCache publicReads;
 
     public StudyProgramService(StudyProgramRepository repository,
                                StudyProgramDetailsRepository detailsRepository, 
-                               StudyProgramCampusMapRegistry campusMapRegistry) {
+                               StudyProgramCampusMapRegistry campusMapRegistry,
+                               ResponseCache responseCache,
+                               StaleWhileRevalidateCache publicReads) {
         this.repository = repository;
         this.detailsRepository = detailsRepository;
         this.campusMapRegistry = campusMapRegistry;
+        this.responseCache = responseCache;
+        this.publicReads = publicReads;
     }
 
     public List<StudyProgram> getAllPrograms() {
         log.debug("Fetching all study programs");
-        return repository.findAll();
+        return publicReads.get("study-programs", "all", List.of(CacheTags.studyPrograms()), repository::findAll);
     }
 
     public StudyProgram getProgramById(UUID id) {
@@ -41,6 +50,12 @@ public class StudyProgramService {
     }
 
     public StudyProgramDetailDto getProgramDetails(UUID id) {
+        return publicReads.get("study-program-details", id,
+                List.of(CacheTags.studyProgram(id), CacheTags.courses()),
+                () -> loadProgramDetails(id));
+    }
+
+    private StudyProgramDetailDto loadProgramDetails(UUID id) {
         StudyProgram sp = getProgramById(id);
         StudyProgramDetailDto dto = new StudyProgramDetailDto();
         dto.id = sp.getId();
@@ -64,15 +79,18 @@ public class StudyProgramService {
             program.setId(UUID.randomUUID());
         }
         repository.create(program);
+        responseCache.invalidate(CacheTags.studyPrograms());
     }
 
     public void updateProgram(StudyProgram program) {
         log.info("Updating study program: {}", program.getId());
         repository.update(program);
+        responseCache.invalidate(CacheTags.studyProgram(program.getId()), CacheTags.studyPrograms());
     }
 
     public void deleteProgram(UUID id) {
         log.info("Deleting study program: {}", id);
         repository.delete(id);
+        responseCache.invalidate(CacheTags.studyProgram(id), CacheTags.studyPrograms());
     }
 }
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.threads.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.threads.model.CreateThreadRequest;
 import at.campus.backend.modules.threads.model.ThreadDto;
 import at.campus.backend.modules.threads.model.UpdateThreadRequest;
@@ -16,6 +18,7 @@ import java.util.UUID;
  * - DELETE /api/threads/{threadId} — Delete thread (moderator only)
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api")
 public class ThreadController {
 
@@ -0,0 +1,59 @@
+package at.campus.backend.modules.threads.api;
+
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
+import at.campus.backend.common.live.LiveEventHub;
+import at.campus.backend.common.live.LiveTopics;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * Live update streams for discussions (Server-Sent Events, no authentication required).
+ *
+ * Endpoints:
+ * - GET /api/public/courses/{courseId}/threads/events — thread-created / -updated / -deleted
+ * - GET /api/public/threads/{threadId}/events — thread-*, post-*, comment-* of that thread
+ *
+ * Reconnecting clients send Last-Event-ID and get what they missed,
+ * or a "reset" event if they have to reload (see LiveEventHub).
+ */
+@RestController
+@Workload(WorkloadClass.PUBLIC_READ)
+@RequestMapping("/api/public")
+public class ThreadEventsController {
+
+    private final LiveEventHub hub;
+
+    public ThreadEventsController(LiveEventHub hub) {
+        this.hub = hub;
+    }
+
+    @GetMapping(value = "/courses/{courseId}/threads/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter courseThreadEvents(
+            @PathVariable UUID courseId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletResponse response
+    ) {
+        return stream(LiveTopics.courseThreads(courseId), lastEventId, response);
+    }
+
+    @GetMapping(value = "/threads/{threadId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter threadEvents(
+            @PathVariable UUID threadId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletResponse response
+    ) {
+        return stream(LiveTopics.thread(threadId), lastEventId, response);
+    }
+
+    private SseEmitter stream(String topic, String lastEventId, HttpServletResponse response) {
+        response.setHeader("Cache-Control", "no-cache");
+        // NGINX must pass events through instead of buffering the response
+        response.setHeader("X-Accel-Buffering", "no");
+        return hub.subscribe(topic, lastEventId);
+    }
+}
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.threads.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.threads.model.ThreadDto;
 import at.campus.backend.modules.threads.service.ThreadService;
 import at.campus.backend.modules.posts.repository.PostRepository;
@@ -18,6 +20,7 @@ import java.util.stream.Collectors;
  * - GET /api/public/threads/{threadId} — Get thread details
  */
 @RestController
+@Workload(WorkloadClass.PUBLIC_READ)
 @RequestMapping("/api/public")
 public class ThreadPublicController {
 
@@ -1,6 +1,9 @@
 package at.campus.backend.modules.threads.service;
 
+import at.campus.backend.common.live.LiveEventHub;
+import at.campus.backend.common.live.LiveTopics;
 import at.campus.backend.modules.threads.model.Thread;
+import at.campus.backend.modules.threads.model.ThreadDto;
 import at.campus.backend.modules.threads.model.UpdateThreadRequest;
 import at.campus.backend.modules.threads.repository.ThreadRepository;
 import at.campus.backend.modules.watch.model.WatchTargetType;
@@ -10,6 +13,7 @@ import at.campus.backend.security.UserContext;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,17 +26,20 @@ public class ThreadService {
     private final UserContext userContext;
     private final WatchService watchService;
     private final NotificationService notificationService;
+    private final LiveEventHub liveEvents;
 
     public ThreadService(
             ThreadRepository threadRepository, 
             UserContext userContext,
             WatchService watchService,
-            NotificationService notificationService
+            NotificationService notificationService,
+            LiveEventHub liveEvents
     ) {
         this.threadRepository = threadRepository;
         this.userContext = userContext;
         this.watchService = watchService;
         this.notificationService = notificationService;
+        this.liveEvents = liveEvents;
     }
 
     /**
@@ -74,6 +81,8 @@ public class ThreadService {
         
         // Fetch the saved thread to get the timestamp
         Thread savedThread = threadRepository.findById(thread.getId()).orElse(thread);
+
+        liveEvents.publish(LiveTopics.courseThreads(courseId), "thread-created", ThreadDto.fromDomain(savedThread, 0));
         
         // Notify watchers of the course (fire-and-forget, safe failure)
         try {
@@ -116,7 +125,14 @@ public class ThreadService {
         threadRepository.update(thread);
         
         // Fetch the updated thread
-        return threadRepository.findById(threadId).orElse(thread);
+        Thread updatedThread = threadRepository.findById(threadId).orElse(thread);
+
+        // postCount unknown here: clients keep the one they have
+        ThreadDto dto = ThreadDto.fromDomain(updatedThread, null);
+        liveEvents.publish(LiveTopics.courseThreads(updatedThread.getCourseId()), "thread-updated", dto);
+        liveEvents.publish(LiveTopics.thread(threadId), "thread-updated", dto);
+
+        return updatedThread;
     }
 
     /**
@@ -139,5 +155,9 @@ public class ThreadService {
         }
 
         threadRepository.deleteById(threadId);
+
+        Map<String, UUID> deleted = Map.of("id", threadId, "courseId", thread.getCourseId());
+        liveEvents.publish(LiveTopics.courseThreads(thread.getCourseId()), "thread-deleted", deleted);
+        liveEvents.publish(LiveTopics.thread(threadId), "thread-deleted", deleted);
     }
 }
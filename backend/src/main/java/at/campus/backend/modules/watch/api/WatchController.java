@@ -1,5 +1,7 @@
 package at.campus.backend.modules.watch.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.watch.model.WatchDto;
 import at.campus.backend.modules.watch.model.WatchRequest;
 import at.campus.backend.modules.watch.model.WatchTargetType;
@@ -16,6 +18,7 @@ import java.util.UUID;
  * Requires authentication.
  */
 @RestController
+@Workload(WorkloadClass.WRITE)
 @RequestMapping("/api/watch")
 public class WatchController {
 
@@ -1,5 +1,7 @@
 package at.campus.backend.modules.watch.api;
 
+import at.campus.backend.common.bulkhead.Workload;
+import at.campus.backend.common.bulkhead.WorkloadClass;
 import at.campus.backend.modules.watch.model.WatchDto;
 import at.campus.backend.modules.watch.model.WatchTargetType;
 import at.campus.backend.modules.watch.service.WatchService;
@@ -13,6 +15,7 @@ import java.util.UUID;
  * Available to all users.
  */
 @RestController
+@Workload(WorkloadClass.PUBLIC_READ)
 @RequestMapping("/api/public/watch")
 public class WatchPublicController {
 
@@ -71,15 +71,13 @@ public class JdbcWatchRepository implements WatchRepository {
     @Override
     public boolean isWatching(UUID userId, WatchTargetType targetType, UUID targetId) {
         String sql = """
-            SELECT COUNT(*)
+            SELECT 1
             FROM app.watch_subscriptions
             WHERE user_id = ? AND target_type = ?::VARCHAR AND target_id = ?
         """;
         
-        Integer count = jdbc.queryForObject(sql, Integer.class,
-            userId, targetType.name(), targetId);
-        
-        return count != null && count > 0;
+        return !jdbc.queryForList(sql, Integer.class,
+            userId, targetType.name(), targetId).isEmpty();
     }
 
     @Override
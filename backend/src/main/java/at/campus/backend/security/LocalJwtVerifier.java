@@ -0,0 +1,245 @@
+package at.campus.backend.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * LocalJwtVerifier
+ * ==================================================
+ *
+ * Verifies RS256 access tokens inside the backend, with the auth
+ * service's public keys (JWKS), so protected requests no longer
+ * need the NGINX auth_request hop to /auth/validate.
+ *
+ * CHECKS
+ * --------------------------------------------------
+ * - alg = RS256 and a "kid" header naming a known key
+ * - SHA256withRSA signature over header.payload
+ * - "exp" in the future
+ * - "uid" (user id) present
+ * Revocation (tokenVersion, ban) is checked separately, see
+ * {@link UserRevocationList}.
+ *
+ * KEYS
+ * --------------------------------------------------
+ * - Fetched from app.auth.jwks-uri and kept in memory
+ * - Reloaded after refresh-interval, and at once for an unknown
+ *   kid (key rotation), at most once per min-refresh-interval so
+ *   forged kids cannot hammer the auth service
+ * - A failed reload keeps the previous keys
+ *
+ * METERS (Prometheus names)
+ * --------------------------------------------------
+ * - auth_local_verifications_total{result=valid|invalid}
+ * - auth_jwks_refreshes_total{result=ok|failed}
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.local-verification.enabled", havingValue = "true")
+public class LocalJwtVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalJwtVerifier.class);
+
+    /** Claims the backend needs from a verified token. */
+    public record VerifiedToken(String userId, int tokenVersion) {
+    }
+
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+    private final URI jwksUri;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private final Counter valid;
+    private final Counter invalid;
+    private final Counter refreshed;
+    private final Counter refreshFailed;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile Instant lastRefreshAttempt = Instant.EPOCH;
+    private volatile Instant lastRefresh = Instant.EPOCH;
+
+    public LocalJwtVerifier(
+            @Value("${app.auth.jwks-uri:http://auth:8080/auth/.well-known/jwks.json}") URI jwksUri,
+            @Value("${app.auth.jwks-refresh-interval:PT10M}") Duration refreshInterval,
+            @Value("${app.auth.jwks-min-refresh-interval:PT30S}") Duration minRefreshInterval,
+            ObjectMapper objectMapper,
+            MeterRegistry registry
+    ) {
+        this(jwksUri, refreshInterval, minRefreshInterval, objectMapper, registry, Clock.systemUTC());
+    }
+
+    LocalJwtVerifier(
+            URI jwksUri,
+            Duration refreshInterval,
+            Duration minRefreshInterval,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            Clock clock
+    ) {
+        this.jwksUri = jwksUri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+
+        this.valid = counter(registry, "valid");
+        this.invalid = counter(registry, "invalid");
+        this.refreshed = Counter.builder("auth.jwks.refreshes").tag("result", "ok").register(registry);
+        this.refreshFailed = Counter.builder("auth.jwks.refreshes").tag("result", "failed").register(registry);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("auth.local.verifications")
+                .description("Bearer tokens verified in the backend (JWKS)")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    // ==================================================
+    // VERIFY
+    // ==================================================
+
+    /** Empty for anything but a valid, unexpired RS256 token with a user id. */
+    public Optional<VerifiedToken> verify(String token) {
+        Optional<VerifiedToken> result = parse(token);
+        (result.isPresent() ? valid : invalid).increment();
+        return result;
+    }
+
+    private Optional<VerifiedToken> parse(String token) {
+        try {
+            String[] parts = token.split("\\.", -1);
+            if (parts.length != 3) {
+                return Optional.empty();
+            }
+
+            JsonNode header = objectMapper.readTree(BASE64_URL.decode(parts[0]));
+            String kid = header.path("kid").asText(null);
+            if (!"RS256".equals(header.path("alg").asText()) || kid == null) {
+                return Optional.empty();
+            }
+
+            PublicKey key = key(kid);
+            if (key == null) {
+                return Optional.empty();
+            }
+
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initVerify(key);
+            signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(BASE64_URL.decode(parts[2]))) {
+                return Optional.empty();
+            }
+
+            JsonNode claims = objectMapper.readTree(BASE64_URL.decode(parts[1]));
+            JsonNode exp = claims.get("exp");
+            if (exp == null || !exp.canConvertToLong()
+                    || !clock.instant().isBefore(Instant.ofEpochSecond(exp.asLong()))) {
+                return Optional.empty();
+            }
+
+            String userId = claims.path("uid").asText(null);
+            if (userId == null) {
+                return Optional.empty();
+            }
+            UUID.fromString(userId);
+
+            return Optional.of(new VerifiedToken(userId, claims.path("ver").asInt(0)));
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // ==================================================
+    // KEYS
+    // ==================================================
+
+    private PublicKey key(String kid) {
+        Instant now = clock.instant();
+        if (now.isAfter(lastRefresh.plus(refreshInterval))) {
+            refresh(now);
+        }
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            // Possibly a new key after rotation
+            refresh(now);
+            key = keys.get(kid);
+        }
+        return key;
+    }
+
+    private synchronized void refresh(Instant now) {
+        if (now.isBefore(lastRefreshAttempt.plus(minRefreshInterval))) {
+            return;
+        }
+        lastRefreshAttempt = now;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(
+                    HttpRequest.newBuilder(jwksUri).timeout(Duration.ofSeconds(2)).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            keys = parseJwks(objectMapper.readTree(response.body()));
+            lastRefresh = now;
+            refreshed.increment();
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            refreshFailed.increment();
+            log.warn("JWKS refresh from {} failed, keeping {} known keys: {}", jwksUri, keys.size(), e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static Map<String, PublicKey> parseJwks(JsonNode jwks) throws GeneralSecurityException {
+        KeyFactory factory = KeyFactory.getInstance("RSA");
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, BASE64_URL.decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, BASE64_URL.decode(jwk.path("e").asText()));
+            keys.put(jwk.get("kid").asText(), factory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return Map.copyOf(keys);
+    }
+
+    void setKeys(Map<String, PublicKey> keys) {
+        this.keys = Map.copyOf(keys);
+        this.lastRefresh = clock.instant();
+    }
+}
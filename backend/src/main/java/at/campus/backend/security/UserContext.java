@@ -19,6 +19,7 @@ import java.util.Set;
  * - This backend does NOT parse or validate JWT tokens.
  * - Authentication is handled entirely by the gateway (Nginx).
  * - Identity is trusted and propagated via HTTP headers.
+ *   (Exception: local verification mode, see UserContextFilter.)
  *
  * IDENTITY SOURCE
  * --------------------------------------------------
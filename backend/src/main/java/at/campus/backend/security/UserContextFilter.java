@@ -1,13 +1,23 @@
 package at.campus.backend.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -23,6 +33,18 @@ import java.util.Set;
  * - Backend TRUSTS the gateway completely.
  * - Backend NEVER parses or validates JWT tokens.
  *
+ * LOCAL VERIFICATION MODE
+ * --------------------------------------------------
+ * With app.auth.local-verification.enabled=true the gateway
+ * skips auth_request for /api/** and this filter authenticates
+ * instead (no auth service round trip per request):
+ * - X-User-* headers are ignored
+ * - /api/** except /api/public/** needs a Bearer token that
+ *   {@link LocalJwtVerifier} accepts and whose tokenVersion
+ *   {@link UserRevocationList} still accepts, else 401
+ * - The role comes from the revocation list (current, not the
+ *   one at login), as with /auth/validate
+ *
  * EXPECTED HEADERS
  * --------------------------------------------------
  *   X-User-Id     -> unique user identifier
@@ -34,23 +56,48 @@ import java.util.Set;
  * - Executed BEFORE controllers and services
  * - Populates request-scoped UserContext
  * - Does NOT perform authorization
+ *
+ * TRACING
+ * --------------------------------------------------
+ * - The HTTP server span already continues the gateway's
+ *   traceparent; this filter tags it with user id and role
  */
 @Component
 public class UserContextFilter extends OncePerRequestFilter {
 
     private static final String USER_ID_HEADER = "X-User-Id";
     private static final String USER_ROLES_HEADER = "X-User-Roles";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String API_PREFIX = "/api/";
+    private static final String PUBLIC_PREFIX = "/api/public/";
 
     private final UserContext userContext;
+    private final ObservationRegistry observationRegistry;
+    private final LocalJwtVerifier jwtVerifier;
+    private final UserRevocationList revocationList;
+    private final ObjectMapper objectMapper;
 
     /**
      * UserContext is injected by Spring.
      *
      * Because it is @RequestScope, this instance
      * is unique per HTTP request.
+     *
+     * Verifier and revocation list only exist in local
+     * verification mode.
      */
-    public UserContextFilter(UserContext userContext) {
+    public UserContextFilter(
+            UserContext userContext,
+            ObservationRegistry observationRegistry,
+            ObjectProvider<LocalJwtVerifier> jwtVerifier,
+            ObjectProvider<UserRevocationList> revocationList,
+            ObjectMapper objectMapper
+    ) {
         this.userContext = userContext;
+        this.observationRegistry = observationRegistry;
+        this.jwtVerifier = jwtVerifier.getIfAvailable();
+        this.revocationList = revocationList.getIfAvailable();
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -61,10 +108,23 @@ public class UserContextFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         // --------------------------------------------------
-        // Extract identity headers injected by the gateway
+        // Extract identity headers injected by the gateway,
+        // or verify the token here in local verification mode
         // --------------------------------------------------
-        String userId = request.getHeader(USER_ID_HEADER);
-        String roleHeader = request.getHeader(USER_ROLES_HEADER);
+        String userId;
+        String roleHeader;
+        if (jwtVerifier != null && revocationList != null) {
+            Identity identity = verifyLocally(request).orElse(null);
+            if (identity == null && requiresAuthentication(request)) {
+                unauthorized(response);
+                return;
+            }
+            userId = identity != null ? identity.userId() : null;
+            roleHeader = identity != null ? identity.role() : null;
+        } else {
+            userId = request.getHeader(USER_ID_HEADER);
+            roleHeader = request.getHeader(USER_ROLES_HEADER);
+        }
 
         // --------------------------------------------------
         // Populate UserContext ONLY if userId is present
@@ -87,6 +147,18 @@ public class UserContextFilter extends OncePerRequestFilter {
                     userContext.setRoles(Set.of(role));
                 }
             }
+
+            // --------------------------------------------------
+            // Tag the current request span (high cardinality:
+            // span attribute only, never a metric tag)
+            // --------------------------------------------------
+            Observation observation = observationRegistry.getCurrentObservation();
+            if (observation != null) {
+                observation.highCardinalityKeyValue("user.id", userId);
+                if (roleHeader != null && !roleHeader.isBlank()) {
+                    observation.highCardinalityKeyValue("user.role", roleHeader.trim());
+                }
+            }
         }
 
         // --------------------------------------------------
@@ -97,4 +169,44 @@ public class UserContextFilter extends OncePerRequestFilter {
         // destroyed automatically after request completion.
         filterChain.doFilter(request, response);
     }
+
+    // ==================================================
+    // LOCAL VERIFICATION
+    // ==================================================
+
+    private record Identity(String userId, String role) {
+    }
+
+    /** Identity of a valid, unrevoked Bearer token. */
+    private Optional<Identity> verifyLocally(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)
+                || request.getRequestURI().startsWith(PUBLIC_PREFIX)) {
+            return Optional.empty();
+        }
+        return jwtVerifier.verify(authorization.substring(BEARER_PREFIX.length()).trim())
+                .flatMap(token -> revocationList.activeRole(token.userId(), token.tokenVersion())
+                        .map(role -> new Identity(token.userId(), role)));
+    }
+
+    /** What the gateway's auth_request protected: /api/** except public reads. */
+    private static boolean requiresAuthentication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith(API_PREFIX)
+                && !uri.startsWith(PUBLIC_PREFIX)
+                && !"OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    /** Same body as GlobalExceptionHandler: filters run outside @ControllerAdvice. */
+    private void unauthorized(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.UNAUTHORIZED;
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "timestamp", Instant.now().toString(),
+                "status", status.value(),
+                "error", status.getReasonPhrase(),
+                "message", "Invalid or missing token"
+        ));
+    }
 }
@@ -0,0 +1,139 @@
+package at.campus.backend.security;
+
+import at.campus.backend.common.cache.CacheInvalidationHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * UserRevocationList
+ * ==================================================
+ *
+ * Server-side revocation for locally verified tokens
+ * ({@link LocalJwtVerifier}): the same checks auth's
+ * JwtAuthenticationFilter does against its cached user.
+ *
+ * A token is accepted only if its user
+ * - still exists, is enabled and not locked
+ * - has token_version = the token's "ver" claim
+ *   (logout-all, password change and bans bump it)
+ * The current role comes from here too, not from the token.
+ *
+ * REPLICATION
+ * --------------------------------------------------
+ * - One small entry per active user, read from public.users
+ *   (owned by auth) on first use
+ * - Auth publishes "user:<id>" on the invalidation bus after every
+ *   user update; the entry is dropped on every backend node, so a
+ *   revocation applies on the next request
+ * - ttl bounds staleness if the bus is down or disabled
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.local-verification.enabled", havingValue = "true")
+public class UserRevocationList implements CacheInvalidationHandler {
+
+    private static final String USER_PREFIX = "user:";
+
+    private record Entry(int tokenVersion, boolean active, String role, long loadedAt) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    // Access order: eldest = least recently used
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    // Bumped by every invalidation: a load that raced one is not stored
+    private long generation;
+
+    public UserRevocationList(
+            JdbcTemplate jdbc,
+            @Value("${app.auth.revocation-ttl:PT1M}") Duration ttl,
+            @Value("${app.auth.revocation-max-entries:10000}") int maxEntries
+    ) {
+        this.jdbc = jdbc;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Role of the user if a token with this tokenVersion is still
+     * valid, otherwise empty (revoked, banned or deleted).
+     */
+    public Optional<String> activeRole(String userId, int tokenVersion) {
+        Entry entry = entry(userId);
+        if (entry == null || !entry.active() || entry.tokenVersion() != tokenVersion) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.role());
+    }
+
+    private Entry entry(String userId) {
+        long now = System.nanoTime();
+        long loadGeneration;
+        synchronized (entries) {
+            Entry cached = entries.get(userId);
+            if (cached != null && now - cached.loadedAt() < ttlNanos) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        // Outside the lock: a slow query must not block other users
+        List<Entry> rows = jdbc.query(
+                "SELECT token_version, enabled, account_non_locked, role FROM public.users WHERE id = ?",
+                (rs, i) -> new Entry(
+                        rs.getInt("token_version"),
+                        rs.getBoolean("enabled") && rs.getBoolean("account_non_locked"),
+                        rs.getString("role"),
+                        now),
+                UUID.fromString(userId));
+        Entry loaded = rows.isEmpty() ? null : rows.get(0);
+
+        synchronized (entries) {
+            if (loaded == null) {
+                entries.remove(userId);
+            } else if (loadGeneration == generation) {
+                entries.put(userId, loaded);
+                if (entries.size() > maxEntries) {
+                    Map.Entry<String, Entry> eldest = entries.entrySet().iterator().next();
+                    entries.remove(eldest.getKey());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    // ==================================================
+    // INVALIDATION (auth's "user:<id>" messages)
+    // ==================================================
+
+    @Override
+    public void invalidateLocally(Collection<String> keys) {
+        synchronized (entries) {
+            generation++;
+            for (String key : keys) {
+                if (key.startsWith(USER_PREFIX)) {
+                    entries.remove(key.substring(USER_PREFIX.length()));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void flushLocally() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- =====================================================
+-- V12__import_source_hashes.sql
+-- =====================================================
+-- CREATE TABLE only (plus indexes/comments). No ALTER TABLE.
+-- =====================================================
+
+SET search_path TO app;
+
+-- One row per scraped study program (keyed by "<source_url>:<mode>").
+-- The importer compares the stored hash with the hash of the incoming
+-- JSON and only re-merges programs whose source actually changed.
+CREATE TABLE import_source_hashes (
+    program_key     VARCHAR(600) PRIMARY KEY,
+    source_hash     CHAR(64) NOT NULL,
+    imported_at     TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,14 @@
+-- =====================================================
+-- V13__plan_audit_indexes.sql
+-- =====================================================
+-- CREATE INDEX only. Indexes reported missing by the
+-- load-test plan audit (loadtest: PlanAuditMain).
+-- =====================================================
+
+SET search_path TO app;
+
+-- JdbcReviewRepository.findAll (moderation review list):
+-- ORDER BY created_at DESC over the whole table sorted on
+-- every call and spilled past work_mem on large datasets.
+CREATE INDEX idx_reviews_created_at
+    ON reviews (created_at DESC);
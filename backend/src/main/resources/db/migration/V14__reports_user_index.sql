@@ -0,0 +1,16 @@
+-- =====================================================
+-- V14__reports_user_index.sql
+-- =====================================================
+-- CREATE INDEX only. User-first index on reports
+-- (load-test plan audit, loadtest: PlanAuditMain).
+-- =====================================================
+
+SET search_path TO app;
+
+-- JdbcReportRepository.existsByUserIdAndTargetTypeAndTargetId
+-- (duplicate check on every POST /api/reports) matches all three
+-- columns exactly; without this index it reads every report of the
+-- target through idx_reports_target and filters on user_id.
+-- JdbcReportRepository.findByUserId uses the user_id prefix.
+CREATE INDEX idx_reports_user_target
+    ON reports (user_id, target_type, target_id);
@@ -0,0 +1,97 @@
+package at.campus.backend.common.bulkhead;
+
+import at.campus.backend.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Workload classes are isolated: a full class rejects, the others keep running.
+ */
+class BulkheadAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final BulkheadAspect aspect = new BulkheadAspect(new MockEnvironment()
+            .withProperty("app.bulkheads.moderation.max-concurrent", "1")
+            .withProperty("app.bulkheads.moderation.max-wait", "PT0.05S"),
+            registry);
+
+    @Workload(WorkloadClass.MODERATION)
+    static class Moderation {
+        String run(Supplier<String> body) {
+            return body.get();
+        }
+    }
+
+    static class Public {
+        @Workload(WorkloadClass.PUBLIC_READ)
+        String run(Supplier<String> body) {
+            return body.get();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    @Test
+    void fullClassRejectsWithoutBlockingOtherClasses() throws Exception {
+        Moderation moderation = proxy(new Moderation());
+        Public publicReads = proxy(new Public());
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<String> export = CompletableFuture.supplyAsync(() -> moderation.run(() -> {
+            running.countDown();
+            await(finish);
+            return "export";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        ServiceUnavailableException rejected =
+                assertThrows(ServiceUnavailableException.class, () -> moderation.run(() -> "second"));
+        assertTrue(rejected.getMessage().contains("moderation"));
+        assertEquals("read", publicReads.run(() -> "read"));
+
+        finish.countDown();
+        assertEquals("export", export.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, registry.get("bulkhead.rejected").tag("workload", "moderation").counter().count());
+        assertEquals(0, aspect.bulkhead(WorkloadClass.MODERATION).active());
+    }
+
+    @Test
+    void nestedCallsStayInTheOutermostBulkhead() {
+        Moderation moderation = proxy(new Moderation());
+        Public publicReads = proxy(new Public());
+
+        String result = moderation.run(() -> publicReads.run(() -> {
+            assertEquals(1, aspect.bulkhead(WorkloadClass.MODERATION).active());
+            assertEquals(0, aspect.bulkhead(WorkloadClass.PUBLIC_READ).active());
+            return "nested";
+        }));
+
+        assertEquals("nested", result);
+        assertEquals(0, aspect.bulkhead(WorkloadClass.MODERATION).active());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
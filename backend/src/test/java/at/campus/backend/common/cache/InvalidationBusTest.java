@@ -0,0 +1,82 @@
+package at.campus.backend.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Incoming messages: typed keys reach the local caches, live events the
+ * event handlers; own messages are ignored.
+ */
+class InvalidationBusTest {
+
+    private final List<String> invalidated = new ArrayList<>();
+    private int flushes;
+
+    private final CacheInvalidationHandler handler = new CacheInvalidationHandler() {
+        @Override
+        public void invalidateLocally(Collection<String> keys) {
+            invalidated.addAll(keys);
+        }
+
+        @Override
+        public void flushLocally() {
+            flushes++;
+        }
+    };
+
+    private final List<String> events = new ArrayList<>();
+
+    private final RemoteEventHandler eventHandler = new RemoteEventHandler() {
+        @Override
+        public void onRemoteEvent(String payload) {
+            events.add(payload);
+        }
+
+        @Override
+        public void eventsMissed() {
+        }
+    };
+
+    private final InvalidationBus bus = new InvalidationBus(
+            "jdbc:postgresql://localhost/campus", "campus", "", Duration.ofMillis(100), Duration.ofSeconds(2),
+            List.of(handler), List.of(eventHandler), new SimpleMeterRegistry());
+
+    @Test
+    void passesKeysFromOtherNodesToHandlers() {
+        bus.receive("a1b2c3d4 course:42 courses");
+
+        assertEquals(List.of("course:42", "courses"), invalidated);
+        assertEquals(0, flushes);
+    }
+
+    @Test
+    void ignoresOwnMessages() {
+        bus.receive(bus.origin() + " course:42");
+
+        assertTrue(invalidated.isEmpty());
+    }
+
+    @Test
+    void flushKeyDropsEverything() {
+        bus.receive("a1b2c3d4 " + InvalidationBus.FLUSH);
+
+        assertEquals(1, flushes);
+        assertTrue(invalidated.isEmpty());
+    }
+
+    @Test
+    void passesLiveEventsFromOtherNodesOnly() {
+        bus.receiveEvent("a1b2c3d4 n1-5 thread:7 post-created {\"id\": 1}");
+        bus.receiveEvent(bus.origin() + " n2-1 thread:7 post-created {}");
+
+        assertEquals(List.of("n1-5 thread:7 post-created {\"id\": 1}"), events);
+        assertTrue(invalidated.isEmpty());
+    }
+}
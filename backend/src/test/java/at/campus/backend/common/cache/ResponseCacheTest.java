@@ -0,0 +1,279 @@
+package at.campus.backend.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Byte-bounded LRU, gzip selection and tag-version invalidation
+ * (including the bump repeated after commit, and reads that must
+ * not create versions).
+ */
+class ResponseCacheTest {
+
+    // Per-entry bookkeeping, as counted by ResponseCache
+    private static final int OVERHEAD = 128;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // ==================================================
+    // SIZE
+    // ==================================================
+
+    @Test
+    void evictsLeastRecentlyUsedOnceOverMaxBytes() {
+        // Five entries fit, the sixth evicts one
+        long entrySize = OVERHEAD + 2 * "r:0".length() + (600 + 2);
+        ResponseCache cache = cache(5 * entrySize + entrySize / 2, false);
+
+        for (int i = 0; i < 5; i++) {
+            serve(cache, "r:" + i, List.of(), 600);
+        }
+        assertEquals(5 * entrySize, bytes());
+
+        serve(cache, "r:0", List.of(), 600);   // r:0 is now the most recently used
+        serve(cache, "r:5", List.of(), 600);
+
+        assertEquals(5, entries());
+        assertEquals(5 * entrySize, bytes());
+        assertEquals(1, registry.get("response.cache.evictions").counter().count());
+
+        int before = loads.get();
+        serve(cache, "r:0", List.of(), 600);
+        assertEquals(before, loads.get(), "recently used entry must survive");
+        serve(cache, "r:1", List.of(), 600);
+        assertEquals(before + 1, loads.get(), "least recently used entry must be evicted");
+    }
+
+    @Test
+    void doesNotCacheBodiesOverAQuarterOfMaxBytes() {
+        ResponseCache cache = cache(4000, false);
+
+        serve(cache, "big", List.of(), 1000);
+        serve(cache, "big", List.of(), 1000);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, entries());
+        assertEquals(0, bytes());
+    }
+
+    @Test
+    void invalidationReleasesBytes() {
+        ResponseCache cache = cache(1 << 20, true);
+
+        serve(cache, "course-detail:1", List.of("course:1"), 2000);
+        serve(cache, "courses", List.of("courses"), 100);
+        assertTrue(bytes() > 0);
+
+        cache.invalidate("course:1", "courses");
+
+        assertEquals(0, entries());
+        assertEquals(0, bytes());
+    }
+
+    // ==================================================
+    // GZIP
+    // ==================================================
+
+    @Test
+    void servesGzipOnlyWhenAcceptedAndLargeEnough() throws Exception {
+        ResponseCache cache = cache(1 << 20, true);
+
+        ResponseEntity<byte[]> gzipped = serve(cache, "large", List.of(), 2000, "gzip, deflate, br");
+        assertEquals("gzip", gzipped.getHeaders().getFirst("Content-Encoding"));
+        assertEquals("Accept-Encoding", gzipped.getHeaders().getFirst("Vary"));
+        byte[] plain = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody())).readAllBytes();
+        assertEquals(body(2000), new String(plain, StandardCharsets.UTF_8));
+
+        ResponseEntity<byte[]> notAccepted = serve(cache, "large", List.of(), 2000, null);
+        assertNull(notAccepted.getHeaders().getFirst("Content-Encoding"));
+        assertEquals(body(2000), new String(notAccepted.getBody(), StandardCharsets.UTF_8));
+
+        // Below gzip-min-bytes (1024): never compressed
+        ResponseEntity<byte[]> small = serve(cache, "small", List.of(), 500, "gzip");
+        assertNull(small.getHeaders().getFirst("Content-Encoding"));
+        assertEquals(body(500), new String(small.getBody(), StandardCharsets.UTF_8));
+
+        assertEquals(2, loads.get());
+    }
+
+    // ==================================================
+    // INVALIDATION
+    // ==================================================
+
+    @Test
+    void versionBumpMakesOldKeysUnreachable() {
+        ResponseCache cache = cache(1 << 20, false);
+        List<String> tags = List.of("course:1", "study-programs");
+
+        serve(cache, "course-detail:1", tags, 100);
+        serve(cache, "course-detail:1", tags, 100);
+        assertEquals(1, loads.get());
+        String versions = cache.tagVersions(tags);
+
+        cache.invalidate("study-programs");
+
+        assertNotEquals(versions, cache.tagVersions(tags));
+        serve(cache, "course-detail:1", tags, 100);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void bumpIsRepeatedAfterCommit() {
+        ResponseCache cache = cache(1 << 20, false);
+        List<String> tags = List.of("course:1");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate("course:1");
+        String afterBump = cache.tagVersions(tags);
+
+        // A read between bump and commit still sees the old row
+        serve(cache, "course-detail:1", tags, 100);
+        serve(cache, "course-detail:1", tags, 100);
+        assertEquals(1, loads.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertNotEquals(afterBump, cache.tagVersions(tags));
+        serve(cache, "course-detail:1", tags, 100);
+        assertEquals(2, loads.get(), "entry loaded before commit must not be served");
+    }
+
+    @Test
+    void invalidatingATagKeepsTagsWithTheSamePrefix() {
+        ResponseCache cache = cache(1 << 20, false);
+
+        serve(cache, "course-detail:1", List.of("course:1"), 100);
+        serve(cache, "course-detail:10", List.of("course:10"), 100);
+
+        cache.invalidate("course:1");
+
+        assertEquals(1, entries());
+        serve(cache, "course-detail:10", List.of("course:10"), 100);
+        assertEquals(2, loads.get());
+        serve(cache, "course-detail:1", List.of("course:1"), 100);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void invalidationFromAnotherNodeBumpsTags() {
+        ResponseCache cache = cache(1 << 20, false);
+
+        serve(cache, "course-detail:1", List.of("course:1"), 100);
+        cache.invalidateLocally(List.of("course:1"));
+        serve(cache, "course-detail:1", List.of("course:1"), 100);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void readsDoNotCreateTagVersions() {
+        ResponseCache cache = cache(1 << 20, false);
+
+        for (int i = 0; i < 50; i++) {
+            serve(cache, "course-detail:" + i, List.of("course:" + i), 10);
+            cache.tagVersions(List.of("course:unknown-" + i));
+        }
+        assertEquals(0, tags());
+
+        cache.invalidate("course:1");
+        assertEquals(1, tags());
+    }
+
+    @Test
+    void flushCoversTagsThatWereNeverInvalidated() {
+        ResponseCache cache = cache(1 << 20, false);
+        List<String> tags = List.of("course:1");
+
+        serve(cache, "course-detail:1", tags, 100);
+        String versions = cache.tagVersions(tags);
+
+        cache.flushLocally();
+
+        assertNotEquals(versions, cache.tagVersions(tags));
+        serve(cache, "course-detail:1", tags, 100);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void loadRacingAFlushIsNotStored() {
+        ResponseCache cache = cache(1 << 20, false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/course-detail/1");
+
+        cache.serve(request, "course-detail:1", List.of("course:1"), () -> {
+            loads.incrementAndGet();
+            cache.flushLocally();
+            return "before flush";
+        });
+        serve(cache, "course-detail:1", List.of("course:1"), 100);
+
+        assertEquals(2, loads.get());
+    }
+
+    // ==================================================
+    // HELPERS
+    // ==================================================
+
+    private ResponseCache cache(long maxBytes, boolean gzip) {
+        return new ResponseCache(
+                new ObjectMapper(),
+                new StaticListableBeanFactory().getBeanProvider(InvalidationBus.class),
+                registry, true, maxBytes, Duration.ofMinutes(10), gzip, 1024);
+    }
+
+    private ResponseEntity<byte[]> serve(ResponseCache cache, String route, List<String> tags, int length) {
+        return serve(cache, route, tags, length, null);
+    }
+
+    private ResponseEntity<byte[]> serve(ResponseCache cache, String route, List<String> tags, int length,
+                                         String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/" + route);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        return cache.serve(request, route, tags, () -> {
+            loads.incrementAndGet();
+            return "x".repeat(length);
+        });
+    }
+
+    /** JSON body of a string of {@code length} characters (quotes included). */
+    private static String body(int length) {
+        return "\"" + "x".repeat(length) + "\"";
+    }
+
+    private long bytes() {
+        return (long) registry.get("response.cache.bytes").gauge().value();
+    }
+
+    private long entries() {
+        return (long) registry.get("response.cache.entries").gauge().value();
+    }
+
+    private long tags() {
+        return (long) registry.get("response.cache.tags").gauge().value();
+    }
+}
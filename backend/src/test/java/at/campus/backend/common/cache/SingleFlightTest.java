@@ -0,0 +1,133 @@
+package at.campus.backend.common.cache;
+
+import at.campus.backend.security.UserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrent identical reads share one load; different users never share.
+ */
+class SingleFlightTest {
+
+    private static final ThreadLocal<String> USER = new ThreadLocal<>();
+
+    // Stands in for the request-scoped proxy: one user per thread
+    private final UserContext userContext = new UserContext() {
+        @Override
+        public String getUserId() {
+            return USER.get();
+        }
+    };
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(userContext, registry, true);
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    private Object slowLoad() {
+        loads.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Object();
+    }
+
+    private CompletableFuture<Object> call(String user) {
+        return CompletableFuture.supplyAsync(() -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            USER.set(user);
+            try {
+                return singleFlight.execute("course-detail", "c1", this::slowLoad);
+            } finally {
+                USER.remove();
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+    }
+
+    private double calls(String role) {
+        return registry.get("singleflight.calls").tag("role", role).counter().count();
+    }
+
+    private void awaitCalls(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.find("singleflight.calls").counters().stream().mapToDouble(c -> c.count()).sum() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void concurrentAnonymousReadsShareOneLoad() throws Exception {
+        List<CompletableFuture<Object>> callers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            callers.add(call(null));
+        }
+        awaitCalls(4);
+        release.countDown();
+
+        Object first = callers.get(0).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<Object> caller : callers) {
+            assertSame(first, caller.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, calls("leader"));
+        assertEquals(3.0, calls("follower"));
+        assertEquals(0.0, registry.get("singleflight.inflight").gauge().value());
+    }
+
+    @Test
+    void differentUsersNeverShareAResult() throws Exception {
+        CompletableFuture<Object> alice = call("alice");
+        CompletableFuture<Object> bob = call("bob");
+        awaitCalls(2);
+        release.countDown();
+
+        assertNotSame(alice.get(5, TimeUnit.SECONDS), bob.get(5, TimeUnit.SECONDS));
+        assertEquals(2, loads.get());
+        assertEquals(0.0, calls("follower"));
+    }
+
+    @Test
+    void leaderFailureReachesFollowersAndIsNotRemembered() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("course-detail", "c2", () -> {
+                    started.countDown();
+                    slowLoad();
+                    throw new IllegalStateException("database down");
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("course-detail", "c2", Object::new));
+        awaitCalls(2);
+        release.countDown();
+
+        Exception failure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+
+        assertNotNull(singleFlight.execute("course-detail", "c2", Object::new));
+    }
+}
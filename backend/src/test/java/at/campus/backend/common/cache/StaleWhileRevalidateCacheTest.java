@@ -0,0 +1,143 @@
+package at.campus.backend.common.cache;
+
+import at.campus.backend.common.exception.NotFoundException;
+import at.campus.backend.security.UserContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stale entries are served at once and refreshed; a slow or failing
+ * database falls back to them with a Warning; invalidated entries
+ * are never served.
+ */
+class StaleWhileRevalidateCacheTest {
+
+    private static final List<String> TAGS = List.of("course:1");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final ResponseCache responseCache = new ResponseCache(
+            new ObjectMapper(),
+            new StaticListableBeanFactory().getBeanProvider(InvalidationBus.class),
+            registry, true, 1 << 20, Duration.ofMinutes(10), false, 1024);
+
+    private final StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(
+            responseCache,
+            new SingleFlight(new UserContext(), registry, true),
+            registry,
+            new MockEnvironment()
+                    // served stale at once, refreshed in the background
+                    .withProperty("app.stale-while-revalidate.policies.swr.fresh", "PT0S")
+                    .withProperty("app.stale-while-revalidate.policies.swr.max-stale", "PT1H")
+                    // always reloaded, falls back after 50 ms
+                    .withProperty("app.stale-while-revalidate.policies.slow.fresh", "PT0S")
+                    .withProperty("app.stale-while-revalidate.policies.slow.max-stale", "PT0S")
+                    .withProperty("app.stale-while-revalidate.policies.slow.stale-if-error", "PT1H")
+                    .withProperty("app.stale-while-revalidate.policies.slow.timeout", "PT0.05S"));
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/courses/1");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        cache.shutdown();
+    }
+
+    @Test
+    void servesStaleEntryAtOnceAndRefreshesInBackground() throws Exception {
+        assertEquals("v1", cache.get("swr", 1, TAGS, () -> "v1"));
+
+        CountDownLatch refreshed = new CountDownLatch(1);
+        assertEquals("v1", cache.get("swr", 1, TAGS, () -> {
+            refreshed.countDown();
+            return "v2";
+        }));
+
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        assertEquals("v2", awaitValue("swr", "v2"));
+        assertNull(response.getHeader("Warning"));
+    }
+
+    @Test
+    void slowDatabaseFallsBackToStaleEntryWithWarning() {
+        cache.get("slow", 1, TAGS, () -> "v1");
+
+        CountDownLatch database = new CountDownLatch(1);
+        try {
+            assertEquals("v1", cache.get("slow", 1, TAGS, () -> {
+                await(database);
+                return "v2";
+            }));
+        } finally {
+            database.countDown();
+        }
+
+        assertEquals("110 - \"Response is Stale\"", response.getHeader("Warning"));
+        assertNotNull(response.getHeader("Age"));
+        assertTrue(StaleWhileRevalidateCache.servedStale(request));
+    }
+
+    @Test
+    void failingDatabaseFallsBackButOtherErrorsPropagate() {
+        cache.get("slow", 1, TAGS, () -> "v1");
+
+        assertEquals("v1", cache.get("slow", 1, TAGS, () -> {
+            throw new DataAccessResourceFailureException("connection refused");
+        }));
+        assertThrows(NotFoundException.class, () -> cache.get("slow", 1, TAGS, () -> {
+            throw new NotFoundException("gone");
+        }));
+    }
+
+    @Test
+    void invalidatedEntryIsNeverServed() {
+        cache.get("slow", 1, TAGS, () -> "v1");
+        responseCache.invalidate("course:1");
+
+        assertThrows(DataAccessResourceFailureException.class, () -> cache.get("slow", 1, TAGS, () -> {
+            throw new DataAccessResourceFailureException("connection refused");
+        }));
+        assertEquals("v2", cache.get("slow", 1, TAGS, () -> "v2"));
+        assertNull(response.getHeader("Warning"));
+    }
+
+    private Object awaitValue(String policy, Object expected) throws InterruptedException {
+        Object value = null;
+        for (int i = 0; i < 100 && !expected.equals(value); i++) {
+            Thread.sleep(20);
+            value = cache.get(policy, 1, TAGS, () -> "later");
+        }
+        return value;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
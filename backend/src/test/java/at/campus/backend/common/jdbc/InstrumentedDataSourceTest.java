@@ -0,0 +1,88 @@
+package at.campus.backend.common.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement metrics through a real JdbcTemplate on H2.
+ */
+class InstrumentedDataSourceTest {
+
+    private SimpleMeterRegistry registry;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        JdbcMetrics metrics = new JdbcMetrics(registry, Duration.ZERO, false);
+        var provider = new StaticListableBeanFactory(Map.of("jdbcMetrics", metrics)).getBeanProvider(JdbcMetrics.class);
+
+        var h2 = new DriverManagerDataSource("jdbc:h2:mem:jdbcmetrics" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(new InstrumentedDataSource(h2, provider));
+        jdbc.execute("CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(50))");
+    }
+
+    @Test
+    void recordsTimerAndRowsPerCallerAndFingerprint() {
+        jdbc.batchUpdate("INSERT INTO items (id, name) VALUES (?, ?)",
+                List.of(new Object[]{1, "a"}, new Object[]{2, "b"}, new Object[]{3, "c"}));
+        List<String> names = jdbc.queryForList("SELECT name FROM items WHERE id < ?", String.class, 3);
+
+        assertEquals(List.of("a", "b"), names);
+
+        String caller = "InstrumentedDataSourceTest.recordsTimerAndRowsPerCallerAndFingerprint";
+
+        Timer select = registry.find("db.query")
+                .tags("caller", caller, "sql", "SELECT name FROM items WHERE id < ?", "outcome", "success")
+                .timer();
+        assertNotNull(select);
+        assertEquals(1, select.count());
+
+        DistributionSummary selectRows = registry.find("db.query.rows")
+                .tags("caller", caller, "operation", "select").summary();
+        assertNotNull(selectRows);
+        assertEquals(2, selectRows.totalAmount());
+
+        DistributionSummary insertRows = registry.find("db.query.rows")
+                .tags("caller", caller, "operation", "insert").summary();
+        assertNotNull(insertRows);
+        assertEquals(3, insertRows.totalAmount());
+
+        assertTrue(registry.find("db.connection.acquire").timer().count() >= 2);
+    }
+
+    @Test
+    void recordsFailuresAsErrors() {
+        jdbc.update("INSERT INTO items (id, name) VALUES (?, ?)", 1, "a");
+        // Duplicate key: fails at execution time (not at prepare time)
+        assertThrows(Exception.class, () -> jdbc.update("INSERT INTO items (id, name) VALUES (?, ?)", 1, "b"));
+
+        // Error timers are registered eagerly per caller; only the failed insert counts
+        long errors = registry.find("db.query").tags("outcome", "error").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+        assertEquals(1, errors);
+    }
+
+    @Test
+    void fingerprintReplacesLiteralsAndCollapsesInLists() {
+        assertEquals("SELECT * FROM app.courses WHERE id IN (?) AND title = ? LIMIT ?",
+                SqlFingerprint.normalize("""
+                        SELECT *  FROM app.courses -- hot path
+                        WHERE id IN (:a, :b, :c) AND title = 'x''y' LIMIT 20"""));
+        assertEquals("SELECT content::jsonb FROM t WHERE a = ?",
+                SqlFingerprint.normalize("SELECT content::jsonb FROM t WHERE a = $1"));
+    }
+}
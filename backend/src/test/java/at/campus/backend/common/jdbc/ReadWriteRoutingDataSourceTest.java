@@ -0,0 +1,122 @@
+package at.campus.backend.common.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routing between two H2 databases, each with a table "pool"
+ * holding its own name.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lag;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+    private final ReadRoutingFilter filter = new ReadRoutingFilter(Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() {
+        long id = System.nanoTime();
+        var primary = database("jdbc:h2:mem:primary" + id + ";DB_CLOSE_DELAY=-1", "primary");
+        var read = database("jdbc:h2:mem:read" + id + ";DB_CLOSE_DELAY=-1", "read");
+
+        // Interval far in the future: H2 cannot answer the lag query
+        lag = new ReplicaLagMonitor(read, Duration.ofSeconds(2), Duration.ofHours(1), new SimpleMeterRegistry());
+        routing = new ReadWriteRoutingDataSource(primary, read, lag);
+
+        var dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        var transactions = new DataSourceTransactionManager(dataSource);
+        readOnlyTx = new TransactionTemplate(transactions);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactions);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routing.close();
+    }
+
+    @Test
+    void defaultsToPrimaryOutsideRequests() {
+        assertEquals("primary", pool());
+    }
+
+    @Test
+    void publicGetReadsFromReadPool() throws Exception {
+        assertEquals("read", inRequest(get("/api/public/courses")));
+        assertEquals("primary", inRequest(get("/api/favourites")));
+    }
+
+    @Test
+    void readOnlyTransactionsUseReadPool() {
+        assertEquals("read", readOnlyTx.execute(status -> pool()));
+        assertEquals("primary", writeTx.execute(status -> pool()));
+    }
+
+    @Test
+    void ownMutationPinsFollowingReadsToPrimary() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/reviews"), response, (req, res) -> {
+        });
+        Cookie pin = response.getCookie(ReadRoutingFilter.PIN_COOKIE);
+        assertNotNull(pin);
+        assertEquals(5, pin.getMaxAge());
+
+        MockHttpServletRequest next = get("/api/public/courses");
+        next.setCookies(pin);
+        assertEquals("primary", inRequest(next));
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() throws Exception {
+        lag.update(10);
+        assertEquals("primary", inRequest(get("/api/public/courses")));
+
+        lag.update(0);
+        assertEquals("read", inRequest(get("/api/public/courses")));
+    }
+
+    // ==================================================
+    // HELPERS
+    // ==================================================
+
+    private static DriverManagerDataSource database(String url, String name) {
+        var dataSource = new DriverManagerDataSource(url);
+        var jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE pool (name VARCHAR(20))");
+        jdbc.update("INSERT INTO pool VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String pool() {
+        return jdbc.queryForObject("SELECT name FROM pool", String.class);
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private String inRequest(MockHttpServletRequest request) throws Exception {
+        AtomicReference<String> pool = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> pool.set(pool()));
+        return pool.get();
+    }
+}
@@ -0,0 +1,80 @@
+package at.campus.backend.common.limit;
+
+import at.campus.backend.common.bulkhead.WorkloadClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Gradient limit follows latency; at the limit anonymous browsing is shed first.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MS = 1_000_000;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter(initial, min, max, 2.0, Duration.ZERO,
+                Map.of(WorkloadClass.PUBLIC_READ, 0.2,
+                        WorkloadClass.WRITE, 0.5,
+                        WorkloadClass.MODERATION, 0.3),
+                registry);
+    }
+
+    /** One window = 10 samples with the same latency, at full utilisation. */
+    private static void window(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(0, rttNanos, limiter.limit());
+        }
+    }
+
+    @Test
+    void growsAtSteadyLatencyAndShrinksWhenRequestsQueue() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 4, 200);
+
+        for (int i = 0; i < 20; i++) {
+            window(limiter, 10 * MS);
+        }
+        int grown = limiter.limit();
+        assertTrue(grown > 20, "limit " + grown);
+
+        for (int i = 0; i < 10; i++) {
+            window(limiter, 100 * MS);
+        }
+        assertTrue(limiter.limit() < grown * 3 / 4, "limit " + limiter.limit() + " after " + grown);
+    }
+
+    @Test
+    void doesNotGrowWhileMostOfTheLimitIsUnused() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 4, 200);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(0, 10 * MS, 3);
+        }
+
+        assertEquals(20, limiter.limit());
+    }
+
+    @Test
+    void atTheLimitShedsAnonymousReadsButAdmitsWrites() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 10, 10);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(WorkloadClass.PUBLIC_READ));
+        }
+        assertFalse(limiter.tryAcquire(WorkloadClass.PUBLIC_READ));
+        assertTrue(limiter.tryAcquire(WorkloadClass.WRITE));
+        assertTrue(limiter.tryAcquire(WorkloadClass.MODERATION));
+
+        limiter.release(WorkloadClass.PUBLIC_READ, -1);
+        assertFalse(limiter.tryAcquire(WorkloadClass.PUBLIC_READ));
+
+        assertEquals(2.0, registry.get("concurrency.rejected").tag("workload", "public-read").counter().count());
+        assertEquals(9.0, registry.get("concurrency.inflight").tag("workload", "public-read").gauge().value());
+    }
+}
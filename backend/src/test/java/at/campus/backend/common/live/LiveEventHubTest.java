@@ -0,0 +1,155 @@
+package at.campus.backend.common.live;
+
+import at.campus.backend.common.cache.InvalidationBus;
+import at.campus.backend.modules.threads.api.ThreadEventsController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Events reach the streams of their topic; reconnecting clients get
+ * what they missed or a reset; a client that cannot keep up is
+ * disconnected instead of slowing down publishers.
+ */
+class LiveEventHubTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    private final UUID threadId = UUID.randomUUID();
+
+    private final LiveEventHub hub = new LiveEventHub(
+            new ObjectMapper(),
+            new StaticListableBeanFactory().getBeanProvider(InvalidationBus.class),
+            new SimpleMeterRegistry(),
+            100, 64, 1000, Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(10));
+
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new ThreadEventsController(hub)).build();
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void deliversEventsToStreamsOfTheTopicOnly() throws Exception {
+        MockHttpServletResponse thread = open(threadId, null);
+        MockHttpServletResponse other = open(UUID.randomUUID(), null);
+
+        hub.publish(LiveTopics.thread(threadId), "post-created", Map.of("content", "hello"));
+
+        String body = await(thread, "hello");
+        assertTrue(body.contains("event:post-created"));
+        assertTrue(body.contains("data:{\"content\":\"hello\"}"));
+        assertEquals("no", thread.getHeader("X-Accel-Buffering"));
+        assertFalse(other.getContentAsString().contains("post-created"));
+        assertEquals(2, hub.subscriberCount());
+    }
+
+    @Test
+    void resumesAfterLastEventIdOrResets() throws Exception {
+        MockHttpServletResponse first = open(threadId, null);
+        for (String content : List.of("one", "two", "three")) {
+            hub.publish(LiveTopics.thread(threadId), "post-created", Map.of("content", content));
+        }
+        List<String> ids = ids(await(first, "three"));
+        assertEquals(3, ids.size());
+
+        String resumed = await(open(threadId, ids.get(0)), "three");
+        assertFalse(resumed.contains("one"));
+        assertTrue(resumed.contains("two"));
+        assertFalse(resumed.contains("event:reset"));
+
+        String unknown = await(open(threadId, "gone-1"), "reset");
+        assertTrue(unknown.contains("event:reset"));
+        assertFalse(unknown.contains("three"));
+    }
+
+    @Test
+    void lostBusConnectionResetsOpenStreams() throws Exception {
+        MockHttpServletResponse stream = open(threadId, null);
+
+        hub.eventsMissed();
+
+        assertTrue(await(stream, "reset").contains("event:reset"));
+    }
+
+    @Test
+    void subscriberThatCannotKeepUpIsDisconnected() {
+        List<Runnable> stalledWriters = new ArrayList<>();
+        List<LiveSubscriber> closed = new ArrayList<>();
+        LiveSubscriber subscriber = new LiveSubscriber(
+                "thread:1", new SseEmitter(), 2, stalledWriters::add, closed::add);
+
+        LiveEvent event = new LiveEvent("n-1", "thread:1", "post-created", "{}");
+        assertTrue(subscriber.offer(event));
+        assertTrue(subscriber.offer(event));
+        assertFalse(subscriber.offer(event));
+
+        assertEquals(List.of(subscriber), closed);
+        assertEquals(1, stalledWriters.size());
+    }
+
+    @Test
+    void failedSnapshotReleasesTheStreamSlot() {
+        String topic = LiveTopics.thread(threadId);
+
+        assertThrows(IllegalStateException.class, () -> hub.subscribe(topic, null, "snapshot", () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        assertEquals(0, hub.subscriberCount());
+
+        hub.subscribe(topic, null, "snapshot", () -> Map.of("open", 1));
+        assertEquals(1, hub.subscriberCount());
+    }
+
+    private MockHttpServletResponse open(UUID thread, String lastEventId) throws Exception {
+        var request = get("/api/public/threads/{threadId}/events", thread);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    /** Events are written by the subscriber's writer thread. */
+    private static String await(MockHttpServletResponse response, String text) throws Exception {
+        for (int i = 0; i < 250; i++) {
+            String body = response.getContentAsString();
+            if (body.contains(text)) {
+                return body;
+            }
+            Thread.sleep(20);
+        }
+        fail("No \"" + text + "\" in " + response.getContentAsString());
+        return null;
+    }
+
+    private static List<String> ids(String body) {
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = EVENT_ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+}
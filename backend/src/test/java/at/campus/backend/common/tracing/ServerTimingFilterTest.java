@@ -0,0 +1,50 @@
+package at.campus.backend.common.tracing;
+
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Server-Timing breakdown: gateway auth hop, SQL time and query count.
+ */
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter =
+            new ServerTimingFilter(new StaticListableBeanFactory().getBeanProvider(Tracer.class));
+
+    @Test
+    void reportsAuthDatabaseAndTotal() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/favourites");
+        request.addHeader("X-Auth-Time", "0.004");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            RequestTimings.addDatabase(2_000_000);
+            RequestTimings.addDatabase(3_000_000);
+            res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+        });
+
+        String header = response.getHeader("Server-Timing");
+        assertNotNull(header);
+        assertTrue(header.startsWith("auth;dur=4.0, db;dur=5.0;desc=\"2 queries\", app;dur="), header);
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void omitsAuthForPublicRequestsAndIgnoresStatementsOutsideRequests() throws Exception {
+        RequestTimings.addDatabase(1_000_000);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/courses");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+        });
+
+        assertTrue(response.getHeader("Server-Timing").startsWith("db;dur=0.0;desc=\"0 queries\""));
+    }
+}
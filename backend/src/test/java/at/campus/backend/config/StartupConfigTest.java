@@ -0,0 +1,49 @@
+package at.campus.backend.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Lazy startup packages and the Flyway skip of the AppCDS training run.
+ */
+class StartupConfigTest {
+
+    @Test
+    void marksOnlyBeansFromLazyPackagesLazy() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("openApi", definition("org.springdoc.core.OpenApiResource"));
+        beanFactory.registerBeanDefinition("springdocLookalike", definition("org.springdocx.Other"));
+        beanFactory.registerBeanDefinition("courseService", definition("at.campus.backend.modules.course.service.CourseService"));
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.startup.lazy-packages", "org.springdoc");
+        StartupConfig.lazyStartupBeans(environment).postProcessBeanFactory(beanFactory);
+
+        assertTrue(beanFactory.getBeanDefinition("openApi").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("springdocLookalike").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("courseService").isLazyInit());
+    }
+
+    @Test
+    void trainingRunSkipsMigration() {
+        Flyway flyway = mock(Flyway.class);
+
+        new StartupConfig().flywayMigrationStrategy(true).migrate(flyway);
+        verifyNoInteractions(flyway);
+
+        new StartupConfig().flywayMigrationStrategy(false).migrate(flyway);
+        verify(flyway).migrate();
+    }
+
+    private static RootBeanDefinition definition(String className) {
+        RootBeanDefinition definition = new RootBeanDefinition();
+        definition.setBeanClassName(className);
+        return definition;
+    }
+}
@@ -0,0 +1,126 @@
+package at.campus.backend.modules.courses.api;
+
+import at.campus.backend.common.cache.InvalidationBus;
+import at.campus.backend.common.cache.ResponseCache;
+import at.campus.backend.common.cache.SingleFlight;
+import at.campus.backend.common.cache.StaleWhileRevalidateCache;
+import at.campus.backend.common.exception.GlobalExceptionHandler;
+import at.campus.backend.common.json.RawJson;
+import at.campus.backend.modules.courses.model.CourseSection;
+import at.campus.backend.modules.courses.model.CourseSummary;
+import at.campus.backend.modules.courses.model.StudyProgramRef;
+import at.campus.backend.modules.courses.repository.CourseRepository;
+import at.campus.backend.modules.courses.service.CourseService;
+import at.campus.backend.security.UserContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * List items carry only the summary columns; sections are passed
+ * through as stored; unknown courses and sections are 404.
+ */
+class CoursePublicControllerTest {
+
+    private static final UUID COURSE = UUID.randomUUID();
+    private static final UUID PROGRAM = UUID.randomUUID();
+
+    private final CourseRepository repository = mock(CourseRepository.class);
+
+    private final MockMvc mvc;
+
+    CoursePublicControllerTest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ResponseCache responseCache = new ResponseCache(
+                new ObjectMapper(),
+                new StaticListableBeanFactory().getBeanProvider(InvalidationBus.class),
+                registry, false, 0, Duration.ZERO, false, 0);
+        StaleWhileRevalidateCache publicReads = new StaleWhileRevalidateCache(
+                responseCache,
+                new SingleFlight(new UserContext(), registry, false),
+                registry,
+                new MockEnvironment().withProperty("app.stale-while-revalidate.enabled", "false"));
+        CourseService service = new CourseService(repository, new UserContext(), responseCache, publicReads);
+
+        mvc = MockMvcBuilders.standaloneSetup(new CoursePublicController(service, responseCache))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+    }
+
+    @Test
+    void listItemsCarrySummaryFieldsOnly() throws Exception {
+        when(repository.findAll()).thenReturn(List.of(new CourseSummary(
+                COURSE, "Pflegeforschung", "Einführung", 5, "Deutsch", new BigDecimal("3.0"), 1, "course",
+                "https://example.org/pflege", new StudyProgramRef(PROGRAM, "Pflegewissenschaft", "Vollzeit"))));
+
+        mvc.perform(get("/api/public/courses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].courseId").value(COURSE.toString()))
+                .andExpect(jsonPath("$.content[0].title").value("Pflegeforschung"))
+                .andExpect(jsonPath("$.content[0].ects").value(5))
+                .andExpect(jsonPath("$.content[0].semester").value(1))
+                .andExpect(jsonPath("$.content[0].sourceUrl").value("https://example.org/pflege"))
+                .andExpect(jsonPath("$.content[0].studyProgram.name").value("Pflegewissenschaft"))
+                .andExpect(jsonPath("$.content[0].studyProgram.mode").value("Vollzeit"))
+                .andExpect(jsonPath("$.content[0].detailsHtml").doesNotExist())
+                .andExpect(jsonPath("$.content[0].learningOutcomes").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void sectionIsWrittenExactlyAsStored() throws Exception {
+        String stored = "[{\"type\": \"text\",  \"content\": \"Österreichisches Gesundheitswesen\"}]";
+        when(repository.findSection(COURSE, CourseSection.LEARNING_OUTCOMES)).thenReturn(Optional.of(new RawJson(stored)));
+
+        String body = mvc.perform(get("/api/public/courses/{id}/sections/learning-outcomes", COURSE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals(stored, body);
+    }
+
+    @Test
+    void emptySectionIsJsonNull() throws Exception {
+        when(repository.findSection(COURSE, CourseSection.LITERATURE)).thenReturn(Optional.of(new RawJson("null")));
+
+        mvc.perform(get("/api/public/courses/{id}/sections/literature", COURSE))
+                .andExpect(status().isOk())
+                .andExpect(content().string("null"));
+    }
+
+    @Test
+    void unknownCourseIsNotFound() throws Exception {
+        when(repository.findSection(any(), any())).thenReturn(Optional.empty());
+
+        mvc.perform(get("/api/public/courses/{id}/sections/content", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void unknownSectionIsNotFound() throws Exception {
+        mvc.perform(get("/api/public/courses/{id}/sections/details-html", COURSE))
+                .andExpect(status().isNotFound());
+
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,104 @@
+package at.campus.backend.modules.courses.model;
+
+import at.campus.backend.common.json.RawJson;
+import at.campus.backend.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RawJson sections give the same course JSON as the former path
+ * (JSONB text -> readValue(Object.class) -> Map/List trees -> serialize).
+ * Allocation is compared in the benchmarks module
+ * (CourseDetailBenchmark, -prof gc).
+ */
+class CourseDtoJsonTest {
+
+    private static final UUID COURSE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private ObjectMapper mapper;
+    private String sectionJson;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new JacksonConfig().objectMapper();
+
+        // Roughly the size of a scraped HCW section: text blocks plus a list
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 12; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"type\":\"text\",\"content\":\"Absatz ").append(i)
+              .append(" mit Lehrinhalten, Methoden und Beispielen aus der Praxis.\"}");
+        }
+        sb.append(",{\"type\":\"list\",\"ordered\":false,\"items\":[\"Eins\",\"Zwei\",\"Drei\",\"Vier\"]}]");
+        sectionJson = sb.toString();
+    }
+
+    @Test
+    void rawJson_shouldSerializeVerbatim() throws Exception {
+        String rawBody = mapper.writeValueAsString(rawDto());
+        String treeBody = mapper.writeValueAsString(treePayload());
+
+        assertEquals(mapper.readTree(treeBody), mapper.readTree(rawBody));
+        assertTrue(rawBody.contains(sectionJson));
+    }
+
+    @Test
+    void rawJson_shouldDeserializeRequestBodyToText() throws Exception {
+        String body = "{\"title\":\"T\",\"ects\":5,\"content\":" + sectionJson + ",\"literature\":null}";
+
+        CourseDto dto = mapper.readValue(body, CourseDto.class);
+
+        assertEquals(mapper.readTree(sectionJson), mapper.readTree(dto.content().json()));
+        assertNull(dto.literature());
+    }
+
+    // ==================================================
+    // HELPERS
+    // ==================================================
+
+    private CourseDto rawDto() {
+        // What the row mapper produces: one RawJson per JSONB column
+        return new CourseDto(
+                COURSE_ID, "Course", null, 5, "de", BigDecimal.TWO, 1, "course",
+                null,
+                RawJson.ofNullable(sectionJson),
+                RawJson.ofNullable(sectionJson),
+                RawJson.ofNullable(sectionJson),
+                RawJson.ofNullable(sectionJson),
+                RawJson.ofNullable(sectionJson),
+                RawJson.ofNullable(sectionJson),
+                null,
+                null
+        );
+    }
+
+    private Map<String, Object> treePayload() throws Exception {
+        // Previous behaviour: every JSONB column parsed into Object trees first
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("courseId", COURSE_ID);
+        payload.put("title", "Course");
+        payload.put("description", null);
+        payload.put("ects", 5);
+        payload.put("language", "de");
+        payload.put("sws", BigDecimal.TWO);
+        payload.put("semester", 1);
+        payload.put("kind", "course");
+        payload.put("detailsHtml", null);
+        for (String field : new String[]{
+                "content", "learningOutcomes", "teachingMethod",
+                "examMethod", "literature", "teachingLanguage"}) {
+            payload.put(field, mapper.readValue(sectionJson, Object.class));
+        }
+        payload.put("sourceUrl", null);
+        payload.put("studyProgram", null);
+        return payload;
+    }
+}
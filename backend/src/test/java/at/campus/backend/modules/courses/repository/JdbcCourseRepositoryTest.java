@@ -0,0 +1,112 @@
+package at.campus.backend.modules.courses.repository;
+
+import at.campus.backend.common.json.RawJson;
+import at.campus.backend.modules.courses.model.CourseSection;
+import at.campus.backend.modules.courses.model.CourseSummary;
+import at.campus.backend.modules.courses.model.StudyProgramRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Summary projection, section reads and existence checks against the
+ * course tables on H2 (JSONB columns as text).
+ */
+class JdbcCourseRepositoryTest {
+
+    private static final UUID PROGRAM = UUID.randomUUID();
+    private static final UUID COURSE = UUID.randomUUID();
+    private static final UUID ORPHAN = UUID.randomUUID();
+
+    // Unusual spacing and key order: must come back byte for byte
+    private static final String OUTCOMES = "[{\"type\": \"list\",  \"ordered\": false, \"items\": [\"Grundlagen der Pflege\"]}]";
+
+    private NamedParameterJdbcTemplate jdbc;
+    private JdbcCourseRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        var h2 = new DriverManagerDataSource("jdbc:h2:mem:courses" + System.nanoTime()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbc = new NamedParameterJdbcTemplate(h2);
+        jdbc.getJdbcTemplate().execute("CREATE SCHEMA app");
+        jdbc.getJdbcTemplate().execute("""
+                CREATE TABLE app.study_programs (id UUID PRIMARY KEY, name VARCHAR(200), mode VARCHAR(50))
+                """);
+        jdbc.getJdbcTemplate().execute("""
+                CREATE TABLE app.courses (
+                    id UUID PRIMARY KEY, title VARCHAR(200), description VARCHAR(2000), ects INT,
+                    language VARCHAR(50), sws DECIMAL(4, 1), semester INT, kind VARCHAR(20),
+                    details_html VARCHAR(10000), content VARCHAR(10000), learning_outcomes VARCHAR(10000),
+                    teaching_method VARCHAR(10000), exam_method VARCHAR(10000), literature VARCHAR(10000),
+                    teaching_language VARCHAR(10000), source_url VARCHAR(500), study_program_id UUID
+                )
+                """);
+        jdbc.update("INSERT INTO app.study_programs VALUES (:id, 'Pflegewissenschaft', 'Vollzeit')", Map.of("id", PROGRAM));
+        jdbc.update("""
+                INSERT INTO app.courses (id, title, description, ects, language, sws, semester, kind,
+                                         details_html, learning_outcomes, source_url, study_program_id)
+                VALUES (:id, 'Pflegeforschung', 'Einführung', 5, 'Deutsch', 3.0, 1, 'course',
+                        '<h4>Lernergebnisse</h4>', :outcomes, 'https://example.org/pflege', :program)
+                """, Map.of("id", COURSE, "outcomes", OUTCOMES, "program", PROGRAM));
+        jdbc.update("INSERT INTO app.courses (id, title, ects) VALUES (:id, 'Ohne Studiengang', 3)", Map.of("id", ORPHAN));
+
+        repository = new JdbcCourseRepository(jdbc);
+    }
+
+    @Test
+    void summaryCarriesListColumnsAndStudyProgram() {
+        CourseSummary course = repository.findFiltered(PROGRAM, 5).getFirst();
+
+        assertEquals(COURSE, course.getCourseId());
+        assertEquals("Pflegeforschung", course.getTitle());
+        assertEquals("Einführung", course.getDescription());
+        assertEquals(5, course.getEcts());
+        assertEquals("Deutsch", course.getLanguage());
+        assertEquals(0, new BigDecimal("3.0").compareTo(course.getSws()));
+        assertEquals(1, course.getSemester());
+        assertEquals("course", course.getKind());
+        assertEquals("https://example.org/pflege", course.getSourceUrl());
+        assertEquals(new StudyProgramRef(PROGRAM, "Pflegewissenschaft", "Vollzeit"), course.getStudyProgram());
+    }
+
+    @Test
+    void summaryWithoutStudyProgramHasNoRef() {
+        List<CourseSummary> all = repository.findAll();
+
+        assertEquals(2, all.size());
+        CourseSummary orphan = all.stream().filter(c -> c.getCourseId().equals(ORPHAN)).findFirst().orElseThrow();
+        assertNull(orphan.getStudyProgram());
+        assertNull(orphan.getSemester());
+    }
+
+    @Test
+    void sectionIsReturnedAsStored() {
+        assertEquals(Optional.of(new RawJson(OUTCOMES)), repository.findSection(COURSE, CourseSection.LEARNING_OUTCOMES));
+    }
+
+    @Test
+    void emptySectionIsJsonNull() {
+        assertEquals(Optional.of(new RawJson("null")), repository.findSection(COURSE, CourseSection.LITERATURE));
+    }
+
+    @Test
+    void sectionOfUnknownCourseIsEmpty() {
+        assertTrue(repository.findSection(UUID.randomUUID(), CourseSection.CONTENT).isEmpty());
+    }
+
+    @Test
+    void existsById() {
+        assertTrue(repository.existsById(COURSE));
+        assertFalse(repository.existsById(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,132 @@
+package at.campus.backend.modules.reports.service;
+
+import at.campus.backend.common.cache.InvalidationBus;
+import at.campus.backend.common.live.LiveEventHub;
+import at.campus.backend.modules.reports.model.ModerationCounts;
+import at.campus.backend.modules.reports.model.ReportStatus;
+import at.campus.backend.modules.reports.repository.ReportRepository;
+import at.campus.backend.modules.reviews.repository.ReviewRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Counted once, then kept up to date from the write paths (after
+ * commit only) and pushed to open streams without further queries.
+ */
+class ModerationCountersTest {
+
+    private final ReportRepository reports = mock(ReportRepository.class);
+    private final ReviewRepository reviews = mock(ReviewRepository.class);
+
+    private final LiveEventHub hub = new LiveEventHub(
+            new ObjectMapper(),
+            new StaticListableBeanFactory().getBeanProvider(InvalidationBus.class),
+            new SimpleMeterRegistry(),
+            100, 64, 1000, Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(10));
+
+    private final ModerationCounters counters = new ModerationCounters(
+            reports, reviews, hub,
+            new StaticListableBeanFactory().getBeanProvider(InvalidationBus.class),
+            new SimpleMeterRegistry(), Duration.ofMinutes(10));
+
+    @RestController
+    class CountsStream {
+        @GetMapping("/count/events")
+        SseEmitter events() {
+            return counters.subscribe();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        counters.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void countsOnceThenFollowsChanges() {
+        when(reports.countByStatus(ReportStatus.PENDING)).thenReturn(3);
+        when(reviews.countFlagged()).thenReturn(1);
+
+        assertEquals(new ModerationCounts(3, 1), counters.current());
+
+        counters.reportStatusChanged(null, ReportStatus.PENDING);
+        counters.reportStatusChanged(ReportStatus.PENDING, ReportStatus.RESOLVED);
+        counters.reportStatusChanged(ReportStatus.PENDING, null);
+        counters.reportStatusChanged(ReportStatus.REJECTED, ReportStatus.PENDING);
+        counters.reviewFlagChanged(false, true);
+        counters.reviewFlagChanged(true, true);
+
+        assertEquals(new ModerationCounts(3, 2), counters.current());
+        verify(reports, times(1)).countByStatus(ReportStatus.PENDING);
+        verify(reviews, times(1)).countFlagged();
+    }
+
+    @Test
+    void changeCountsOnlyOnceCommitted() {
+        counters.current();
+        TransactionSynchronizationManager.initSynchronization();
+
+        counters.reportStatusChanged(null, ReportStatus.PENDING);
+        assertEquals(0, counters.current().pendingReports());
+
+        // Rolled back: the synchronizations are dropped
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(0, counters.current().pendingReports());
+
+        TransactionSynchronizationManager.initSynchronization();
+        counters.reportStatusChanged(null, ReportStatus.PENDING);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, counters.current().pendingReports());
+    }
+
+    @Test
+    void streamStartsWithCurrentCountsAndReceivesChanges() throws Exception {
+        when(reports.countByStatus(ReportStatus.PENDING)).thenReturn(2);
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new CountsStream()).build();
+
+        MockHttpServletResponse stream = mvc.perform(get("/count/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+        counters.reportStatusChanged(ReportStatus.PENDING, ReportStatus.RESOLVED);
+
+        String body = await(stream, "\"pendingReports\":1");
+        int initial = body.indexOf("\"pendingReports\":2");
+        assertTrue(initial >= 0 && initial < body.indexOf("\"pendingReports\":1"));
+        assertTrue(body.contains("event:counts"));
+        verify(reports, times(1)).countByStatus(ReportStatus.PENDING);
+    }
+
+    private static String await(MockHttpServletResponse response, String text) throws Exception {
+        for (int i = 0; i < 250; i++) {
+            String body = response.getContentAsString();
+            if (body.contains(text)) {
+                return body;
+            }
+            Thread.sleep(20);
+        }
+        fail("No " + text + " in " + response.getContentAsString());
+        return null;
+    }
+}
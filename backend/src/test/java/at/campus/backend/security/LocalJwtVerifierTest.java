@@ -0,0 +1,109 @@
+package at.campus.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RS256 tokens as issued by auth: signature, kid, expiry and claims.
+ */
+class LocalJwtVerifierTest {
+
+    private static final String USER_ID = "6f1c1a52-2d4b-4a8e-9a49-0e8f3b7f1c2d";
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KeyPair keyPair = rsaKeyPair();
+
+    // Nothing listens there: refreshes fail and keep the keys set below
+    private final LocalJwtVerifier verifier = new LocalJwtVerifier(
+            URI.create("http://127.0.0.1:9/jwks.json"), Duration.ofMinutes(10), Duration.ofSeconds(30),
+            objectMapper, new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void acceptsValidTokenFromJwks() throws Exception {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        verifier.setKeys(LocalJwtVerifier.parseJwks(objectMapper.valueToTree(Map.of("keys", new Object[] {
+                Map.of("kty", "RSA", "kid", "k1", "alg", "RS256",
+                        "n", base64Url(publicKey.getModulus()), "e", base64Url(publicKey.getPublicExponent()))
+        }))));
+
+        Optional<LocalJwtVerifier.VerifiedToken> token = verifier.verify(token("k1", NOW.plusSeconds(60)));
+
+        assertTrue(token.isPresent());
+        assertEquals(USER_ID, token.get().userId());
+        assertEquals(3, token.get().tokenVersion());
+    }
+
+    @Test
+    void rejectsExpiredUnknownKidAndTamperedTokens() throws Exception {
+        verifier.setKeys(Map.of("k1", keyPair.getPublic()));
+
+        assertTrue(verifier.verify(token("k1", NOW.minusSeconds(1))).isEmpty());
+        assertTrue(verifier.verify(token("k2", NOW.plusSeconds(60))).isEmpty());
+
+        String[] parts = token("k1", NOW.plusSeconds(60)).split("\\.");
+        String forged = encode("{\"uid\":\"" + USER_ID + "\",\"ver\":99,\"exp\":" + NOW.plusSeconds(60).getEpochSecond() + "}");
+        assertTrue(verifier.verify(parts[0] + "." + forged + "." + parts[2]).isEmpty());
+    }
+
+    @Test
+    void rejectsHmacTokens() throws Exception {
+        verifier.setKeys(Map.of("k1", keyPair.getPublic()));
+        String header = encode("{\"alg\":\"HS256\",\"kid\":\"k1\"}");
+        String payload = encode("{\"uid\":\"" + USER_ID + "\",\"exp\":" + NOW.plusSeconds(60).getEpochSecond() + "}");
+
+        assertTrue(verifier.verify(header + "." + payload + ".c2lnbmF0dXJl").isEmpty());
+        assertTrue(verifier.verify("not-a-token").isEmpty());
+    }
+
+    private String token(String kid, Instant expiresAt) throws Exception {
+        String header = encode("{\"alg\":\"RS256\",\"kid\":\"" + kid + "\"}");
+        String payload = encode("{\"sub\":\"test@test.com\",\"uid\":\"" + USER_ID + "\",\"ver\":3,\"exp\":"
+                + expiresAt.getEpochSecond() + "}");
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+        return header + "." + payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static KeyPair rsaKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+"""
+Compare two JMH JSON result files (baseline vs. candidate).
+
+Usage:
+    python compare.py results/baseline.json results/candidate.json [--threshold 10]
+
+Prints one line per benchmark/params with the relative change and
+exits with status 1 if any benchmark regressed by more than the
+threshold (percent). Lower score is better for avgt/sample modes,
+higher is better for thrpt.
+"""
+import argparse
+import json
+import sys
+
+
+def load(path):
+    with open(path, encoding="utf-8") as f:
+        runs = json.load(f)
+    results = {}
+    for run in runs:
+        params = ",".join(f"{k}={v}" for k, v in sorted((run.get("params") or {}).items()))
+        key = run["benchmark"] + (f"[{params}]" if params else "")
+        metric = run["primaryMetric"]
+        # scoreError is the string "NaN" for single-iteration runs
+        results[key] = (run["mode"], float(metric["score"]), float(metric["scoreError"]), metric["scoreUnit"])
+    return results
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("baseline")
+    parser.add_argument("candidate")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="regression threshold in percent (default: 10)")
+    args = parser.parse_args()
+
+    base = load(args.baseline)
+    cand = load(args.candidate)
+
+    regressions = 0
+    for key in sorted(base.keys() | cand.keys()):
+        if key not in cand:
+            print(f"{key:<90} removed")
+            continue
+        if key not in base:
+            print(f"{key:<90} new: {cand[key][1]:.3f} {cand[key][3]}")
+            continue
+
+        mode, b_score, _, unit = base[key]
+        _, c_score, c_err, _ = cand[key]
+        change = (c_score - b_score) / b_score * 100.0 if b_score else 0.0
+        worse = -change if mode == "thrpt" else change
+
+        flag = ""
+        if worse > args.threshold:
+            flag = "  REGRESSION"
+            regressions += 1
+        elif worse < -args.threshold:
+            flag = "  improved"
+
+        print(f"{key:<90} {b_score:>12.3f} -> {c_score:>12.3f} ± {c_err:.3f} {unit} ({change:+.1f}%){flag}")
+
+    sys.exit(1 if regressions else 0)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,57 @@
+package at.campus.benchmarks.auth;
+
+import at.campus.auth.model.User;
+import at.campus.auth.model.UserRole;
+import at.campus.auth.service.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtService token issue and parse.
+ *
+ * filterChain() mirrors what JwtAuthenticationFilter does per request
+ * (validate, extract username, extract token version).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        byte[] key = new byte[64];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (byte) (i * 31 + 7);
+        }
+        jwtService = new JwtService(Base64.getEncoder().encodeToString(key), 15);
+        user = new User("student@hcw.ac.at", "student", "{bcrypt}hash", UserRole.STUDENT);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public void filterChain(Blackhole bh) {
+        bh.consume(jwtService.isTokenValid(token));
+        bh.consume(jwtService.extractUsername(token));
+        bh.consume(jwtService.extractTokenVersion(token));
+    }
+}
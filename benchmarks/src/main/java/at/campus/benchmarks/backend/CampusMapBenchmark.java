@@ -0,0 +1,38 @@
+package at.campus.benchmarks.backend;
+
+import at.campus.backend.modules.studyprograms.model.CampusBuildingDto;
+import at.campus.backend.modules.studyprograms.service.StudyProgramCampusMapRegistry;
+import at.campus.benchmarks.fixtures.CampusFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudyProgramCampusMapRegistry keyword matching over the
+ * fixture program names (early hits, late hits and fallbacks).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CampusMapBenchmark {
+
+    private StudyProgramCampusMapRegistry registry;
+    private String[] names;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        registry = new StudyProgramCampusMapRegistry();
+        names = new CampusFixtures(30, 0, 0).programNames().toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<CampusBuildingDto> resolve() {
+        cursor = (cursor + 1) % names.length;
+        return registry.resolveBuildingsForProgramName(names[cursor]);
+    }
+}
@@ -0,0 +1,116 @@
+package at.campus.benchmarks.backend;
+
+import at.campus.backend.common.json.RawJson;
+import at.campus.backend.modules.courses.model.Course;
+import at.campus.backend.modules.courses.model.CourseDto;
+import at.campus.backend.modules.courses.repository.JdbcCourseRepository;
+import at.campus.benchmarks.fixtures.CampusFixtures;
+import at.campus.benchmarks.fixtures.Json;
+import at.campus.benchmarks.fixtures.MapResultSet;
+import at.campus.benchmarks.fixtures.RowReplayJdbcTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Course detail read path without the database:
+ * JdbcCourseRepository.COURSE_ROW_MAPPER (incl. JSONB section columns)
+ * -> CourseDto.fromDomain -> JSON bytes.
+ *
+ * serializeObjectTrees is the former path (every JSONB section parsed
+ * into Map/List trees, then serialized) for comparison with
+ * toDtoAndSerialize; run with -prof gc for bytes per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseDetailBenchmark {
+
+    @Param({"500"})
+    public int courses;
+
+    private JdbcCourseRepository repository;
+    private ObjectMapper objectMapper;
+    private UUID[] ids;
+    private Course[] mapped;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        CampusFixtures fixtures = new CampusFixtures(courses / 25, 25, 0);
+
+        Map<UUID, ResultSet> rows = new HashMap<>();
+        for (Map<String, Object> row : fixtures.courseRows()) {
+            rows.put((UUID) row.get("id"), MapResultSet.of(row));
+        }
+        repository = new JdbcCourseRepository(new RowReplayJdbcTemplate(rows));
+        objectMapper = Json.mapper();
+
+        ids = rows.keySet().toArray(UUID[]::new);
+        mapped = new Course[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            mapped[i] = repository.findById(ids[i]).orElseThrow();
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) % ids.length;
+        return cursor;
+    }
+
+    @Benchmark
+    public Course mapRow() {
+        return repository.findById(ids[next()]).orElseThrow();
+    }
+
+    @Benchmark
+    public byte[] toDtoAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(CourseDto.fromDomain(mapped[next()]));
+    }
+
+    @Benchmark
+    public byte[] serializeObjectTrees() throws Exception {
+        return objectMapper.writeValueAsBytes(objectTrees(CourseDto.fromDomain(mapped[next()])));
+    }
+
+    @Benchmark
+    public byte[] fullReadPath() throws Exception {
+        Course course = repository.findById(ids[next()]).orElseThrow();
+        return objectMapper.writeValueAsBytes(CourseDto.fromDomain(course));
+    }
+
+    private Map<String, Object> objectTrees(CourseDto dto) throws Exception {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("courseId", dto.courseId());
+        payload.put("title", dto.title());
+        payload.put("description", dto.description());
+        payload.put("ects", dto.ects());
+        payload.put("language", dto.language());
+        payload.put("sws", dto.sws());
+        payload.put("semester", dto.semester());
+        payload.put("kind", dto.kind());
+        payload.put("detailsHtml", dto.detailsHtml());
+        payload.put("content", tree(dto.content()));
+        payload.put("learningOutcomes", tree(dto.learningOutcomes()));
+        payload.put("teachingMethod", tree(dto.teachingMethod()));
+        payload.put("examMethod", tree(dto.examMethod()));
+        payload.put("literature", tree(dto.literature()));
+        payload.put("teachingLanguage", tree(dto.teachingLanguage()));
+        payload.put("sourceUrl", dto.sourceUrl());
+        payload.put("studyProgram", dto.studyProgram());
+        return payload;
+    }
+
+    private Object tree(RawJson section) throws Exception {
+        return section == null ? null : objectMapper.readValue(section.json(), Object.class);
+    }
+}
@@ -0,0 +1,101 @@
+package at.campus.benchmarks.backend;
+
+import at.campus.backend.common.cache.InvalidationBus;
+import at.campus.backend.common.cache.ResponseCache;
+import at.campus.backend.common.cache.SingleFlight;
+import at.campus.backend.common.cache.StaleWhileRevalidateCache;
+import at.campus.backend.modules.courses.api.CoursePublicController;
+import at.campus.backend.modules.courses.model.CourseListItemDto;
+import at.campus.backend.modules.courses.service.CourseService;
+import at.campus.backend.security.UserContext;
+import at.campus.benchmarks.fixtures.CampusFixtures;
+import at.campus.benchmarks.fixtures.InMemoryCourseRepository;
+import at.campus.benchmarks.fixtures.Json;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public course list: CourseListItemDto.fromDomain plus the
+ * filter / search / sort / page pipeline in CoursePublicController,
+ * over an in-memory catalogue of realistic size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseListBenchmark {
+
+    /** Total catalogue size (30 programs x n/30 courses). */
+    @Param({"1200", "6000"})
+    public int courses;
+
+    private CoursePublicController controller;
+    private Pageable firstPage;
+    private Pageable sortedPage;
+
+    @Setup
+    public void setup() {
+        CampusFixtures fixtures = new CampusFixtures(30, courses / 30, 0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UserContext userContext = new UserContext();
+
+        // Caches, SWR and request coalescing off: repository + DTO mapping only
+        ResponseCache responseCache = new ResponseCache(
+                Json.mapper(),
+                new StaticListableBeanFactory().getBeanProvider(InvalidationBus.class),
+                registry,
+                false, 0, Duration.ZERO, false, 0
+        );
+        SingleFlight singleFlight = new SingleFlight(userContext, registry, false);
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("app.stale-while-revalidate.enabled", "false")));
+        StaleWhileRevalidateCache publicReads = new StaleWhileRevalidateCache(
+                responseCache, singleFlight, registry, environment
+        );
+        CourseService service = new CourseService(
+                new InMemoryCourseRepository(fixtures.summaries()),
+                userContext,
+                responseCache,
+                publicReads
+        );
+        controller = new CoursePublicController(service, responseCache);
+
+        firstPage = PageRequest.of(0, 20);
+        sortedPage = PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "title"));
+    }
+
+    @Benchmark
+    public Page<CourseListItemDto> unfiltered() {
+        return controller.getCourses(null, null, null, null, null, null, null, firstPage);
+    }
+
+    @Benchmark
+    public Page<CourseListItemDto> columnFilters() {
+        return controller.getCourses(null, null, 3, "deutsch", null, "pflege", null, firstPage);
+    }
+
+    @Benchmark
+    public Page<CourseListItemDto> fullTextSearch() {
+        return controller.getCourses(null, null, null, null, null, null, "datenbanken", firstPage);
+    }
+
+    @Benchmark
+    public Page<CourseListItemDto> sortedByTitle() {
+        return controller.getCourses(null, null, null, null, null, null, null, sortedPage);
+    }
+}
@@ -0,0 +1,72 @@
+package at.campus.benchmarks.backend;
+
+import at.campus.backend.modules.reports.model.ModerationReportDto;
+import at.campus.backend.modules.reports.model.Report;
+import at.campus.backend.modules.reviews.model.Review;
+import at.campus.backend.modules.reviews.model.ReviewDto;
+import at.campus.benchmarks.fixtures.CampusFixtures;
+import at.campus.benchmarks.fixtures.Json;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Review and moderation list responses:
+ * domain -> ReviewDto / ModerationReportDto -> JSON bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModerationMappingBenchmark {
+
+    /** Rows per response (one course's reviews / one moderation queue page). */
+    @Param({"50"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<Review> reviews;
+    private List<Report> reports;
+    private List<Review> reportedReviews;
+
+    @Setup
+    public void setup() {
+        CampusFixtures fixtures = new CampusFixtures(30, 40, 10);
+        objectMapper = Json.mapper();
+
+        reviews = fixtures.reviews().subList(0, pageSize);
+        reports = fixtures.reports().subList(0, pageSize);
+        reportedReviews = new ArrayList<>();
+        for (Report report : reports) {
+            reportedReviews.add(fixtures.reviewFor(report));
+        }
+    }
+
+    @Benchmark
+    public byte[] reviewPage() throws Exception {
+        List<ReviewDto> page = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            ReviewDto dto = ReviewDto.fromDomain(review);
+            dto.setUserName("student" + review.getRating());
+            page.add(dto);
+        }
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] moderationQueuePage() throws Exception {
+        List<ModerationReportDto> page = new ArrayList<>(reports.size());
+        for (int i = 0; i < reports.size(); i++) {
+            page.add(new ModerationReportDto(
+                    reports.get(i), reportedReviews.get(i),
+                    "reporter", "Datenbanken Grundlagen", "reviewer"
+            ));
+        }
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
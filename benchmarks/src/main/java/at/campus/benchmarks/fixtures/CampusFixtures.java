@@ -0,0 +1,286 @@
+package at.campus.benchmarks.fixtures;
+
+import at.campus.backend.modules.courses.model.CourseSummary;
+import at.campus.backend.modules.courses.model.StudyProgramRef;
+import at.campus.backend.modules.reports.model.Report;
+import at.campus.backend.modules.reports.model.ReportReason;
+import at.campus.backend.modules.reports.model.ReportStatus;
+import at.campus.backend.modules.reviews.model.Review;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * CampusFixtures
+ * ==================================================
+ *
+ * Deterministic benchmark data in the shape the importer writes.
+ *
+ * SHAPE
+ * --------------------------------------------------
+ * - Programs: HCW-style names, mode "Vollzeit" / "Berufsbegleitend"
+ * - Courses per program spread over 6 semesters, module/course kinds,
+ *   ects and sws like the scraped curriculum
+ * - JSONB sections are lists of blocks exactly as produced by
+ *   scrape_hcw_courses.parse_detail_html:
+ *     {"type": "text", "content": "..."}
+ *     {"type": "list", "ordered": false, "items": ["...", ...]}
+ *
+ * Same seed => same data, so runs are comparable.
+ */
+public final class CampusFixtures {
+
+    public static final long DEFAULT_SEED = 20240917L;
+
+    // Real-world style names: some hit early campus-map rules, some late, some none
+    private static final List<String> PROGRAM_NAMES = List.of(
+            "Computer Science and Digital Communications",
+            "Software Design and Engineering",
+            "Technische Informatik",
+            "IT-Security",
+            "Soziale Arbeit",
+            "Sozialwirtschaft und Soziale Arbeit",
+            "Gesundheits- und Krankenpflege",
+            "Angewandte Pflegewissenschaft",
+            "Physiotherapie",
+            "Ergotherapie",
+            "Logopädie – Phoniatrie – Audiologie",
+            "Diätologie",
+            "Hebammen",
+            "Biomedizinische Analytik",
+            "Radiologietechnologie",
+            "Orthoptik",
+            "Architektur – Green Building",
+            "Bauingenieurwesen – Baumanagement",
+            "Elementarpädagogik",
+            "Public Management",
+            "Tax Management",
+            "Integriertes Risikomanagement",
+            "Bioengineering",
+            "Verpackungstechnologie",
+            "Clinical Engineering",
+            "Sustainable Resource Management",
+            "Kinder- und Jugendlichenpflege",
+            "Akademische Weiterbildung Führung",
+            "Technisches Management",
+            "Öffentliches Rechnungswesen"
+    );
+
+    private static final List<String> MODES = List.of("Vollzeit", "Berufsbegleitend");
+
+    private static final List<String> WORDS = List.of(
+            "Grundlagen", "Methoden", "Projekt", "Praxis", "Analyse", "Systeme",
+            "Management", "Recht", "Kommunikation", "Forschung", "Datenbanken",
+            "Netzwerke", "Ethik", "Qualität", "Gesundheit", "Design", "Labor",
+            "Seminar", "Statistik", "Programmierung", "Sicherheit", "Pflege"
+    );
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final List<StudyProgramRef> programs = new ArrayList<>();
+    private final List<CourseSummary> summaries = new ArrayList<>();
+    private final List<Map<String, Object>> courseRows = new ArrayList<>();
+    private final List<Review> reviews = new ArrayList<>();
+    private final List<Report> reports = new ArrayList<>();
+
+    public CampusFixtures(int programCount, int coursesPerProgram, int reviewsPerCourse) {
+        this(programCount, coursesPerProgram, reviewsPerCourse, DEFAULT_SEED);
+    }
+
+    public CampusFixtures(int programCount, int coursesPerProgram, int reviewsPerCourse, long seed) {
+        Random random = new Random(seed);
+
+        for (int p = 0; p < programCount; p++) {
+            String name = PROGRAM_NAMES.get(p % PROGRAM_NAMES.size());
+            String mode = MODES.get((p / PROGRAM_NAMES.size() + p) % MODES.size());
+            // Same derivation idea as the importer: stable id from natural key
+            UUID programId = uuid("program:" + name + ":" + mode + ":" + p);
+            programs.add(new StudyProgramRef(programId, name, mode));
+
+            for (int c = 0; c < coursesPerProgram; c++) {
+                addCourse(random, programs.get(p), c);
+            }
+        }
+
+        for (CourseSummary course : summaries) {
+            for (int r = 0; r < reviewsPerCourse; r++) {
+                Review review = review(random, course.getCourseId());
+                reviews.add(review);
+                if (random.nextInt(10) == 0) {
+                    reports.add(report(random, review));
+                }
+            }
+        }
+    }
+
+    // ==================================================
+    // ACCESSORS
+    // ==================================================
+
+    public List<StudyProgramRef> programs() {
+        return programs;
+    }
+
+    public List<String> programNames() {
+        return programs.stream().map(StudyProgramRef::name).toList();
+    }
+
+    /** List projection, as returned by CourseRepository.findAll(). */
+    public List<CourseSummary> summaries() {
+        return summaries;
+    }
+
+    /** Full detail rows keyed by SQL column label (see JdbcCourseRepository.findById). */
+    public List<Map<String, Object>> courseRows() {
+        return courseRows;
+    }
+
+    public List<Review> reviews() {
+        return reviews;
+    }
+
+    public List<Report> reports() {
+        return reports;
+    }
+
+    public Review reviewFor(Report report) {
+        for (Review review : reviews) {
+            if (review.getId().equals(report.getTargetId())) {
+                return review;
+            }
+        }
+        return null;
+    }
+
+    // ==================================================
+    // GENERATION
+    // ==================================================
+
+    private void addCourse(Random random, StudyProgramRef program, int index) {
+        int semester = 1 + index % 6;
+        String kind = random.nextInt(4) == 0 ? "module" : "course";
+        String title = words(random, 2 + random.nextInt(3));
+        int ects = 1 + random.nextInt(10);
+        BigDecimal sws = BigDecimal.valueOf((1 + random.nextInt(8)) * 5L, 1);
+        String language = random.nextInt(3) == 0 ? "Englisch" : "Deutsch";
+        String description = sentence(random, 12 + random.nextInt(20));
+        String sourceUrl = "https://www.hcw.ac.at/studium/" + program.id() + "#" + index;
+        UUID courseId = uuid("course:" + program.id() + ":" + index);
+
+        summaries.add(new CourseSummary(
+                courseId, title, description, ects, language, sws,
+                semester, kind, sourceUrl, program
+        ));
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", courseId);
+        row.put("title", title);
+        row.put("description", description);
+        row.put("ects", ects);
+        row.put("language", language);
+        row.put("sws", sws);
+        row.put("semester", semester);
+        row.put("kind", kind);
+        row.put("details_html", "<h4>Inhalt</h4><p>" + sentence(random, 40) + "</p>");
+        row.put("content", section(random, 2, 6));
+        row.put("learning_outcomes", section(random, 1, 8));
+        row.put("teaching_method", section(random, 1, 2));
+        row.put("exam_method", section(random, 1, 3));
+        row.put("literature", section(random, 1, 5));
+        row.put("teaching_language", random.nextInt(5) == 0 ? null : section(random, 1, 1));
+        row.put("source_url", sourceUrl);
+        row.put("study_program_id", program.id());
+        row.put("study_program_name", program.name());
+        row.put("study_program_mode", program.mode());
+        courseRows.add(row);
+    }
+
+    private Review review(Random random, UUID courseId) {
+        Review review = new Review();
+        review.setId(UUID.nameUUIDFromBytes(longBytes(random.nextLong())));
+        review.setUserId(UUID.nameUUIDFromBytes(longBytes(random.nextInt(5_000))));
+        review.setCourseId(courseId);
+        review.setRating(1 + random.nextInt(5));
+        review.setDifficulty(1 + random.nextInt(5));
+        review.setWorkload(1 + random.nextInt(5));
+        review.setSatisfaction(1 + random.nextInt(5));
+        review.setPriorRequirements(random.nextBoolean() ? sentence(random, 8) : null);
+        review.setExamInfo(random.nextBoolean() ? sentence(random, 10) : null);
+        review.setText(sentence(random, 20 + random.nextInt(60)));
+        review.setCreatedAt(LocalDateTime.of(2024, 1, 1, 8, 0).plusMinutes(random.nextInt(500_000)));
+        review.setUpdatedAt(review.getCreatedAt());
+        review.setModerationFlagged(random.nextInt(20) == 0);
+        return review;
+    }
+
+    private Report report(Random random, Review review) {
+        ReportReason[] reasons = ReportReason.values();
+        Report report = new Report(
+                "REVIEW",
+                review.getId(),
+                UUID.nameUUIDFromBytes(longBytes(random.nextInt(5_000))),
+                reasons[random.nextInt(reasons.length)]
+        );
+        report.setId(UUID.nameUUIDFromBytes(longBytes(random.nextLong())));
+        report.setComment(sentence(random, 6));
+        report.setStatus(ReportStatus.PENDING);
+        report.setCreatedAt(OffsetDateTime.of(2024, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC)
+                .plusMinutes(random.nextInt(100_000)));
+        return report;
+    }
+
+    // Section JSON as the importer stores it (json.dumps of the block list)
+    private static String section(Random random, int minBlocks, int maxBlocks) {
+        int blocks = minBlocks + random.nextInt(maxBlocks - minBlocks + 1);
+        List<Map<String, Object>> body = new ArrayList<>();
+        for (int i = 0; i < blocks; i++) {
+            Map<String, Object> block = new LinkedHashMap<>();
+            if (random.nextBoolean()) {
+                block.put("type", "text");
+                block.put("content", sentence(random, 15 + random.nextInt(40)));
+            } else {
+                List<String> items = new ArrayList<>();
+                int count = 2 + random.nextInt(6);
+                for (int j = 0; j < count; j++) {
+                    items.add(sentence(random, 4 + random.nextInt(10)));
+                }
+                block.put("type", "list");
+                block.put("ordered", random.nextInt(4) == 0);
+                block.put("items", items);
+            }
+            body.add(block);
+        }
+        try {
+            return JSON.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        return words(random, wordCount) + ".";
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return sb.toString();
+    }
+
+    private static UUID uuid(String key) {
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] longBytes(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
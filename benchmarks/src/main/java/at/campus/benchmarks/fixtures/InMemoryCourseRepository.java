@@ -0,0 +1,68 @@
+package at.campus.benchmarks.fixtures;
+
+import at.campus.backend.common.json.RawJson;
+import at.campus.backend.modules.courses.model.Course;
+import at.campus.backend.modules.courses.model.CourseSection;
+import at.campus.backend.modules.courses.model.CourseSummary;
+import at.campus.backend.modules.courses.repository.CourseRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only CourseRepository over fixture summaries.
+ * Used to benchmark the service/controller list pipeline without SQL.
+ */
+public final class InMemoryCourseRepository implements CourseRepository {
+
+    private final List<CourseSummary> summaries;
+
+    public InMemoryCourseRepository(List<CourseSummary> summaries) {
+        this.summaries = List.copyOf(summaries);
+    }
+
+    @Override
+    public List<CourseSummary> findAll() {
+        return summaries;
+    }
+
+    @Override
+    public Optional<Course> findById(UUID courseId) {
+        throw new UnsupportedOperationException("detail reads are covered by CourseDetailBenchmark");
+    }
+
+    @Override
+    public List<CourseSummary> findFiltered(UUID studyProgramId, Integer ects) {
+        return summaries.stream()
+                .filter(c -> studyProgramId == null
+                        || (c.getStudyProgram() != null && studyProgramId.equals(c.getStudyProgram().id())))
+                .filter(c -> ects == null || c.getEcts() == ects)
+                .toList();
+    }
+
+    @Override
+    public boolean existsById(UUID courseId) {
+        return summaries.stream().anyMatch(c -> c.getCourseId().equals(courseId));
+    }
+
+    @Override
+    public Optional<RawJson> findSection(UUID courseId, CourseSection section) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void insert(Course course) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void update(Course course) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean deleteById(UUID id) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,17 @@
+package at.campus.benchmarks.fixtures;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * ObjectMapper configured like Spring Boot's default HTTP message converter.
+ */
+public final class Json {
+
+    private Json() {
+    }
+
+    public static ObjectMapper mapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+}
@@ -0,0 +1,37 @@
+package at.campus.benchmarks.fixtures;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.Map;
+
+/**
+ * Minimal single-row ResultSet backed by a column map.
+ *
+ * Supports exactly the getters the repository row mappers use
+ * (getString, getInt, getBigDecimal, getObject, getObject(col, type)),
+ * so mapper cost can be measured without a database or driver.
+ */
+public final class MapResultSet {
+
+    private MapResultSet() {
+    }
+
+    public static ResultSet of(Map<String, Object> row) {
+        return (ResultSet) Proxy.newProxyInstance(
+                MapResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    Object value = args != null && args.length > 0 ? row.get((String) args[0]) : null;
+                    return switch (method.getName()) {
+                        case "getString" -> value != null ? value.toString() : null;
+                        case "getInt" -> value != null ? ((Number) value).intValue() : 0;
+                        case "getBigDecimal" -> (BigDecimal) value;
+                        case "getObject" -> args.length == 2 ? ((Class<?>) args[1]).cast(value) : value;
+                        case "wasNull" -> false;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                }
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package at.campus.benchmarks.fixtures;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * NamedParameterJdbcTemplate that never touches a database:
+ * queries by ":id" are answered by running the caller's RowMapper
+ * against a prepared in-memory row.
+ *
+ * Lets benchmarks drive the real repository code (and its private
+ * row mappers) while measuring mapping cost only.
+ */
+public final class RowReplayJdbcTemplate extends NamedParameterJdbcTemplate {
+
+    private final Map<UUID, ResultSet> rowsById;
+
+    public RowReplayJdbcTemplate(Map<UUID, ResultSet> rowsById) {
+        super(new JdbcTemplate());
+        this.rowsById = rowsById;
+    }
+
+    @Override
+    public <T> List<T> query(String sql, Map<String, ?> paramMap, RowMapper<T> rowMapper) {
+        ResultSet rs = rowsById.get((UUID) paramMap.get("id"));
+        if (rs == null) {
+            return List.of();
+        }
+        try {
+            return List.of(rowMapper.mapRow(rs, 0));
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+// src/app/api/eventStream.ts
+//
+// Server-Sent Events for protected endpoints
+//
+// EventSource cannot send the Authorization header, so protected
+// streams are read with fetch and parsed here. Public streams use
+// EventSource directly.
+//
+// - JWT attached like in http.ts
+// - Reconnects after retryMs when the stream ends or fails
+// - Stops for good on 401 / 403 (no point retrying)
+
+import { useAuthStore } from '@/modules/auth/store/auth.store'
+import { logger } from '@/shared/utils/logger'
+
+export interface EventStreamHandlers {
+  [eventType: string]: (data: any) => void
+}
+
+/**
+ * Opens the stream and returns a function that closes it.
+ */
+export function openEventStream(url: string, handlers: EventStreamHandlers, retryMs = 10000): () => void {
+  let closed = false
+  let controller: AbortController | null = null
+  let retry: ReturnType<typeof setTimeout> | null = null
+
+  async function connect() {
+    controller = new AbortController()
+    const authStore = useAuthStore()
+    const headers: Record<string, string> = { Accept: 'text/event-stream' }
+    if (authStore.token) {
+      headers.Authorization = `Bearer ${authStore.token}`
+    }
+
+    try {
+      const response = await fetch(url, { headers, signal: controller.signal })
+      if (response.status === 401 || response.status === 403) {
+        logger.warn(`Event stream ${url} refused (${response.status})`)
+        return
+      }
+      if (!response.ok || !response.body) {
+        throw new Error(`HTTP ${response.status}`)
+      }
+      await read(response.body)
+    } catch (err: any) {
+      if (closed) return
+      logger.warn(`Event stream ${url} failed: ${err?.message ?? err}`)
+    }
+    if (!closed) {
+      retry = setTimeout(connect, retryMs)
+    }
+  }
+
+  async function read(body: ReadableStream<Uint8Array>) {
+    const reader = body.getReader()
+    const decoder = new TextDecoder()
+    let buffer = ''
+    for (;;) {
+      const { value, done } = await reader.read()
+      if (done) return
+      buffer += decoder.decode(value, { stream: true }).replace(/\r\n?/g, '\n')
+
+      let end: number
+      while ((end = buffer.indexOf('\n\n')) !== -1) {
+        dispatch(buffer.slice(0, end))
+        buffer = buffer.slice(end + 2)
+      }
+    }
+  }
+
+  function dispatch(block: string) {
+    let type = 'message'
+    const data: string[] = []
+    for (const line of block.split('\n')) {
+      if (line.startsWith('event:')) type = line.slice(6).trim()
+      else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''))
+    }
+    const handler = handlers[type]
+    if (handler && data.length > 0) {
+      handler(JSON.parse(data.join('\n')))
+    }
+  }
+
+  connect()
+
+  return () => {
+    closed = true
+    if (retry) clearTimeout(retry)
+    controller?.abort()
+  }
+}
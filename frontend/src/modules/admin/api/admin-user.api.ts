@@ -16,6 +16,18 @@ export interface AdminUser {
   createdAt: string
 }
 
+export interface AdminUserFilter {
+  q?: string
+  role?: UserRole
+  enabled?: boolean
+}
+
+/** One keyset page: pass nextCursor as "after" for the next one. */
+export interface AdminUserPage {
+  items: AdminUser[]
+  nextCursor: string | null
+}
+
 export interface AdminChangeRoleRequest {
   userId: string
   role: UserRole
@@ -29,8 +41,23 @@ export interface AdminUserStatusRequest {
 // API calls
 // --------------------------------------------------
 
-export async function listUsers(): Promise<AdminUser[]> {
-  const response = await http.get<AdminUser[]>('/admin/users')
+export async function listUsers(
+  filter: AdminUserFilter,
+  after?: string | null,
+  limit = 50
+): Promise<AdminUserPage> {
+  const response = await http.get<AdminUserPage>('/admin/users', {
+    params: { ...filter, after: after ?? undefined, limit },
+  })
+  return response.data
+}
+
+/** Full CSV export (streamed by the server) for the given filter. */
+export async function exportUsers(filter: AdminUserFilter): Promise<Blob> {
+  const response = await http.get<Blob>('/admin/users/export', {
+    params: filter,
+    responseType: 'blob',
+  })
   return response.data
 }
 
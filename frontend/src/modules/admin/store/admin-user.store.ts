@@ -1,5 +1,5 @@
 import { ensureCsrf } from '@/app/security/csrf'
-import type { AdminUser, UserRole } from '@/modules/admin/api/admin-user.api'
+import type { AdminUser, AdminUserFilter, UserRole } from '@/modules/admin/api/admin-user.api'
 import * as adminApi from '@/modules/admin/api/admin-user.api'
 import { defineStore } from 'pinia'
 
@@ -9,7 +9,10 @@ export const useAdminUserStore = defineStore('adminUser', {
   // --------------------------------------------------
   state: () => ({
     users: [] as AdminUser[],
+    filter: {} as AdminUserFilter,
+    nextCursor: null as string | null,
     loading: false,
+    loadingMore: false,
     error: null as string | null,
   }),
 
@@ -18,14 +21,18 @@ export const useAdminUserStore = defineStore('adminUser', {
   // --------------------------------------------------
   actions: {
     /**
-     * Initial / explicit reload (NON-optimistic).
+     * Initial / explicit reload of the first page (NON-optimistic).
+     * A new filter (search, role, enabled) starts from the top.
      */
-    async fetchUsers(): Promise<void> {
+    async fetchUsers(filter: AdminUserFilter = this.filter): Promise<void> {
       this.loading = true
       this.error = null
+      this.filter = filter
 
       try {
-        this.users = await adminApi.listUsers()
+        const page = await adminApi.listUsers(filter)
+        this.users = page.items
+        this.nextCursor = page.nextCursor
       } catch (e) {
         console.error('[ADMIN] fetch users failed', e)
         this.error = 'Failed to load users'
@@ -34,6 +41,46 @@ export const useAdminUserStore = defineStore('adminUser', {
       }
     },
 
+    /**
+     * Append the next page (keyset cursor from the previous one).
+     */
+    async loadMore(): Promise<void> {
+      if (!this.nextCursor || this.loadingMore) return
+      this.loadingMore = true
+      this.error = null
+
+      try {
+        const page = await adminApi.listUsers(this.filter, this.nextCursor)
+        this.users = [...this.users, ...page.items]
+        this.nextCursor = page.nextCursor
+      } catch (e) {
+        console.error('[ADMIN] load more users failed', e)
+        this.error = 'Failed to load users'
+      } finally {
+        this.loadingMore = false
+      }
+    },
+
+    /**
+     * Download all users matching the current filter as CSV.
+     */
+    async exportUsers(): Promise<void> {
+      this.error = null
+
+      try {
+        const blob = await adminApi.exportUsers(this.filter)
+        const url = URL.createObjectURL(blob)
+        const link = document.createElement('a')
+        link.href = url
+        link.download = 'users.csv'
+        link.click()
+        URL.revokeObjectURL(url)
+      } catch (e) {
+        console.error('[ADMIN] export users failed', e)
+        this.error = 'Failed to export users'
+      }
+    },
+
 
     /**
      * Change user role (OPTIMISTIC).
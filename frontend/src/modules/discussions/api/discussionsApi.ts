@@ -98,4 +98,13 @@ export const discussionsApi = {
   deleteComment(commentId: string) {
     return http.delete(`/api/comments/${commentId}`)
   },
+
+  // Live updates (public, Server-Sent Events)
+  courseThreadEvents(courseId: string) {
+    return new EventSource(`/api/public/courses/${courseId}/threads/events`)
+  },
+
+  threadEvents(threadId: string) {
+    return new EventSource(`/api/public/threads/${threadId}/events`)
+  },
 }
@@ -22,6 +22,7 @@ export const useDiscussionsStore = defineStore('discussions', () => {
   const posts = ref<Post[]>([])
   const postDetail = ref<Post | null>(null)
   const comments = ref<Comment[]>([])
+  const currentPostId = ref<string | null>(null)
 
   const loading = ref(false)
   const error = ref<string | null>(null)
@@ -221,6 +222,7 @@ export const useDiscussionsStore = defineStore('discussions', () => {
   async function loadComments(postId: string) {
     error.value = null
     try {
+      currentPostId.value = postId
       const response = await discussionsApi.getCommentsByPost(postId)
       comments.value = response.data
       logger.log(`Loaded ${comments.value.length} comments for post ${postId}`)
@@ -280,6 +282,158 @@ export const useDiscussionsStore = defineStore('discussions', () => {
     }
   }
 
+  // ============================================================
+  // LIVE UPDATES
+  // ============================================================
+  // Server-Sent Events from the backend merge other users' changes
+  // into the state. The browser reconnects on its own and resumes
+  // with Last-Event-ID; "reset" (or "reload" data) means events were
+  // missed and the data is fetched again.
+
+  let courseStream: EventSource | null = null
+  let threadStream: EventSource | null = null
+  let courseRetry: ReturnType<typeof setTimeout> | null = null
+  let threadRetry: ReturnType<typeof setTimeout> | null = null
+
+  const STREAM_RETRY_MS = 10000
+
+  function parse(event: MessageEvent): any | null {
+    const data = JSON.parse(event.data)
+    return data?.reload ? null : data
+  }
+
+  function upsert<T extends { id: string }>(list: T[], item: T, keep: (keyof T)[] = []) {
+    const index = list.findIndex(i => i.id === item.id)
+    if (index === -1) {
+      return false
+    }
+    const merged = { ...list[index], ...item }
+    keep.forEach(key => { merged[key] = list[index][key] })
+    list[index] = merged
+    return true
+  }
+
+  function watchCourse(courseId: string) {
+    unwatchCourse()
+    const stream = discussionsApi.courseThreadEvents(courseId)
+    courseStream = stream
+    const reload = () => loadThreads(courseId)
+
+    stream.addEventListener('reset', reload)
+    stream.addEventListener('thread-created', (e) => {
+      const thread = parse(e as MessageEvent) as Thread | null
+      if (!thread) return reload()
+      if (!threads.value.some(t => t.id === thread.id)) {
+        threads.value.unshift(thread)
+      }
+    })
+    stream.addEventListener('thread-updated', (e) => {
+      const thread = parse(e as MessageEvent) as Thread | null
+      if (!thread) return reload()
+      upsert(threads.value, thread, ['postCount'])
+    })
+    stream.addEventListener('thread-deleted', (e) => {
+      const deleted = parse(e as MessageEvent)
+      if (!deleted) return reload()
+      threads.value = threads.value.filter(t => t.id !== deleted.id)
+    })
+    stream.onerror = () => {
+      // CLOSED: the server refused the stream (e.g. 503), retry later
+      if (stream.readyState === EventSource.CLOSED && courseStream === stream) {
+        courseRetry = setTimeout(() => {
+          watchCourse(courseId)
+          reload()
+        }, STREAM_RETRY_MS)
+      }
+    }
+  }
+
+  function watchThread(threadId: string) {
+    unwatchThread()
+    const stream = discussionsApi.threadEvents(threadId)
+    threadStream = stream
+    const reload = async () => {
+      await loadThreadDetail(threadId)
+      await loadPosts(threadId)
+      if (currentPostId.value) {
+        await loadComments(currentPostId.value)
+      }
+    }
+
+    stream.addEventListener('reset', reload)
+    stream.addEventListener('thread-updated', (e) => {
+      const thread = parse(e as MessageEvent) as Thread | null
+      if (!thread) return reload()
+      if (threadDetail.value?.id === thread.id) {
+        threadDetail.value = { ...threadDetail.value, ...thread, postCount: threadDetail.value.postCount }
+      }
+    })
+    stream.addEventListener('thread-deleted', (e) => {
+      const deleted = parse(e as MessageEvent)
+      if (!deleted) return reload()
+      if (threadDetail.value?.id === deleted.id) {
+        threadDetail.value = null
+        posts.value = []
+      }
+    })
+    stream.addEventListener('post-created', (e) => {
+      const post = parse(e as MessageEvent) as Post | null
+      if (!post) return reload()
+      if (!posts.value.some(p => p.id === post.id)) {
+        posts.value.push(post)
+      }
+    })
+    stream.addEventListener('post-updated', (e) => {
+      const post = parse(e as MessageEvent) as Post | null
+      if (!post) return reload()
+      upsert(posts.value, post, ['commentCount'])
+    })
+    stream.addEventListener('post-deleted', (e) => {
+      const deleted = parse(e as MessageEvent)
+      if (!deleted) return reload()
+      posts.value = posts.value.filter(p => p.id !== deleted.id)
+    })
+    stream.addEventListener('comment-created', (e) => {
+      const comment = parse(e as MessageEvent) as Comment | null
+      if (!comment) return reload()
+      if (comment.postId === currentPostId.value && !comments.value.some(c => c.id === comment.id)) {
+        comments.value.push(comment)
+      }
+    })
+    stream.addEventListener('comment-updated', (e) => {
+      const comment = parse(e as MessageEvent) as Comment | null
+      if (!comment) return reload()
+      upsert(comments.value, comment)
+    })
+    stream.addEventListener('comment-deleted', (e) => {
+      const deleted = parse(e as MessageEvent)
+      if (!deleted) return reload()
+      comments.value = comments.value.filter(c => c.id !== deleted.id)
+    })
+    stream.onerror = () => {
+      if (stream.readyState === EventSource.CLOSED && threadStream === stream) {
+        threadRetry = setTimeout(() => {
+          watchThread(threadId)
+          reload()
+        }, STREAM_RETRY_MS)
+      }
+    }
+  }
+
+  function unwatchCourse() {
+    if (courseRetry) clearTimeout(courseRetry)
+    courseRetry = null
+    courseStream?.close()
+    courseStream = null
+  }
+
+  function unwatchThread() {
+    if (threadRetry) clearTimeout(threadRetry)
+    threadRetry = null
+    threadStream?.close()
+    threadStream = null
+  }
+
   // ============================================================
   // CLEANUP
   // ============================================================
@@ -336,6 +490,12 @@ export const useDiscussionsStore = defineStore('discussions', () => {
     updateComment,
     deleteComment,
 
+    // Live updates
+    watchCourse,
+    watchThread,
+    unwatchCourse,
+    unwatchThread,
+
     // Cleanup
     clearThreads,
     clearPosts,
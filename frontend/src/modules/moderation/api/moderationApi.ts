@@ -1,7 +1,8 @@
 // src/modules/moderation/api/moderationApi.ts
 
 import http from '@/app/api/http'
-import type { ModerationReport, ResolveReportRequest } from '../model/Moderation'
+import { openEventStream } from '@/app/api/eventStream'
+import type { ModerationCounts, ModerationReport, ResolveReportRequest } from '../model/Moderation'
 
 /**
  * API client for moderation operations.
@@ -42,5 +43,17 @@ export const moderationApi = {
   async getPendingCount(): Promise<number> {
     const response = await http.get<number>('/api/moderation/reports/count/pending')
     return response.data
+  },
+
+  /**
+   * Follow the badge counts (Server-Sent Events).
+   * Called with the current counts right away and again on every change.
+   *
+   * @returns Function that closes the stream
+   */
+  watchCounts(onCounts: (counts: ModerationCounts) => void): () => void {
+    return openEventStream('/api/moderation/reports/count/events', {
+      counts: onCounts
+    })
   }
 }
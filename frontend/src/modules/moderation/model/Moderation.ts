@@ -5,6 +5,14 @@
  */
 export type ModerationAction = 'KEEP_VISIBLE' | 'EDIT' | 'DELETE'
 
+/**
+ * Counts for the moderator navigation badge.
+ */
+export interface ModerationCounts {
+  pendingReports: number
+  flaggedReviews: number
+}
+
 /**
  * Request to resolve a report with a moderation action.
  */
@@ -4,19 +4,37 @@ Importer for Campus++.
 Logic:
 1. Connect to DB
 2. Wait until Flyway has created schema
-3. If DB already has data -> exit 0
-4. If DB empty:
-   - JSON must exist
-   - Import data
+3. Load JSON and hash every study program
+4. Compare hashes with app.import_source_hashes
+   - nothing changed -> exit 0
+   - otherwise only changed programs are imported
+5. Changed programs are split across parallel connections.
+   Per program (one short transaction):
+   - COPY rows into temp staging tables
+   - merge into app.* with set-based INSERT ... ON CONFLICT
+   - store the new source hash
+
+Readers are never blocked: staging tables are session-local, the merge only
+touches rows whose values actually differ, and each transaction covers a
+single program.
+
+Env:
+- DATA_FILE       JSON file to import (default /data/hcw_courses.json)
+- IMPORT_WORKERS  parallel connections (default 4)
+- IMPORT_FULL     "true" -> ignore stored hashes and re-merge everything
+- IMPORT_DELAY    seconds to wait before starting (default 20)
 """
 
+import hashlib
+import io
 import json
 import os
-import uuid
+import re
 import time
+import uuid
+from concurrent.futures import ThreadPoolExecutor, as_completed
 
 import psycopg2
-from psycopg2.extras import Json
 
 
 # =====================================================
@@ -38,7 +56,14 @@ def build_db_config():
 
 
 def connect_db():
-    return psycopg2.connect(**build_db_config())
+    conn = psycopg2.connect(**build_db_config())
+    with conn.cursor() as cur:
+        # Never queue behind long-running locks on a live database:
+        # fail fast and let the program be retried on the next run.
+        cur.execute("SET lock_timeout = '5s'")
+        cur.execute("SET statement_timeout = '120s'")
+    conn.commit()
+    return conn
 
 
 def wait_for_schema(cur, timeout=60):
@@ -48,13 +73,13 @@ def wait_for_schema(cur, timeout=60):
     while time.time() - start < timeout:
         cur.execute(
             """
-            SELECT 1
+            SELECT COUNT(*)
             FROM information_schema.tables
             WHERE table_schema = 'app'
-              AND table_name = 'study_programs'
+              AND table_name IN ('study_programs', 'import_source_hashes')
             """
         )
-        if cur.fetchone():
+        if cur.fetchone()[0] == 2:
             print("✅ Schema is ready")
             return
 
@@ -63,9 +88,9 @@ def wait_for_schema(cur, timeout=60):
     raise RuntimeError("DB schema not ready after waiting")
 
 
-def database_has_data(cur) -> bool:
-    cur.execute("SELECT COUNT(*) FROM app.study_programs;")
-    return cur.fetchone()[0] > 0
+def load_source_hashes(cur) -> dict:
+    cur.execute("SELECT program_key, source_hash FROM app.import_source_hashes")
+    return dict(cur.fetchall())
 
 
 # =====================================================
@@ -75,7 +100,6 @@ def database_has_data(cur) -> bool:
 def extract_ects(value) -> int:
     if value is None:
         return 0
-    import re
     m = re.search(r"[\d,\.]+", str(value))
     if not m:
         return 0
@@ -93,237 +117,520 @@ def normalize_lang(v):
 
 
 def j(v):
-    return Json(v) if v is not None else None
+    # jsonb columns are staged as their JSON text
+    return json.dumps(v, ensure_ascii=False) if v is not None else None
 
 
 def file_exists(path: str) -> bool:
     return os.path.exists(path) and os.path.getsize(path) > 0
 
 
+def env_flag(name: str) -> bool:
+    return os.getenv(name, "").strip().lower() in ("1", "true", "yes")
+
+
+def program_key(p) -> str:
+    title = p.get("program_title", "Unknown")
+    return f"{p.get('program_url', title)}:{p.get('mode')}"
+
+
+def program_hash(p) -> str:
+    # Canonical JSON (sorted keys) so dict ordering never causes a re-import
+    raw = json.dumps(p, sort_keys=True, ensure_ascii=False, separators=(",", ":"))
+    return hashlib.sha256(raw.encode("utf-8")).hexdigest()
+
+
 # =====================================================
-# Import logic
+# COPY helpers
 # =====================================================
 
-def import_data(json_path: str):
-    print(f"📖 Loading data from {json_path}")
+_COPY_ESCAPES = str.maketrans({"\\": "\\\\", "\t": "\\t", "\n": "\\n", "\r": "\\r"})
 
-    with open(json_path, encoding="utf-8") as f:
-        programs = json.load(f)
 
-    print(f"✅ Programs loaded: {len(programs)}")
+def copy_value(v) -> str:
+    if v is None:
+        return "\\N"
+    return str(v).translate(_COPY_ESCAPES)
 
-    conn = connect_db()
-    cur = conn.cursor()
 
-    programs_i = modules_i = courses_i = links_i = 0
+def copy_rows(cur, table: str, columns, rows):
+    if not rows:
+        return
+    buf = io.StringIO()
+    for row in rows:
+        buf.write("\t".join(copy_value(v) for v in row))
+        buf.write("\n")
+    buf.seek(0)
+    cur.copy_expert(f"COPY {table} ({', '.join(columns)}) FROM STDIN", buf)
+
+
+# =====================================================
+# Staging
+# =====================================================
+
+# Session-local staging tables, emptied on every commit
+STAGING_DDL = """
+CREATE TEMP TABLE stg_programs (
+    id                 UUID,
+    name               VARCHAR(255),
+    degree             VARCHAR(100),
+    semesters          INTEGER,
+    mode               VARCHAR(50),
+    total_ects         INTEGER,
+    language           VARCHAR(100),
+    application_period TEXT,
+    start_dates        TEXT,
+    source_url         VARCHAR(500)
+) ON COMMIT DELETE ROWS;
+
+CREATE TEMP TABLE stg_modules (
+    ord                INTEGER,
+    id                 UUID,
+    title              VARCHAR(255),
+    semester           INTEGER,
+    details_html       TEXT,
+    content            JSONB,
+    learning_outcomes  JSONB,
+    teaching_method    JSONB,
+    exam_method        JSONB,
+    literature         JSONB,
+    teaching_language  JSONB
+) ON COMMIT DELETE ROWS;
+
+CREATE TEMP TABLE stg_courses (
+    ord                INTEGER,
+    id                 UUID,
+    module_title       VARCHAR(255),
+    title              VARCHAR(255),
+    ects               INTEGER,
+    language           VARCHAR(50),
+    sws                NUMERIC(3,1),
+    semester           INTEGER,
+    kind               VARCHAR(50),
+    details_html       TEXT,
+    content            JSONB,
+    learning_outcomes  JSONB,
+    teaching_method    JSONB,
+    exam_method        JSONB,
+    literature         JSONB,
+    teaching_language  JSONB,
+    source_url         VARCHAR(500)
+) ON COMMIT DELETE ROWS;
+"""
+
+PROGRAM_COLUMNS = (
+    "id", "name", "degree", "semesters", "mode", "total_ects",
+    "language", "application_period", "start_dates", "source_url",
+)
+
+MODULE_COLUMNS = (
+    "ord", "id", "title", "semester", "details_html", "content",
+    "learning_outcomes", "teaching_method", "exam_method", "literature",
+    "teaching_language",
+)
+
+COURSE_COLUMNS = (
+    "ord", "id", "module_title", "title", "ects", "language", "sws",
+    "semester", "kind", "details_html", "content", "learning_outcomes",
+    "teaching_method", "exam_method", "literature", "teaching_language",
+    "source_url",
+)
+
+
+def build_rows(p):
+    """
+    Flatten one program into staging rows.
+
+    IDs are the same uuid5 values the importer has always produced, so a
+    first import and a re-import converge on identical primary keys.
+    """
+    title = p.get("program_title", "Unknown")
+    mode = p.get("mode")
+    url = p.get("program_url", title)
+    curriculum = p.get("curriculum", [])
+
+    program_id = str(uuid.uuid5(uuid.NAMESPACE_URL, f"{url}:{mode}"))
+
+    program_row = (
+        program_id,
+        title,
+        p.get("degree"),
+        p.get("semesters"),
+        mode,
+        p.get("total_ects"),
+        p.get("language"),
+        p.get("application_period"),
+        p.get("start_dates"),
+        url,
+    )
+
+    # ---------- Modules ----------
+    module_rows = []
+    module_map = {}
+
+    for ord_, item in enumerate(curriculum):
+        if (item.get("kind") or "").lower() != "module":
+            continue
+
+        m_title = item.get("title", "Unknown Module")
+        semester = item.get("semester")
+
+        module_id = str(
+            uuid.uuid5(uuid.NAMESPACE_URL, f"{program_id}:{m_title}:{semester}")
+        )
+        # First occurrence of a title wins (unique per program in the DB)
+        module_map.setdefault(m_title, module_id)
+        module_map.setdefault((m_title, semester), module_id)
+
+        module_rows.append((
+            ord_,
+            module_id,
+            m_title,
+            semester,
+            item.get("details_html"),
+            j(item.get("content")),
+            j(item.get("learning_outcomes")),
+            j(item.get("teaching_method")),
+            j(item.get("exam_method")),
+            j(item.get("literature")),
+            j(item.get("teaching_language")),
+        ))
+
+    # ---------- Courses ----------
+    course_rows = []
+    language = normalize_lang(p.get("language"))
+
+    for ord_, item in enumerate(curriculum):
+        if (item.get("kind") or "").lower() == "module":
+            continue
+
+        parent = item.get("parent_module")
+        if not parent or parent not in module_map:
+            continue
+
+        c_title = item.get("title", "Unknown Course")
+        semester = item.get("semester")
+        ects = extract_ects(item.get("ects"))
+        module_id = module_map.get((parent, semester), module_map[parent])
+
+        course_id = str(
+            uuid.uuid5(uuid.NAMESPACE_URL, f"{module_id}:{c_title}:{semester}:{ects}")
+        )
+
+        course_rows.append((
+            ord_,
+            course_id,
+            parent,
+            c_title,
+            ects,
+            language,
+            item.get("sws"),
+            semester,
+            item.get("kind"),
+            item.get("details_html"),
+            j(item.get("content")),
+            j(item.get("learning_outcomes")),
+            j(item.get("teaching_method")),
+            j(item.get("exam_method")),
+            j(item.get("literature")),
+            j(item.get("teaching_language")),
+            url,
+        ))
+
+    return program_row, module_rows, course_rows
+
+
+# =====================================================
+# Set-based merge
+# =====================================================
+
+# Every upsert carries an IS DISTINCT FROM guard: unchanged rows are not
+# rewritten, so a re-import creates no dead tuples and takes no row locks
+# for data that did not change.
+
+MERGE_PROGRAM = """
+INSERT INTO app.study_programs
+    (id, name, description, degree, semesters, mode,
+     total_ects, language, application_period,
+     start_dates, source_url, created_at, updated_at)
+SELECT id, name, NULL, degree, semesters, mode,
+       total_ects, language, application_period,
+       start_dates, source_url, now(), now()
+FROM stg_programs
+ON CONFLICT (name, mode) DO UPDATE SET
+    degree             = EXCLUDED.degree,
+    semesters          = EXCLUDED.semesters,
+    total_ects         = EXCLUDED.total_ects,
+    language           = EXCLUDED.language,
+    application_period = EXCLUDED.application_period,
+    start_dates        = EXCLUDED.start_dates,
+    source_url         = EXCLUDED.source_url,
+    updated_at         = now()
+WHERE (study_programs.degree, study_programs.semesters, study_programs.total_ects,
+       study_programs.language, study_programs.application_period,
+       study_programs.start_dates, study_programs.source_url)
+      IS DISTINCT FROM
+      (EXCLUDED.degree, EXCLUDED.semesters, EXCLUDED.total_ects,
+       EXCLUDED.language, EXCLUDED.application_period,
+       EXCLUDED.start_dates, EXCLUDED.source_url)
+"""
+
+# Resolve the live program id by natural key: it may predate the uuid5 scheme.
+RESOLVE_PROGRAM = """
+SELECT sp.id
+FROM stg_programs s
+JOIN app.study_programs sp
+  ON sp.name = s.name
+ AND sp.mode IS NOT DISTINCT FROM s.mode
+"""
+
+MERGE_MODULES = """
+INSERT INTO app.modules
+    (id, study_program_id, title, semester,
+     details_html, content, learning_outcomes,
+     teaching_method, exam_method, literature,
+     teaching_language, created_at, updated_at)
+SELECT DISTINCT ON (s.title)
+       s.id, %(program_id)s::uuid, s.title, s.semester,
+       s.details_html, s.content, s.learning_outcomes,
+       s.teaching_method, s.exam_method, s.literature,
+       s.teaching_language, now(), now()
+FROM stg_modules s
+ORDER BY s.title, s.ord
+ON CONFLICT (study_program_id, title) DO UPDATE SET
+    semester          = EXCLUDED.semester,
+    details_html      = EXCLUDED.details_html,
+    content           = EXCLUDED.content,
+    learning_outcomes = EXCLUDED.learning_outcomes,
+    teaching_method   = EXCLUDED.teaching_method,
+    exam_method       = EXCLUDED.exam_method,
+    literature        = EXCLUDED.literature,
+    teaching_language = EXCLUDED.teaching_language,
+    updated_at        = now()
+WHERE (modules.semester, modules.details_html, modules.content,
+       modules.learning_outcomes, modules.teaching_method, modules.exam_method,
+       modules.literature, modules.teaching_language)
+      IS DISTINCT FROM
+      (EXCLUDED.semester, EXCLUDED.details_html, EXCLUDED.content,
+       EXCLUDED.learning_outcomes, EXCLUDED.teaching_method, EXCLUDED.exam_method,
+       EXCLUDED.literature, EXCLUDED.teaching_language)
+"""
+
+MERGE_COURSES = """
+INSERT INTO app.courses (
+    id, module_id, title, description, ects,
+    language, sws, semester, kind,
+    details_html, content, learning_outcomes,
+    teaching_method, exam_method, literature,
+    teaching_language, source_url, study_program_id,
+    created_at, updated_at
+)
+SELECT DISTINCT ON (m.id, s.title)
+       s.id, m.id, s.title, NULL, s.ects,
+       s.language, s.sws, s.semester, s.kind,
+       s.details_html, s.content, s.learning_outcomes,
+       s.teaching_method, s.exam_method, s.literature,
+       s.teaching_language, s.source_url, %(program_id)s::uuid,
+       now(), now()
+FROM stg_courses s
+JOIN app.modules m
+  ON m.study_program_id = %(program_id)s::uuid
+ AND m.title = s.module_title
+ORDER BY m.id, s.title, s.ord
+ON CONFLICT ON CONSTRAINT uq_courses_module_title DO UPDATE SET
+    ects              = EXCLUDED.ects,
+    language          = EXCLUDED.language,
+    sws               = EXCLUDED.sws,
+    semester          = EXCLUDED.semester,
+    kind              = EXCLUDED.kind,
+    details_html      = EXCLUDED.details_html,
+    content           = EXCLUDED.content,
+    learning_outcomes = EXCLUDED.learning_outcomes,
+    teaching_method   = EXCLUDED.teaching_method,
+    exam_method       = EXCLUDED.exam_method,
+    literature        = EXCLUDED.literature,
+    teaching_language = EXCLUDED.teaching_language,
+    source_url        = EXCLUDED.source_url,
+    updated_at        = now()
+WHERE (courses.ects, courses.language, courses.sws, courses.semester, courses.kind,
+       courses.details_html, courses.content, courses.learning_outcomes,
+       courses.teaching_method, courses.exam_method, courses.literature,
+       courses.teaching_language, courses.source_url)
+      IS DISTINCT FROM
+      (EXCLUDED.ects, EXCLUDED.language, EXCLUDED.sws, EXCLUDED.semester, EXCLUDED.kind,
+       EXCLUDED.details_html, EXCLUDED.content, EXCLUDED.learning_outcomes,
+       EXCLUDED.teaching_method, EXCLUDED.exam_method, EXCLUDED.literature,
+       EXCLUDED.teaching_language, EXCLUDED.source_url)
+"""
+
+MERGE_LINKS = """
+INSERT INTO app.study_program_courses (study_program_id, course_id, created_at)
+SELECT DISTINCT %(program_id)s::uuid, c.id, now()
+FROM stg_courses s
+JOIN app.modules m
+  ON m.study_program_id = %(program_id)s::uuid
+ AND m.title = s.module_title
+JOIN app.courses c
+  ON c.module_id = m.id
+ AND c.title = s.title
+ON CONFLICT DO NOTHING
+"""
+
+STORE_HASH = """
+INSERT INTO app.import_source_hashes (program_key, source_hash, imported_at)
+VALUES (%s, %s, now())
+ON CONFLICT (program_key) DO UPDATE SET
+    source_hash = EXCLUDED.source_hash,
+    imported_at = now()
+"""
+
+
+def import_program(conn, p, source_hash) -> dict:
+    """
+    Merge one program in a single short transaction.
+    Returns affected row counts per table.
+    """
+    program_row, module_rows, course_rows = build_rows(p)
+    stats = {"programs": 0, "modules": 0, "courses": 0, "links": 0}
 
     try:
-        for i, p in enumerate(programs, 1):
-            curriculum = p.get("curriculum", [])
-            if not curriculum:
-                continue
+        with conn.cursor() as cur:
+            copy_rows(cur, "stg_programs", PROGRAM_COLUMNS, [program_row])
+            copy_rows(cur, "stg_modules", MODULE_COLUMNS, module_rows)
+            copy_rows(cur, "stg_courses", COURSE_COLUMNS, course_rows)
 
-            title = p.get("program_title", "Unknown")
-            mode = p.get("mode")
-            url = p.get("program_url", title)
-
-            print(f"\n📚 [{i}] {title}")
-
-            program_id = str(uuid.uuid5(uuid.NAMESPACE_URL, f"{url}:{mode}"))
-
-            # ---------- Study program ----------
-            cur.execute(
-                """
-                INSERT INTO app.study_programs
-                    (id, name, description, degree, semesters, mode,
-                     total_ects, language, application_period,
-                     start_dates, source_url, created_at, updated_at)
-                VALUES
-                    (%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,now(),now())
-                ON CONFLICT (name, mode)
-                DO UPDATE SET updated_at = now()
-                RETURNING id
-                """,
-                (
-                    program_id,
-                    title,
-                    None,
-                    p.get("degree"),
-                    p.get("semesters"),
-                    mode,
-                    p.get("total_ects"),
-                    p.get("language"),
-                    p.get("application_period"),
-                    p.get("start_dates"),
-                    url,
-                ),
-            )
+            cur.execute(MERGE_PROGRAM)
+            stats["programs"] = cur.rowcount
 
-            program_id = cur.fetchone()[0]
-            programs_i += 1
-
-            # ---------- Modules ----------
-            module_map = {}
-
-            for item in curriculum:
-                if (item.get("kind") or "").lower() != "module":
-                    continue
-
-                m_title = item.get("title", "Unknown Module")
-                semester = item.get("semester")
-
-                module_id = str(
-                    uuid.uuid5(uuid.NAMESPACE_URL, f"{program_id}:{m_title}:{semester}")
-                )
-
-                cur.execute(
-                    """
-                    INSERT INTO app.modules
-                        (id, study_program_id, title, semester,
-                         details_html, content, learning_outcomes,
-                         teaching_method, exam_method, literature,
-                         teaching_language, created_at, updated_at)
-                    VALUES
-                        (%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,now(),now())
-                    ON CONFLICT (study_program_id, title)
-                    DO UPDATE SET updated_at = now()
-                    RETURNING id
-                    """,
-                    (
-                        module_id,
-                        program_id,
-                        m_title,
-                        semester,
-                        item.get("details_html"),
-                        j(item.get("content")),
-                        j(item.get("learning_outcomes")),
-                        j(item.get("teaching_method")),
-                        j(item.get("exam_method")),
-                        j(item.get("literature")),
-                        j(item.get("teaching_language")),
-                    ),
-                )
-
-                module_id = cur.fetchone()[0]
-                module_map[(m_title, semester)] = module_id
-                modules_i += 1
-
-            # ---------- Courses ----------
-            for item in curriculum:
-                if (item.get("kind") or "").lower() == "module":
-                    continue
-
-                c_title = item.get("title", "Unknown Course")
-                semester = item.get("semester")
-                ects = extract_ects(item.get("ects"))
-
-                module_id = None
-                parent = item.get("parent_module")
-                if parent:
-                    module_id = module_map.get((parent, semester))
-                    if not module_id:
-                        for (t, _), mid in module_map.items():
-                            if t == parent:
-                                module_id = mid
-                                break
-
-                if not module_id:
-                    continue
-
-                # 🔥 КЛЮЧЕВО: UUID через module_id
-                course_id = str(
-                    uuid.uuid5(
-                        uuid.NAMESPACE_URL,
-                        f"{module_id}:{c_title}:{semester}:{ects}"
-                    )
-                )
-
-                cur.execute(
-                    """
-                    INSERT INTO app.courses (
-                        id, module_id, title, description, ects,
-                        language, sws, semester, kind,
-                        details_html, content, learning_outcomes,
-                        teaching_method, exam_method, literature,
-                        teaching_language, source_url, study_program_id,
-                        created_at, updated_at
-                    )
-                    VALUES
-                        (%s,%s,%s,%s,%s,%s,%s,%s,%s,
-                         %s,%s,%s,%s,%s,%s,%s,%s,%s,
-                         now(),now())
-                    ON CONFLICT ON CONSTRAINT uq_courses_module_title
-                    DO NOTHING
-                    RETURNING id;
-                    """,
-                    (
-                        course_id,
-                        module_id,
-                        c_title,
-                        None,
-                        ects,
-                        normalize_lang(p.get("language")),
-                        item.get("sws"),
-                        semester,
-                        item.get("kind"),
-                        item.get("details_html"),
-                        j(item.get("content")),
-                        j(item.get("learning_outcomes")),
-                        j(item.get("teaching_method")),
-                        j(item.get("exam_method")),
-                        j(item.get("literature")),
-                        j(item.get("teaching_language")),
-                        url,
-                        program_id,
-                    ),
-                )
-
-                row = cur.fetchone()
-                if not row:
-                    continue
-
-                course_id = row[0]
-                courses_i += 1
-
-                cur.execute(
-                    """
-                    INSERT INTO app.study_program_courses
-                        (study_program_id, course_id, created_at)
-                    VALUES (%s,%s,now())
-                    ON CONFLICT DO NOTHING
-                    """,
-                    (program_id, course_id),
-                )
-                links_i += 1
-
-            print(f"   ✅ modules={modules_i}, courses={courses_i}, links={links_i}")
+            cur.execute(RESOLVE_PROGRAM)
+            params = {"program_id": cur.fetchone()[0]}
 
-        conn.commit()
+            cur.execute(MERGE_MODULES, params)
+            stats["modules"] = cur.rowcount
 
-        print("\n================ IMPORT FINISHED ================")
-        print(f"Programs: {programs_i}")
-        print(f"Modules : {modules_i}")
-        print(f"Courses : {courses_i}")
-        print(f"Links   : {links_i}")
-        print("================================================")
+            cur.execute(MERGE_COURSES, params)
+            stats["courses"] = cur.rowcount
 
-    except Exception as e:
+            cur.execute(MERGE_LINKS, params)
+            stats["links"] = cur.rowcount
+
+            cur.execute(STORE_HASH, (program_key(p), source_hash))
+
+        conn.commit()
+        return stats
+
+    except Exception:
         conn.rollback()
-        print("❌ Import failed:", e)
         raise
+
+
+def import_partition(worker_no, batch) -> dict:
+    """
+    Import a list of (program, hash) pairs over one dedicated connection.
+    A failing program is rolled back and reported; the rest continue.
+    """
+    totals = {"programs": 0, "modules": 0, "courses": 0, "links": 0, "failed": 0}
+    conn = connect_db()
+
+    try:
+        with conn.cursor() as cur:
+            cur.execute(STAGING_DDL)
+        conn.commit()
+
+        for p, source_hash in batch:
+            title = p.get("program_title", "Unknown")
+            try:
+                stats = import_program(conn, p, source_hash)
+            except Exception as e:
+                totals["failed"] += 1
+                print(f"   ❌ [w{worker_no}] {title}: {e}")
+                continue
+
+            for k, v in stats.items():
+                totals[k] += v
+            print(
+                f"   ✅ [w{worker_no}] {title}: modules={stats['modules']}, "
+                f"courses={stats['courses']}, links={stats['links']}"
+            )
+
+        return totals
+
     finally:
-        cur.close()
         conn.close()
 
 
+# =====================================================
+# Import logic
+# =====================================================
+
+def select_changed(programs, known_hashes, full: bool):
+    changed = []
+    for p in programs:
+        if not p.get("curriculum"):
+            continue
+        source_hash = program_hash(p)
+        if full or known_hashes.get(program_key(p)) != source_hash:
+            changed.append((p, source_hash))
+    return changed
+
+
+def partition(items, n):
+    """Round-robin split so large and small programs spread evenly."""
+    return [items[i::n] for i in range(n) if items[i::n]]
+
+
+def import_data(json_path: str, known_hashes: dict, full: bool = False) -> int:
+    print(f"📖 Loading data from {json_path}")
+
+    with open(json_path, encoding="utf-8") as f:
+        programs = json.load(f)
+
+    print(f"✅ Programs loaded: {len(programs)}")
+
+    changed = select_changed(programs, known_hashes, full)
+    if not changed:
+        print("✅ Source unchanged — nothing to import")
+        return 0
+
+    workers = max(1, int(os.getenv("IMPORT_WORKERS", "4")))
+    batches = partition(changed, workers)
+
+    print(f"🟡 {len(changed)} changed program(s) — importing with {len(batches)} connection(s)")
+
+    started = time.time()
+    totals = {"programs": 0, "modules": 0, "courses": 0, "links": 0, "failed": 0}
+
+    with ThreadPoolExecutor(max_workers=len(batches)) as pool:
+        futures = [
+            pool.submit(import_partition, i + 1, batch)
+            for i, batch in enumerate(batches)
+        ]
+        for future in as_completed(futures):
+            for k, v in future.result().items():
+                totals[k] += v
+
+    print("\n================ IMPORT FINISHED ================")
+    print(f"Programs: {totals['programs']}")
+    print(f"Modules : {totals['modules']}")
+    print(f"Courses : {totals['courses']}")
+    print(f"Links   : {totals['links']}")
+    print(f"Failed  : {totals['failed']}")
+    print(f"Took    : {time.time() - started:.1f}s")
+    print("================================================")
+
+    return totals["failed"]
+
+
 # =====================================================
 # Entrypoint
 # =====================================================
 
 if __name__ == "__main__":
     print("🚀 Importer started")
-    print("⏳ Waiting 20 seconds before import...")
-    time.sleep(20)
+    delay = int(os.getenv("IMPORT_DELAY", "20"))
+    if delay > 0:
+        print(f"⏳ Waiting {delay} seconds before import...")
+        time.sleep(delay)
 
     DATA_FILE = os.getenv("DATA_FILE", "/data/hcw_courses.json")
 
@@ -336,13 +643,13 @@ if __name__ == "__main__":
 
     try:
         wait_for_schema(cur)
+        known_hashes = load_source_hashes(cur)
+        conn.commit()
 
-        if database_has_data(cur):
-            print("✅ Database already populated — skipping import")
-            exit(0)
-
-        print("🟡 Database is empty — starting import")
-        import_data(DATA_FILE)
+        failed = import_data(DATA_FILE, known_hashes, full=env_flag("IMPORT_FULL"))
+        if failed:
+            print(f"⚠️ {failed} program(s) failed — they will be retried on the next run")
+            exit(1)
 
         print("✅ Import completed successfully")
         exit(0)
@@ -1,10 +1,14 @@
 # Imports
+import argparse
+import hashlib
 import json
 import re
 import asyncio
+import contextlib
+from dataclasses import dataclass
 from pathlib import Path
 from typing import List, Dict, Any
-from playwright.async_api import async_playwright
+from urllib.parse import urlparse
 from bs4 import BeautifulSoup
 from tqdm import tqdm
 
@@ -18,16 +22,10 @@ PROGRAMS_LIST_URL = f"{BASE_URL}/studium-weiterbildung/studienangebot"
 # Example: ...\campuswiki\scripts\scrape_hcw_courses.py -> ...\campuswiki\data
 OUTPUT_DIR = Path(__file__).resolve().parent.parent / "data"
 
-# Creates the output directory if it doesn't exist yet (including missing parent folders).
-# exist_ok=True prevents an error if the folder already exists.
-OUTPUT_DIR.mkdir(parents=True, exist_ok=True)
-print(f"Output directory: {OUTPUT_DIR}")
+# Identifies the scraper to the HCW web servers.
+USER_AGENT = "campuswiki-scraper/1.0 (+https://github.com/loonaarc/campuswiki_coursescraper)"
 
-# Controls whether the browser UI is shown:
-# False = visible browser window (good for debugging), True = headless (runs in background).
-HEADLESS = True
-
-# Default timeout for Playwright actions/waits, in milliseconds (15 seconds).
+# Default timeout for a single HTTP request, in milliseconds (15 seconds).
 TIMEOUT = 15000  # ms
 
 _TITLE_NORMALIZE = str.maketrans({"ä": "a", "ö": "o", "ü": "u", "ß": "ss"})
@@ -300,39 +298,194 @@ def parse_curriculum_from_html(html: str) -> List[Dict[str, Any]]:
     return result
 
 
-# Define an async function that returns a list of program-detail URLs found on the programs list page.
-async def get_program_urls(page) -> List[str]:
-    # Navigate to the page that lists all programs; wait until the DOM is loaded (not necessarily all network idle).
-    await page.goto(PROGRAMS_LIST_URL, wait_until="domcontentloaded")
+# =====================================================
+# Fetching
+# =====================================================
+#
+# Program pages are server-rendered (the curriculum accordion, including the
+# hidden detail blocks, is already in the HTML), so plain HTTP requests are
+# enough. Playwright's APIRequestContext is used as HTTP client: no browser,
+# no page rendering, and full control over conditional request headers.
 
-    # Try to dismiss the cookie/privacy consent dialog (it may or may not be present).
-    try:
-        # Find the button that contains the visible text "ALLE AKZEPTIEREN" and click it.
-        # timeout=5000 means "wait up to 5 seconds for the button to be clickable".
-        await page.locator("button:has-text('ALLE AKZEPTIEREN')").click(timeout=5000)
+# Result of a single fetch.
+# - html is None when the server answered 304 or the body hash did not change.
+@dataclass
+class FetchResult:
+    url: str
+    html: str | None
+    changed: bool
+
+
+class HttpCache:
+    """
+    Validators per URL, persisted between runs:
+    {url: {"etag": ..., "last_modified": ..., "sha256": ...}}
+    """
+
+    def __init__(self, path: Path, enabled: bool = True):
+        self.path = path
+        self.entries: Dict[str, Dict[str, Any]] = {}
+        if enabled and path.exists():
+            self.entries = json.loads(path.read_text(encoding="utf-8"))
+
+    def get(self, url: str) -> Dict[str, Any]:
+        return self.entries.get(url, {})
+
+    def put(self, url: str, etag: str | None, last_modified: str | None, body: str):
+        self.entries[url] = {
+            "etag": etag,
+            "last_modified": last_modified,
+            "sha256": hashlib.sha256(body.encode("utf-8")).hexdigest(),
+        }
+
+    def discard(self, url: str):
+        """Forget the validators, so the next run fetches and parses the page again."""
+        self.entries.pop(url, None)
+
+    def save(self):
+        self.path.write_text(json.dumps(self.entries, indent=2, sort_keys=True), encoding="utf-8")
+
+
+def fixture_name(url: str) -> str:
+    """Map a URL to its file name in a fixture directory."""
+    if url.rstrip("/") == PROGRAMS_LIST_URL:
+        return "index.html"
+    slug = re.sub(r"[^a-zA-Z0-9_-]+", "_", urlparse(url).path.rstrip("/").rsplit("/", 1)[-1])
+    return f"{slug or 'index'}.html"
+
+
+class Fetcher:
+    """
+    Base fetcher: compares body hashes with the cache, so a 200 with an
+    unchanged body is reported as unchanged even if the server sends no
+    validators. Optionally stores every fetched page as a fixture.
+    """
+
+    def __init__(self, cache: HttpCache, save_fixtures: Path | None = None):
+        self.cache = cache
+        self.save_fixtures = save_fixtures
+        if save_fixtures:
+            save_fixtures.mkdir(parents=True, exist_ok=True)
+
+    async def get(self, url: str, conditional: bool = True) -> FetchResult:
+        raise NotImplementedError
+
+    def _accept(self, url: str, body: str, etag: str | None, last_modified: str | None,
+                conditional: bool) -> FetchResult:
+        previous = self.cache.get(url).get("sha256")
+        self.cache.put(url, etag, last_modified, body)
+
+        if self.save_fixtures:
+            (self.save_fixtures / fixture_name(url)).write_text(body, encoding="utf-8")
+
+        if conditional and previous == self.cache.get(url)["sha256"]:
+            return FetchResult(url, None, False)
+        return FetchResult(url, body, True)
+
+
+class HttpFetcher(Fetcher):
+    """
+    Polite concurrent HTTP fetcher.
+
+    - at most `concurrency` requests in flight overall
+    - at most `per_host` requests in flight per host
+    - at least `min_interval` seconds between request starts per host
+    - If-None-Match / If-Modified-Since from the cache; 304 -> unchanged
+    - 429 / 5xx retried with backoff, honouring Retry-After
+    """
 
-        # Wait 0.5 seconds to give the UI time to close the dialog and unblock the page.
-        await page.wait_for_timeout(500)
+    def __init__(self, request, cache: HttpCache, concurrency: int, per_host: int,
+                 min_interval: float, retries: int = 3, save_fixtures: Path | None = None):
+        super().__init__(cache, save_fixtures)
+        self.request = request
+        self.per_host = per_host
+        self.min_interval = min_interval
+        self.retries = retries
+        self._global = asyncio.Semaphore(concurrency)
+        self._hosts: Dict[str, asyncio.Semaphore] = {}
+        self._pacing: Dict[str, asyncio.Lock] = {}
+        self._last_start: Dict[str, float] = {}
+
+    async def _pace(self, host: str):
+        # Serialize request *starts* per host so they are spaced by min_interval
+        lock = self._pacing.setdefault(host, asyncio.Lock())
+        async with lock:
+            loop = asyncio.get_running_loop()
+            wait = self._last_start.get(host, 0.0) + self.min_interval - loop.time()
+            if wait > 0:
+                await asyncio.sleep(wait)
+            self._last_start[host] = loop.time()
+
+    async def get(self, url: str, conditional: bool = True) -> FetchResult:
+        host = urlparse(url).netloc
+        host_sem = self._hosts.setdefault(host, asyncio.Semaphore(self.per_host))
+
+        headers = {}
+        cached = self.cache.get(url) if conditional else {}
+        if cached.get("etag"):
+            headers["If-None-Match"] = cached["etag"]
+        if cached.get("last_modified"):
+            headers["If-Modified-Since"] = cached["last_modified"]
+
+        async with self._global, host_sem:
+            for attempt in range(self.retries + 1):
+                await self._pace(host)
+                resp = await self.request.get(
+                    url, headers=headers, timeout=TIMEOUT, fail_on_status_code=False
+                )
+
+                if resp.status == 304:
+                    return FetchResult(url, None, False)
+
+                if resp.status == 429 or resp.status >= 500:
+                    if attempt == self.retries:
+                        break
+                    retry_after = resp.headers.get("retry-after", "")
+                    delay = float(retry_after) if retry_after.isdigit() else 2 ** attempt
+                    await asyncio.sleep(delay)
+                    continue
+
+                if resp.status != 200:
+                    break
+
+                body = await resp.text()
+                return self._accept(
+                    url, body,
+                    resp.headers.get("etag"),
+                    resp.headers.get("last-modified"),
+                    conditional,
+                )
 
-    # If the dialog never appears, the selector doesn't match, or the click fails, don't crash.
-    except Exception:
-        # Do nothing and continue scraping normally.
-        pass
+        raise RuntimeError(f"HTTP {resp.status} for {url}")
+
+
+class FixtureFetcher(Fetcher):
+    """Replays saved HTML from a directory (see fixture_name) — no network."""
+
+    def __init__(self, directory: Path, cache: HttpCache):
+        super().__init__(cache)
+        self.directory = directory
+
+    async def get(self, url: str, conditional: bool = True) -> FetchResult:
+        path = self.directory / fixture_name(url)
+        if not path.exists():
+            raise FileNotFoundError(f"No fixture for {url}: {path}")
+        return self._accept(url, path.read_text(encoding="utf-8"), None, None, conditional)
+
+
+# Extract all program-detail URLs from the programs list page.
+def parse_program_urls(html: str) -> List[str]:
+    soup = BeautifulSoup(html, "lxml")
 
-    # Select all <a> elements whose href contains the expected programs path segment.
     # Using a substring selector makes this more robust to small markup changes.
-    anchors = await page.locator("section.courses a[href*='/studium-weiterbildung/studienangebot/']").all()
+    anchors = soup.select("section.courses a[href*='/studium-weiterbildung/studienangebot/']")
 
-    # Prepare a list to collect candidate URLs (may contain duplicates).
+    # Keep discovery order, drop duplicates.
     seen = set()
     urls = []
 
-    # Iterate over all matching anchor elements.
     for a in anchors:
-        # Read the href attribute value.
-        href = await a.get_attribute("href")
-
-        # Skip anchors without href.
+        href = a.get("href")
         if not href:
             continue
 
@@ -347,8 +500,7 @@ async def get_program_urls(page) -> List[str]:
             seen.add(url)
             urls.append(url)
 
-    print(f"Discovered {len(urls)} program URLs:\n{chr(10).join(urls)}")
-    # Return the list of discovered program URLs.
+    print(f"Discovered {len(urls)} program URLs")
     return urls
 
 # ...existing code...
@@ -446,11 +598,7 @@ def extract_program_title_and_info(html: str) -> tuple[str | None, Dict[str, Any
 
 # ...existing code...
 
-async def scrape_program(page, program_url: str) -> Dict[str, Any]:
-    await page.goto(program_url, wait_until="domcontentloaded")
-    await page.wait_for_timeout(500)
-    html_content = await page.content()
-
+def build_program_record(program_url: str, html_content: str) -> Dict[str, Any]:
     # Pull title + DT/DD facts from the fixed header
     program_title, program_info_flat, program_info_all = extract_program_title_and_info(html_content)
 
@@ -476,57 +624,140 @@ async def scrape_program(page, program_url: str) -> Dict[str, Any]:
             record[k] = v
 
     return record
-# ...existing code...
-
 
-# Define the async entry point that coordinates the browser session and writes output.
-async def main():
-    # Start Playwright and ensure it is cleaned up automatically when done.
-    async with async_playwright() as playwright:
-        # Launch a Chromium browser instance; headless mode controlled by the HEADLESS constant.
-        browser = await playwright.chromium.launch(headless=HEADLESS)
 
-        # Create an isolated browser context (fresh cookies/cache).
-        context = await browser.new_context()
-
-        # Open a new page/tab to do the navigation and scraping.
-        page = await context.new_page()
-
-        # Discover all program URLs from the programs listing page.
-        program_urls = await get_program_urls(page)
+async def scrape_program(fetcher: Fetcher, program_url: str,
+                         previous: Dict[str, Any] | None) -> tuple[Dict[str, Any], bool]:
+    """
+    Returns (record, changed).
+    Unchanged pages reuse the previous record without parsing.
+    """
+    result = await fetcher.get(program_url, conditional=previous is not None)
+
+    if not result.changed and previous is not None:
+        return previous, False
+
+    if result.html is None:
+        # Server says "not modified" but we have no record to reuse
+        result = await fetcher.get(program_url, conditional=False)
+
+    record = build_program_record(program_url, result.html)
+    return record, record != previous
+
+
+def load_previous(path: Path) -> Dict[str, Dict[str, Any]]:
+    """Previous full output keyed by program URL (failed entries are ignored)."""
+    if not path.exists():
+        return {}
+    records = json.loads(path.read_text(encoding="utf-8"))
+    return {r["program_url"]: r for r in records if "error" not in r}
+
+
+def parse_args():
+    parser = argparse.ArgumentParser(description="Scrape HCW study programs into JSON.")
+    parser.add_argument("--output-dir", type=Path, default=OUTPUT_DIR,
+                        help="where hcw_courses.json, the delta file and the HTTP cache live")
+    parser.add_argument("--fixtures", type=Path,
+                        help="replay saved HTML from this directory instead of the network")
+    parser.add_argument("--save-fixtures", type=Path,
+                        help="store every fetched page in this directory (for later --fixtures runs)")
+    parser.add_argument("--full", action="store_true",
+                        help="ignore cached validators and previous output, scrape everything")
+    parser.add_argument("--concurrency", type=int, default=8,
+                        help="max requests in flight overall")
+    parser.add_argument("--per-host", type=int, default=4,
+                        help="max requests in flight per host")
+    parser.add_argument("--min-interval", type=float, default=0.2,
+                        help="min seconds between request starts per host")
+    return parser.parse_args()
+
+
+# Define the async entry point that coordinates fetching and writes output.
+async def main(args):
+    output_dir: Path = args.output_dir
+    output_dir.mkdir(parents=True, exist_ok=True)
+
+    out_path = output_dir / "hcw_courses.json"
+    delta_path = output_dir / "hcw_courses.delta.json"
+
+    # Validators and previous records drive incremental runs; --full ignores both.
+    cache = HttpCache(output_dir / ".http_cache.json", enabled=not args.full)
+    previous = {} if args.full else load_previous(out_path)
+
+    async with contextlib.AsyncExitStack() as stack:
+        if args.fixtures:
+            # Offline: Playwright is not even imported
+            fetcher: Fetcher = FixtureFetcher(args.fixtures, cache)
+        else:
+            from playwright.async_api import async_playwright
+
+            playwright = await stack.enter_async_context(async_playwright())
+            request = await playwright.request.new_context(
+                user_agent=USER_AGENT,
+                extra_http_headers={"Accept-Language": "de-AT,de;q=0.9"},
+            )
+            stack.push_async_callback(request.dispose)
+            fetcher = HttpFetcher(
+                request, cache,
+                concurrency=args.concurrency,
+                per_host=args.per_host,
+                min_interval=args.min_interval,
+                save_fixtures=args.save_fixtures,
+            )
+
+        # The listing is always fetched in full: it decides which programs exist.
+        listing = await fetcher.get(PROGRAMS_LIST_URL, conditional=False)
+        program_urls = parse_program_urls(listing.html)
 
-        # If discovery fails (no URLs found), fall back to a single known URL for testing.
         if not program_urls:
             print("No program URLS found. Nothing to scrape.")
             return
 
-        # Prepare list to hold the scrape results for each program.
-        results = []
-
-        # Loop over each program URL with a terminal progress bar.
-        for url in tqdm(program_urls, desc="Programs"):
+        async def scrape_one(url):
             try:
-                # Scrape one program and append the resulting data.
-                data = await scrape_program(page, url)
-                results.append(data)
+                record, changed = await scrape_program(fetcher, url, previous.get(url))
+                return url, record, changed
             except Exception as e:
-                # If scraping fails, record the error alongside the URL instead of crashing.
-                results.append({"program_url": url, "error": str(e)})
-
-        # Build the output file path inside the configured output directory.
-        out_path = OUTPUT_DIR / "hcw_courses.json"
-
-        # Write the results as pretty-printed UTF-8 JSON (ensure_ascii=False keeps umlauts readable).
-        out_path.write_text(
-            json.dumps(results, ensure_ascii=False, indent=2),
-            encoding="utf-8",
-        )
-
-        # Close the browser instance.
-        await browser.close()
+                # The page may already be cached as fetched: without this, a page
+                # that failed to parse would look "unchanged" on every later run.
+                cache.discard(url)
+                # Keep the last good record; the failure is reported, not published.
+                if url in previous:
+                    print(f"⚠️ {url}: {e} (keeping previous record)")
+                    return url, previous[url], False
+                return url, {"program_url": url, "error": str(e)}, False
+
+        by_url = {}
+        changed_urls = []
+        tasks = [asyncio.create_task(scrape_one(url)) for url in program_urls]
+        for task in tqdm(asyncio.as_completed(tasks), total=len(tasks), desc="Programs"):
+            url, record, changed = await task
+            by_url[url] = record
+            if changed:
+                changed_urls.append(url)
+
+    # Keep discovery order in both files.
+    results = [by_url[url] for url in program_urls]
+    delta = [by_url[url] for url in program_urls if url in changed_urls]
+    removed = sorted(set(previous) - set(program_urls))
+
+    # Write the results as pretty-printed UTF-8 JSON (ensure_ascii=False keeps umlauts readable).
+    out_path.write_text(json.dumps(results, ensure_ascii=False, indent=2), encoding="utf-8")
+
+    # Delta: only new/changed programs, same shape as the full file (importer DATA_FILE).
+    delta_path.write_text(json.dumps(delta, ensure_ascii=False, indent=2), encoding="utf-8")
+
+    cache.save()
+
+    failed = sum(1 for r in results if "error" in r)
+    print(f"Programs: {len(results)}, changed: {len(delta)}, failed: {failed}, removed: {len(removed)}")
+    for url in removed:
+        print(f"  removed: {url}")
+    print(f"Full output : {out_path}")
+    print(f"Delta output: {delta_path}")
 
 
 # Standard Python entry point guard: only run main() when executed as a script (not when imported).
 if __name__ == "__main__":
     # Run the async main coroutine using asyncio's event loop runner.
-    asyncio.run(main())
+    asyncio.run(main(parse_args()))
@@ -0,0 +1,237 @@
+# Offline tests for scrape_hcw_courses.py
+#
+# - Fixture mode: full output and delta file from the pages in fixtures/
+# - Conditional requests: ETag / Last-Modified sent back, 304 -> unchanged
+#
+# Run from importer/:  python -m pytest tests
+
+import asyncio
+import json
+import shutil
+import sys
+from argparse import Namespace
+from pathlib import Path
+
+import pytest
+
+sys.path.insert(0, str(Path(__file__).resolve().parent.parent))
+
+import scrape_hcw_courses as scraper  # noqa: E402
+
+FIXTURES = Path(__file__).resolve().parent / "fixtures"
+
+PROGRAM_URL = f"{scraper.PROGRAMS_LIST_URL}/bachelor-gesundheitsmanagement"
+OTHER_URL = f"{scraper.PROGRAMS_LIST_URL}/master-pflegewissenschaft"
+
+
+@pytest.fixture
+def pages(tmp_path):
+    """Writable copy of the fixture pages (tests edit them between runs)."""
+    return Path(shutil.copytree(FIXTURES, tmp_path / "pages"))
+
+
+def run(pages: Path, output_dir: Path, full: bool = False):
+    args = Namespace(
+        output_dir=output_dir,
+        fixtures=pages,
+        save_fixtures=None,
+        full=full,
+        concurrency=4,
+        per_host=2,
+        min_interval=0.0,
+    )
+    asyncio.run(scraper.main(args))
+    full_output = json.loads((output_dir / "hcw_courses.json").read_text(encoding="utf-8"))
+    delta = json.loads((output_dir / "hcw_courses.delta.json").read_text(encoding="utf-8"))
+    return full_output, delta
+
+
+def urls(records):
+    return [r["program_url"] for r in records]
+
+
+# =====================================================
+# Fixture mode: full output and delta
+# =====================================================
+
+def test_first_run_puts_every_program_in_the_delta(pages, tmp_path):
+    full_output, delta = run(pages, tmp_path / "out")
+
+    # Discovery order, duplicate link dropped
+    assert urls(full_output) == [PROGRAM_URL, OTHER_URL]
+    assert delta == full_output
+
+    program = full_output[0]
+    assert program["program_title"] == "Gesundheitsmanagement"
+    assert program["semesters"] == 6
+    assert program["total_ects"] == 180
+    course = program["curriculum"][1]
+    assert course["kind"] == "course"
+    assert course["parent_module"] == "Grundlagen"
+    assert course["ects"] == 3.0
+    assert course["content"] == [
+        {"type": "text", "content": "Aufbau des österreichischen Gesundheitssystems."}
+    ]
+
+
+def test_unchanged_pages_give_an_empty_delta(pages, tmp_path):
+    first, _ = run(pages, tmp_path / "out")
+    full_output, delta = run(pages, tmp_path / "out")
+
+    assert delta == []
+    assert full_output == first
+
+
+def test_only_the_changed_program_is_in_the_delta(pages, tmp_path):
+    run(pages, tmp_path / "out")
+
+    page = pages / "master-pflegewissenschaft.html"
+    page.write_text(
+        page.read_text(encoding="utf-8").replace("Pflegeforschung", "Evidenzbasierte Pflege"),
+        encoding="utf-8",
+    )
+    full_output, delta = run(pages, tmp_path / "out")
+
+    assert urls(full_output) == [PROGRAM_URL, OTHER_URL]
+    assert urls(delta) == [OTHER_URL]
+    assert delta[0]["curriculum"][0]["title"] == "Evidenzbasierte Pflege"
+
+
+def test_removed_program_leaves_the_output(pages, tmp_path):
+    run(pages, tmp_path / "out")
+
+    index = pages / "index.html"
+    index.write_text(
+        "\n".join(line for line in index.read_text(encoding="utf-8").splitlines()
+                  if "master-pflegewissenschaft" not in line),
+        encoding="utf-8",
+    )
+    full_output, delta = run(pages, tmp_path / "out")
+
+    assert urls(full_output) == [PROGRAM_URL]
+    assert delta == []
+
+
+def test_full_run_ignores_previous_output(pages, tmp_path):
+    run(pages, tmp_path / "out")
+    full_output, delta = run(pages, tmp_path / "out", full=True)
+
+    assert delta == full_output
+
+
+def test_missing_page_is_reported_not_fatal(pages, tmp_path):
+    (pages / "master-pflegewissenschaft.html").unlink()
+    full_output, delta = run(pages, tmp_path / "out")
+
+    assert full_output[1]["program_url"] == OTHER_URL
+    assert "error" in full_output[1]
+    assert urls(delta) == [PROGRAM_URL]
+
+
+def test_page_that_failed_to_parse_is_parsed_again_next_run(pages, tmp_path, monkeypatch):
+    run(pages, tmp_path / "out")
+
+    page = pages / "master-pflegewissenschaft.html"
+    page.write_text(
+        page.read_text(encoding="utf-8").replace("Pflegeforschung", "Evidenzbasierte Pflege"),
+        encoding="utf-8",
+    )
+    build = scraper.build_program_record
+
+    def failing(url, html):
+        if url == OTHER_URL:
+            raise ValueError("unexpected markup")
+        return build(url, html)
+
+    monkeypatch.setattr(scraper, "build_program_record", failing)
+    full_output, delta = run(pages, tmp_path / "out")
+    assert full_output[1]["curriculum"][0]["title"] == "Pflegeforschung"
+    assert delta == []
+
+    # Same page, parser fixed: it must not be skipped as "unchanged"
+    monkeypatch.setattr(scraper, "build_program_record", build)
+    full_output, delta = run(pages, tmp_path / "out")
+    assert urls(delta) == [OTHER_URL]
+    assert delta[0]["curriculum"][0]["title"] == "Evidenzbasierte Pflege"
+
+
+# =====================================================
+# Conditional requests (HttpFetcher, no network)
+# =====================================================
+
+class FakeResponse:
+    def __init__(self, status, body="", headers=None):
+        self.status = status
+        self.body = body
+        self.headers = headers or {}
+
+    async def text(self):
+        return self.body
+
+
+class FakeRequest:
+    """Stands in for Playwright's APIRequestContext; records request headers."""
+
+    def __init__(self, *responses):
+        self.responses = list(responses)
+        self.sent_headers = []
+
+    async def get(self, url, headers, timeout, fail_on_status_code):
+        self.sent_headers.append(dict(headers))
+        return self.responses.pop(0)
+
+
+def fetcher(request, cache):
+    return scraper.HttpFetcher(request, cache, concurrency=2, per_host=1, min_interval=0.0, retries=1)
+
+
+def test_validators_are_sent_back_and_304_is_unchanged(tmp_path):
+    cache = scraper.HttpCache(tmp_path / "cache.json")
+    request = FakeRequest(
+        FakeResponse(200, "<html>v1</html>", {"etag": '"abc"', "last-modified": "Mon, 05 Jan 2026 10:00:00 GMT"}),
+        FakeResponse(304),
+    )
+
+    first = asyncio.run(fetcher(request, cache).get(PROGRAM_URL))
+    second = asyncio.run(fetcher(request, cache).get(PROGRAM_URL))
+
+    assert first.changed and first.html == "<html>v1</html>"
+    assert request.sent_headers[0] == {}
+    assert request.sent_headers[1] == {
+        "If-None-Match": '"abc"',
+        "If-Modified-Since": "Mon, 05 Jan 2026 10:00:00 GMT",
+    }
+    assert not second.changed and second.html is None
+
+
+def test_validators_survive_a_restart(tmp_path):
+    cache = scraper.HttpCache(tmp_path / "cache.json")
+    asyncio.run(fetcher(FakeRequest(FakeResponse(200, "body", {"etag": '"v1"'})), cache).get(PROGRAM_URL))
+    cache.save()
+
+    request = FakeRequest(FakeResponse(304))
+    asyncio.run(fetcher(request, scraper.HttpCache(tmp_path / "cache.json")).get(PROGRAM_URL))
+
+    assert request.sent_headers[0] == {"If-None-Match": '"v1"'}
+
+
+def test_identical_body_without_validators_is_unchanged(tmp_path):
+    cache = scraper.HttpCache(tmp_path / "cache.json")
+    request = FakeRequest(FakeResponse(200, "same"), FakeResponse(200, "same"), FakeResponse(200, "same"))
+
+    assert asyncio.run(fetcher(request, cache).get(PROGRAM_URL)).changed
+    assert not asyncio.run(fetcher(request, cache).get(PROGRAM_URL)).changed
+    # Unconditional: no validators sent, body always returned
+    unconditional = asyncio.run(fetcher(request, cache).get(PROGRAM_URL, conditional=False))
+    assert unconditional.changed and unconditional.html == "same"
+    assert request.sent_headers[2] == {}
+
+
+def test_server_errors_are_retried(tmp_path):
+    cache = scraper.HttpCache(tmp_path / "cache.json")
+    request = FakeRequest(FakeResponse(503, headers={"retry-after": "0"}), FakeResponse(200, "ok"))
+
+    result = asyncio.run(fetcher(request, cache).get(PROGRAM_URL))
+
+    assert result.html == "ok"
+    assert len(request.sent_headers) == 2
@@ -0,0 +1,141 @@
+package at.campus.loadtest;
+
+import at.campus.loadtest.Scenarios.Weighted;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ArrivalRateGenerator
+ * ==================================================
+ *
+ * Open-model load: arrivals follow a Poisson process at the
+ * configured rate, independent of how fast the system answers.
+ * Every arrival runs one scenario on its own virtual thread.
+ *
+ * PHASES
+ * --------------------------------------------------
+ * 1. ramp    0 -> rate linearly        (not measured)
+ * 2. warmup  constant rate             (not measured)
+ * 3. measure constant rate             (measured)
+ *
+ * COORDINATED OMISSION
+ * --------------------------------------------------
+ * Scenario latency ("scenario:<name>") is measured from the
+ * INTENDED arrival time, so a stalled system shows up as latency
+ * instead of silently lowering the offered load.
+ * Arrivals beyond max-in-flight are counted as dropped.
+ */
+public final class ArrivalRateGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ArrivalRateGenerator.class);
+
+    private final LoadTestConfig config;
+    private final LatencyStats stats;
+    private final List<Weighted> scenarios;
+    private final int totalWeight;
+    private final Random random;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ArrivalRateGenerator(LoadTestConfig config, LatencyStats stats, List<Weighted> scenarios) {
+        this.config = config;
+        this.stats = stats;
+        this.scenarios = scenarios;
+        this.totalWeight = scenarios.stream().mapToInt(Weighted::weight).sum();
+        this.random = new Random(config.seed());
+    }
+
+    public void run() throws InterruptedException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            log.info("Ramp-up to {}/s over {}", config.rate(), config.ramp());
+            drive(executor, config.ramp(), true);
+
+            log.info("Warm-up at {}/s for {}", config.rate(), config.warmup());
+            drive(executor, config.warmup(), false);
+
+            log.info("Measuring at {}/s for {}", config.rate(), config.duration());
+            stats.measuring(true);
+            drive(executor, config.duration(), false);
+            stats.measuring(false);
+
+            executor.shutdown();
+            if (!executor.awaitTermination(config.requestTimeout().toMillis() * 3, TimeUnit.MILLISECONDS)) {
+                log.warn("{} scenarios still running at shutdown", inFlight.get());
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void drive(ExecutorService executor, Duration phase, boolean ramp) {
+        long phaseNanos = phase.toNanos();
+        if (phaseNanos <= 0) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long next = start;
+
+        while (true) {
+            long elapsed = next - start;
+            if (elapsed >= phaseNanos) {
+                return;
+            }
+
+            double rate = ramp
+                    ? Math.max(1.0, config.rate() * elapsed / phaseNanos)
+                    : config.rate();
+            // Poisson process: exponential inter-arrival gaps
+            next += (long) (-Math.log(1.0 - random.nextDouble()) / rate * 1_000_000_000L);
+
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            long intended = next;
+            Weighted scenario = pick();
+
+            if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                inFlight.decrementAndGet();
+                stats.dropped();
+                continue;
+            }
+
+            executor.execute(() -> {
+                String key = "scenario:" + scenario.name();
+                try {
+                    scenario.scenario().run(ThreadLocalRandom.current());
+                    stats.success(key, System.nanoTime() - intended);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    stats.error(key, Gateway.cause(e));
+                    log.debug("Scenario {} failed: {}", scenario.name(), e.toString());
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private Weighted pick() {
+        int r = random.nextInt(totalWeight);
+        for (Weighted scenario : scenarios) {
+            r -= scenario.weight();
+            if (r < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.getLast();
+    }
+}
@@ -0,0 +1,109 @@
+package at.campus.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Baseline
+ * ==================================================
+ *
+ * Per-endpoint limits a run must stay within:
+ *
+ *   {
+ *     "maxDropped": 0,
+ *     "endpoints": {
+ *       "*":                            { "p95Millis": 500, "p99Millis": 1000, "maxErrorRate": 0.01 },
+ *       "GET /api/public/courses/{id}": { "p95Millis": 50,  "p99Millis": 120,  "maxErrorRate": 0.0 }
+ *     }
+ *   }
+ *
+ * "*" applies to endpoints without their own entry.
+ * --write-baseline regenerates the file from the current run
+ * with {@link #HEADROOM} on top of the observed percentiles.
+ */
+public final class Baseline {
+
+    public static final double HEADROOM = 1.5;
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private Baseline() {
+    }
+
+    /** @return human-readable violations; empty = pass */
+    public static List<String> check(Path file, Map<String, LatencyStats.Endpoint> results, long dropped)
+            throws IOException {
+        JsonNode baseline = JSON.readTree(file.toFile());
+        JsonNode limits = baseline.path("endpoints");
+        JsonNode fallback = limits.path("*");
+
+        List<String> violations = new ArrayList<>();
+
+        long maxDropped = baseline.path("maxDropped").asLong(0);
+        if (dropped > maxDropped) {
+            violations.add("dropped arrivals " + dropped + " > " + maxDropped);
+        }
+
+        for (var entry : results.entrySet()) {
+            String name = entry.getKey();
+            LatencyStats.Endpoint endpoint = entry.getValue();
+            JsonNode limit = limits.has(name) ? limits.get(name) : fallback;
+            if (limit.isMissingNode()) {
+                continue;
+            }
+
+            check(violations, name, "p95", endpoint.percentileMillis(95), limit.path("p95Millis"));
+            check(violations, name, "p99", endpoint.percentileMillis(99), limit.path("p99Millis"));
+
+            JsonNode maxErrorRate = limit.path("maxErrorRate");
+            if (!maxErrorRate.isMissingNode() && endpoint.errorRate() > maxErrorRate.asDouble()) {
+                violations.add(String.format("%s error rate %.4f > %.4f",
+                        name, endpoint.errorRate(), maxErrorRate.asDouble()));
+            }
+        }
+        return violations;
+    }
+
+    private static void check(List<String> violations, String name, String label, double actual, JsonNode limit) {
+        if (!limit.isMissingNode() && actual > limit.asDouble()) {
+            violations.add(String.format("%s %s %.1f ms > %.1f ms", name, label, actual, limit.asDouble()));
+        }
+    }
+
+    public static void write(Path file, Map<String, LatencyStats.Endpoint> results) throws IOException {
+        ObjectNode root = JSON.createObjectNode();
+        root.put("maxDropped", 0);
+
+        ObjectNode endpoints = root.putObject("endpoints");
+        ObjectNode fallback = endpoints.putObject("*");
+        fallback.put("p95Millis", 500);
+        fallback.put("p99Millis", 1000);
+        fallback.put("maxErrorRate", 0.01);
+
+        for (var entry : results.entrySet()) {
+            LatencyStats.Endpoint endpoint = entry.getValue();
+            ObjectNode limit = endpoints.putObject(entry.getKey());
+            limit.put("p95Millis", round(endpoint.percentileMillis(95) * HEADROOM));
+            limit.put("p99Millis", round(endpoint.percentileMillis(99) * HEADROOM));
+            limit.put("maxErrorRate", Math.max(0.01, endpoint.errorRate() * 2));
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        JSON.writeValue(file.toFile(), root);
+    }
+
+    private static double round(double millis) {
+        return Math.ceil(millis * 10) / 10.0;
+    }
+}
@@ -0,0 +1,189 @@
+package at.campus.loadtest;
+
+import at.campus.auth.AuthApplication;
+import at.campus.backend.BackendApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * EmbeddedServices
+ * ==================================================
+ *
+ * Boots PostgreSQL, auth and backend inside this JVM.
+ *
+ * IMPORTANT
+ * --------------------------------------------------
+ * - Both services share one classpath, so neither service's
+ *   application.yml is loaded (spring.config.name is redirected);
+ *   everything a service needs is passed as command-line properties
+ * - Flyway reads each service's migrations from the source tree,
+ *   because both jars contain a db/migration folder with V1, V2...
+ * - Spring Security is on the classpath because of auth; it is
+ *   excluded from the backend context (the gateway does auth there)
+ * - Ports are random; see authBaseUrl()/backendBaseUrl()
+ */
+public final class EmbeddedServices implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedServices.class);
+
+    private final LoadTestConfig config;
+    private final List<ApplicationContextInitializer<?>> backendInitializers;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext auth;
+    private ConfigurableApplicationContext backend;
+    private Path materialsDir;
+
+    private String jdbcUrl;
+
+    public EmbeddedServices(LoadTestConfig config) {
+        this(config, List.of());
+    }
+
+    /**
+     * @param backendInitializers applied to the backend context only
+     *                            (e.g. statement capture for the plan audit)
+     */
+    public EmbeddedServices(LoadTestConfig config, List<ApplicationContextInitializer<?>> backendInitializers) {
+        this.config = config;
+        this.backendInitializers = backendInitializers;
+    }
+
+    public void start() throws IOException {
+        if (config.embeddedDatabase()) {
+            log.info("Starting embedded PostgreSQL");
+            postgres = EmbeddedPostgres.builder().start();
+            jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+        } else {
+            jdbcUrl = config.jdbcUrl();
+        }
+
+        materialsDir = Files.createTempDirectory("campus-loadtest-materials");
+
+        // auth first: its migrations create public.users, which backend reads
+        auth = new SpringApplicationBuilder(AuthApplication.class)
+                .run(authArgs());
+        log.info("auth started on {}", authBaseUrl());
+
+        backend = new SpringApplicationBuilder(BackendApplication.class)
+                .initializers(backendInitializers.toArray(ApplicationContextInitializer[]::new))
+                .run(backendArgs());
+        log.info("backend started on {}", backendBaseUrl());
+    }
+
+    public String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public String authBaseUrl() {
+        return "http://localhost:" + port(auth);
+    }
+
+    public ConfigurableApplicationContext backendContext() {
+        return backend;
+    }
+
+    public String backendBaseUrl() {
+        return "http://localhost:" + port(backend);
+    }
+
+    // ==================================================
+    // SERVICE PROPERTIES
+    // ==================================================
+
+    private List<String> common() {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.config.name=loadtest-no-config");
+        args.add("--spring.main.banner-mode=off");
+        args.add("--spring.jmx.enabled=false");
+        args.add("--server.port=0");
+        args.add("--spring.datasource.url=" + jdbcUrl);
+        args.add("--spring.datasource.username=" + config.dbUser());
+        args.add("--spring.datasource.password=" + config.dbPassword());
+        args.add("--spring.datasource.driver-class-name=org.postgresql.Driver");
+        args.add("--spring.jpa.open-in-view=false");
+        args.add("--spring.jpa.hibernate.ddl-auto=none");
+        args.add("--spring.flyway.enabled=true");
+        args.add("--spring.flyway.baseline-on-migrate=true");
+        args.add("--management.endpoints.web.exposure.include=health");
+        args.add("--app.invalidation-bus.enabled=true");
+        args.add("--logging.level.root=WARN");
+        return args;
+    }
+
+    private String[] authArgs() {
+        byte[] secret = new byte[64];
+        ThreadLocalRandom.current().nextBytes(secret);
+
+        List<String> args = common();
+        args.add("--spring.application.name=auth");
+        args.add("--spring.flyway.locations=filesystem:" + migrations("auth"));
+        args.add("--spring.cache.type=caffeine");
+        args.add("--spring.cache.caffeine.spec=maximumSize=10000,expireAfterWrite=2m");
+        args.add("--security.jwt.secret=" + Base64.getEncoder().encodeToString(secret));
+        args.add("--security.jwt.expiration-minutes=240");
+        return args.toArray(String[]::new);
+    }
+
+    private String[] backendArgs() {
+        List<String> args = common();
+        args.add("--spring.application.name=backend");
+        args.add("--spring.flyway.locations=filesystem:" + migrations("backend"));
+        args.add("--spring.flyway.schemas=app");
+        args.add("--spring.flyway.default-schema=app");
+        args.add("--spring.flyway.create-schemas=true");
+        args.add("--spring.servlet.multipart.max-file-size=10MB");
+        args.add("--spring.servlet.multipart.max-request-size=10MB");
+        args.add("--app.course-materials.dir=" + materialsDir);
+        // Same routing as production: public reads on their own pool
+        args.add("--app.datasource.read-routing.enabled=true");
+        args.add("--app.concurrency-limit.enabled=true");
+        args.add("--spring.autoconfigure.exclude="
+                + "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration,"
+                + "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration");
+        return args.toArray(String[]::new);
+    }
+
+    private Path migrations(String service) {
+        Path dir = config.repoRoot().resolve(service).resolve("src/main/resources/db/migration");
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalStateException("Migrations not found: " + dir + " (set --repo-root)");
+        }
+        return dir;
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    // ==================================================
+    // SHUTDOWN
+    // ==================================================
+
+    @Override
+    public void close() throws IOException {
+        if (backend != null) backend.close();
+        if (auth != null) auth.close();
+        if (postgres != null) postgres.close();
+        if (materialsDir != null) {
+            try (var files = Files.walk(materialsDir)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package at.campus.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Gateway
+ * ==================================================
+ *
+ * HTTP client that behaves like the NGINX gateway in front of
+ * the services (see nginx/nginx.conf):
+ *
+ * - /auth/**        -> auth
+ * - /api/public/**  -> backend, no identity
+ * - /api/**         -> auth_request GET /auth/validate with the
+ *                      bearer token, then backend with
+ *                      X-User-Id / X-User-Roles from its response
+ *
+ * Every call is recorded in {@link LatencyStats} under its route
+ * template (e.g. "GET /api/public/courses/{id}"). Authenticated
+ * calls are timed including the validate round-trip, as a
+ * browser would see them.
+ */
+public final class Gateway {
+
+    public static final String VALIDATE = "GET /auth/validate (gateway)";
+
+    /** Non-2xx/3xx status. */
+    public static final class HttpStatusException extends IOException {
+        private final int status;
+
+        public HttpStatusException(String endpoint, int status) {
+            super(endpoint + " -> HTTP " + status);
+            this.status = status;
+        }
+
+        public String cause() {
+            return "HTTP " + status;
+        }
+    }
+
+    private final HttpClient client;
+    private final String authBaseUrl;
+    private final String backendBaseUrl;
+    private final Duration timeout;
+    private final LatencyStats stats;
+
+    public Gateway(String authBaseUrl, String backendBaseUrl, Duration timeout, LatencyStats stats) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.authBaseUrl = authBaseUrl;
+        this.backendBaseUrl = backendBaseUrl;
+        this.timeout = timeout;
+        this.stats = stats;
+    }
+
+    /**
+     * Send a request through the gateway.
+     *
+     * @param endpoint route template used as the stats key
+     * @param path     concrete path incl. query string
+     * @param token    bearer token, or null for public routes
+     */
+    public HttpResponse<byte[]> send(String endpoint, String path, String token,
+                                     HttpRequest.Builder request) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response;
+            if (path.startsWith("/auth/")) {
+                response = exchange(request.uri(URI.create(authBaseUrl + path)));
+            } else if (path.startsWith("/api/public/")) {
+                response = exchange(request.uri(URI.create(backendBaseUrl + path)));
+            } else {
+                Identity identity = validate(token);
+                response = exchange(request
+                        .uri(URI.create(backendBaseUrl + path))
+                        .header("X-User-Id", identity.userId())
+                        .header("X-User-Roles", identity.roles())
+                        .header("Authorization", "Bearer " + token));
+            }
+
+            if (response.statusCode() >= 400) {
+                throw new HttpStatusException(endpoint, response.statusCode());
+            }
+            stats.success(endpoint, System.nanoTime() - started);
+            return response;
+        } catch (IOException e) {
+            stats.error(endpoint, cause(e));
+            throw e;
+        }
+    }
+
+    private record Identity(String userId, String roles) {
+    }
+
+    // NGINX auth_request /_auth_check
+    private Identity validate(String token) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<byte[]> response = exchange(HttpRequest.newBuilder()
+                .uri(URI.create(authBaseUrl + "/auth/validate"))
+                .header("Authorization", "Bearer " + token)
+                .GET());
+
+        if (response.statusCode() != 200) {
+            HttpStatusException e = new HttpStatusException(VALIDATE, response.statusCode());
+            stats.error(VALIDATE, e.cause());
+            throw e;
+        }
+        stats.success(VALIDATE, System.nanoTime() - started);
+
+        return new Identity(
+                response.headers().firstValue("X-User-Id").orElseThrow(),
+                response.headers().firstValue("X-User-Roles").orElse("")
+        );
+    }
+
+    static String cause(Exception e) {
+        return e instanceof HttpStatusException status ? status.cause() : e.getClass().getSimpleName();
+    }
+
+    private HttpResponse<byte[]> exchange(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(timeout).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
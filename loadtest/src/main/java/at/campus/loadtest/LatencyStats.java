@@ -0,0 +1,103 @@
+package at.campus.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counters.
+ *
+ * Only records while {@link #measuring()} is on, so warm-up and
+ * ramp-up traffic does not pollute the percentiles.
+ */
+public final class LatencyStats {
+
+    // 1 µs .. 60 s, 3 significant digits
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    public static final class Endpoint {
+        final Histogram latency = new ConcurrentHistogram(MAX_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final Map<String, LongAdder> causes = new ConcurrentHashMap<>();
+
+        public long count() {
+            return latency.getTotalCount() + errors.sum();
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        /** Error count per cause (HTTP status or exception type). */
+        public Map<String, Long> causes() {
+            Map<String, Long> out = new TreeMap<>();
+            causes.forEach((cause, count) -> out.put(cause, count.sum()));
+            return out;
+        }
+
+        public double errorRate() {
+            long count = count();
+            return count == 0 ? 0.0 : (double) errors() / count;
+        }
+
+        public double percentileMillis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double meanMillis() {
+            return latency.getMean() / 1000.0;
+        }
+
+        public double maxMillis() {
+            return latency.getMaxValue() / 1000.0;
+        }
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean measuring;
+
+    public void measuring(boolean on) {
+        this.measuring = on;
+    }
+
+    public boolean measuring() {
+        return measuring;
+    }
+
+    public void success(String endpoint, long nanos) {
+        if (!measuring) return;
+        long micros = Math.max(1, Math.min(MAX_MICROS, nanos / 1_000));
+        endpoint(endpoint).latency.recordValue(micros);
+    }
+
+    public void error(String endpoint, String cause) {
+        if (!measuring) return;
+        Endpoint e = endpoint(endpoint);
+        e.errors.increment();
+        e.causes.computeIfAbsent(cause, c -> new LongAdder()).increment();
+    }
+
+    /** Arrival that could not start because max-in-flight was reached. */
+    public void dropped() {
+        if (!measuring) return;
+        dropped.increment();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public Map<String, Endpoint> snapshot() {
+        return new TreeMap<>(endpoints);
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, n -> new Endpoint());
+    }
+}
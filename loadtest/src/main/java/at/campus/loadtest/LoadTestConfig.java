@@ -0,0 +1,110 @@
+package at.campus.loadtest;
+
+import at.campus.loadtest.datagen.DataGenConfig;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LoadTestConfig
+ * ==================================================
+ *
+ * All knobs of a run, parsed from "--key=value" arguments.
+ *
+ * DATABASE
+ * --------------------------------------------------
+ * - Default: embedded PostgreSQL (no external services)
+ * - --jdbc-url/--db-user/--db-password: use a local server instead
+ *   (needed when running as root: postgres refuses to start as root)
+ *
+ * DATASET
+ * --------------------------------------------------
+ * - See {@link DataGenConfig} (--scale, --seed, --zipf, ...)
+ * - --sessions   most active users signed in before the run
+ *
+ * LOAD (open model)
+ * --------------------------------------------------
+ * - --rate       arrivals per second (one arrival = one scenario run)
+ * - --ramp       linear ramp-up from 0 to rate
+ * - --duration   measured phase after ramp-up
+ * - --max-in-flight  arrivals beyond this are counted as dropped
+ */
+public record LoadTestConfig(
+        Path repoRoot,
+        String jdbcUrl,
+        String dbUser,
+        String dbPassword,
+
+        // Dataset
+        DataGenConfig dataset,
+        int sessions,
+
+        // Load
+        double rate,
+        Duration warmup,
+        Duration ramp,
+        Duration duration,
+        int maxInFlight,
+        Duration requestTimeout,
+
+        // Output
+        Path resultsFile,
+        Path baselineFile,
+        boolean writeBaseline
+) {
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> a = options(args);
+
+        // Module lives in <repo>/loadtest
+        Path repoRoot = Path.of(a.getOrDefault("repo-root", "..")).toAbsolutePath().normalize();
+
+        return new LoadTestConfig(
+                repoRoot,
+                a.get("jdbc-url"),
+                a.getOrDefault("db-user", "postgres"),
+                a.getOrDefault("db-password", "postgres"),
+
+                DataGenConfig.from(a),
+                Integer.parseInt(a.getOrDefault("sessions", "200")),
+
+                Double.parseDouble(a.getOrDefault("rate", "50")),
+                Duration.parse(a.getOrDefault("warmup", "PT15S")),
+                Duration.parse(a.getOrDefault("ramp", "PT15S")),
+                Duration.parse(a.getOrDefault("duration", "PT60S")),
+                Integer.parseInt(a.getOrDefault("max-in-flight", "2000")),
+                Duration.parse(a.getOrDefault("request-timeout", "PT10S")),
+
+                Path.of(a.getOrDefault("results", "results/loadtest-result.json")),
+                Path.of(a.getOrDefault("baseline", "baseline.json")),
+                Boolean.parseBoolean(a.getOrDefault("write-baseline", "false"))
+        );
+    }
+
+    /** "--key=value" (or bare "--flag" = true) into a map. */
+    public static Map<String, String> options(String[] args) {
+        Map<String, String> a = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                a.put(arg.substring(2), "true");
+            } else {
+                a.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return a;
+    }
+
+    public long seed() {
+        return dataset.seed();
+    }
+
+    public boolean embeddedDatabase() {
+        return jdbcUrl == null;
+    }
+}
@@ -0,0 +1,152 @@
+package at.campus.loadtest;
+
+import at.campus.loadtest.datagen.Dataset;
+import at.campus.loadtest.datagen.SyntheticDataGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoadTestMain
+ * ==================================================
+ *
+ * End-to-end load test:
+ *
+ * 1. start PostgreSQL + auth + backend in-process
+ * 2. generate a synthetic dataset, sign the most active users in
+ * 3. drive weighted scenarios with an open-model arrival rate
+ * 4. print + write per-endpoint latency percentiles / error rates
+ * 5. compare with the baseline; exit code 1 on regression
+ *
+ * Usage (from loadtest/):
+ *   mvn -q exec:java -Dexec.args="--rate=100 --duration=PT2M"
+ */
+public final class LoadTestMain {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        int exitCode;
+
+        try (EmbeddedServices services = new EmbeddedServices(config)) {
+            services.start();
+
+            Dataset dataset = new SyntheticDataGenerator(
+                    config.dataset(), services.jdbcUrl(), config.dbUser(), config.dbPassword()).generate();
+
+            LatencyStats stats = new LatencyStats();
+            Gateway gateway = new Gateway(
+                    services.authBaseUrl(), services.backendBaseUrl(), config.requestTimeout(), stats);
+            Scenarios scenarios = new Scenarios(gateway, dataset, config.sessions());
+
+            log.info("Signing in {} users", config.sessions());
+            scenarios.login(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+            new ArrivalRateGenerator(config, stats, scenarios.all()).run();
+
+            Map<String, LatencyStats.Endpoint> results = stats.snapshot();
+            print(results, stats.droppedCount(), config);
+            writeResults(config, results, stats.droppedCount());
+
+            exitCode = evaluate(config, results, stats.droppedCount());
+        }
+
+        System.exit(exitCode);
+    }
+
+    // ==================================================
+    // REPORTING
+    // ==================================================
+
+    private static void print(Map<String, LatencyStats.Endpoint> results, long dropped, LoadTestConfig config) {
+        double seconds = config.duration().toMillis() / 1000.0;
+
+        StringBuilder sb = new StringBuilder("\n");
+        sb.append(String.format("%-52s %8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "err%", "mean ms", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (var entry : results.entrySet()) {
+            LatencyStats.Endpoint e = entry.getValue();
+            sb.append(String.format("%-52s %8d %8.1f %7.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey(), e.count(), e.count() / seconds, e.errorRate() * 100,
+                    e.meanMillis(), e.percentileMillis(50), e.percentileMillis(95),
+                    e.percentileMillis(99), e.maxMillis()));
+        }
+        results.forEach((name, e) -> e.causes().forEach((cause, count) ->
+                sb.append(String.format("  error %-44s %-24s %8d%n", name, cause, count))));
+        sb.append("dropped arrivals: ").append(dropped).append('\n');
+        log.info(sb.toString());
+    }
+
+    private static void writeResults(LoadTestConfig config, Map<String, LatencyStats.Endpoint> results, long dropped)
+            throws Exception {
+        ObjectMapper json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode root = json.createObjectNode();
+
+        ObjectNode run = root.putObject("run");
+        run.put("rate", config.rate());
+        run.put("duration", config.duration().toString());
+        run.put("seed", config.seed());
+        run.put("scale", config.dataset().scale());
+        run.put("users", config.dataset().users());
+        run.put("courses", config.dataset().courses());
+        run.put("dropped", dropped);
+
+        ObjectNode endpoints = root.putObject("endpoints");
+        for (var entry : results.entrySet()) {
+            LatencyStats.Endpoint e = entry.getValue();
+            ObjectNode node = endpoints.putObject(entry.getKey());
+            node.put("count", e.count());
+            node.put("errors", e.errors());
+            node.put("errorRate", e.errorRate());
+            node.put("meanMillis", e.meanMillis());
+            node.put("p50Millis", e.percentileMillis(50));
+            node.put("p90Millis", e.percentileMillis(90));
+            node.put("p95Millis", e.percentileMillis(95));
+            node.put("p99Millis", e.percentileMillis(99));
+            node.put("maxMillis", e.maxMillis());
+            ObjectNode causes = node.putObject("errorCauses");
+            e.causes().forEach(causes::put);
+        }
+
+        Path file = config.resultsFile();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        json.writeValue(file.toFile(), root);
+        log.info("Results written to {}", file.toAbsolutePath());
+    }
+
+    private static int evaluate(LoadTestConfig config, Map<String, LatencyStats.Endpoint> results, long dropped)
+            throws Exception {
+        if (config.writeBaseline()) {
+            Baseline.write(config.baselineFile(), results);
+            log.info("Baseline written to {}", config.baselineFile().toAbsolutePath());
+            return 0;
+        }
+
+        if (!Files.exists(config.baselineFile())) {
+            log.warn("No baseline at {} - nothing to compare", config.baselineFile().toAbsolutePath());
+            return 0;
+        }
+
+        List<String> violations = Baseline.check(config.baselineFile(), results, dropped);
+        if (violations.isEmpty()) {
+            log.info("Within baseline {}", config.baselineFile());
+            return 0;
+        }
+
+        violations.forEach(v -> log.error("REGRESSION: {}", v));
+        return 1;
+    }
+}
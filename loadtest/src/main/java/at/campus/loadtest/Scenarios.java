@@ -0,0 +1,254 @@
+package at.campus.loadtest;
+
+import at.campus.loadtest.datagen.Dataset;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Scenarios
+ * ==================================================
+ *
+ * Scripted user journeys, picked per arrival by weight.
+ * Each journey is a short sequence of gateway calls, like one
+ * page view in the frontend.
+ *
+ * AUTH
+ * --------------------------------------------------
+ * - {@link #login(int)} signs the most active users in before the
+ *   run (BCrypt is deliberately slow; a login storm would dominate
+ *   every number)
+ * - Tokens are reused afterwards, as the SPA does
+ * - The "login" scenario keeps POST /auth/login in the mix
+ */
+public final class Scenarios {
+
+    public interface Scenario {
+        void run(ThreadLocalRandom random) throws IOException, InterruptedException;
+    }
+
+    public record Weighted(String name, int weight, Scenario scenario) {
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static final String[] SORTS = {"newest", "oldest", "highest_rating", "lowest_rating"};
+    private static final String[] SEARCHES = {"daten", "pflege", "management", "labor", "ethik"};
+
+    private final Gateway gateway;
+    private final Dataset dataset;
+    private final List<String> sessions;
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+    // Recently uploaded materials (download targets), ring buffer
+    private final AtomicReferenceArray<UUID[]> uploads = new AtomicReferenceArray<>(256);
+    private final AtomicLong uploadCount = new AtomicLong();
+
+    private final byte[] pdf;
+
+    public Scenarios(Gateway gateway, Dataset dataset, int sessions) {
+        this.gateway = gateway;
+        this.dataset = dataset;
+        this.sessions = new ArrayList<>();
+        for (int rank = 0; rank < Math.min(sessions, dataset.users()); rank++) {
+            this.sessions.add(dataset.email(dataset.activeUser(rank)));
+        }
+        this.pdf = fakePdf(64 * 1024);
+    }
+
+    public List<Weighted> all() {
+        return List.of(
+                new Weighted("browse-catalogue", 30, this::browseCatalogue),
+                new Weighted("open-course", 25, this::openCourse),
+                new Weighted("read-reviews", 20, this::readReviews),
+                new Weighted("toggle-reaction", 10, this::toggleReaction),
+                new Weighted("post-to-thread", 8, this::postToThread),
+                new Weighted("download-material", 4, this::downloadMaterial),
+                new Weighted("upload-material", 3, this::uploadMaterial),
+                new Weighted("login", 2, this::login)
+        );
+    }
+
+    /**
+     * Sign in every session user once, with bounded parallelism.
+     */
+    public void login(int parallelism) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<Future<?>> pending = new ArrayList<>();
+            for (String email : sessions) {
+                pending.add(executor.submit(() -> tokens.put(email, signIn(email))));
+            }
+            for (Future<?> future : pending) {
+                future.get();
+            }
+        }
+    }
+
+    // ==================================================
+    // PUBLIC JOURNEYS
+    // ==================================================
+
+    private void browseCatalogue(ThreadLocalRandom random) throws IOException, InterruptedException {
+        int page = random.nextInt(5);
+        String query = switch (random.nextInt(3)) {
+            case 0 -> "&sort=title,asc";
+            case 1 -> "&search=" + SEARCHES[random.nextInt(SEARCHES.length)];
+            default -> "";
+        };
+        get("GET /api/public/courses", "/api/public/courses?page=" + page + "&size=20" + query);
+        get("GET /api/public/study-programs", "/api/public/study-programs");
+    }
+
+    private void openCourse(ThreadLocalRandom random) throws IOException, InterruptedException {
+        UUID courseId = dataset.courseId(dataset.sampleCourse(random));
+        get("GET /api/public/courses/{id}", "/api/public/courses/" + courseId);
+        get("GET /api/public/courses/{id}/reviews/summary", "/api/public/courses/" + courseId + "/reviews/summary");
+        get("GET /api/public/courses/{id}/threads", "/api/public/courses/" + courseId + "/threads");
+    }
+
+    private void readReviews(ThreadLocalRandom random) throws IOException, InterruptedException {
+        UUID courseId = dataset.courseId(dataset.sampleCourse(random));
+        get("GET /api/public/courses/{id}/reviews",
+                "/api/public/courses/" + courseId + "/reviews?sort=" + SORTS[random.nextInt(SORTS.length)]);
+        UUID reviewId = dataset.reviewId(random.nextLong(dataset.reviews()));
+        get("GET /api/public/reviews/{id}/reactions", "/api/public/reviews/" + reviewId + "/reactions");
+    }
+
+    // ==================================================
+    // AUTHENTICATED JOURNEYS
+    // ==================================================
+
+    private void toggleReaction(ThreadLocalRandom random) throws IOException, InterruptedException {
+        String token = token(random);
+        UUID postId = dataset.postId(random.nextLong(dataset.posts()));
+        String path = "/api/posts/" + postId + "/reactions";
+
+        gateway.send("POST /api/posts/{id}/reactions", path, token, HttpRequest.newBuilder()
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"reactionType\":\"LIKE\"}")));
+        gateway.send("DELETE /api/posts/{id}/reactions", path, token, HttpRequest.newBuilder().DELETE());
+    }
+
+    private void postToThread(ThreadLocalRandom random) throws IOException, InterruptedException {
+        String token = token(random);
+        UUID threadId = dataset.threadId(random.nextLong(dataset.threads()));
+
+        get("GET /api/public/threads/{id}/posts", "/api/public/threads/" + threadId + "/posts");
+        gateway.send("POST /api/threads/{id}/posts", "/api/threads/" + threadId + "/posts", token,
+                HttpRequest.newBuilder()
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"content\":\"Load test post " + random.nextLong() + "\",\"userName\":\"loadtest\"}")));
+    }
+
+    private void uploadMaterial(ThreadLocalRandom random) throws IOException, InterruptedException {
+        String token = token(random);
+        UUID courseId = dataset.courseId(dataset.sampleCourse(random));
+
+        String boundary = "----campus" + Long.toHexString(random.nextLong());
+        HttpResponse<byte[]> response = gateway.send(
+                "POST /api/courses/{id}/materials", "/api/courses/" + courseId + "/materials", token,
+                HttpRequest.newBuilder()
+                        .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, "slides.pdf"))));
+
+        JsonNode material = JSON.readTree(response.body());
+        long slot = uploadCount.getAndIncrement() % uploads.length();
+        uploads.set((int) slot, new UUID[]{courseId, UUID.fromString(material.get("id").asText())});
+    }
+
+    private void downloadMaterial(ThreadLocalRandom random) throws IOException, InterruptedException {
+        String token = token(random);
+        long count = Math.min(uploadCount.get(), uploads.length());
+        if (count == 0) {
+            // Nothing uploaded yet: list only
+            UUID courseId = dataset.courseId(dataset.sampleCourse(random));
+            gateway.send("GET /api/courses/{id}/materials", "/api/courses/" + courseId + "/materials",
+                    token, HttpRequest.newBuilder().GET());
+            return;
+        }
+
+        UUID[] upload = uploads.get(random.nextInt((int) count));
+        if (upload == null) {
+            return;
+        }
+        gateway.send("GET /api/courses/{id}/materials", "/api/courses/" + upload[0] + "/materials",
+                token, HttpRequest.newBuilder().GET());
+        gateway.send("GET /api/materials/{id}/download", "/api/materials/" + upload[1] + "/download",
+                token, HttpRequest.newBuilder().GET());
+    }
+
+    // ==================================================
+    // HELPERS
+    // ==================================================
+
+    private void login(ThreadLocalRandom random) throws IOException, InterruptedException {
+        String email = sessions.get(random.nextInt(sessions.size()));
+        tokens.put(email, signIn(email));
+    }
+
+    private void get(String endpoint, String path) throws IOException, InterruptedException {
+        gateway.send(endpoint, path, null, HttpRequest.newBuilder().GET());
+    }
+
+    private String token(ThreadLocalRandom random) throws IOException, InterruptedException {
+        String email = sessions.get(random.nextInt(sessions.size()));
+        String token = tokens.get(email);
+        if (token != null) {
+            return token;
+        }
+        token = signIn(email);
+        tokens.put(email, token);
+        return token;
+    }
+
+    private String signIn(String email) throws IOException, InterruptedException {
+        String body = JSON.writeValueAsString(Map.of("email", email, "password", Dataset.PASSWORD));
+        HttpResponse<byte[]> response = gateway.send("POST /auth/login", "/auth/login", null,
+                HttpRequest.newBuilder()
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)));
+
+        return JSON.readTree(response.body()).get("token").asText();
+    }
+
+    private byte[] multipart(String boundary, String filename) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(pdf.length + 512);
+        String head = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+                + "Load test slides\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n";
+        out.write(head.getBytes(StandardCharsets.UTF_8));
+        out.write(pdf);
+        out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static byte[] fakePdf(int size) {
+        byte[] bytes = new byte[size];
+        byte[] header = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, bytes, 0, header.length);
+        for (int i = header.length; i < size; i++) {
+            bytes[i] = (byte) ('a' + i % 26);
+        }
+        return bytes;
+    }
+}
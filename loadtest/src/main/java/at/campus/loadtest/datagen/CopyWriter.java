@@ -0,0 +1,112 @@
+package at.campus.loadtest.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * CopyWriter
+ * ==================================================
+ *
+ * Streams rows into one table via {@code COPY ... FROM STDIN}
+ * (text format: tab-separated, {@code \N} = NULL).
+ *
+ * PURPOSE:
+ * - ~10x faster than batched INSERTs: no per-row statement,
+ *   no bind round trips, one WAL-friendly bulk stream
+ *
+ * Usage:
+ *   out.uuid(id).text(title).integer(5).endRow();
+ */
+public final class CopyWriter implements AutoCloseable {
+
+    private final OutputStream out;
+    private final StringBuilder row = new StringBuilder(512);
+    private boolean first = true;
+    private long rows;
+
+    public CopyWriter(Connection connection, String table, String columns) throws SQLException {
+        PGConnection pg = connection.unwrap(PGConnection.class);
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN";
+        this.out = new BufferedOutputStream(new PGCopyOutputStream(pg, sql, 64 * 1024), 256 * 1024);
+    }
+
+    public CopyWriter uuid(UUID value) {
+        return raw(value.toString());
+    }
+
+    public CopyWriter integer(long value) {
+        separator();
+        row.append(value);
+        return this;
+    }
+
+    public CopyWriter bool(boolean value) {
+        return raw(value ? "t" : "f");
+    }
+
+    public CopyWriter timestamp(LocalDateTime value) {
+        return raw(value.toString());
+    }
+
+    public CopyWriter nil() {
+        return raw("\\N");
+    }
+
+    public CopyWriter text(String value) {
+        if (value == null) {
+            return nil();
+        }
+        separator();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> row.append("\\\\");
+                case '\t' -> row.append("\\t");
+                case '\n' -> row.append("\\n");
+                case '\r' -> row.append("\\r");
+                default -> row.append(c);
+            }
+        }
+        return this;
+    }
+
+    public void endRow() throws IOException {
+        row.append('\n');
+        out.write(row.toString().getBytes(StandardCharsets.UTF_8));
+        row.setLength(0);
+        first = true;
+        rows++;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /** Flushes and ends the COPY; the row count is final afterwards. */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private CopyWriter raw(String value) {
+        separator();
+        row.append(value);
+        return this;
+    }
+
+    private void separator() {
+        if (!first) {
+            row.append('\t');
+        }
+        first = false;
+    }
+}
@@ -0,0 +1,78 @@
+package at.campus.loadtest.datagen;
+
+import java.util.Map;
+
+/**
+ * DataGenConfig
+ * ==================================================
+ *
+ * Size and shape of the synthetic dataset.
+ *
+ * Counts are AVERAGES per parent at scale 1; the actual count
+ * per parent follows a Zipf distribution (exponent {@code zipf}),
+ * so a few courses/threads/users carry most of the content,
+ * as in production.
+ *
+ * scale 1   ~ the scraped catalogue plus a busy semester
+ * scale 100 ~ 100x that (millions of rows)
+ */
+public record DataGenConfig(
+        long seed,
+        double scale,
+        double zipf,
+        int workers,
+
+        int users,
+        int programs,
+        int coursesPerProgram,
+
+        double reviewsPerCourse,
+        double threadsPerCourse,
+        double postsPerThread,
+        double commentsPerPost,
+        double reactionsPerPost,
+        double reactionsPerReview,
+        double favouritesPerUser,
+        double programFavouritesPerUser,
+        double watchesPerUser,
+        double reportRate
+) {
+
+    public static DataGenConfig from(Map<String, String> a) {
+        double scale = Double.parseDouble(a.getOrDefault("scale", "1"));
+        return new DataGenConfig(
+                Long.parseLong(a.getOrDefault("seed", "42")),
+                scale,
+                Double.parseDouble(a.getOrDefault("zipf", "0.9")),
+                Integer.parseInt(a.getOrDefault("workers",
+                        Integer.toString(Math.max(2, Runtime.getRuntime().availableProcessors())))),
+
+                scaled(a, "users", 5_000, scale),
+                scaled(a, "programs", 30, scale),
+                Integer.parseInt(a.getOrDefault("courses-per-program", "40")),
+
+                Double.parseDouble(a.getOrDefault("reviews-per-course", "20")),
+                Double.parseDouble(a.getOrDefault("threads-per-course", "5")),
+                Double.parseDouble(a.getOrDefault("posts-per-thread", "10")),
+                Double.parseDouble(a.getOrDefault("comments-per-post", "2")),
+                Double.parseDouble(a.getOrDefault("reactions-per-post", "3")),
+                Double.parseDouble(a.getOrDefault("reactions-per-review", "2")),
+                Double.parseDouble(a.getOrDefault("favourites-per-user", "8")),
+                Double.parseDouble(a.getOrDefault("program-favourites-per-user", "1")),
+                Double.parseDouble(a.getOrDefault("watches-per-user", "4")),
+                Double.parseDouble(a.getOrDefault("report-rate", "0.01"))
+        );
+    }
+
+    // Explicit values win over scale
+    private static int scaled(Map<String, String> a, String key, int base, double scale) {
+        if (a.containsKey(key)) {
+            return Integer.parseInt(a.get(key));
+        }
+        return Math.max(1, (int) Math.round(base * scale));
+    }
+
+    public int courses() {
+        return programs * coursesPerProgram;
+    }
+}
@@ -0,0 +1,67 @@
+package at.campus.loadtest.datagen;
+
+import at.campus.loadtest.LoadTestConfig;
+import org.flywaydb.core.Flyway;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * DataGenMain
+ * ==================================================
+ *
+ * Fills an external PostgreSQL with the synthetic dataset,
+ * without starting the services (for EXPLAIN work, migrations
+ * and index checks at production-like volume).
+ *
+ * 1. migrate: auth (public) and backend (app) Flyway scripts
+ * 2. generate: parallel COPY, see {@link SyntheticDataGenerator}
+ *
+ * Usage (from loadtest/):
+ *   mvn -q compile exec:java -Dexec.mainClass=at.campus.loadtest.datagen.DataGenMain \
+ *     -Dexec.args="--jdbc-url=jdbc:postgresql://localhost:5432/campus_scale --scale=100"
+ */
+public final class DataGenMain {
+
+    private DataGenMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> a = LoadTestConfig.options(args);
+        String jdbcUrl = a.get("jdbc-url");
+        if (jdbcUrl == null) {
+            throw new IllegalArgumentException("--jdbc-url is required");
+        }
+        String user = a.getOrDefault("db-user", "postgres");
+        String password = a.getOrDefault("db-password", "postgres");
+        Path repoRoot = Path.of(a.getOrDefault("repo-root", "..")).toAbsolutePath().normalize();
+
+        // Same locations/schemas as the services' own Flyway setup
+        Flyway.configure()
+                .dataSource(jdbcUrl, user, password)
+                .locations("filesystem:" + migrations(repoRoot, "auth"))
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+        Flyway.configure()
+                .dataSource(jdbcUrl, user, password)
+                .locations("filesystem:" + migrations(repoRoot, "backend"))
+                .schemas("app")
+                .defaultSchema("app")
+                .createSchemas(true)
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+
+        new SyntheticDataGenerator(DataGenConfig.from(a), jdbcUrl, user, password).generate();
+    }
+
+    private static Path migrations(Path repoRoot, String service) {
+        Path dir = repoRoot.resolve(service).resolve("src/main/resources/db/migration");
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalStateException("Migrations not found: " + dir + " (set --repo-root)");
+        }
+        return dir;
+    }
+}
@@ -0,0 +1,193 @@
+package at.campus.loadtest.datagen;
+
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * Dataset
+ * ==================================================
+ *
+ * The shape of the generated data as pure functions of the
+ * config: ids, per-parent counts, popularity.
+ *
+ * The generator writes exactly these rows; the load test uses
+ * the same functions to address them (no id lists in memory,
+ * which matters at millions of rows).
+ *
+ * LINEAR INDEXES
+ * --------------------------------------------------
+ * Reviews, threads and posts are numbered globally; offsets
+ * (prefix sums of the Zipf counts) map parent -> first child.
+ * Picking a uniform review/thread/post index therefore hits
+ * popular courses/threads proportionally more often.
+ */
+public final class Dataset {
+
+    public static final String PASSWORD = "loadtest-pass";
+
+    // Same salt => same ranking: hot courses get most reviews, threads and visits
+    static final long COURSE_SALT = 17;
+    static final long USER_SALT = 29;
+    static final long THREAD_SALT = 41;
+    static final long POST_SALT = 53;
+    static final long REVIEW_SALT = 67;
+
+    private final DataGenConfig config;
+    private final Ids ids;
+
+    private final ZipfSampler coursePopularity;
+    private final ZipfSampler userActivity;
+
+    private final long[] reviewOffsets;
+    private final long[] threadOffsets;
+    private final long[] postOffsets;
+
+    public Dataset(DataGenConfig config) {
+        this.config = config;
+        this.ids = new Ids(config.seed());
+
+        int courses = config.courses();
+        this.coursePopularity = new ZipfSampler(courses, config.zipf(), COURSE_SALT);
+        this.userActivity = new ZipfSampler(config.users(), config.zipf(), USER_SALT);
+
+        this.reviewOffsets = offsets(new ZipfCounts(ids, "reviews", courses,
+                courses * config.reviewsPerCourse(), config.zipf(), COURSE_SALT, Integer.MAX_VALUE), courses);
+        this.threadOffsets = offsets(new ZipfCounts(ids, "threads", courses,
+                courses * config.threadsPerCourse(), config.zipf(), COURSE_SALT, Integer.MAX_VALUE), courses);
+
+        long threads = threads();
+        if (threads > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("Too many threads for one run: " + threads);
+        }
+        this.postOffsets = offsets(new ZipfCounts(ids, "posts", threads,
+                threads * config.postsPerThread(), config.zipf(), THREAD_SALT, Integer.MAX_VALUE), (int) threads);
+    }
+
+    public DataGenConfig config() {
+        return config;
+    }
+
+    Ids ids() {
+        return ids;
+    }
+
+    // ==================================================
+    // USERS
+    // ==================================================
+
+    public int users() {
+        return config.users();
+    }
+
+    public UUID userId(int user) {
+        return ids.of("user", user);
+    }
+
+    public String email(int user) {
+        return "user" + user + "@loadtest.local";
+    }
+
+    /** The {@code rank}-th most active user (0 = most reviews/posts). */
+    public int activeUser(int rank) {
+        return userActivity.byRank(rank);
+    }
+
+    /** Author for a new row, skewed towards active users. */
+    public int sampleUser(RandomGenerator random) {
+        return userActivity.sample(random);
+    }
+
+    // ==================================================
+    // CATALOGUE
+    // ==================================================
+
+    public int programs() {
+        return config.programs();
+    }
+
+    public UUID programId(int program) {
+        return ids.of("program", program);
+    }
+
+    public int courses() {
+        return config.courses();
+    }
+
+    public UUID courseId(int course) {
+        return ids.of("course", course);
+    }
+
+    public int programOf(int course) {
+        return course / config.coursesPerProgram();
+    }
+
+    /** The {@code rank}-th most popular course (0 = most reviews/threads/visits). */
+    public int popularCourse(int rank) {
+        return coursePopularity.byRank(rank);
+    }
+
+    /** A course, skewed towards popular ones. */
+    public int sampleCourse(RandomGenerator random) {
+        return coursePopularity.sample(random);
+    }
+
+    // ==================================================
+    // CONTENT
+    // ==================================================
+
+    public long reviews() {
+        return reviewOffsets[reviewOffsets.length - 1];
+    }
+
+    public long threads() {
+        return threadOffsets[threadOffsets.length - 1];
+    }
+
+    public long posts() {
+        return postOffsets[postOffsets.length - 1];
+    }
+
+    public UUID reviewId(long review) {
+        return ids.of("review", review);
+    }
+
+    public UUID threadId(long thread) {
+        return ids.of("thread", thread);
+    }
+
+    public UUID postId(long post) {
+        return ids.of("post", post);
+    }
+
+    public long firstReview(int course) {
+        return reviewOffsets[course];
+    }
+
+    int reviewCount(int course) {
+        return (int) (reviewOffsets[course + 1] - reviewOffsets[course]);
+    }
+
+    public long firstThread(int course) {
+        return threadOffsets[course];
+    }
+
+    int threadCount(int course) {
+        return (int) (threadOffsets[course + 1] - threadOffsets[course]);
+    }
+
+    public long firstPost(int thread) {
+        return postOffsets[thread];
+    }
+
+    int postCount(int thread) {
+        return (int) (postOffsets[thread + 1] - postOffsets[thread]);
+    }
+
+    private static long[] offsets(ZipfCounts counts, int parents) {
+        long[] offsets = new long[parents + 1];
+        for (int i = 0; i < parents; i++) {
+            offsets[i + 1] = offsets[i] + counts.count(i);
+        }
+        return offsets;
+    }
+}
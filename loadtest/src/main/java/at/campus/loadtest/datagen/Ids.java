@@ -0,0 +1,76 @@
+package at.campus.loadtest.datagen;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Deterministic ids and hashing for the generator.
+ *
+ * Every row id is a pure function of (seed, kind, parent index,
+ * child index), so any partition can be generated independently
+ * and the load test can address rows without querying them.
+ */
+public final class Ids {
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+    private static final long GOLDEN_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final long seed;
+
+    public Ids(long seed) {
+        this.seed = seed;
+    }
+
+    /** Id of the {@code child}-th row of {@code kind} under parent {@code parent}. */
+    public UUID of(String kind, long parent, long child) {
+        long k = kindSeed(kind);
+        long msb = mix64(k ^ (parent * GOLDEN));
+        long lsb = mix64(msb ^ (child * GOLDEN_2) ^ Long.rotateLeft(k, 29));
+        // Version 4 / IETF variant bits, so the ids look like any other UUID
+        msb = (msb & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        lsb = (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    public UUID of(String kind, long index) {
+        return of(kind, index, 0);
+    }
+
+    /** Deterministic 64-bit hash for per-row random streams. */
+    public long hash(String kind, long a, long b) {
+        return mix64(kindSeed(kind) ^ mix64(a * GOLDEN) ^ (b * GOLDEN_2));
+    }
+
+    /** Uniform double in [0, 1) from a hash. */
+    public static double unit(long hash) {
+        return (hash >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Bijective shuffle of [0, n): rank of item {@code index}.
+     * Spreads "popular" items over the id space instead of
+     * making item 0 the hottest.
+     */
+    public static long permute(long index, long n, long salt) {
+        long p = 1_000_003L;
+        if (n % p == 0) {
+            p = 998_244_353L;
+        }
+        return Math.floorMod(index * p + salt, n);
+    }
+
+    private long kindSeed(String kind) {
+        long h = seed * GOLDEN;
+        for (byte b : kind.getBytes(StandardCharsets.UTF_8)) {
+            h = mix64(h ^ b);
+        }
+        return h;
+    }
+
+    // SplitMix64 finalizer
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,515 @@
+package at.campus.loadtest.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * SyntheticDataGenerator
+ * ==================================================
+ *
+ * Fills a migrated database (public.users + app.*) with a
+ * seedable, Zipf-skewed dataset via parallel COPY streams.
+ *
+ * DETERMINISM
+ * --------------------------------------------------
+ * - Every row is a pure function of (seed, table, parent, child):
+ *   ids via {@link Ids}, attributes via a per-row random stream
+ * - Partitioning / worker count does not change the data
+ * - Only the BCrypt hash differs between runs (random salt)
+ *
+ * PARALLELISM
+ * --------------------------------------------------
+ * - Each table is split into parent ranges, one COPY per range,
+ *   each on its own connection
+ * - Stages follow the foreign keys; tables within a stage load
+ *   concurrently:
+ *     1. users, study_programs
+ *     2. courses
+ *     3. study_program_courses, reviews, threads, favourites,
+ *        study_program_favourites, watch_subscriptions
+ *     4. posts, reactions + reports on reviews
+ *     5. comments, reactions + reports on posts
+ *
+ * IMPORTANT:
+ * - Expects empty tables (ids collide with an earlier run)
+ */
+public final class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] WORDS = {
+            "Grundlagen", "Methoden", "Projekt", "Praxis", "Analyse", "Systeme",
+            "Management", "Recht", "Kommunikation", "Forschung", "Datenbanken",
+            "Netzwerke", "Ethik", "Qualität", "Gesundheit", "Design", "Labor",
+            "Seminar", "Statistik", "Programmierung", "Sicherheit", "Pflege"
+    };
+
+    private static final String SECTION = """
+            [{"type": "text", "content": "%s"}, {"type": "list", "ordered": false, "items": ["%s", "%s", "%s"]}]""";
+
+    // ReportReason constants
+    private static final String[] REASONS = {
+            "SPAM", "OFFENSIVE", "INAPPROPRIATE_LANGUAGE", "MISLEADING_INFORMATION", "OTHER"
+    };
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+    /** Writes the rows of parents [from, to) of one table. */
+    @FunctionalInterface
+    private interface PartitionWriter {
+        void write(long from, long to, CopyWriter out) throws Exception;
+    }
+
+    private record Job(String table, String columns, long parents, PartitionWriter writer) {
+    }
+
+    private final Dataset dataset;
+    private final DataGenConfig config;
+    private final Ids ids;
+    private final String jdbcUrl;
+    private final String dbUser;
+    private final String dbPassword;
+
+    private String passwordHash;
+
+    public SyntheticDataGenerator(DataGenConfig config, String jdbcUrl, String dbUser, String dbPassword) {
+        this.dataset = new Dataset(config);
+        this.config = config;
+        this.ids = dataset.ids();
+        this.jdbcUrl = jdbcUrl;
+        this.dbUser = dbUser;
+        this.dbPassword = dbPassword;
+    }
+
+    public Dataset generate() throws Exception {
+        long started = System.nanoTime();
+        log.info("Generating scale {} (seed {}, zipf {}): {} users, {} courses, {} reviews, {} threads, {} posts",
+                config.scale(), config.seed(), config.zipf(), dataset.users(), dataset.courses(),
+                dataset.reviews(), dataset.threads(), dataset.posts());
+
+        // Same strength as auth's PasswordConfig, so logins cost what they cost in prod
+        passwordHash = new BCryptPasswordEncoder(12).encode(Dataset.PASSWORD);
+
+        long rows = 0;
+        try (ExecutorService pool = Executors.newFixedThreadPool(config.workers())) {
+            rows += stage(pool, List.of(users(), programs()));
+            rows += stage(pool, List.of(courses()));
+            rows += stage(pool, List.of(programCourses(), reviews(), threads(), favourites(),
+                    programFavourites(), watches()));
+            rows += stage(pool, List.of(posts(), reviewReactions(), reports("REVIEW")));
+            rows += stage(pool, List.of(comments(), postReactions(), reports("POST")));
+        }
+
+        analyze();
+
+        long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Generated {} rows in {} ms ({} rows/s)", rows, millis, rows * 1000 / millis);
+        return dataset;
+    }
+
+    // ==================================================
+    // STAGES
+    // ==================================================
+
+    private long stage(ExecutorService pool, List<Job> jobs) throws Exception {
+        long started = System.nanoTime();
+        List<Future<Long>> pending = new ArrayList<>();
+
+        for (Job job : jobs) {
+            long partitions = Math.max(1, Math.min(job.parents(), config.workers() * 4L));
+            long step = (job.parents() + partitions - 1) / partitions;
+            for (long from = 0; from < job.parents(); from += step) {
+                long lo = from;
+                long hi = Math.min(job.parents(), from + step);
+                pending.add(pool.submit(() -> copy(job, lo, hi)));
+            }
+        }
+
+        long rows = 0;
+        for (Future<Long> future : pending) {
+            try {
+                rows += future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("COPY failed", e.getCause());
+            }
+        }
+
+        log.info("{}: {} rows in {} ms", jobs.stream().map(Job::table).toList(), rows,
+                (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private long copy(Job job, long from, long to) throws Exception {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
+            try (Statement st = connection.createStatement()) {
+                // Bulk load: a crash just means "generate again"
+                st.execute("SET synchronous_commit = off");
+            }
+            CopyWriter out = new CopyWriter(connection, job.table(), job.columns());
+            try (out) {
+                job.writer().write(from, to, out);
+            }
+            return out.rows();
+        }
+    }
+
+    private void analyze() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword);
+             Statement st = connection.createStatement()) {
+            // Fresh statistics, otherwise the planner still sees empty tables
+            st.execute("ANALYZE public.users");
+            st.execute("ANALYZE");
+        }
+    }
+
+    // ==================================================
+    // USERS + CATALOGUE
+    // ==================================================
+
+    private Job users() {
+        return new Job("public.users", "id, email, nickname, password_hash, role", dataset.users(),
+                (from, to, out) -> {
+                    for (int u = (int) from; u < to; u++) {
+                        out.uuid(dataset.userId(u)).text(dataset.email(u)).text("loadtest-user-" + u)
+                                .text(passwordHash).text("STUDENT").endRow();
+                    }
+                });
+    }
+
+    private Job programs() {
+        return new Job("app.study_programs", "id, name, mode, semesters, total_ects", dataset.programs(),
+                (from, to, out) -> {
+                    for (int p = (int) from; p < to; p++) {
+                        SplittableRandom random = random("program", p, 0);
+                        out.uuid(dataset.programId(p))
+                                .text("Studiengang " + words(random, 2) + " " + p)
+                                .text(p % 2 == 0 ? "Vollzeit" : "Berufsbegleitend")
+                                .integer(6).integer(180).endRow();
+                    }
+                });
+    }
+
+    private Job courses() {
+        return new Job("app.courses", """
+                id, study_program_id, title, description, ects, language, sws, semester, kind,
+                content, learning_outcomes, teaching_method, exam_method, literature""", dataset.courses(),
+                (from, to, out) -> {
+                    for (int c = (int) from; c < to; c++) {
+                        SplittableRandom random = random("course", c, 0);
+                        int sws = (1 + random.nextInt(8)) * 5;
+                        out.uuid(dataset.courseId(c))
+                                .uuid(dataset.programId(dataset.programOf(c)))
+                                .text(words(random, 3) + " " + c)
+                                .text(sentence(random, 25))
+                                .integer(1 + random.nextInt(10))
+                                .text(random.nextInt(3) == 0 ? "Englisch" : "Deutsch")
+                                .text(sws / 10 + "." + sws % 10)
+                                .integer(1 + c % 6)
+                                .text("course")
+                                .text(section(random)).text(section(random)).text(section(random))
+                                .text(section(random)).text(section(random))
+                                .endRow();
+                    }
+                });
+    }
+
+    private Job programCourses() {
+        // Own program, plus ~10% shared electives listed in a second program
+        return new Job("app.study_program_courses", "study_program_id, course_id", dataset.courses(),
+                (from, to, out) -> {
+                    for (int c = (int) from; c < to; c++) {
+                        int own = dataset.programOf(c);
+                        out.uuid(dataset.programId(own)).uuid(dataset.courseId(c)).endRow();
+
+                        SplittableRandom random = random("program-course", c, 0);
+                        if (dataset.programs() > 1 && random.nextInt(10) == 0) {
+                            int other = (own + 1 + random.nextInt(dataset.programs() - 1)) % dataset.programs();
+                            out.uuid(dataset.programId(other)).uuid(dataset.courseId(c)).endRow();
+                        }
+                    }
+                });
+    }
+
+    // ==================================================
+    // REVIEWS + FORUM
+    // ==================================================
+
+    private Job reviews() {
+        return new Job("app.reviews", """
+                id, user_id, course_id, rating, difficulty, workload, satisfaction, text,
+                created_at, updated_at""", dataset.courses(),
+                (from, to, out) -> {
+                    for (int c = (int) from; c < to; c++) {
+                        long first = dataset.firstReview(c);
+                        for (int j = 0; j < dataset.reviewCount(c); j++) {
+                            SplittableRandom random = random("review", first + j, 0);
+                            LocalDateTime created = timestamp(random);
+                            out.uuid(dataset.reviewId(first + j))
+                                    .uuid(dataset.userId(dataset.sampleUser(random)))
+                                    .uuid(dataset.courseId(c))
+                                    .integer(1 + random.nextInt(5)).integer(1 + random.nextInt(5))
+                                    .integer(1 + random.nextInt(5)).integer(1 + random.nextInt(5))
+                                    .text(sentence(random, 10 + random.nextInt(60)))
+                                    .timestamp(created).timestamp(created)
+                                    .endRow();
+                        }
+                    }
+                });
+    }
+
+    private Job threads() {
+        return new Job("app.threads", "id, course_id, title, created_by, created_by_name, content, created_at",
+                dataset.courses(),
+                (from, to, out) -> {
+                    for (int c = (int) from; c < to; c++) {
+                        long first = dataset.firstThread(c);
+                        for (int j = 0; j < dataset.threadCount(c); j++) {
+                            SplittableRandom random = random("thread", first + j, 0);
+                            int author = dataset.sampleUser(random);
+                            out.uuid(dataset.threadId(first + j)).uuid(dataset.courseId(c))
+                                    .text(words(random, 4)).uuid(dataset.userId(author))
+                                    .text("loadtest-user-" + author).text(sentence(random, 30))
+                                    .timestamp(timestamp(random))
+                                    .endRow();
+                        }
+                    }
+                });
+    }
+
+    private Job posts() {
+        return new Job("app.posts", "id, thread_id, user_id, user_name, content, created_at, updated_at",
+                dataset.threads(),
+                (from, to, out) -> {
+                    for (int t = (int) from; t < to; t++) {
+                        long first = dataset.firstPost(t);
+                        for (int j = 0; j < dataset.postCount(t); j++) {
+                            SplittableRandom random = random("post", first + j, 0);
+                            int author = dataset.sampleUser(random);
+                            LocalDateTime created = timestamp(random);
+                            out.uuid(dataset.postId(first + j)).uuid(dataset.threadId(t))
+                                    .uuid(dataset.userId(author)).text("loadtest-user-" + author)
+                                    .text(sentence(random, 5 + random.nextInt(40)))
+                                    .timestamp(created).timestamp(created)
+                                    .endRow();
+                        }
+                    }
+                });
+    }
+
+    private Job comments() {
+        ZipfCounts counts = new ZipfCounts(ids, "comments", dataset.posts(),
+                dataset.posts() * config.commentsPerPost(), config.zipf(), Dataset.POST_SALT, Integer.MAX_VALUE);
+        return new Job("app.comments", "id, post_id, user_id, user_name, content, created_at, updated_at",
+                dataset.posts(),
+                (from, to, out) -> {
+                    for (long p = from; p < to; p++) {
+                        int n = counts.count(p);
+                        for (int j = 0; j < n; j++) {
+                            SplittableRandom random = random("comment", p, j);
+                            int author = dataset.sampleUser(random);
+                            LocalDateTime created = timestamp(random);
+                            out.uuid(ids.of("comment", p, j)).uuid(dataset.postId(p))
+                                    .uuid(dataset.userId(author)).text("loadtest-user-" + author)
+                                    .text(sentence(random, 3 + random.nextInt(20)))
+                                    .timestamp(created).timestamp(created)
+                                    .endRow();
+                        }
+                    }
+                });
+    }
+
+    // ==================================================
+    // REACTIONS + REPORTS
+    // ==================================================
+
+    private Job reviewReactions() {
+        return reactions("REVIEW", dataset.reviews(), config.reactionsPerReview(), Dataset.REVIEW_SALT);
+    }
+
+    private Job postReactions() {
+        return reactions("POST", dataset.posts(), config.reactionsPerPost(), Dataset.POST_SALT);
+    }
+
+    private Job reactions(String targetType, long targets, double perTarget, long salt) {
+        String kind = "reaction-" + targetType;
+        // Capped at one LIKE per user and target (unique constraint)
+        ZipfCounts counts = new ZipfCounts(ids, kind, targets, targets * perTarget, config.zipf(), salt,
+                dataset.users());
+        return new Job("app.reactions", "id, user_id, target_type, target_id, reaction_type, created_at", targets,
+                (from, to, out) -> {
+                    for (long t = from; t < to; t++) {
+                        int n = counts.count(t);
+                        if (n == 0) {
+                            continue;
+                        }
+                        UUID targetId = targetType.equals("POST") ? dataset.postId(t) : dataset.reviewId(t);
+                        // Consecutive users from a random start: distinct by construction
+                        int start = (int) Math.floorMod(ids.hash(kind, t, 0), (long) dataset.users());
+                        for (int j = 0; j < n; j++) {
+                            SplittableRandom random = random(kind, t, j);
+                            out.uuid(ids.of(kind, t, j))
+                                    .uuid(dataset.userId((start + j) % dataset.users()))
+                                    .text(targetType).uuid(targetId).text("LIKE")
+                                    .timestamp(timestamp(random))
+                                    .endRow();
+                        }
+                    }
+                });
+    }
+
+    private Job reports(String targetType) {
+        String kind = "report-" + targetType;
+        long targets = targetType.equals("POST") ? dataset.posts() : dataset.reviews();
+        return new Job("app.reports", """
+                id, user_id, target_type, target_id, reason, comment, status,
+                created_at, resolved_at, moderator_notes""", targets,
+                (from, to, out) -> {
+                    for (long t = from; t < to; t++) {
+                        if (Ids.unit(ids.hash(kind, t, -1)) >= config.reportRate()) {
+                            continue;
+                        }
+                        SplittableRandom random = random(kind, t, 0);
+                        UUID targetId = targetType.equals("POST") ? dataset.postId(t) : dataset.reviewId(t);
+                        LocalDateTime created = timestamp(random);
+                        int roll = random.nextInt(100);
+                        String status = roll < 70 ? "PENDING" : roll < 85 ? "RESOLVED" : roll < 95 ? "REJECTED" : "EDITED";
+
+                        out.uuid(ids.of(kind, t))
+                                .uuid(dataset.userId(random.nextInt(dataset.users())))
+                                .text(targetType).uuid(targetId)
+                                .text(REASONS[random.nextInt(REASONS.length)])
+                                .text(random.nextBoolean() ? sentence(random, 8) : null)
+                                .text(status)
+                                .timestamp(created);
+                        if (status.equals("PENDING")) {
+                            out.nil().nil();
+                        } else {
+                            out.timestamp(created.plusHours(1 + random.nextInt(72))).text(sentence(random, 5));
+                        }
+                        out.endRow();
+                    }
+                });
+    }
+
+    // ==================================================
+    // PER-USER ROWS
+    // ==================================================
+
+    private Job favourites() {
+        ZipfCounts counts = new ZipfCounts(ids, "favourites", dataset.users(),
+                dataset.users() * config.favouritesPerUser(), config.zipf(), Dataset.USER_SALT, dataset.courses());
+        return new Job("app.favourites", "user_id, course_id, created_at", dataset.users(),
+                (from, to, out) -> {
+                    for (int u = (int) from; u < to; u++) {
+                        SplittableRandom random = random("favourites", u, 0);
+                        for (int course : distinct(counts.count(u), () -> dataset.sampleCourse(random))) {
+                            out.uuid(dataset.userId(u)).uuid(dataset.courseId(course))
+                                    .timestamp(timestamp(random)).endRow();
+                        }
+                    }
+                });
+    }
+
+    private Job programFavourites() {
+        ZipfCounts counts = new ZipfCounts(ids, "program-favourites", dataset.users(),
+                dataset.users() * config.programFavouritesPerUser(), config.zipf(), Dataset.USER_SALT,
+                dataset.programs());
+        return new Job("app.study_program_favourites", "user_id, study_program_id, created_at", dataset.users(),
+                (from, to, out) -> {
+                    for (int u = (int) from; u < to; u++) {
+                        SplittableRandom random = random("program-favourites", u, 0);
+                        for (int program : distinct(counts.count(u), () -> random.nextInt(dataset.programs()))) {
+                            out.uuid(dataset.userId(u)).uuid(dataset.programId(program))
+                                    .timestamp(timestamp(random)).endRow();
+                        }
+                    }
+                });
+    }
+
+    private Job watches() {
+        ZipfCounts counts = new ZipfCounts(ids, "watches", dataset.users(),
+                dataset.users() * config.watchesPerUser(), config.zipf(), Dataset.USER_SALT,
+                dataset.courses() + dataset.threads());
+        return new Job("app.watch_subscriptions",
+                "id, user_id, target_type, target_id, notifications_enabled, created_at", dataset.users(),
+                (from, to, out) -> {
+                    for (int u = (int) from; u < to; u++) {
+                        SplittableRandom random = random("watches", u, 0);
+                        // Positive = course, negative = thread (-1 - index)
+                        List<Long> targets = distinct(counts.count(u), () -> dataset.threads() > 0 && random.nextBoolean()
+                                ? -1 - random.nextLong(dataset.threads())
+                                : (long) dataset.sampleCourse(random));
+                        int j = 0;
+                        for (long target : targets) {
+                            boolean course = target >= 0;
+                            out.uuid(ids.of("watch", u, j++)).uuid(dataset.userId(u))
+                                    .text(course ? "COURSE" : "THREAD")
+                                    .uuid(course ? dataset.courseId((int) target) : dataset.threadId(-1 - target))
+                                    .bool(random.nextInt(5) != 0)
+                                    .timestamp(timestamp(random))
+                                    .endRow();
+                        }
+                    }
+                });
+    }
+
+    // ==================================================
+    // HELPERS
+    // ==================================================
+
+    /** Up to {@code n} distinct samples (gives up after 4n draws: hot items repeat a lot). */
+    private static <T> List<T> distinct(int n, Supplier<T> sampler) {
+        Set<T> seen = new HashSet<>();
+        List<T> result = new ArrayList<>(n);
+        for (int attempt = 0; result.size() < n && attempt < 4 * n; attempt++) {
+            T value = sampler.get();
+            if (seen.add(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    private SplittableRandom random(String kind, long a, long b) {
+        return new SplittableRandom(ids.hash(kind, a, b));
+    }
+
+    private static LocalDateTime timestamp(SplittableRandom random) {
+        return EPOCH.plusMinutes(random.nextInt(500_000));
+    }
+
+    private static String section(SplittableRandom random) {
+        return SECTION.formatted(sentence(random, 30), sentence(random, 6), sentence(random, 6), sentence(random, 6));
+    }
+
+    private static String sentence(SplittableRandom random, int wordCount) {
+        return words(random, wordCount) + ".";
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package at.campus.loadtest.datagen;
+
+/**
+ * ZipfCounts
+ * ==================================================
+ *
+ * Distributes {@code total} children over {@code n} parents with
+ * Zipf weights: the parent of rank r gets total * r^-s / H(n, s).
+ *
+ * count(parent) is a pure function of the parent index (rank via
+ * {@link Ids#permute}, rounding via a per-parent hash), so no
+ * per-parent arrays are needed even for millions of parents.
+ */
+public final class ZipfCounts {
+
+    private final long n;
+    private final double total;
+    private final double s;
+    private final double harmonic;
+    private final long salt;
+    private final long cap;
+    private final Ids ids;
+    private final String kind;
+
+    /**
+     * @param cap upper bound per parent (e.g. distinct users for reactions)
+     */
+    public ZipfCounts(Ids ids, String kind, long n, double total, double s, long salt, long cap) {
+        this.ids = ids;
+        this.kind = kind;
+        this.n = n;
+        this.total = total;
+        this.s = s;
+        this.salt = salt;
+        this.cap = cap;
+
+        double h = 0;
+        for (long r = 1; r <= n; r++) {
+            h += Math.pow(r, -s);
+        }
+        this.harmonic = h;
+    }
+
+    public int count(long parent) {
+        long rank = Ids.permute(parent, n, salt) + 1;
+        double expected = total * Math.pow(rank, -s) / harmonic;
+        long whole = (long) expected;
+        if (Ids.unit(ids.hash(kind, parent, -1)) < expected - whole) {
+            whole++;
+        }
+        return (int) Math.min(whole, cap);
+    }
+}
@@ -0,0 +1,46 @@
+package at.campus.loadtest.datagen;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples an index in [0, n) with Zipf popularity (inverse CDF,
+ * binary search). Index i has rank {@link Ids#permute}(i), the
+ * same ranking {@link ZipfCounts} uses with the same salt, so
+ * the courses with the most content are also the most visited.
+ */
+public final class ZipfSampler {
+
+    private final double[] cdf;
+    private final int[] indexOfRank;
+
+    public ZipfSampler(int n, double s, long salt) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int r = 0; r < n; r++) {
+            sum += Math.pow(r + 1, -s);
+            cdf[r] = sum;
+        }
+        for (int r = 0; r < n; r++) {
+            cdf[r] /= sum;
+        }
+
+        indexOfRank = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexOfRank[(int) Ids.permute(i, n, salt)] = i;
+        }
+    }
+
+    public int sample(RandomGenerator random) {
+        int rank = Arrays.binarySearch(cdf, random.nextDouble());
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return indexOfRank[Math.min(rank, cdf.length - 1)];
+    }
+
+    /** Index of the {@code rank}-th most popular item (0 = hottest). */
+    public int byRank(int rank) {
+        return indexOfRank[rank];
+    }
+}
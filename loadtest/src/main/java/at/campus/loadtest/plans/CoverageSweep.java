@@ -0,0 +1,306 @@
+package at.campus.loadtest.plans;
+
+import at.campus.loadtest.datagen.Dataset;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * CoverageSweep
+ * ==================================================
+ *
+ * Calls every backend endpoint once (reads, writes, moderation),
+ * so that {@link StatementCapture} sees every repository
+ * statement the API can issue.
+ *
+ * Talks to the backend directly and sets X-User-Id / X-User-Roles
+ * itself, exactly as NGINX does after auth_request; moderation
+ * endpoints run with the "Moderator" role.
+ *
+ * Failing calls are collected, not fatal: the sweep exists to
+ * produce statements, the plan audit decides pass/fail.
+ */
+public final class CoverageSweep {
+
+    private static final Logger log = LoggerFactory.getLogger(CoverageSweep.class);
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+    private final Dataset dataset;
+    private final List<String> failures = new ArrayList<>();
+
+    private String userId;
+    private String role;
+
+    public CoverageSweep(String backendBaseUrl, Dataset dataset) {
+        this.baseUrl = backendBaseUrl;
+        this.dataset = dataset;
+    }
+
+    /** @return "METHOD path -> status" of calls that did not succeed */
+    public List<String> run() throws InterruptedException {
+        // The hottest course / most active user: the worst case for most plans
+        int course = dataset.popularCourse(0);
+        UUID courseId = dataset.courseId(course);
+        UUID programId = dataset.programId(dataset.programOf(course));
+        UUID reviewId = dataset.reviewId(dataset.firstReview(course));
+        long thread = dataset.firstThread(course);
+        UUID threadId = dataset.threadId(thread);
+        UUID postId = dataset.postId(dataset.firstPost((int) thread));
+
+        publicReads(courseId, programId, reviewId, threadId, postId);
+        studentFlows(courseId, programId, reviewId, threadId, postId);
+        materials(courseId);
+
+        // Catalogue writes last: they change/delete the least popular course and its program
+        int coldCourse = dataset.popularCourse(dataset.courses() - 1);
+        catalogueAdmin(dataset.courseId(coldCourse), dataset.programId(dataset.programOf(coldCourse)));
+
+        log.info("Coverage sweep done, {} failed calls", failures.size());
+        return failures;
+    }
+
+    // ==================================================
+    // PUBLIC
+    // ==================================================
+
+    private void publicReads(UUID courseId, UUID programId, UUID reviewId, UUID threadId, UUID postId)
+            throws InterruptedException {
+        as(null, null);
+        get("/api/public/courses?page=0&size=20");
+        get("/api/public/courses?page=3&size=20&sort=title,asc");
+        get("/api/public/courses?page=0&size=20&search=daten");
+        get("/api/public/courses?page=0&size=20&ects=5");
+        get("/api/public/courses?page=0&size=20&ects=5&studyProgramId=" + programId);
+        get("/api/public/courses/" + courseId);
+        get("/api/public/courses/" + courseId + "/sections/content");
+        for (String sort : List.of("newest", "oldest", "highest_rating", "lowest_rating")) {
+            get("/api/public/courses/" + courseId + "/reviews?sort=" + sort);
+        }
+        get("/api/public/courses/" + courseId + "/reviews/summary");
+        get("/api/public/courses/" + courseId + "/threads");
+        get("/api/public/reviews");
+        get("/api/public/reviews/" + reviewId);
+        get("/api/public/reviews/" + reviewId + "/reactions");
+        get("/api/public/threads/" + threadId);
+        get("/api/public/threads/" + threadId + "/posts");
+        get("/api/public/posts/" + postId);
+        get("/api/public/posts/" + postId + "/reactions");
+        get("/api/public/posts/" + postId + "/comments");
+        get("/api/public/study-programs");
+        get("/api/public/study-programs/" + programId);
+        get("/api/public/study-programs/" + programId + "/details");
+        get("/api/public/watch/status?targetType=COURSE&targetId=" + courseId);
+    }
+
+    // ==================================================
+    // AUTHENTICATED
+    // ==================================================
+
+    private void studentFlows(UUID courseId, UUID programId, UUID reviewId, UUID threadId, UUID postId)
+            throws InterruptedException {
+        // Least active user: has not reviewed the hot course yet (one review per course)
+        String student = dataset.userId(dataset.activeUser(dataset.users() - 1)).toString();
+        as(student, "STUDENT");
+
+        // Favourites + watch
+        get("/api/favourites");
+        get("/api/favourites/study-programs");
+        // Favourites from the generator may already exist: remove first, then add
+        delete("/api/favourites/" + courseId, null);
+        post("/api/favourites", Map.of("courseId", courseId));
+        delete("/api/favourites/study-programs/" + programId, null);
+        post("/api/favourites/study-programs", Map.of("studyProgramId", programId));
+        get("/api/watch");
+        get("/api/watch/status?targetType=THREAD&targetId=" + threadId);
+        Map<String, Object> watch = Map.of("targetType", "THREAD", "targetId", threadId.toString());
+        delete("/api/watch", watch);
+        post("/api/watch", watch);
+
+        // Own content: create, update, react, report, moderate, delete
+        JsonNode review = post("/api/reviews", Map.of("courseId", courseId, "rating", 4, "difficulty", 3,
+                "workload", 3, "satisfaction", 4, "text", "Plan audit review"));
+        JsonNode thread = post("/api/courses/" + courseId + "/threads", Map.of("courseId", courseId,
+                "title", "Plan audit", "content", "Plan audit thread", "userName", "audit"));
+        JsonNode post = post("/api/threads/" + threadId + "/posts",
+                Map.of("content", "Plan audit post", "userName", "audit"));
+        JsonNode comment = post("/api/posts/" + postId + "/comments",
+                Map.of("content", "Plan audit comment", "userName", "audit"));
+
+        post("/api/posts/" + postId + "/reactions", Map.of("reactionType", "LIKE"));
+        delete("/api/posts/" + postId + "/reactions", null);
+        post("/api/reviews/" + reviewId + "/reactions", Map.of("reactionType", "LIKE"));
+        delete("/api/reviews/" + reviewId + "/reactions", null);
+        // Reaction counts with "liked by me"
+        get("/api/public/reviews/" + reviewId + "/reactions");
+        get("/api/public/posts/" + postId + "/reactions");
+
+        post("/api/reports", Map.of("targetType", "POST", "targetId", postId, "reason", "SPAM"));
+        // Only review reports can be resolved
+        JsonNode report = post("/api/reports", Map.of("targetType", "REVIEW", "targetId", reviewId, "reason", "SPAM"));
+        get("/api/courses/" + courseId + "/materials");
+
+        String ownReview = id(review);
+        String ownThread = id(thread);
+        String ownPost = id(post);
+        String ownComment = id(comment);
+        if (ownReview != null) {
+            put("/api/reviews/" + ownReview, Map.of("rating", 5, "text", "Plan audit review, edited"));
+        }
+        if (ownThread != null) {
+            put("/api/threads/" + ownThread, Map.of("title", "Plan audit, edited", "content", "edited"));
+        }
+        if (ownPost != null) {
+            put("/api/posts/" + ownPost, Map.of("content", "Plan audit post, edited"));
+        }
+        if (ownComment != null) {
+            get("/api/public/comments/" + ownComment);
+            put("/api/comments/" + ownComment, Map.of("content", "Plan audit comment, edited"));
+        }
+
+        moderation(courseId, reviewId, id(report));
+
+        as(student, "STUDENT");
+        if (ownComment != null) delete("/api/comments/" + ownComment, null);
+        if (ownPost != null) delete("/api/posts/" + ownPost, null);
+        if (ownThread != null) delete("/api/threads/" + ownThread, null);
+        if (ownReview != null) delete("/api/reviews/" + ownReview, null);
+    }
+
+    private void moderation(UUID courseId, UUID reviewId, String reportId) throws InterruptedException {
+        as(dataset.userId(dataset.activeUser(1)).toString(), "Moderator");
+
+        get("/api/moderation/reports?status=PENDING");
+        get("/api/moderation/reports?status=RESOLVED");
+        get("/api/moderation/reports/count/pending");
+        get("/api/moderation/reviews?flaggedOnly=true");
+        get("/api/moderation/reviews?courseId=" + courseId);
+        post("/api/moderation/reviews/" + reviewId + "/flag", Map.of("reason", "plan audit"));
+        post("/api/moderation/reviews/" + reviewId + "/unflag", null);
+        if (reportId != null) {
+            get("/api/moderation/reports/" + reportId);
+            post("/api/moderation/reports/" + reportId + "/resolve", Map.of("action", "KEEP_VISIBLE"));
+            delete("/api/moderation/reports/" + reportId, null);
+        }
+    }
+
+    private void materials(UUID courseId) throws InterruptedException {
+        as(dataset.userId(dataset.activeUser(0)).toString(), "STUDENT");
+
+        JsonNode material = upload("/api/courses/" + courseId + "/materials");
+        String materialId = id(material);
+        get("/api/courses/" + courseId + "/materials");
+        if (materialId != null) {
+            send("GET", "/api/materials/" + materialId + "/download", null);
+            put("/api/materials/" + materialId, Map.of("title", "Plan audit slides, edited"));
+            delete("/api/materials/" + materialId, null);
+        }
+    }
+
+    private void catalogueAdmin(UUID courseId, UUID programId) throws InterruptedException {
+        as(dataset.userId(dataset.activeUser(1)).toString(), "Moderator");
+
+        post("/api/courses", Map.of("title", "Plan audit course", "ects", 5, "language", "de"));
+        put("/api/courses/" + courseId, Map.of("title", "Plan audit course, edited", "ects", 5, "language", "de"));
+        delete("/api/courses/" + courseId, null);
+        post("/api/study-programs", Map.of("name", "Plan audit program", "mode", "Vollzeit"));
+        put("/api/study-programs/" + programId, Map.of("name", "Plan audit program, edited", "mode", "Vollzeit"));
+        delete("/api/study-programs/" + programId, null);
+    }
+
+    // ==================================================
+    // HTTP
+    // ==================================================
+
+    private void as(String userId, String role) {
+        this.userId = userId;
+        this.role = role;
+    }
+
+    private JsonNode get(String path) throws InterruptedException {
+        return send("GET", path, null);
+    }
+
+    private JsonNode post(String path, Object body) throws InterruptedException {
+        return send("POST", path, body);
+    }
+
+    private JsonNode put(String path, Object body) throws InterruptedException {
+        return send("PUT", path, body);
+    }
+
+    private JsonNode delete(String path, Object body) throws InterruptedException {
+        return send("DELETE", path, body);
+    }
+
+    private JsonNode upload(String path) throws InterruptedException {
+        String boundary = "----campusaudit";
+        String multipart = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n\r\nPlan audit slides\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"slides.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n%PDF-1.4\nplan audit\r\n"
+                + "--" + boundary + "--\r\n";
+        return send("POST", path, HttpRequest.BodyPublishers.ofString(multipart),
+                "multipart/form-data; boundary=" + boundary);
+    }
+
+    private JsonNode send(String method, String path, Object body) throws InterruptedException {
+        try {
+            return body == null
+                    ? send(method, path, HttpRequest.BodyPublishers.noBody(), null)
+                    : send(method, path, HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)),
+                    "application/json");
+        } catch (IOException e) {
+            failures.add(method + " " + path + " -> " + e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    private JsonNode send(String method, String path, HttpRequest.BodyPublisher body, String contentType)
+            throws InterruptedException {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .method(method, body);
+            if (userId != null) {
+                request.header("X-User-Id", userId).header("X-User-Roles", role);
+            }
+            if (contentType != null) {
+                request.header("Content-Type", contentType);
+            }
+
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() >= 400) {
+                failures.add(method + " " + path + " -> " + response.statusCode());
+                return null;
+            }
+            // Downloads are not JSON; only the statements behind them matter
+            boolean json = response.headers().firstValue("Content-Type").orElse("").contains("json");
+            byte[] bytes = response.body();
+            return bytes.length == 0 || !json ? null : JSON.readTree(new String(bytes, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            failures.add(method + " " + path + " -> " + e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    private static String id(JsonNode node) {
+        return node != null && node.hasNonNull("id") ? node.get("id").asText() : null;
+    }
+}
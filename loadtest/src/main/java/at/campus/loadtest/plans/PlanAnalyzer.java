@@ -0,0 +1,197 @@
+package at.campus.loadtest.plans;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * PlanAnalyzer
+ * ==================================================
+ *
+ * EXPLAINs a statement and reports plan shapes that do not
+ * scale with data volume.
+ *
+ * GENERIC PLANS
+ * --------------------------------------------------
+ * Statements are audited as the driver runs them after a few
+ * executions: prepared, with plan_cache_mode=force_generic_plan,
+ * EXPLAIN (FORMAT JSON) EXECUTE with NULL parameters. The plan
+ * therefore does not depend on one particular bind value, and
+ * nothing is executed (INSERT/UPDATE/DELETE included).
+ *
+ * FINDINGS (stable keys, no row counts: they go into the baseline)
+ * --------------------------------------------------
+ * - seq-scan <table>            Seq Scan on a table with >= large-table rows
+ * - sort-spill <table/keys>     estimated sort input > work_mem
+ * - nested-loop <table>         Nested Loop with >= nested-loop-rows outer rows
+ *                               re-scanning an un-indexed inner side
+ */
+public final class PlanAnalyzer implements AutoCloseable {
+
+    public record Result(String plan, List<String> findings, String error) {
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final Connection connection;
+    private final long largeTableRows;
+    private final long nestedLoopRows;
+    private final long workMemBytes;
+    private final Map<String, Long> tableRows = new HashMap<>();
+
+    public PlanAnalyzer(String jdbcUrl, String user, String password, long largeTableRows, long nestedLoopRows)
+            throws SQLException {
+        this.connection = DriverManager.getConnection(jdbcUrl, user, password);
+        this.largeTableRows = largeTableRows;
+        this.nestedLoopRows = nestedLoopRows;
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("SET plan_cache_mode = force_generic_plan");
+
+            try (ResultSet rs = st.executeQuery("""
+                    SELECT n.nspname || '.' || c.relname, c.reltuples::bigint
+                    FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                    WHERE c.relkind = 'r' AND n.nspname IN ('app', 'public')""")) {
+                while (rs.next()) {
+                    tableRows.put(rs.getString(1), rs.getLong(2));
+                }
+            }
+            try (ResultSet rs = st.executeQuery(
+                    "SELECT setting::bigint * 1024 FROM pg_settings WHERE name = 'work_mem'")) {
+                rs.next();
+                this.workMemBytes = rs.getLong(1);
+            }
+        }
+    }
+
+    public Result analyze(String sql) {
+        int[] parameters = {0};
+        String prepared = numberParameters(sql, parameters);
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("DEALLOCATE ALL");
+            st.execute("PREPARE audit AS " + prepared);
+
+            String args = parameters[0] == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters[0], "NULL")) + ")";
+            String plan;
+            try (ResultSet rs = st.executeQuery("EXPLAIN (FORMAT JSON, VERBOSE) EXECUTE audit" + args)) {
+                rs.next();
+                plan = rs.getString(1);
+            }
+
+            JsonNode root = JSON.readTree(plan).get(0).get("Plan");
+            TreeSet<String> findings = new TreeSet<>();
+            walk(root, findings);
+            return new Result(plan, new ArrayList<>(findings), null);
+        } catch (Exception e) {
+            return new Result(null, List.of(), e.getMessage());
+        }
+    }
+
+    // ==================================================
+    // RULES
+    // ==================================================
+
+    private void walk(JsonNode node, TreeSet<String> findings) {
+        String type = node.path("Node Type").asText();
+
+        switch (type) {
+            case "Seq Scan" -> {
+                String table = table(node);
+                if (tableRows.getOrDefault(table, 0L) >= largeTableRows) {
+                    findings.add("seq-scan " + table);
+                }
+            }
+            case "Sort" -> {
+                double bytes = node.path("Plan Rows").asDouble() * node.path("Plan Width").asDouble();
+                if (bytes > workMemBytes) {
+                    findings.add("sort-spill " + String.join(",", texts(node.path("Sort Key"))));
+                }
+            }
+            case "Nested Loop" -> {
+                JsonNode children = node.path("Plans");
+                if (children.size() == 2 && children.get(0).path("Plan Rows").asDouble() >= nestedLoopRows) {
+                    String inner = seqScannedTable(children.get(1));
+                    if (inner != null) {
+                        findings.add("nested-loop " + inner);
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+
+        for (JsonNode child : node.path("Plans")) {
+            walk(child, findings);
+        }
+    }
+
+    private String seqScannedTable(JsonNode node) {
+        if (node.path("Node Type").asText().equals("Seq Scan")) {
+            return table(node);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            String table = seqScannedTable(child);
+            if (table != null) {
+                return table;
+            }
+        }
+        return null;
+    }
+
+    private static String table(JsonNode node) {
+        return node.path("Schema").asText("app") + "." + node.path("Relation Name").asText();
+    }
+
+    private static List<String> texts(JsonNode array) {
+        List<String> values = new ArrayList<>();
+        array.forEach(v -> values.add(v.asText()));
+        return values;
+    }
+
+    /**
+     * JDBC "?" placeholders -> "$1, $2, ..." (outside quotes; "??" and
+     * "?|" style operators are left alone).
+     */
+    static String numberParameters(String sql, int[] count) {
+        StringBuilder out = new StringBuilder(sql.length() + 16);
+        boolean inString = false;
+        boolean inIdentifier = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'' && !inIdentifier) {
+                inString = !inString;
+            } else if (c == '"' && !inString) {
+                inIdentifier = !inIdentifier;
+            }
+            if (c == '?' && !inString && !inIdentifier) {
+                char next = i + 1 < sql.length() ? sql.charAt(i + 1) : ' ';
+                if (next == '?' || next == '|' || next == '&') {
+                    out.append(c).append(next);
+                    i++;
+                    continue;
+                }
+                out.append('$').append(++count[0]);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+}
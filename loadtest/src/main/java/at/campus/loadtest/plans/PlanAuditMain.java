@@ -0,0 +1,189 @@
+package at.campus.loadtest.plans;
+
+import at.campus.backend.common.jdbc.SqlFingerprint;
+import at.campus.loadtest.EmbeddedServices;
+import at.campus.loadtest.LoadTestConfig;
+import at.campus.loadtest.datagen.Dataset;
+import at.campus.loadtest.datagen.SyntheticDataGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Repository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * PlanAuditMain
+ * ==================================================
+ *
+ * Query plan regression check:
+ *
+ * 1. start PostgreSQL + auth + backend (statement capture on)
+ * 2. generate the synthetic dataset (Zipf-skewed, --scale)
+ * 3. {@link CoverageSweep}: every endpoint once
+ * 4. EXPLAIN every captured statement ({@link PlanAnalyzer})
+ * 5. compare findings with plan-baseline.json; exit code 1 on
+ *    regressions
+ *
+ * Repository methods the sweep never reached are listed, so
+ * new endpoints don't silently escape the audit.
+ *
+ * Usage (from loadtest/):
+ *   mvn -q compile exec:java -Dexec.mainClass=at.campus.loadtest.plans.PlanAuditMain
+ */
+public final class PlanAuditMain {
+
+    private static final Logger log = LoggerFactory.getLogger(PlanAuditMain.class);
+
+    private PlanAuditMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Map<String, String> options = LoadTestConfig.options(args);
+        Path baselineFile = Path.of(options.getOrDefault("plan-baseline", "plan-baseline.json"));
+        Path reportFile = Path.of(options.getOrDefault("plan-report", "results/plan-audit.json"));
+        boolean writeBaseline = Boolean.parseBoolean(options.getOrDefault("write-plan-baseline", "false"));
+        long largeTableRows = Long.parseLong(options.getOrDefault("large-table-rows", "10000"));
+        long nestedLoopRows = Long.parseLong(options.getOrDefault("nested-loop-rows", "1000"));
+
+        StatementCapture capture = new StatementCapture();
+        int exitCode;
+
+        try (EmbeddedServices services = new EmbeddedServices(config, List.of(capture))) {
+            services.start();
+
+            Dataset dataset = new SyntheticDataGenerator(
+                    config.dataset(), services.jdbcUrl(), config.dbUser(), config.dbPassword()).generate();
+
+            capture.start();
+            List<String> failedCalls = new CoverageSweep(services.backendBaseUrl(), dataset).run();
+            capture.stop();
+
+            Set<String> exercised = new TreeSet<>();
+            Map<String, PlanBaseline.Audited> audited = new TreeMap<>();
+            Map<String, PlanAnalyzer.Result> results = new TreeMap<>();
+
+            try (PlanAnalyzer analyzer = new PlanAnalyzer(
+                    services.jdbcUrl(), config.dbUser(), config.dbPassword(), largeTableRows, nestedLoopRows)) {
+                for (var entry : capture.statements().entrySet()) {
+                    exercised.addAll(entry.getValue());
+                    String fingerprint = SqlFingerprint.of(entry.getKey());
+
+                    PlanBaseline.Audited existing = audited.get(fingerprint);
+                    if (existing != null) {
+                        existing.callers().addAll(entry.getValue());
+                        continue;
+                    }
+                    PlanAnalyzer.Result result = analyzer.analyze(entry.getKey());
+                    results.put(fingerprint, result);
+                    audited.put(fingerprint, new PlanBaseline.Audited(
+                            new TreeSet<>(entry.getValue()), result.findings()));
+                }
+            }
+
+            List<String> notExercised = repositoryMethods(services).stream()
+                    .filter(m -> !exercised.contains(m))
+                    .toList();
+
+            writeReport(reportFile, audited, results);
+            print(audited, results, failedCalls, notExercised);
+
+            if (writeBaseline) {
+                PlanBaseline.write(baselineFile, audited);
+                log.info("Plan baseline written to {}", baselineFile.toAbsolutePath());
+                exitCode = 0;
+            } else {
+                PlanBaseline.Result check = PlanBaseline.check(baselineFile, audited);
+                check.fixed().forEach(f -> log.info("FIXED (tighten the baseline): {}", f));
+                check.regressions().forEach(r -> log.error("PLAN REGRESSION: {}", r));
+                exitCode = check.regressions().isEmpty() ? 0 : 1;
+            }
+        }
+
+        System.exit(exitCode);
+    }
+
+    // ==================================================
+    // COVERAGE
+    // ==================================================
+
+    /** Public methods of all backend repository beans, as "Class.method". */
+    private static Set<String> repositoryMethods(EmbeddedServices services) {
+        Set<String> methods = new TreeSet<>();
+        for (Object bean : services.backendContext().getBeansWithAnnotation(Repository.class).values()) {
+            Class<?> type = AopUtils.getTargetClass(bean);
+            for (Method method : type.getDeclaredMethods()) {
+                if (Modifier.isPublic(method.getModifiers()) && !method.isSynthetic()) {
+                    methods.add(type.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return methods;
+    }
+
+    // ==================================================
+    // REPORTING
+    // ==================================================
+
+    private static void print(Map<String, PlanBaseline.Audited> audited, Map<String, PlanAnalyzer.Result> results,
+                              List<String> failedCalls, List<String> notExercised) {
+        StringBuilder sb = new StringBuilder("\n");
+        sb.append("statements audited: ").append(audited.size()).append('\n');
+        audited.forEach((fingerprint, a) -> {
+            PlanAnalyzer.Result result = results.get(fingerprint);
+            if (!a.findings().isEmpty() || result.error() != null) {
+                sb.append(String.join(", ", a.callers())).append('\n');
+                sb.append("  sql:      ").append(abbreviate(fingerprint)).append('\n');
+                if (result.error() != null) {
+                    sb.append("  error:    ").append(result.error()).append('\n');
+                }
+                a.findings().forEach(f -> sb.append("  finding:  ").append(f).append('\n'));
+            }
+        });
+        failedCalls.forEach(c -> sb.append("sweep call failed: ").append(c).append('\n'));
+        notExercised.forEach(m -> sb.append("not exercised: ").append(m).append('\n'));
+        log.info(sb.toString());
+    }
+
+    private static void writeReport(Path file, Map<String, PlanBaseline.Audited> audited,
+                                    Map<String, PlanAnalyzer.Result> results) throws Exception {
+        ObjectMapper json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode root = json.createObjectNode();
+        audited.forEach((fingerprint, a) -> {
+            PlanAnalyzer.Result result = results.get(fingerprint);
+            ObjectNode node = root.putObject(fingerprint);
+            a.callers().forEach(node.putArray("callers")::add);
+            a.findings().forEach(node.putArray("findings")::add);
+            if (result.error() != null) {
+                node.put("error", result.error());
+            } else {
+                try {
+                    node.set("plan", json.readTree(result.plan()));
+                } catch (Exception e) {
+                    node.put("plan", result.plan());
+                }
+            }
+        });
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        json.writeValue(file.toFile(), root);
+        log.info("Plan report written to {}", file.toAbsolutePath());
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= 160 ? sql : sql.substring(0, 157) + "...";
+    }
+}
@@ -0,0 +1,91 @@
+package at.campus.loadtest.plans;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PlanBaseline
+ * ==================================================
+ *
+ * Accepted plan findings per SQL fingerprint:
+ *
+ *   {
+ *     "statements": {
+ *       "SELECT ... FROM app.courses c ... ORDER BY c.title": {
+ *         "callers":  ["JdbcCourseRepository.findAll"],
+ *         "findings": ["seq-scan app.courses"]
+ *       }
+ *     }
+ *   }
+ *
+ * A finding not listed for its statement is a regression
+ * (new statements start with an empty list). Findings that
+ * disappeared are reported, so the file can be tightened with
+ * --write-plan-baseline.
+ */
+public final class PlanBaseline {
+
+    /** Audit outcome of one fingerprint. */
+    public record Audited(Set<String> callers, List<String> findings) {
+    }
+
+    public record Result(List<String> regressions, List<String> fixed) {
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private PlanBaseline() {
+    }
+
+    /** Regressions fail the audit; fixed findings are informational. */
+    public static Result check(Path file, Map<String, Audited> audited) throws IOException {
+        JsonNode statements = Files.exists(file)
+                ? JSON.readTree(file.toFile()).path("statements")
+                : JSON.createObjectNode();
+
+        List<String> regressions = new ArrayList<>();
+        List<String> fixed = new ArrayList<>();
+
+        for (var entry : audited.entrySet()) {
+            Set<String> accepted = new HashSet<>();
+            statements.path(entry.getKey()).path("findings").forEach(f -> accepted.add(f.asText()));
+
+            for (String finding : entry.getValue().findings()) {
+                if (!accepted.contains(finding)) {
+                    regressions.add(finding + " in " + entry.getValue().callers() + ": " + entry.getKey());
+                }
+            }
+            for (String finding : accepted) {
+                if (!entry.getValue().findings().contains(finding)) {
+                    fixed.add(finding + " in " + entry.getValue().callers());
+                }
+            }
+        }
+        return new Result(regressions, fixed);
+    }
+
+    public static void write(Path file, Map<String, Audited> audited) throws IOException {
+        ObjectNode root = JSON.createObjectNode();
+        ObjectNode statements = root.putObject("statements");
+        audited.forEach((fingerprint, a) -> {
+            if (a.findings().isEmpty()) {
+                return;
+            }
+            ObjectNode node = statements.putObject(fingerprint);
+            a.callers().stream().sorted().forEach(node.putArray("callers")::add);
+            a.findings().forEach(node.putArray("findings")::add);
+        });
+        JSON.writeValue(file.toFile(), root);
+    }
+}
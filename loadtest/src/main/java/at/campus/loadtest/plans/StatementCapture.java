@@ -0,0 +1,141 @@
+package at.campus.loadtest.plans;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StatementCapture
+ * ==================================================
+ *
+ * Records every distinct SQL string the backend prepares or
+ * executes, with the repository methods that issued it.
+ *
+ * Installed into the backend context as an initializer; wraps
+ * the DataSource bean (unwrap() still reaches Hikari).
+ * Capture starts with {@link #start()}, so Flyway's startup
+ * statements are not audited.
+ */
+public final class StatementCapture implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final String MODULES = "at.campus.backend.modules.";
+
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    private final Map<String, Set<String>> statements = new ConcurrentHashMap<>();
+    private volatile boolean capturing;
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? new CapturingDataSource(dataSource) : bean;
+            }
+        });
+    }
+
+    public void start() {
+        capturing = true;
+    }
+
+    public void stop() {
+        capturing = false;
+    }
+
+    /** SQL -> callers ("JdbcReviewRepository.findByCourseId"). */
+    public Map<String, Set<String>> statements() {
+        return statements;
+    }
+
+    private void record(String sql) {
+        if (!capturing || sql == null) {
+            return;
+        }
+        String caller = STACK.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(MODULES))
+                .findFirst()
+                .map(f -> simpleName(f.getClassName()) + "." + f.getMethodName()))
+                .orElse("other");
+        statements.computeIfAbsent(sql, k -> ConcurrentHashMap.newKeySet()).add(caller);
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int inner = name.indexOf('$');
+        return inner < 0 ? name : name.substring(0, inner);
+    }
+
+    // ==================================================
+    // PROXIES
+    // ==================================================
+
+    private final class CapturingDataSource extends DelegatingDataSource {
+
+        CapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                String name = method.getName();
+                if ((name.equals("prepareStatement") || name.equals("prepareCall")) && args[0] instanceof String sql) {
+                    record(sql);
+                }
+                if (name.equals("equals")) {
+                    return proxy == args[0];
+                }
+                if (name.equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                Object result = call(connection, method, args);
+                if (name.equals("createStatement")) {
+                    Statement statement = (Statement) result;
+                    return proxy(Statement.class, (p, m, a) -> {
+                        if (m.getName().startsWith("execute") && a != null && a.length > 0 && a[0] instanceof String sql) {
+                            record(sql);
+                        }
+                        return call(statement, m, a);
+                    });
+                }
+                return result;
+            });
+        }
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}